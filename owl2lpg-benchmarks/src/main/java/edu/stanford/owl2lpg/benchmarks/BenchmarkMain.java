@@ -0,0 +1,34 @@
+package edu.stanford.owl2lpg.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the JMH benchmarks with the JMH command line, but writes the results
+ * in JSON to a timestamped file in the jmh-results directory unless a result
+ * format or file is given, e.g. jmh-results/20200715-143000.json. The files
+ * of successive runs can be compared to spot regressions, for instance with
+ * a JMH visualizer.
+ */
+public class BenchmarkMain {
+
+  private static final Path RESULTS_DIRECTORY = Path.of("jmh-results");
+
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  public static void main(String[] args) throws Exception {
+    var jmhArgs = new ArrayList<>(List.of(args));
+    if (!jmhArgs.contains("-rf") && !jmhArgs.contains("-rff")) {
+      Files.createDirectories(RESULTS_DIRECTORY);
+      var resultFile = RESULTS_DIRECTORY.resolve(TIMESTAMP_FORMAT.format(LocalDateTime.now()) + ".json");
+      jmhArgs.addAll(List.of("-rf", "json", "-rff", resultFile.toString()));
+    }
+    Main.main(jmhArgs.toArray(new String[0]));
+  }
+}
@@ -0,0 +1,82 @@
+package edu.stanford.owl2lpg.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Creates ontologies of a given number of axioms for the benchmarks. The
+ * axioms follow the shape of a typical OBO ontology: every class is declared,
+ * labelled and placed in a class hierarchy (a binary tree) with an existential
+ * restriction, and every fourth class has an individual with an object and a
+ * data property assertion. The same size always gives the same axioms.
+ */
+public class SyntheticOntology {
+
+  private static final String BASE_IRI = "http://purl.obolibrary.org/obo/";
+
+  /* The number of distinct fillers of the existential restrictions */
+  private static final int FILLER_COUNT = 97;
+
+  @Nonnull
+  public static OWLOntology create(int axiomCount) {
+    try {
+      var manager = OWLManager.createOWLOntologyManager();
+      var ontology = manager.createOntology(IRI.create(BASE_IRI + "synthetic.owl"));
+      manager.addAxioms(ontology, new HashSet<>(createAxioms(axiomCount)));
+      return ontology;
+    } catch (OWLOntologyCreationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Nonnull
+  public static ImmutableList<OWLAxiom> createAxioms(int axiomCount) {
+    checkArgument(axiomCount >= 0, "The number of axioms must not be negative");
+    var dataFactory = OWLManager.getOWLDataFactory();
+    var axioms = new ArrayList<OWLAxiom>(axiomCount + 6);
+    for (int i = 0; axioms.size() < axiomCount; i++) {
+      addClassAxioms(dataFactory, i, axioms);
+    }
+    return ImmutableList.copyOf(axioms.subList(0, axiomCount));
+  }
+
+  private static void addClassAxioms(OWLDataFactory dataFactory, int i, List<OWLAxiom> axioms) {
+    var partOf = dataFactory.getOWLObjectProperty(IRI.create(BASE_IRI + "BFO_0000050"));
+    var hasAge = dataFactory.getOWLDataProperty(IRI.create(BASE_IRI + "hasAge"));
+    var cls = getClass(dataFactory, i);
+    axioms.add(dataFactory.getOWLDeclarationAxiom(cls));
+    axioms.add(dataFactory.getOWLSubClassOfAxiom(cls, getClass(dataFactory, i / 2)));
+    axioms.add(dataFactory.getOWLSubClassOfAxiom(cls,
+        dataFactory.getOWLObjectSomeValuesFrom(partOf, getClass(dataFactory, i % FILLER_COUNT))));
+    axioms.add(dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(), cls.getIRI(),
+        dataFactory.getOWLLiteral("synthetic class " + i, "en")));
+    if (i % 4 == 0) {
+      var individual = getIndividual(dataFactory, i);
+      axioms.add(dataFactory.getOWLClassAssertionAxiom(cls, individual));
+      axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(partOf, individual, getIndividual(dataFactory, i / 2)));
+      axioms.add(dataFactory.getOWLDataPropertyAssertionAxiom(hasAge, individual, i % 120));
+    }
+  }
+
+  private static OWLClass getClass(OWLDataFactory dataFactory, int i) {
+    return dataFactory.getOWLClass(IRI.create(BASE_IRI + String.format("SYN_%07d", i)));
+  }
+
+  private static OWLNamedIndividual getIndividual(OWLDataFactory dataFactory, int i) {
+    return dataFactory.getOWLNamedIndividual(IRI.create(BASE_IRI + String.format("SYN_I_%07d", i)));
+  }
+}
@@ -0,0 +1,139 @@
+package edu.stanford.owl2lpg.benchmarks.csv;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvRowEncoder;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvSchema;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jRelationshipsCsvRowEncoder;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jRelationshipsCsvSchema;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rows/sec of encoding nodes and relationships as CSV rows,
+ * comparing Jackson's CsvMapper with the hand-written row encoders. The rows
+ * are written to a null writer, so that only the encoding is measured.
+ * <p>
+ * Run it with "-prof gc" to get the bytes allocated per row, which is the
+ * gc.alloc.rate.norm of each benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvRowEncoderBenchmark {
+
+  private static final int ROW_COUNT = 1024;
+
+  @Param({"jackson", "encoder"})
+  public String rowWriter;
+
+  private Node[] nodes;
+
+  private Edge[] edges;
+
+  private int rowIndex = 0;
+
+  private CsvWriter<Node> nodeCsvWriter;
+
+  private CsvWriter<Edge> edgeCsvWriter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    nodes = new Node[ROW_COUNT];
+    edges = new Edge[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      nodes[i] = createNode(i);
+    }
+    for (int i = 0; i < ROW_COUNT; i++) {
+      edges[i] = createEdge(i, nodes[i], nodes[(i + 1) % ROW_COUNT]);
+    }
+    if (rowWriter.equals("jackson")) {
+      nodeCsvWriter = new CsvWriter<>(new CsvMapper(), new Neo4jNodeCsvSchema(), Writer.nullWriter());
+      edgeCsvWriter = new CsvWriter<>(new CsvMapper(), new Neo4jRelationshipsCsvSchema(), Writer.nullWriter());
+    } else {
+      var nodeCsvSchema = new Neo4jNodeCsvSchema();
+      nodeCsvWriter = new CsvWriter<>(nodeCsvSchema,
+          new Neo4jNodeCsvRowEncoder(nodeCsvSchema), Writer.nullWriter());
+      var relationshipsCsvSchema = new Neo4jRelationshipsCsvSchema();
+      edgeCsvWriter = new CsvWriter<>(relationshipsCsvSchema,
+          new Neo4jRelationshipsCsvRowEncoder(relationshipsCsvSchema), Writer.nullWriter());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    nodeCsvWriter.close();
+    edgeCsvWriter.close();
+  }
+
+  @Benchmark
+  public void writeNodeRow() throws IOException {
+    nodeCsvWriter.write(nodes[rowIndex]);
+    rowIndex = (rowIndex + 1) % ROW_COUNT;
+  }
+
+  @Benchmark
+  public void writeEdgeRow() throws IOException {
+    edgeCsvWriter.write(edges[rowIndex]);
+    rowIndex = (rowIndex + 1) % ROW_COUNT;
+  }
+
+  /* A mix of entity, literal and cardinality nodes, as in a translated ontology */
+  private static Node createNode(int i) {
+    switch (i % 3) {
+      case 0:
+        return Node.create(NodeId.create(i), NodeLabels.CLASS,
+            Properties.create(ImmutableMap.of(
+                PropertyFields.IRI, "http://purl.obolibrary.org/obo/GO_" + String.format("%07d", i),
+                PropertyFields.LOCAL_NAME, "GO_" + i,
+                PropertyFields.PREFIXED_NAME, "obo:GO_" + i,
+                PropertyFields.OBO_ID, "GO:" + i)));
+      case 1:
+        return Node.create(NodeId.create(i), NodeLabels.LITERAL,
+            Properties.create(ImmutableMap.of(
+                PropertyFields.LEXICAL_FORM, "A \"quoted\" label, number " + i,
+                PropertyFields.DATATYPE, "http://www.w3.org/1999/02/22-rdf-syntax-ns#langString",
+                PropertyFields.LANGUAGE, "en")));
+      default:
+        return Node.create(NodeId.create(i), NodeLabels.OBJECT_MIN_CARDINALITY,
+            Properties.of(PropertyFields.CARDINALITY, i));
+    }
+  }
+
+  private static Edge createEdge(int i, Node fromNode, Node toNode) {
+    if (i % 2 == 0) {
+      return Edge.create(EdgeId.create(i), fromNode, toNode, EdgeLabel.SUB_CLASS_OF,
+          Properties.of(PropertyFields.STRUCTURAL_SPEC, true));
+    } else {
+      return Edge.create(EdgeId.create(i), fromNode, toNode, EdgeLabel.RELATED_TO,
+          Properties.of(PropertyFields.IRI, "http://purl.obolibrary.org/obo/BFO_0000050"));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package edu.stanford.owl2lpg.benchmarks.csv;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvSchema;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.CLASS;
+
+/**
+ * Measures the rows/sec of writing nodes to a CSV file, comparing the
+ * former per-row flush behaviour with letting the output buffer batch
+ * the rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvWriterBenchmark {
+
+  private static final int ROW_COUNT = 1024;
+
+  @Param({"true", "false"})
+  public boolean flushEveryRow;
+
+  @Param({"8192", "262144"})
+  public int bufferSize;
+
+  private Node[] rows;
+
+  private int rowIndex = 0;
+
+  private Path outputFile;
+
+  private CsvWriter<Node> csvWriter;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    rows = new Node[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      rows[i] = createClassNode(i);
+    }
+    outputFile = Files.createTempFile("nodes", ".csv");
+    csvWriter = new CsvWriter<>(new CsvMapper(),
+        new Neo4jNodeCsvSchema(),
+        new BufferedWriter(new FileWriter(outputFile.toFile()), bufferSize));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    csvWriter.close();
+    Files.deleteIfExists(outputFile);
+  }
+
+  @Benchmark
+  public void writeRow() throws IOException {
+    csvWriter.write(rows[rowIndex]);
+    rowIndex = (rowIndex + 1) % ROW_COUNT;
+    if (flushEveryRow) {
+      csvWriter.flush();
+    }
+  }
+
+  private static Node createClassNode(int i) {
+    var iri = "http://purl.obolibrary.org/obo/GO_" + String.format("%07d", i);
+    return Node.create(NodeId.create(i), CLASS,
+        Properties.create(ImmutableMap.of(
+            PropertyFields.IRI, iri,
+            PropertyFields.LOCAL_NAME, "GO_" + i,
+            PropertyFields.PREFIXED_NAME, "obo:GO_" + i,
+            PropertyFields.OBO_ID, "GO:" + i)));
+  }
+}
@@ -0,0 +1,92 @@
+package edu.stanford.owl2lpg.benchmarks.csv;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import edu.stanford.owl2lpg.benchmarks.SyntheticOntology;
+import edu.stanford.owl2lpg.exporter.csv.DaggerCsvExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvWriter;
+import edu.stanford.owl2lpg.exporter.csv.writer.TrackerType;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the translations/sec of {@link Neo4jCsvWriter#writeTranslation}
+ * with the CSV writers and trackers of an export, writing to CSV files in a
+ * temporary directory. The axioms are translated up front, and every
+ * invocation writes all of them to a new writer, so the trackers see each
+ * translation once, as in an export.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+@SuppressWarnings("UnstableApiUsage")
+public class Neo4jCsvWriterBenchmark {
+
+  private static final int TRANSLATION_COUNT = 20_000;
+
+  @Param({"HASH_SET", "DIGEST_HEAP"})
+  public TrackerType trackerType;
+
+  private Translation[] translations;
+
+  private Path outputPath;
+
+  private Neo4jCsvWriter csvWriter;
+
+  @Setup(Level.Trial)
+  public void translateAxioms() {
+    var axiomTranslator = DaggerTranslatorComponent.create().getAxiomTranslator();
+    translations = SyntheticOntology.createAxioms(TRANSLATION_COUNT).stream()
+        .map(axiomTranslator::translate)
+        .toArray(Translation[]::new);
+  }
+
+  /* Not timed, and long enough apart for a per-invocation setup to be accurate */
+  @Setup(Level.Invocation)
+  public void createWriter() throws IOException {
+    outputPath = Files.createTempDirectory("owl2lpg-csv-writer-benchmark");
+    var csvWriterModule = new CsvWriterModule(outputPath, CsvWriterModule.DEFAULT_BUFFER_SIZE, trackerType);
+    csvWriter = DaggerCsvExporterComponent.builder()
+        .csvWriterModule(csvWriterModule)
+        .build()
+        .getNeo4jCsvWriter();
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteOutput() throws IOException {
+    csvWriter.close();
+    MoreFiles.deleteRecursively(outputPath, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRANSLATION_COUNT)
+  public void writeTranslations() throws IOException {
+    for (var translation : translations) {
+      csvWriter.writeTranslation(translation);
+    }
+    csvWriter.flush();
+  }
+}
@@ -0,0 +1,78 @@
+package edu.stanford.owl2lpg.benchmarks.digest;
+
+import edu.stanford.owl2lpg.translator.shared.BinaryOntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.shared.BinaryOwlOutputStreamFactory;
+import edu.stanford.owl2lpg.translator.shared.BytesDigester;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the axiom digests/sec of serializing each axiom to a byte array
+ * and hashing it, against streaming the serialization into the digest.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AxiomDigestBenchmark {
+
+  private static final int AXIOM_COUNT = 1024;
+
+  private final BinaryOwlOutputStreamFactory factory = new BinaryOwlOutputStreamFactory();
+
+  private final BinaryOntologyObjectSerializer serializer = new BinaryOntologyObjectSerializer(factory);
+
+  private final BytesDigester bytesDigester = new BytesDigester();
+
+  private final OntologyObjectDigester streamingDigester = new OntologyObjectDigester(factory);
+
+  private OWLAxiom[] axioms;
+
+  private int axiomIndex = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var dataFactory = OWLManager.getOWLDataFactory();
+    var property = dataFactory.getOWLObjectProperty(IRI.create("http://example.org/partOf"));
+    axioms = new OWLAxiom[AXIOM_COUNT];
+    for (int i = 0; i < AXIOM_COUNT; i++) {
+      var subClass = dataFactory.getOWLClass(IRI.create("http://example.org/C" + i));
+      var superClass = dataFactory.getOWLClass(IRI.create("http://example.org/C" + (i + 1)));
+      axioms[i] = (i % 2 == 0)
+          ? dataFactory.getOWLSubClassOfAxiom(subClass, superClass)
+          : dataFactory.getOWLSubClassOfAxiom(subClass, dataFactory.getOWLObjectSomeValuesFrom(property, superClass));
+    }
+  }
+
+  @Benchmark
+  public String serializeThenDigest() {
+    return bytesDigester.getDigestString(serializer.serialize(nextAxiom()));
+  }
+
+  @Benchmark
+  public String streamingDigest() {
+    return streamingDigester.getDigestString(nextAxiom());
+  }
+
+  private OWLAxiom nextAxiom() {
+    axiomIndex = (axiomIndex + 1) & (AXIOM_COUNT - 1);
+    return axioms[axiomIndex];
+  }
+}
@@ -0,0 +1,73 @@
+package edu.stanford.owl2lpg.benchmarks.digest;
+
+import edu.stanford.owl2lpg.model.EdgeFactoryModule;
+import edu.stanford.owl2lpg.model.EdgeIdProvider;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.internal.DigestEdgeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.RawDigestEdgeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the edges/sec of computing edge ids between digest nodes with
+ * each of the digest algorithms.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EdgeIdBenchmark {
+
+  private static final int NODE_COUNT = 1024;
+
+  @Param({"MD5", "MURMUR3_128"})
+  public DigestAlgorithm digestAlgorithm;
+
+  private EdgeIdProvider edgeIdProvider;
+
+  private Node[] nodes;
+
+  private int nodeIndex = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var hashFunction = digestAlgorithm.getHashFunction();
+    edgeIdProvider = EdgeFactoryModule.provideEdgeIdProvider(digestAlgorithm,
+        () -> new DigestEdgeIdProvider(hashFunction),
+        () -> new RawDigestEdgeIdProvider(hashFunction));
+    var random = new Random(42);
+    nodes = new Node[NODE_COUNT];
+    for (int i = 0; i < NODE_COUNT; i++) {
+      var digest = new byte[16];
+      random.nextBytes(digest);
+      nodes[i] = Node.create(NodeId.create(digest), NodeLabels.CLASS);
+    }
+  }
+
+  @Benchmark
+  public Object getEdgeId() {
+    var startNode = nodes[nodeIndex];
+    nodeIndex = (nodeIndex + 1) & (NODE_COUNT - 1);
+    var endNode = nodes[nodeIndex];
+    return edgeIdProvider.get(startNode, endNode, EdgeLabel.SUB_CLASS_OF);
+  }
+}
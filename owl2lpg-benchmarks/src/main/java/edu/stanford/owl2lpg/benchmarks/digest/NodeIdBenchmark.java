@@ -0,0 +1,80 @@
+package edu.stanford.owl2lpg.benchmarks.digest;
+
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the nodes/sec of computing digest node ids for IRIs, entities
+ * and literals with each of the digest algorithms. The edge ids are
+ * measured by {@link EdgeIdBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NodeIdBenchmark {
+
+  private static final int OBJECT_COUNT = 1024;
+
+  public enum ObjectType {
+    IRI, ENTITY, LITERAL
+  }
+
+  @Param({"MD5", "MURMUR3_128"})
+  public DigestAlgorithm digestAlgorithm;
+
+  @Param({"IRI", "ENTITY", "LITERAL"})
+  public ObjectType objectType;
+
+  private DigestNodeIdProvider nodeIdProvider;
+
+  private Object[] objects;
+
+  private int objectIndex = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    nodeIdProvider = new DigestNodeIdProvider(digestAlgorithm.getHashFunction());
+    var dataFactory = OWLManager.getOWLDataFactory();
+    objects = new Object[OBJECT_COUNT];
+    for (int i = 0; i < OBJECT_COUNT; i++) {
+      var iri = IRI.create("http://purl.obolibrary.org/obo/GO_" + String.format("%07d", i));
+      switch (objectType) {
+        case ENTITY:
+          objects[i] = dataFactory.getOWLClass(iri);
+          break;
+        case LITERAL:
+          objects[i] = OWLLiteral2.create(dataFactory.getOWLLiteral("synthetic class " + i, "en"));
+          break;
+        default:
+          objects[i] = iri;
+      }
+    }
+  }
+
+  @Benchmark
+  public NodeId getNodeId() {
+    objectIndex = (objectIndex + 1) & (OBJECT_COUNT - 1);
+    return nodeIdProvider.getId(objects[objectIndex]);
+  }
+}
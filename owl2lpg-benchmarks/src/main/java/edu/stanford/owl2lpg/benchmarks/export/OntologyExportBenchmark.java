@@ -0,0 +1,112 @@
+package edu.stanford.owl2lpg.benchmarks.export;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import edu.stanford.owl2lpg.benchmarks.SyntheticOntology;
+import edu.stanford.owl2lpg.exporter.csv.CsvExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.DaggerCsvExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.OntologyCsvExporter;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.TrackerType;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the end-to-end {@link OntologyCsvExporter} export of a
+ * {@link SyntheticOntology} of the given size to CSV files in a temporary
+ * directory. Besides the exports/sec, the "axioms" counter gives the
+ * exported axioms/sec, which can be compared across the ontology sizes.
+ * <p>
+ * The report that the exporter prints after each export is discarded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+@State(Scope.Thread)
+@SuppressWarnings("UnstableApiUsage")
+public class OntologyExportBenchmark {
+
+  @Param({"10000", "100000"})
+  public int axiomCount;
+
+  @Param({"1", "4"})
+  public int workerCount;
+
+  @Param({"HASH_SET", "DIGEST_HEAP"})
+  public TrackerType trackerType;
+
+  private OWLOntology ontology;
+
+  private PrintStream console;
+
+  private Path outputPath;
+
+  private CsvExporterComponent exporterComponent;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class ExportedAxioms {
+
+    public long axioms;
+  }
+
+  @Setup(Level.Trial)
+  public void createOntology() {
+    ontology = SyntheticOntology.create(axiomCount);
+    console = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @TearDown(Level.Trial)
+  public void restoreConsole() {
+    System.setOut(console);
+  }
+
+  /* Not timed, and long enough apart for a per-invocation setup to be accurate */
+  @Setup(Level.Invocation)
+  public void createExporter() throws IOException {
+    outputPath = Files.createTempDirectory("owl2lpg-export-benchmark");
+    var csvWriterModule = new CsvWriterModule(outputPath, CsvWriterModule.DEFAULT_BUFFER_SIZE, trackerType);
+    exporterComponent = DaggerCsvExporterComponent.builder()
+        .csvWriterModule(csvWriterModule)
+        .build();
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteOutput() throws IOException {
+    exporterComponent.getNeo4jCsvWriter().close();
+    MoreFiles.deleteRecursively(outputPath, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  public void export(ExportedAxioms exportedAxioms) throws IOException {
+    exporterComponent.getOntologyCsvExporter()
+        .export(ontology, ProjectId.create(), BranchId.create(), OntologyDocumentId.create(), workerCount);
+    exportedAxioms.axioms += axiomCount;
+  }
+}
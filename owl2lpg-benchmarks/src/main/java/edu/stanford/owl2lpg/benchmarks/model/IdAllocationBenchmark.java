@@ -0,0 +1,95 @@
+package edu.stanford.owl2lpg.benchmarks.model;
+
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.internal.DigestEdgeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and allocation of creating and printing node and edge
+ * ids. Run it with the GC profiler ({@code -prof gc}) and compare the
+ * {@code gc.alloc.rate.norm} figures (bytes per operation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class IdAllocationBenchmark {
+
+  private static final int NODE_COUNT = 1024;
+
+  private final NumberIncrementIdProvider numberIdProvider = new NumberIncrementIdProvider();
+
+  private final DigestEdgeIdProvider edgeIdProvider =
+      new DigestEdgeIdProvider(DigestAlgorithm.MD5.getHashFunction());
+
+  private Node[] digestNodes;
+
+  private Edge[] edges;
+
+  private int index = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var random = new Random(42);
+    digestNodes = new Node[NODE_COUNT];
+    for (int i = 0; i < NODE_COUNT; i++) {
+      var digest = new byte[16];
+      random.nextBytes(digest);
+      digestNodes[i] = Node.create(NodeId.create(digest), NodeLabels.CLASS);
+    }
+    edges = new Edge[NODE_COUNT];
+    for (int i = 0; i < NODE_COUNT; i++) {
+      var digest = new byte[16];
+      random.nextBytes(digest);
+      edges[i] = Edge.create(EdgeId.create(digest),
+          digestNodes[i], digestNodes[(i + 1) % NODE_COUNT], EdgeLabel.SUB_CLASS_OF);
+    }
+  }
+
+  /* A sequential id, as handed out for every axiom and anonymous node */
+  @Benchmark
+  public Object createNumberNodeId() {
+    return numberIdProvider.getId(this);
+  }
+
+  /* The node ids of a relationship row, which the CSV writer prints per edge */
+  @Benchmark
+  public Object printEdgeRowIds() {
+    var edge = nextEdge();
+    return edge.getStartId().length() + edge.getEndId().length();
+  }
+
+  /* An MD5 edge id between two (already known) digest nodes */
+  @Benchmark
+  public Object createDigestEdgeId() {
+    var edge = nextEdge();
+    return edgeIdProvider.get(edge.getFromNode(), edge.getToNode(), EdgeLabel.SUB_CLASS_OF);
+  }
+
+  private Edge nextEdge() {
+    index = (index + 1) & (NODE_COUNT - 1);
+    return edges[index];
+  }
+}
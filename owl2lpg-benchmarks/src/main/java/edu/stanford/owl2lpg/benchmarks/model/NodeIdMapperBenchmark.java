@@ -0,0 +1,108 @@
+package edu.stanford.owl2lpg.benchmarks.model;
+
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.NodeIdMapperImpl;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
+import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups/sec of {@link NodeIdMapperImpl} for the kinds of
+ * objects it maps: entities get a digest id, axioms get a new number id,
+ * and class expressions get a number id that is remembered, so all but the
+ * first lookup of each are hits. The mapper is shared by the threads of
+ * {@link #getConcurrently}, as it is by the parallel translation workers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeIdMapperBenchmark {
+
+  private static final int OBJECT_COUNT = 65_536;
+
+  public enum ObjectType {
+    ENTITY, AXIOM, CLASS_EXPRESSION
+  }
+
+  @Param({"ENTITY", "AXIOM", "CLASS_EXPRESSION"})
+  public ObjectType objectType;
+
+  /* Zero for the unbounded mapper of an export */
+  @Param({"0", "10000"})
+  public long maximumSize;
+
+  private NodeIdMapperImpl nodeIdMapper;
+
+  private Object[] objects;
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int objectIndex = 0;
+
+    Object next(Object[] objects) {
+      objectIndex = (objectIndex + 1) & (OBJECT_COUNT - 1);
+      return objects[objectIndex];
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var numberIdProvider = new NumberIncrementIdProvider();
+    var digestIdProvider = new DigestNodeIdProvider(DigestAlgorithm.MD5.getHashFunction());
+    nodeIdMapper = (maximumSize == 0)
+        ? new NodeIdMapperImpl(numberIdProvider, digestIdProvider,
+            new IdFormatCheckerImpl(), new SingleEncounterNodeCheckerImpl())
+        : new NodeIdMapperImpl(numberIdProvider, digestIdProvider,
+            new IdFormatCheckerImpl(), new SingleEncounterNodeCheckerImpl(), maximumSize);
+    var dataFactory = OWLManager.getOWLDataFactory();
+    var partOf = dataFactory.getOWLObjectProperty(IRI.create("http://example.org/partOf"));
+    objects = new Object[OBJECT_COUNT];
+    for (int i = 0; i < OBJECT_COUNT; i++) {
+      var cls = dataFactory.getOWLClass(IRI.create("http://example.org/C" + i));
+      switch (objectType) {
+        case AXIOM:
+          objects[i] = dataFactory.getOWLDeclarationAxiom(cls);
+          break;
+        case CLASS_EXPRESSION:
+          objects[i] = dataFactory.getOWLObjectSomeValuesFrom(partOf, cls);
+          break;
+        default:
+          objects[i] = cls;
+      }
+    }
+  }
+
+  @Benchmark
+  public NodeId get(Cursor cursor) {
+    return nodeIdMapper.get(cursor.next(objects));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public NodeId getConcurrently(Cursor cursor) {
+    return nodeIdMapper.get(cursor.next(objects));
+  }
+}
@@ -0,0 +1,196 @@
+package edu.stanford.owl2lpg.benchmarks.tracker;
+
+import edu.stanford.owl2lpg.exporter.csv.writer.EdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.HashSetEdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.HashSetNodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.NodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.BufferLongPairArray;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestEdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestIdSet;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestNodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.HeapLongPairArray;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.LongPairHashSet;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the insert/lookup throughput of the node and edge trackers when
+ * {@link #size} distinct ids are tracked. Every invocation inserts all ids
+ * into a new tracker and then looks each of them up, and the "entries"
+ * counter gives the ids/sec of that pass. {@link #insertNodes} only
+ * inserts, which is where the PRE_FILTERED_* trackers skip the lookup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+@State(Scope.Thread)
+public class TrackerBenchmark {
+
+  public enum Implementation {
+    HASH_SET, DIGEST_HEAP, DIGEST_OFF_HEAP, PRE_FILTERED_DIGEST_HEAP, PRE_FILTERED_DIGEST_OFF_HEAP
+  }
+
+  @Param({"HASH_SET", "DIGEST_HEAP", "DIGEST_OFF_HEAP", "PRE_FILTERED_DIGEST_HEAP", "PRE_FILTERED_DIGEST_OFF_HEAP"})
+  public Implementation implementation;
+
+  @Param({"100000", "1000000", "4000000"})
+  public int size;
+
+  private Node[] nodes;
+
+  private Edge[] edges;
+
+  private NodeTracker nodeTracker;
+
+  private EdgeTracker edgeTracker;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class TrackedEntries {
+
+    public long entries;
+  }
+
+  @Setup(Level.Trial)
+  public void createIds() {
+    nodes = Nodes.createRandomNodes(size, new Random(42));
+    edges = Edges.createRandomEdges(size, new Random(42));
+  }
+
+  /* Not timed, and long enough apart for a per-invocation setup to be accurate */
+  @Setup(Level.Invocation)
+  public void createTrackers() {
+    nodeTracker = createNodeTracker(implementation, size);
+    edgeTracker = createEdgeTracker(implementation, size);
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeTrackers() throws Exception {
+    close(nodeTracker);
+    close(edgeTracker);
+  }
+
+  @Benchmark
+  public void insertThenLookupNodes(TrackedEntries trackedEntries, Blackhole blackhole) {
+    for (var node : nodes) {
+      nodeTracker.add(node, blackhole::consume);
+    }
+    for (var node : nodes) {
+      blackhole.consume(nodeTracker.contains(node));
+    }
+    trackedEntries.entries += size;
+  }
+
+  @Benchmark
+  public void insertNodes(TrackedEntries trackedEntries, Blackhole blackhole) {
+    for (var node : nodes) {
+      nodeTracker.add(node, blackhole::consume);
+    }
+    trackedEntries.entries += size;
+  }
+
+  @Benchmark
+  public void insertThenLookupEdges(TrackedEntries trackedEntries, Blackhole blackhole) {
+    for (var edge : edges) {
+      edgeTracker.add(edge, blackhole::consume);
+    }
+    for (var edge : edges) {
+      blackhole.consume(edgeTracker.contains(edge));
+    }
+    trackedEntries.entries += size;
+  }
+
+  private static void close(Object tracker) throws Exception {
+    if (tracker instanceof AutoCloseable) {
+      ((AutoCloseable) tracker).close();
+    }
+  }
+
+  static NodeTracker createNodeTracker(Implementation implementation, int expectedSize) {
+    switch (implementation) {
+      case DIGEST_HEAP:
+        return new DigestNodeTracker(new DigestIdSet(new LongPairHashSet(HeapLongPairArray::new, expectedSize)));
+      case DIGEST_OFF_HEAP:
+        return new DigestNodeTracker(new DigestIdSet(new LongPairHashSet(BufferLongPairArray::allocateDirect, expectedSize)));
+      case PRE_FILTERED_DIGEST_HEAP:
+        return new DigestNodeTracker(new DigestIdSet(new LongPairHashSet(HeapLongPairArray::new, expectedSize, true)));
+      case PRE_FILTERED_DIGEST_OFF_HEAP:
+        return new DigestNodeTracker(new DigestIdSet(new LongPairHashSet(BufferLongPairArray::allocateDirect, expectedSize, true)));
+      default:
+        return new HashSetNodeTracker(expectedSize);
+    }
+  }
+
+  static EdgeTracker createEdgeTracker(Implementation implementation, int expectedSize) {
+    switch (implementation) {
+      case DIGEST_HEAP:
+        return new DigestEdgeTracker(new DigestIdSet(new LongPairHashSet(HeapLongPairArray::new, expectedSize)));
+      case DIGEST_OFF_HEAP:
+        return new DigestEdgeTracker(new DigestIdSet(new LongPairHashSet(BufferLongPairArray::allocateDirect, expectedSize)));
+      case PRE_FILTERED_DIGEST_HEAP:
+        return new DigestEdgeTracker(new DigestIdSet(new LongPairHashSet(HeapLongPairArray::new, expectedSize, true)));
+      case PRE_FILTERED_DIGEST_OFF_HEAP:
+        return new DigestEdgeTracker(new DigestIdSet(new LongPairHashSet(BufferLongPairArray::allocateDirect, expectedSize, true)));
+      default:
+        return new HashSetEdgeTracker(expectedSize);
+    }
+  }
+
+  static class Nodes {
+
+    static Node[] createRandomNodes(int count, Random random) {
+      var nodes = new Node[count];
+      for (int i = 0; i < count; i++) {
+        var digest = new byte[16];
+        random.nextBytes(digest);
+        nodes[i] = Node.create(NodeId.create(digest), NodeLabels.CLASS);
+      }
+      return nodes;
+    }
+  }
+
+  static class Edges {
+
+    private static final Node FROM_NODE = Node.create(NodeId.create(1), NodeLabels.CLASS);
+
+    private static final Node TO_NODE = Node.create(NodeId.create(2), NodeLabels.IRI);
+
+    static Edge[] createRandomEdges(int count, Random random) {
+      var edges = new Edge[count];
+      for (int i = 0; i < count; i++) {
+        edges[i] = createRandomEdge(random);
+      }
+      return edges;
+    }
+
+    static Edge createRandomEdge(Random random) {
+      var digest = new byte[16];
+      random.nextBytes(digest);
+      return Edge.create(EdgeId.create(digest), FROM_NODE, TO_NODE, EdgeLabel.ENTITY_IRI);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package edu.stanford.owl2lpg.benchmarks.tracker;
+
+import edu.stanford.owl2lpg.benchmarks.tracker.TrackerBenchmark.Edges;
+import edu.stanford.owl2lpg.benchmarks.tracker.TrackerBenchmark.Implementation;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Reports the heap bytes per tracked edge for each tracker implementation.
+ * The edges are created on the fly, so only what the tracker retains is
+ * counted. The measurement is done outside of JMH because it needs a quiet
+ * heap rather than a timed loop.
+ *
+ * <p>Usage: {@code java -Xmx8g -cp benchmarks.jar
+ * edu.stanford.owl2lpg.benchmarks.tracker.TrackerFootprint [edgeCount]}</p>
+ */
+public class TrackerFootprint {
+
+  public static void main(String[] args) {
+    var edgeCount = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000_000;
+    System.out.printf("%-16s %14s %18s %18s\n", "Tracker", "Tracked edges", "Heap bytes/entry", "Direct bytes/entry");
+    for (var implementation : Implementation.values()) {
+      var heapBefore = usedHeap();
+      var directBefore = usedDirectMemory();
+      var tracker = TrackerBenchmark.createEdgeTracker(implementation, 1_000_000);
+      var random = new Random(42);
+      for (int i = 0; i < edgeCount; i++) {
+        tracker.add(Edges.createRandomEdge(random), e -> { });
+      }
+      var heapAfter = usedHeap();
+      var directAfter = usedDirectMemory();
+      System.out.printf("%-16s %,14d %18.1f %18.1f\n", implementation, tracker.size(),
+          (double) (heapAfter - heapBefore) / tracker.size(),
+          (double) (directAfter - directBefore) / tracker.size());
+    }
+  }
+
+  private static long usedDirectMemory() {
+    return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(pool -> pool.getName().equals("direct"))
+        .mapToLong(BufferPoolMXBean::getMemoryUsed)
+        .sum();
+  }
+
+  private static long usedHeap() {
+    var runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
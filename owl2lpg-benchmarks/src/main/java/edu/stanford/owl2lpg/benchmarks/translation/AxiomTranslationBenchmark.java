@@ -0,0 +1,119 @@
+package edu.stanford.owl2lpg.benchmarks.translation;
+
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the axioms/sec of {@link AxiomTranslator#translate(OWLAxiom)} for
+ * each axiom type. The axioms cycle over {@link #AXIOM_COUNT} distinct
+ * entities, so after the warmup the entity translations come from the
+ * entity translation cache, as they mostly do in an export.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AxiomTranslationBenchmark {
+
+  private static final int AXIOM_COUNT = 1024;
+
+  private static final String BASE_IRI = "http://example.org/";
+
+  public enum AxiomType {
+    DECLARATION,
+    SUB_CLASS_OF,
+    SUB_CLASS_OF_SOME_VALUES_FROM,
+    EQUIVALENT_CLASSES_INTERSECTION,
+    ANNOTATION_ASSERTION,
+    CLASS_ASSERTION,
+    OBJECT_PROPERTY_ASSERTION,
+    DATA_PROPERTY_ASSERTION
+  }
+
+  @Param({"DECLARATION", "SUB_CLASS_OF", "SUB_CLASS_OF_SOME_VALUES_FROM", "EQUIVALENT_CLASSES_INTERSECTION",
+      "ANNOTATION_ASSERTION", "CLASS_ASSERTION", "OBJECT_PROPERTY_ASSERTION", "DATA_PROPERTY_ASSERTION"})
+  public AxiomType axiomType;
+
+  private AxiomTranslator axiomTranslator;
+
+  private OWLAxiom[] axioms;
+
+  private int axiomIndex = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    axiomTranslator = DaggerTranslatorComponent.create().getAxiomTranslator();
+    var dataFactory = OWLManager.getOWLDataFactory();
+    axioms = new OWLAxiom[AXIOM_COUNT];
+    for (int i = 0; i < AXIOM_COUNT; i++) {
+      axioms[i] = createAxiom(dataFactory, i);
+    }
+  }
+
+  @Benchmark
+  public Translation translate() {
+    axiomIndex = (axiomIndex + 1) & (AXIOM_COUNT - 1);
+    return axiomTranslator.translate(axioms[axiomIndex]);
+  }
+
+  private OWLAxiom createAxiom(OWLDataFactory dataFactory, int i) {
+    var partOf = dataFactory.getOWLObjectProperty(IRI.create(BASE_IRI + "partOf"));
+    var hasAge = dataFactory.getOWLDataProperty(IRI.create(BASE_IRI + "hasAge"));
+    var cls = getClass(dataFactory, i);
+    var superClass = getClass(dataFactory, i + 1);
+    switch (axiomType) {
+      case DECLARATION:
+        return dataFactory.getOWLDeclarationAxiom(cls);
+      case SUB_CLASS_OF:
+        return dataFactory.getOWLSubClassOfAxiom(cls, superClass);
+      case SUB_CLASS_OF_SOME_VALUES_FROM:
+        return dataFactory.getOWLSubClassOfAxiom(cls, dataFactory.getOWLObjectSomeValuesFrom(partOf, superClass));
+      case EQUIVALENT_CLASSES_INTERSECTION:
+        return dataFactory.getOWLEquivalentClassesAxiom(cls, dataFactory.getOWLObjectIntersectionOf(superClass,
+            dataFactory.getOWLObjectSomeValuesFrom(partOf, getClass(dataFactory, i + 2))));
+      case ANNOTATION_ASSERTION:
+        return dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(), cls.getIRI(),
+            dataFactory.getOWLLiteral("class " + i, "en"));
+      case CLASS_ASSERTION:
+        return dataFactory.getOWLClassAssertionAxiom(cls, getIndividual(dataFactory, i));
+      case OBJECT_PROPERTY_ASSERTION:
+        return dataFactory.getOWLObjectPropertyAssertionAxiom(partOf,
+            getIndividual(dataFactory, i), getIndividual(dataFactory, i + 1));
+      case DATA_PROPERTY_ASSERTION:
+        return dataFactory.getOWLDataPropertyAssertionAxiom(hasAge, getIndividual(dataFactory, i), i);
+      default:
+        throw new IllegalArgumentException("Unknown axiom type: " + axiomType);
+    }
+  }
+
+  private static OWLClass getClass(OWLDataFactory dataFactory, int i) {
+    return dataFactory.getOWLClass(IRI.create(BASE_IRI + "C" + i));
+  }
+
+  private static OWLNamedIndividual getIndividual(OWLDataFactory dataFactory, int i) {
+    return dataFactory.getOWLNamedIndividual(IRI.create(BASE_IRI + "i" + i));
+  }
+}
@@ -1,6 +1,8 @@
 package edu.stanford.owl2lpg.client;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
@@ -14,59 +16,143 @@ import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntologyID;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
+ * Maps the ontology IDs of a project to the IDs of their ontology documents.
+ * The documents of a project are loaded from the database once, by the first
+ * caller that asks for them, while any concurrent caller waits for that load
+ * instead of starting its own. After that, lookups read a concurrent map
+ * without taking a lock.
+ * <p>
+ * The documents of a project are reloaded once their time to live has
+ * passed, so that documents added by another client become visible, or
+ * earlier through {@link #invalidate(ProjectId)}. A document ID that was
+ * handed out for an ontology not yet stored in the database survives the
+ * reload, and a failed reload.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 @ProjectSingleton
 public class DocumentIdMap {
 
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+  @Nonnull
+  private final Function<ProjectId, Map<OWLOntologyID, OntologyDocumentId>> loader;
+
+  private final long timeToLiveNanos;
+
   @Nonnull
-  private final Driver driver;
+  private final Ticker ticker;
+
+  private final ConcurrentHashMap<ProjectId, ProjectDocuments> documentIdMap = new ConcurrentHashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder loadCount = new LongAdder();
 
-  private final Map<ProjectId, Map<OWLOntologyID, OntologyDocumentId>> documentIdMap = Maps.newHashMap();
+  private final LongAdder loadFailureCount = new LongAdder();
+
+  private final LongAdder waitCount = new LongAdder();
+
+  private final LongAdder invalidationCount = new LongAdder();
 
   @Inject
   public DocumentIdMap(@Nonnull Driver driver) {
-    this.driver = checkNotNull(driver);
+    this(driver, DEFAULT_TIME_TO_LIVE);
+  }
+
+  /**
+   * @param timeToLive The time after which the documents of a project are
+   *                   reloaded from the database.
+   */
+  public DocumentIdMap(@Nonnull Driver driver, @Nonnull Duration timeToLive) {
+    this(projectId -> load(checkNotNull(driver), projectId), timeToLive, Ticker.systemTicker());
+  }
+
+  DocumentIdMap(@Nonnull Function<ProjectId, Map<OWLOntologyID, OntologyDocumentId>> loader,
+                @Nonnull Duration timeToLive,
+                @Nonnull Ticker ticker) {
+    checkArgument(!timeToLive.isNegative(), "The time to live must not be negative");
+    this.loader = checkNotNull(loader);
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.ticker = checkNotNull(ticker);
   }
 
   @Nonnull
-  public synchronized OntologyDocumentId get(@Nonnull ProjectId projectId,
-                                             @Nonnull OWLOntologyID ontologyId) {
-    var innerMap = getDocumentIdInnerMap(projectId);
-    var documentId = innerMap.get(ontologyId);
-    if (documentId == null) {
-      documentId = OntologyDocumentId.create();
-      innerMap.put(ontologyId, documentId);
-    }
-    return documentId;
+  public OntologyDocumentId get(@Nonnull ProjectId projectId,
+                                @Nonnull OWLOntologyID ontologyId) {
+    return getProjectDocuments(projectId).getDocumentId(ontologyId);
   }
 
   @Nonnull
-  public synchronized ImmutableSet<OntologyDocumentId> get(@Nonnull ProjectId projectId) {
-    return ImmutableSet.copyOf(getDocumentIdInnerMap(projectId).values());
+  public ImmutableSet<OntologyDocumentId> get(@Nonnull ProjectId projectId) {
+    return ImmutableSet.copyOf(getProjectDocuments(projectId).join().values());
+  }
+
+  /**
+   * Makes the next lookup of the project reload its documents from the
+   * database, e.g. after another client has added or removed a document.
+   */
+  public void invalidate(@Nonnull ProjectId projectId) {
+    invalidationCount.increment();
+    var projectDocuments = documentIdMap.get(projectId);
+    if (projectDocuments != null) {
+      projectDocuments.invalidate();
+    }
+  }
+
+  public void invalidateAll() {
+    invalidationCount.increment();
+    documentIdMap.values().forEach(ProjectDocuments::invalidate);
   }
 
   @Nonnull
-  private Map<OWLOntologyID, OntologyDocumentId> getDocumentIdInnerMap(@Nonnull ProjectId projectId) {
-    ensureLoaded(projectId);
-    return documentIdMap.computeIfAbsent(projectId, k -> Maps.newHashMap());
+  public DocumentIdMapStats getStats() {
+    return DocumentIdMapStats.create(hitCount.sum(), loadCount.sum(), loadFailureCount.sum(),
+        waitCount.sum(), invalidationCount.sum());
   }
 
-  private void ensureLoaded(ProjectId projectId) {
-    if (documentIdMap.containsKey(projectId)) {
-      return;
+  @Nonnull
+  private ProjectDocuments getProjectDocuments(@Nonnull ProjectId projectId) {
+    var projectDocuments = documentIdMap.get(projectId);
+    if (projectDocuments != null && projectDocuments.isLoaded() && !projectDocuments.isExpired()) {
+      hitCount.increment();
+      return projectDocuments;
+    }
+    var currentProjectDocuments = documentIdMap.compute(projectId, (id, existing) ->
+        (existing == null || existing.isExpired()) ? new ProjectDocuments(existing) : existing);
+    if (currentProjectDocuments.claimLoad()) {
+      currentProjectDocuments.load(projectId);
+    }
+    else if (currentProjectDocuments.isLoaded()) {
+      hitCount.increment();
     }
-    load(projectId);
+    else {
+      /* Another caller is loading the documents of the project */
+      waitCount.increment();
+      currentProjectDocuments.join();
+    }
+    return currentProjectDocuments;
   }
 
-  private void load(ProjectId projectId) {
+  @Nonnull
+  private static Map<OWLOntologyID, OntologyDocumentId> load(@Nonnull Driver driver,
+                                                             @Nonnull ProjectId projectId) {
     var queryString =
         "MATCH (:Project {projectId:$projectId})-[:BRANCH]->(:Branch)-[:ONTOLOGY_DOCUMENT]-(o:OntologyDocument)\n" +
             "OPTIONAL MATCH (o)-[:ONTOLOGY_IRI]->(i:IRI)\n" +
@@ -74,7 +160,8 @@ public class DocumentIdMap {
             "RETURN i.iri AS ontologyIri, v.iri AS versionIri, o.ontologyDocumentId AS documentId";
     var inputParams = new MapValue(Map.of("projectId", new StringValue(projectId.getIdentifier())));
     try (var session = driver.session()) {
-      session.readTransaction(tx -> {
+      return session.readTransaction(tx -> {
+        var innerMap = Maps.<OWLOntologyID, OntologyDocumentId>newHashMap();
         var result = tx.run(queryString, inputParams);
         while (result.hasNext()) {
           var record = result.next();
@@ -82,24 +169,119 @@ public class DocumentIdMap {
           var versionIri = getIri(record, "versionIri");
           var documentId = getDocumentId(record);
           var ontologyId = new OWLOntologyID(ontologyIri, versionIri);
-          var innerMap = documentIdMap.computeIfAbsent(projectId, k -> Maps.newHashMap());
           innerMap.put(ontologyId, documentId);
         }
-        return 1;
+        return innerMap;
       });
     }
   }
 
   @Nonnull
-  private Optional<IRI> getIri(Record record, String variableName) {
+  private static Optional<IRI> getIri(Record record, String variableName) {
     var value = record.get(variableName);
     return (!value.isNull()) ?
         Optional.of(IRI.create(value.asString())) :
         Optional.absent();
   }
 
-  private OntologyDocumentId getDocumentId(Record record) {
+  private static OntologyDocumentId getDocumentId(Record record) {
     var documentId = record.get("documentId").asString();
     return OntologyDocumentId.create(documentId);
   }
+
+  private class ProjectDocuments {
+
+    private final CompletableFuture<ConcurrentHashMap<OWLOntologyID, OntologyDocumentId>> documents =
+        new CompletableFuture<>();
+
+    /*
+     * The document IDs that were handed out for ontologies not found in the
+     * database. The map is shared by all the generations of a project, so
+     * that an ID created through an old generation after a newer one was
+     * loaded is not lost.
+     */
+    private final ConcurrentHashMap<OWLOntologyID, OntologyDocumentId> createdDocuments;
+
+    private final AtomicBoolean loadClaimed = new AtomicBoolean();
+
+    @Nullable
+    private ProjectDocuments previousProjectDocuments;
+
+    private volatile long loadedAtNanos;
+
+    private volatile boolean invalidated = false;
+
+    ProjectDocuments(@Nullable ProjectDocuments previousProjectDocuments) {
+      this.previousProjectDocuments = previousProjectDocuments;
+      this.createdDocuments = (previousProjectDocuments != null) ?
+          previousProjectDocuments.createdDocuments :
+          new ConcurrentHashMap<>();
+    }
+
+    boolean claimLoad() {
+      return loadClaimed.compareAndSet(false, true);
+    }
+
+    boolean isLoaded() {
+      return documents.isDone() && !documents.isCompletedExceptionally();
+    }
+
+    boolean isExpired() {
+      return invalidated || (isLoaded() && ticker.read() - loadedAtNanos >= timeToLiveNanos);
+    }
+
+    void invalidate() {
+      invalidated = true;
+    }
+
+    @Nonnull
+    OntologyDocumentId getDocumentId(@Nonnull OWLOntologyID ontologyId) {
+      var innerMap = join();
+      var documentId = innerMap.get(ontologyId);
+      if (documentId == null) {
+        /* Every generation creates the ID through the shared map, so they all agree on it */
+        documentId = innerMap.computeIfAbsent(ontologyId, id ->
+            createdDocuments.computeIfAbsent(id, createdId -> OntologyDocumentId.create()));
+      }
+      return documentId;
+    }
+
+    @Nonnull
+    ConcurrentHashMap<OWLOntologyID, OntologyDocumentId> join() {
+      try {
+        return documents.join();
+      } catch (CompletionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw e;
+      }
+    }
+
+    void load(@Nonnull ProjectId projectId) {
+      loadCount.increment();
+      try {
+        var innerMap = new ConcurrentHashMap<>(loader.apply(projectId));
+        /* The database has the last word on the documents it now stores */
+        createdDocuments.keySet().removeIf(innerMap::containsKey);
+        createdDocuments.forEach(innerMap::putIfAbsent);
+        loadedAtNanos = ticker.read();
+        documents.complete(innerMap);
+        /* Only needed to fall back to when the load fails */
+        previousProjectDocuments = null;
+      } catch (RuntimeException e) {
+        loadFailureCount.increment();
+        /*
+         * Let the next caller try again from the previous generation, so that
+         * the document IDs it created are not lost
+         */
+        if (previousProjectDocuments != null) {
+          documentIdMap.replace(projectId, this, previousProjectDocuments);
+        }
+        else {
+          documentIdMap.remove(projectId, this);
+        }
+        documents.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
 }
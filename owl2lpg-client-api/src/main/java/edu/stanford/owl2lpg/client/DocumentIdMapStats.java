@@ -0,0 +1,38 @@
+package edu.stanford.owl2lpg.client;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the lookups of a {@link DocumentIdMap}.
+ */
+@AutoValue
+public abstract class DocumentIdMapStats {
+
+  @Nonnull
+  public static DocumentIdMapStats create(long hitCount,
+                                          long loadCount,
+                                          long loadFailureCount,
+                                          long waitCount,
+                                          long invalidationCount) {
+    return new AutoValue_DocumentIdMapStats(hitCount, loadCount, loadFailureCount, waitCount, invalidationCount);
+  }
+
+  public abstract long getHitCount();
+
+  /* The lookups that loaded the documents of a project from the database */
+  public abstract long getLoadCount();
+
+  public abstract long getLoadFailureCount();
+
+  /* The lookups that waited for a load started by another caller */
+  public abstract long getWaitCount();
+
+  public abstract long getInvalidationCount();
+
+  public double getHitRate() {
+    var requestCount = getHitCount() + getLoadCount() + getWaitCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+}
@@ -0,0 +1,200 @@
+package edu.stanford.owl2lpg.client;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs a query against each ontology document of a project and merges the
+ * results. The per-document queries run concurrently on a bounded pool, so a
+ * project with many imported documents no longer pays the latency of every
+ * document in turn. The latency of each per-document query is recorded in a
+ * {@link LatencyHistogram} for the accessor that it belongs to.
+ * <p>
+ * A query that fans out again from inside a per-document query runs its
+ * documents on the calling thread, so that the pool cannot deadlock waiting
+ * for itself.
+ */
+@ProjectSingleton
+public class DocumentQueryExecutor implements AutoCloseable {
+
+  public static final int DEFAULT_CONCURRENCY_LIMIT = 8;
+
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+  private static final ThreadLocal<Boolean> inPool = ThreadLocal.withInitial(() -> false);
+
+  @Nonnull
+  private final ThreadPoolExecutor executor;
+
+  private final ConcurrentHashMap<String, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
+
+  @Inject
+  public DocumentQueryExecutor() {
+    this(DEFAULT_CONCURRENCY_LIMIT);
+  }
+
+  /**
+   * @param concurrencyLimit The maximum number of per-document queries that
+   *                         run at the same time for the project.
+   */
+  public DocumentQueryExecutor(int concurrencyLimit) {
+    checkArgument(concurrencyLimit > 0, "The concurrency limit must be positive");
+    var threadFactory = new ThreadFactoryBuilder()
+        .setNameFormat("document-query-%d")
+        .setDaemon(true)
+        .build();
+    executor = new ThreadPoolExecutor(concurrencyLimit, concurrencyLimit,
+        IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        runnable -> threadFactory.newThread(() -> {
+          inPool.set(true);
+          runnable.run();
+        }));
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Runs the query against every document and returns the union of the
+   * results.
+   *
+   * @param accessorName The name under which the query latencies are recorded,
+   *                     e.g. {@code "ClassHierarchyAccessor.getChildren"}
+   */
+  @Nonnull
+  public <T> ImmutableSet<T> collectSet(@Nonnull Collection<OntologyDocumentId> documentIds,
+                                        @Nonnull String accessorName,
+                                        @Nonnull Function<OntologyDocumentId, ? extends Collection<? extends T>> query) {
+    var results = ImmutableSet.<T>builder();
+    map(documentIds, accessorName, query).forEach(results::addAll);
+    return results.build();
+  }
+
+  /**
+   * Runs the query against every document and returns the concatenation of
+   * the results, in the order of the documents.
+   */
+  @Nonnull
+  public <T> ImmutableList<T> collectList(@Nonnull Collection<OntologyDocumentId> documentIds,
+                                          @Nonnull String accessorName,
+                                          @Nonnull Function<OntologyDocumentId, ? extends Collection<? extends T>> query) {
+    var results = ImmutableList.<T>builder();
+    map(documentIds, accessorName, query).forEach(results::addAll);
+    return results.build();
+  }
+
+  /**
+   * Tests whether the predicate holds for any of the documents. The queries
+   * that are still outstanding once a match is found are cancelled.
+   */
+  public boolean anyMatch(@Nonnull Collection<OntologyDocumentId> documentIds,
+                          @Nonnull String accessorName,
+                          @Nonnull Predicate<OntologyDocumentId> predicate) {
+    if (runsInline(documentIds)) {
+      return documentIds.stream().anyMatch(documentId -> timed(accessorName, () -> predicate.test(documentId)));
+    }
+    var futures = submitAll(documentIds, accessorName, predicate::test);
+    try {
+      for (var future : futures) {
+        if (getResult(future)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  @Nonnull
+  private <R> ImmutableList<R> map(@Nonnull Collection<OntologyDocumentId> documentIds,
+                                   @Nonnull String accessorName,
+                                   @Nonnull Function<OntologyDocumentId, R> query) {
+    if (runsInline(documentIds)) {
+      return documentIds.stream()
+          .map(documentId -> timed(accessorName, () -> query.apply(documentId)))
+          .collect(ImmutableList.toImmutableList());
+    }
+    var futures = submitAll(documentIds, accessorName, query);
+    try {
+      return futures.stream()
+          .map(DocumentQueryExecutor::getResult)
+          .collect(ImmutableList.toImmutableList());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static boolean runsInline(@Nonnull Collection<OntologyDocumentId> documentIds) {
+    return documentIds.size() <= 1 || inPool.get();
+  }
+
+  @Nonnull
+  private <R> List<Future<R>> submitAll(@Nonnull Collection<OntologyDocumentId> documentIds,
+                                        @Nonnull String accessorName,
+                                        @Nonnull Function<OntologyDocumentId, R> query) {
+    return documentIds.stream()
+        .map(documentId -> executor.submit(() -> timed(accessorName, () -> query.apply(documentId))))
+        .collect(Collectors.toList());
+  }
+
+  private <R> R timed(@Nonnull String accessorName, @Nonnull Supplier<R> query) {
+    var start = System.nanoTime();
+    try {
+      return query.get();
+    } finally {
+      getLatencyHistogram(accessorName).record(System.nanoTime() - start);
+    }
+  }
+
+  private static <R> R getResult(@Nonnull Future<R> future) {
+    try {
+      return Uninterruptibles.getUninterruptibly(future);
+    } catch (ExecutionException e) {
+      // Rethrow what the query threw, as if it had run on the calling thread
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UncheckedExecutionException(e.getCause());
+    }
+  }
+
+  @Nonnull
+  public LatencyHistogram getLatencyHistogram(@Nonnull String accessorName) {
+    return latencyHistograms.computeIfAbsent(accessorName, name -> new LatencyHistogram());
+  }
+
+  @Nonnull
+  public ImmutableMap<String, LatencyHistogram> getLatencyHistograms() {
+    return ImmutableMap.copyOf(latencyHistograms);
+  }
+
+  public int getConcurrencyLimit() {
+    return executor.getMaximumPoolSize();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
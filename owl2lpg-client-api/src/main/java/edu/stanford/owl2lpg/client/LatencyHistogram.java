@@ -0,0 +1,82 @@
+package edu.stanford.owl2lpg.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A latency histogram with power-of-two microsecond buckets, so that it can
+ * be updated from many threads without locking. Percentiles are reported as
+ * the upper bound of the bucket that contains them, which is within a factor
+ * of two of the actual value.
+ */
+public class LatencyHistogram {
+
+  /* Bucket i holds latencies below 2^i microseconds, the last one holds everything above */
+  private static final int BUCKET_COUNT = 32;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder totalNanos = new LongAdder();
+
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  public void record(long elapsedNanos) {
+    var micros = TimeUnit.NANOSECONDS.toMicros(Math.max(elapsedNanos, 0));
+    var bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    buckets.incrementAndGet(bucket);
+    count.increment();
+    totalNanos.add(elapsedNanos);
+    maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getMeanMillis() {
+    var n = getCount();
+    return n == 0 ? 0 : totalNanos.sum() / 1e6 / n;
+  }
+
+  public double getMaxMillis() {
+    return maxNanos.get() / 1e6;
+  }
+
+  /**
+   * @param percentile A percentile between 0 and 100, e.g. 99 for the p99
+   *                   latency.
+   */
+  public double getPercentileMillis(double percentile) {
+    checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100");
+    var counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    var rank = (long) Math.ceil(total * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+      seen += counts[i];
+      if (seen >= Math.max(rank, 1)) {
+        return (1L << i) / 1e3;
+      }
+    }
+    return getMaxMillis();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+        getCount(), getMeanMillis(), getPercentileMillis(50), getPercentileMillis(99), getMaxMillis());
+  }
+}
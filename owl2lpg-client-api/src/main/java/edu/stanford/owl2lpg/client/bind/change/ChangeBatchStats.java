@@ -0,0 +1,42 @@
+package edu.stanford.owl2lpg.client.bind.change;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the counters kept by {@link Neo4jUpdater} for the changes
+ * that it has written in batches.
+ */
+@AutoValue
+public abstract class ChangeBatchStats {
+
+  @Nonnull
+  public static ChangeBatchStats create(long receivedChangeCount,
+                                        long coalescedChangeCount,
+                                        long committedChangeCount,
+                                        long batchCount,
+                                        long totalBatchNanos,
+                                        long maxBatchNanos) {
+    return new AutoValue_ChangeBatchStats(receivedChangeCount, coalescedChangeCount,
+        committedChangeCount, batchCount, totalBatchNanos, maxBatchNanos);
+  }
+
+  public abstract long getReceivedChangeCount();
+
+  /* The changes that were dropped because a later change overrode them */
+  public abstract long getCoalescedChangeCount();
+
+  public abstract long getCommittedChangeCount();
+
+  public abstract long getBatchCount();
+
+  /* The time spent committing batches, in nanoseconds */
+  public abstract long getTotalBatchNanos();
+
+  public abstract long getMaxBatchNanos();
+
+  public double getMeanBatchMillis() {
+    return getBatchCount() == 0 ? 0.0 : getTotalBatchNanos() / 1e6 / getBatchCount();
+  }
+}
@@ -0,0 +1,62 @@
+package edu.stanford.owl2lpg.client.bind.change;
+
+import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
+import edu.stanford.bmir.protege.web.server.change.AddImportChange;
+import edu.stanford.bmir.protege.web.server.change.AddOntologyAnnotationChange;
+import edu.stanford.bmir.protege.web.server.change.OntologyChangeVisitor;
+import edu.stanford.bmir.protege.web.server.change.RemoveAxiomChange;
+import edu.stanford.bmir.protege.web.server.change.RemoveImportChange;
+import edu.stanford.bmir.protege.web.server.change.RemoveOntologyAnnotationChange;
+import edu.stanford.owl2lpg.client.write.WriteBatch;
+import edu.stanford.owl2lpg.client.write.handlers.AxiomChangeHandler;
+import edu.stanford.owl2lpg.client.write.handlers.OntologyAnnotationChangeHandler;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The counterpart of {@link Neo4jChangeVisitor} that adds the queries of
+ * the visited changes to a {@link WriteBatch} instead of running them.
+ */
+public class Neo4jChangeBatchVisitor implements OntologyChangeVisitor {
+
+  @Nonnull
+  private final AxiomChangeHandler axiomChangeHandler;
+
+  @Nonnull
+  private final OntologyAnnotationChangeHandler ontologyAnnotationChangeHandler;
+
+  @Nonnull
+  private final WriteBatch batch;
+
+  public Neo4jChangeBatchVisitor(@Nonnull AxiomChangeHandler axiomChangeHandler,
+                                 @Nonnull OntologyAnnotationChangeHandler ontologyAnnotationChangeHandler,
+                                 @Nonnull WriteBatch batch) {
+    this.axiomChangeHandler = checkNotNull(axiomChangeHandler);
+    this.ontologyAnnotationChangeHandler = checkNotNull(ontologyAnnotationChangeHandler);
+    this.batch = checkNotNull(batch);
+  }
+
+  public void visit(@Nonnull AddAxiomChange addAxiomChange) {
+    axiomChangeHandler.addToBatch(addAxiomChange, batch);
+  }
+
+  public void visit(@Nonnull RemoveAxiomChange removeAxiomChange) {
+    axiomChangeHandler.addToBatch(removeAxiomChange, batch);
+  }
+
+  public void visit(@Nonnull AddOntologyAnnotationChange addOntologyAnnotationChange) {
+    ontologyAnnotationChangeHandler.addToBatch(addOntologyAnnotationChange, batch);
+  }
+
+  public void visit(@Nonnull RemoveOntologyAnnotationChange removeOntologyAnnotationChange) {
+    ontologyAnnotationChangeHandler.addToBatch(removeOntologyAnnotationChange, batch);
+  }
+
+  public void visit(@Nonnull AddImportChange addImportChange) {
+  }
+
+  public void visit(@Nonnull RemoveImportChange removeImportChange) {
+  }
+}
@@ -1,11 +1,33 @@
 package edu.stanford.owl2lpg.client.bind.change;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import edu.stanford.bmir.protege.web.server.change.AddOntologyAnnotationChange;
+import edu.stanford.bmir.protege.web.server.change.AxiomChange;
 import edu.stanford.bmir.protege.web.server.change.OntologyChange;
+import edu.stanford.bmir.protege.web.server.change.RemoveOntologyAnnotationChange;
 import edu.stanford.bmir.protege.web.server.index.impl.UpdatableIndex;
+import edu.stanford.owl2lpg.client.read.shortform.ShortFormCache;
+import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.WriteBatch;
+import edu.stanford.owl2lpg.client.write.handlers.AxiomChangeHandler;
+import edu.stanford.owl2lpg.client.write.handlers.ChangeBatchSettings;
+import edu.stanford.owl2lpg.client.write.handlers.OntologyAnnotationChangeHandler;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -15,16 +37,166 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class Neo4jUpdater implements UpdatableIndex {
 
+  private static final Logger logger = LoggerFactory.getLogger(Neo4jUpdater.class);
+
   @Nonnull
   private final Neo4jChangeVisitor changeVisitor;
 
+  @Nonnull
+  private final AxiomChangeHandler axiomChangeHandler;
+
+  @Nonnull
+  private final OntologyAnnotationChangeHandler ontologyAnnotationChangeHandler;
+
+  @Nonnull
+  private final GraphWriter graphWriter;
+
+  @Nonnull
+  private final ChangeBatchSettings batchSettings;
+
+  @Nonnull
+  private final ShortFormCache shortFormCache;
+
+  private final LongAdder receivedChangeCount = new LongAdder();
+
+  private final LongAdder coalescedChangeCount = new LongAdder();
+
+  private final LongAdder committedChangeCount = new LongAdder();
+
+  private final LongAdder batchCount = new LongAdder();
+
+  private final LongAdder totalBatchNanos = new LongAdder();
+
+  private final AtomicLong maxBatchNanos = new AtomicLong();
+
   @Inject
-  public Neo4jUpdater(@Nonnull Neo4jChangeVisitor changeVisitor) {
+  public Neo4jUpdater(@Nonnull Neo4jChangeVisitor changeVisitor,
+                      @Nonnull AxiomChangeHandler axiomChangeHandler,
+                      @Nonnull OntologyAnnotationChangeHandler ontologyAnnotationChangeHandler,
+                      @Nonnull GraphWriter graphWriter,
+                      @Nonnull ChangeBatchSettings batchSettings,
+                      @Nonnull ShortFormCache shortFormCache) {
     this.changeVisitor = checkNotNull(changeVisitor);
+    this.axiomChangeHandler = checkNotNull(axiomChangeHandler);
+    this.ontologyAnnotationChangeHandler = checkNotNull(ontologyAnnotationChangeHandler);
+    this.graphWriter = checkNotNull(graphWriter);
+    this.batchSettings = checkNotNull(batchSettings);
+    this.shortFormCache = checkNotNull(shortFormCache);
   }
 
   @Override
   public void applyChanges(@Nonnull ImmutableList<OntologyChange> immutableList) {
-    immutableList.forEach(change -> change.accept(changeVisitor));
+    try {
+      if (batchSettings.isBatched()) {
+        applyChangesInBatches(immutableList);
+      } else {
+        immutableList.forEach(change -> change.accept(changeVisitor));
+      }
+    } finally {
+      shortFormCache.invalidate(getShortFormSubjects(immutableList));
+    }
+  }
+
+  /*
+   * The short forms of an entity come from its annotation assertions and,
+   * once it is declared, from its IRI.
+   */
+  @Nonnull
+  private static ImmutableSet<IRI> getShortFormSubjects(@Nonnull List<OntologyChange> changes) {
+    return changes.stream()
+        .filter(change -> change instanceof AxiomChange)
+        .map(change -> ((AxiomChange) change).getAxiom())
+        .map(Neo4jUpdater::getShortFormSubject)
+        .flatMap(Optional::stream)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  @Nonnull
+  private static Optional<IRI> getShortFormSubject(@Nonnull OWLAxiom axiom) {
+    if (axiom instanceof OWLAnnotationAssertionAxiom) {
+      var subject = ((OWLAnnotationAssertionAxiom) axiom).getSubject();
+      return (subject instanceof IRI) ? Optional.of((IRI) subject) : Optional.empty();
+    } else if (axiom instanceof OWLDeclarationAxiom) {
+      return Optional.of(((OWLDeclarationAxiom) axiom).getEntity().getIRI());
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /*
+   * Translates the whole change list before anything is written, so that a
+   * change that cannot be translated leaves the database untouched.
+   */
+  private void applyChangesInBatches(@Nonnull List<OntologyChange> changes) {
+    var coalescedChanges = coalesce(changes);
+    var batches = Lists.partition(coalescedChanges, batchSettings.getChunkSize()).stream()
+        .map(this::translateToBatch)
+        .collect(ImmutableList.toImmutableList());
+    receivedChangeCount.add(changes.size());
+    coalescedChangeCount.add(changes.size() - coalescedChanges.size());
+    graphWriter.executeInTransactions(batches, this::recordCommittedBatch);
+  }
+
+  @Nonnull
+  private WriteBatch translateToBatch(@Nonnull List<OntologyChange> changes) {
+    var batch = new WriteBatch();
+    var batchVisitor = new Neo4jChangeBatchVisitor(axiomChangeHandler, ontologyAnnotationChangeHandler, batch);
+    changes.forEach(change -> change.accept(batchVisitor));
+    return batch;
+  }
+
+  private void recordCommittedBatch(@Nonnull WriteBatch batch, long elapsedNanos) {
+    committedChangeCount.add(batch.getChangeCount());
+    batchCount.increment();
+    totalBatchNanos.add(elapsedNanos);
+    maxBatchNanos.accumulateAndGet(elapsedNanos, Math::max);
+    logger.debug("Committed a batch of {} changes in {} ms", batch.getChangeCount(), elapsedNanos / 1_000_000);
+  }
+
+  /**
+   * Drops every change that is followed by a later change to the same axiom
+   * or ontology annotation in the same ontology. Adding and removing are both
+   * idempotent, so the last change alone decides whether the object ends up
+   * in the ontology; an add followed by a remove, or the other way around,
+   * only leaves the later one.
+   *
+   * @param changes The changes in the order in which they are applied
+   * @return The remaining changes, in the same order
+   */
+  @Nonnull
+  static ImmutableList<OntologyChange> coalesce(@Nonnull List<OntologyChange> changes) {
+    var lastIndexByKey = Maps.<List<Object>, Integer>newHashMapWithExpectedSize(changes.size());
+    for (int i = 0; i < changes.size(); i++) {
+      var index = i;
+      getCoalescingKey(changes.get(i)).ifPresent(key -> lastIndexByKey.put(key, index));
+    }
+    var coalescedChanges = ImmutableList.<OntologyChange>builder();
+    for (int i = 0; i < changes.size(); i++) {
+      var change = changes.get(i);
+      var key = getCoalescingKey(change);
+      if (key.isEmpty() || lastIndexByKey.get(key.get()) == i) {
+        coalescedChanges.add(change);
+      }
+    }
+    return coalescedChanges.build();
+  }
+
+  @Nonnull
+  private static Optional<List<Object>> getCoalescingKey(@Nonnull OntologyChange change) {
+    if (change instanceof AxiomChange) {
+      return Optional.of(List.of(change.getOntologyId(), ((AxiomChange) change).getAxiom()));
+    } else if (change instanceof AddOntologyAnnotationChange) {
+      return Optional.of(List.of(change.getOntologyId(), ((AddOntologyAnnotationChange) change).getAnnotation()));
+    } else if (change instanceof RemoveOntologyAnnotationChange) {
+      return Optional.of(List.of(change.getOntologyId(), ((RemoveOntologyAnnotationChange) change).getAnnotation()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  @Nonnull
+  public ChangeBatchStats getBatchStats() {
+    return ChangeBatchStats.create(receivedChangeCount.sum(), coalescedChangeCount.sum(),
+        committedChangeCount.sum(), batchCount.sum(), totalBatchNanos.sum(), maxBatchNanos.get());
   }
 }
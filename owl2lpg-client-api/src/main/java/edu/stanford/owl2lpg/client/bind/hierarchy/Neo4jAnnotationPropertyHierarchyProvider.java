@@ -1,6 +1,5 @@
 package edu.stanford.owl2lpg.client.bind.hierarchy;
 
-import com.google.common.collect.ImmutableSet;
 import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.hierarchy.AnnotationPropertyHierarchyProvider;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
@@ -47,64 +46,42 @@ public class Neo4jAnnotationPropertyHierarchyProvider implements AnnotationPrope
 
   @Override
   public Collection<OWLAnnotationProperty> getRoots() {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getRoots(projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getRoots(projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLAnnotationProperty> getChildren(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getChildren(owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getChildren(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public boolean isLeaf(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isLeaf(owlAnnotationProperty, projectId, branchId, documentId));
+    return hierarchyAccessor.isLeaf(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLAnnotationProperty> getDescendants(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getDescendants(owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getDescendants(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLAnnotationProperty> getParents(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getParents(owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getParents(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLAnnotationProperty> getAncestors(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getAncestors(owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getAncestors(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<List<OWLAnnotationProperty>> getPathsToRoot(OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getPathsToRoot(owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getPathsToRoot(owlAnnotationProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public boolean isAncestor(OWLAnnotationProperty parent, OWLAnnotationProperty child) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentId));
+    return hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
@@ -1,14 +1,18 @@
 package edu.stanford.owl2lpg.client.bind.hierarchy;
 
 import com.google.common.collect.ImmutableSet;
+import edu.stanford.bmir.protege.web.server.change.AxiomChange;
 import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.hierarchy.ClassHierarchyProvider;
 import edu.stanford.bmir.protege.web.server.hierarchy.ClassHierarchyRoot;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.entity.EntityAccessor;
 import edu.stanford.owl2lpg.client.read.hierarchy.ClassHierarchyAccessor;
+import edu.stanford.owl2lpg.client.read.hierarchy.ClassHierarchyCache;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.EntityType;
 import org.semanticweb.owlapi.model.OWLClass;
 
@@ -38,25 +42,35 @@ public class Neo4jClassHierarchyProvider implements ClassHierarchyProvider {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final EntityAccessor entityAccessor;
 
   @Nonnull
   private final ClassHierarchyAccessor hierarchyAccessor;
 
+  @Nonnull
+  private final ClassHierarchyCache hierarchyCache;
+
   @Inject
   public Neo4jClassHierarchyProvider(@Nonnull @ClassHierarchyRoot OWLClass root,
                                      @Nonnull ProjectId projectId,
                                      @Nonnull BranchId branchId,
                                      @Nonnull DocumentIdMap documentIdMap,
+                                     @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                      @Nonnull EntityAccessor entityAccessor,
-                                     @Nonnull ClassHierarchyAccessor hierarchyAccessor) {
+                                     @Nonnull ClassHierarchyAccessor hierarchyAccessor,
+                                     @Nonnull ClassHierarchyCache hierarchyCache) {
     this.root = checkNotNull(root);
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.entityAccessor = checkNotNull(entityAccessor);
     this.hierarchyAccessor = checkNotNull(hierarchyAccessor);
+    this.hierarchyCache = checkNotNull(hierarchyCache);
     hierarchyAccessor.setRoot(root);
   }
 
@@ -67,24 +81,21 @@ public class Neo4jClassHierarchyProvider implements ClassHierarchyProvider {
 
   @Override
   public Collection<OWLClass> getChildren(OWLClass owlClass) {
+    return hierarchyCache.getChildren(owlClass, this::loadChildren);
+  }
+
+  @Nonnull
+  private ImmutableSet<OWLClass> loadChildren(OWLClass owlClass) {
     if (root.equals(getOWLThing()) && root.equals(owlClass)) {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getTopChildren(projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getTopChildren(projectId, branchId, documentIdMap.get(projectId));
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getChildren(owlClass, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getChildren(owlClass, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Override
   public boolean isLeaf(OWLClass owlClass) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isLeaf(owlClass, projectId, branchId, documentId));
+    return getChildren(owlClass).isEmpty();
   }
 
   @Override
@@ -92,54 +103,61 @@ public class Neo4jClassHierarchyProvider implements ClassHierarchyProvider {
     if (root.equals(getOWLThing()) && root.equals(owlClass)) {
       return getAllClasses();
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getDescendants(owlClass, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getDescendants(owlClass, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Nonnull
   private ImmutableSet<OWLClass> getAllClasses() {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> entityAccessor.getEntitiesByType(EntityType.CLASS, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "EntityAccessor.getEntitiesByType",
+        documentId -> entityAccessor.getEntitiesByType(EntityType.CLASS, projectId, branchId, documentId));
   }
 
   @Override
   public Collection<OWLClass> getParents(OWLClass owlClass) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getParents(owlClass, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyCache.getParents(owlClass,
+        cls -> hierarchyAccessor.getParents(cls, projectId, branchId, documentIdMap.get(projectId)));
   }
 
   @Override
   public Collection<OWLClass> getAncestors(OWLClass owlClass) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getAncestors(owlClass, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyCache.getAncestors(owlClass,
+        cls -> hierarchyAccessor.getAncestors(cls, projectId, branchId, documentIdMap.get(projectId)));
   }
 
   @Override
   public Collection<List<OWLClass>> getPathsToRoot(OWLClass owlClass) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getPathsToRoot(owlClass, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getPathsToRoot(owlClass, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public boolean isAncestor(OWLClass parent, OWLClass child) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentId));
+    return getAncestors(child).contains(parent);
   }
 
+  /**
+   * Keeps the hierarchy cache in step with the changes, which have already
+   * been written to the database. A SubClassOf or EquivalentClasses axiom adds
+   * or removes hierarchy edges between the classes in its signature. Any other
+   * axiom may only bring a class into, or take it out of, the signature, which
+   * can change the classes that sit directly under owl:Thing.
+   */
   @Override
-  public void handleChanges(List<OntologyChange> list) {
-    // Do nothing
+  public void handleChanges(List<OntologyChange> changes) {
+    for (var change : changes) {
+      if (!(change instanceof AxiomChange)) {
+        continue;
+      }
+      var axiom = ((AxiomChange) change).getAxiom();
+      if (axiom.isOfType(AxiomType.SUBCLASS_OF, AxiomType.EQUIVALENT_CLASSES)) {
+        var classes = ImmutableSet.<OWLClass>builder()
+            .addAll(axiom.getClassesInSignature())
+            .add(root)
+            .build();
+        hierarchyCache.invalidate(classes);
+      } else if (!axiom.getClassesInSignature().isEmpty()) {
+        hierarchyCache.invalidateChildren(root);
+      }
+    }
   }
 }
@@ -5,6 +5,7 @@ import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.hierarchy.DataPropertyHierarchyProvider;
 import edu.stanford.bmir.protege.web.server.hierarchy.DataPropertyHierarchyRoot;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.entity.EntityAccessor;
 import edu.stanford.owl2lpg.client.read.hierarchy.DataPropertyHierarchyAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -38,6 +39,9 @@ public class Neo4jDataPropertyHierarchyProvider implements DataPropertyHierarchy
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final EntityAccessor entityAccessor;
 
@@ -52,6 +56,7 @@ public class Neo4jDataPropertyHierarchyProvider implements DataPropertyHierarchy
                                             @Nonnull ProjectId projectId,
                                             @Nonnull BranchId branchId,
                                             @Nonnull DocumentIdMap documentIdMap,
+                                            @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                             @Nonnull EntityAccessor entityAccessor,
                                             @Nonnull DataPropertyHierarchyAccessor hierarchyAccessor,
                                             @Nonnull OWLDataFactory dataFactory) {
@@ -59,6 +64,7 @@ public class Neo4jDataPropertyHierarchyProvider implements DataPropertyHierarchy
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.entityAccessor = checkNotNull(entityAccessor);
     this.hierarchyAccessor = checkNotNull(hierarchyAccessor);
     this.dataFactory = checkNotNull(dataFactory);
@@ -73,23 +79,15 @@ public class Neo4jDataPropertyHierarchyProvider implements DataPropertyHierarchy
   @Override
   public Collection<OWLDataProperty> getChildren(OWLDataProperty owlDataProperty) {
     if (root.equals(dataFactory.getOWLTopDataProperty()) && root.equals(owlDataProperty)) {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getTopChildren(projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getTopChildren(projectId, branchId, documentIdMap.get(projectId));
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getChildren(owlDataProperty, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getChildren(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Override
   public boolean isLeaf(OWLDataProperty owlDataProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isLeaf(owlDataProperty, projectId, branchId, documentId));
+    return hierarchyAccessor.isLeaf(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
@@ -97,50 +95,34 @@ public class Neo4jDataPropertyHierarchyProvider implements DataPropertyHierarchy
     if (root.equals(dataFactory.getOWLTopDataProperty()) && root.equals(owlDataProperty)) {
       return getAllDataProperties();
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getDescendants(owlDataProperty, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getDescendants(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Nonnull
   private ImmutableSet<OWLDataProperty> getAllDataProperties() {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> entityAccessor.getEntitiesByType(DATA_PROPERTY, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "EntityAccessor.getEntitiesByType",
+        documentId -> entityAccessor.getEntitiesByType(DATA_PROPERTY, projectId, branchId, documentId));
   }
 
   @Override
   public Collection<OWLDataProperty> getParents(OWLDataProperty owlDataProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getParents(owlDataProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getParents(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLDataProperty> getAncestors(OWLDataProperty owlDataProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getAncestors(owlDataProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getAncestors(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<List<OWLDataProperty>> getPathsToRoot(OWLDataProperty owlDataProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getPathsToRoot(owlDataProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getPathsToRoot(owlDataProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public boolean isAncestor(OWLDataProperty parent, OWLDataProperty child) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentId));
+    return hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
@@ -5,6 +5,7 @@ import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.hierarchy.ObjectPropertyHierarchyProvider;
 import edu.stanford.bmir.protege.web.server.hierarchy.ObjectPropertyHierarchyRoot;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.entity.EntityAccessor;
 import edu.stanford.owl2lpg.client.read.hierarchy.ObjectPropertyHierarchyAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -38,6 +39,9 @@ public class Neo4jObjectPropertyHierarchyProvider implements ObjectPropertyHiera
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final EntityAccessor entityAccessor;
 
@@ -52,6 +56,7 @@ public class Neo4jObjectPropertyHierarchyProvider implements ObjectPropertyHiera
                                               @Nonnull ProjectId projectId,
                                               @Nonnull BranchId branchId,
                                               @Nonnull DocumentIdMap documentIdMap,
+                                              @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                               @Nonnull EntityAccessor entityAccessor,
                                               @Nonnull ObjectPropertyHierarchyAccessor hierarchyAccessor,
                                               @Nonnull OWLDataFactory dataFactory) {
@@ -59,6 +64,7 @@ public class Neo4jObjectPropertyHierarchyProvider implements ObjectPropertyHiera
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.entityAccessor = checkNotNull(entityAccessor);
     this.hierarchyAccessor = checkNotNull(hierarchyAccessor);
     this.dataFactory = checkNotNull(dataFactory);
@@ -73,23 +79,15 @@ public class Neo4jObjectPropertyHierarchyProvider implements ObjectPropertyHiera
   @Override
   public Collection<OWLObjectProperty> getChildren(OWLObjectProperty owlObjectProperty) {
     if (root.equals(dataFactory.getOWLTopObjectProperty()) && root.equals(owlObjectProperty)) {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getTopChildren(projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getTopChildren(projectId, branchId, documentIdMap.get(projectId));
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getChildren(owlObjectProperty, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getChildren(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Override
   public boolean isLeaf(OWLObjectProperty owlObjectProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isLeaf(owlObjectProperty, projectId, branchId, documentId));
+    return hierarchyAccessor.isLeaf(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
@@ -97,50 +95,34 @@ public class Neo4jObjectPropertyHierarchyProvider implements ObjectPropertyHiera
     if (root.equals(dataFactory.getOWLTopObjectProperty()) && root.equals(owlObjectProperty)) {
       return getAllObjectProperties();
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> hierarchyAccessor.getDescendants(owlObjectProperty, projectId, branchId, documentId).stream())
-          .collect(ImmutableSet.toImmutableSet());
+      return hierarchyAccessor.getDescendants(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
     }
   }
 
   @Nonnull
   private ImmutableSet<OWLObjectProperty> getAllObjectProperties() {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> entityAccessor.getEntitiesByType(EntityType.OBJECT_PROPERTY, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "EntityAccessor.getEntitiesByType",
+        documentId -> entityAccessor.getEntitiesByType(EntityType.OBJECT_PROPERTY, projectId, branchId, documentId));
   }
 
   @Override
   public Collection<OWLObjectProperty> getParents(OWLObjectProperty owlObjectProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getParents(owlObjectProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getParents(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<OWLObjectProperty> getAncestors(OWLObjectProperty owlObjectProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getAncestors(owlObjectProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getAncestors(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public Collection<List<OWLObjectProperty>> getPathsToRoot(OWLObjectProperty owlObjectProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> hierarchyAccessor.getPathsToRoot(owlObjectProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return hierarchyAccessor.getPathsToRoot(owlObjectProperty, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
   public boolean isAncestor(OWLObjectProperty parent, OWLObjectProperty child) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentId));
+    return hierarchyAccessor.isAncestor(parent, child, projectId, branchId, documentIdMap.get(projectId));
   }
 
   @Override
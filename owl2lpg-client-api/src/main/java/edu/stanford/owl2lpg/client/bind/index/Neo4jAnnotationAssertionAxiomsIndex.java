@@ -1,8 +1,8 @@
 package edu.stanford.owl2lpg.client.bind.index;
 
-import com.google.common.collect.ImmutableSet;
 import edu.stanford.bmir.protege.web.server.index.AnnotationAssertionAxiomsIndex;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.axiom.AssertionAxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -32,6 +32,9 @@ public class Neo4jAnnotationAssertionAxiomsIndex implements AnnotationAssertionA
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final AssertionAxiomAccessor assertionAxiomAccessor;
 
@@ -39,10 +42,12 @@ public class Neo4jAnnotationAssertionAxiomsIndex implements AnnotationAssertionA
   public Neo4jAnnotationAssertionAxiomsIndex(@Nonnull ProjectId projectId,
                                              @Nonnull BranchId branchId,
                                              @Nonnull DocumentIdMap documentIdMap,
+                                             @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                              @Nonnull AssertionAxiomAccessor assertionAxiomAccessor) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.assertionAxiomAccessor = checkNotNull(assertionAxiomAccessor);
   }
 
@@ -60,11 +65,9 @@ public class Neo4jAnnotationAssertionAxiomsIndex implements AnnotationAssertionA
 
   @Nonnull
   private Set<OWLAnnotationAssertionAxiom> getAnnotationAssertionsForSubject(@Nonnull IRI iri) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> assertionAxiomAccessor.getAnnotationAssertionsBySubject(
-            iri, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "AssertionAxiomAccessor.getAnnotationAssertionsBySubject",
+        documentId -> assertionAxiomAccessor.getAnnotationAssertionsBySubject(
+            iri, projectId, branchId, documentId));
   }
 
   @Override
@@ -77,11 +80,9 @@ public class Neo4jAnnotationAssertionAxiomsIndex implements AnnotationAssertionA
   @Nonnull
   private Set<OWLAnnotationAssertionAxiom> getAnnotationAssertionsForSubjectAndProperty(@Nonnull IRI iri,
                                                                                         @Nonnull OWLAnnotationProperty owlAnnotationProperty) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> assertionAxiomAccessor.getAnnotationAssertionsBySubject(
-            iri, owlAnnotationProperty, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "AssertionAxiomAccessor.getAnnotationAssertionsBySubject",
+        documentId -> assertionAxiomAccessor.getAnnotationAssertionsBySubject(
+            iri, owlAnnotationProperty, projectId, branchId, documentId));
   }
 
   @Override
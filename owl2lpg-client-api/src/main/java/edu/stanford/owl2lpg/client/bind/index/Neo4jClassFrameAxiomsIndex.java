@@ -3,6 +3,7 @@ package edu.stanford.owl2lpg.client.bind.index;
 import com.google.common.collect.ImmutableSet;
 import edu.stanford.bmir.protege.web.server.index.ClassFrameAxiomsIndex;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -32,6 +33,9 @@ public class Neo4jClassFrameAxiomsIndex implements ClassFrameAxiomsIndex {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final AxiomAccessor axiomAccessor;
 
@@ -39,18 +43,20 @@ public class Neo4jClassFrameAxiomsIndex implements ClassFrameAxiomsIndex {
   public Neo4jClassFrameAxiomsIndex(@Nonnull ProjectId projectId,
                                     @Nonnull BranchId branchId,
                                     @Nonnull DocumentIdMap documentIdMap,
+                                    @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                     @Nonnull AxiomAccessor axiomAccessor) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.axiomAccessor = checkNotNull(axiomAccessor);
   }
 
   @Override
   public Set<OWLAxiom> getFrameAxioms(OWLClass owlClass, AnnotationsTreatment annotationsTreatment) {
-    return documentIdMap.get(projectId)
+    return documentQueryExecutor.collectList(documentIdMap.get(projectId), "AxiomAccessor.getAxiomsBySubject",
+        documentId -> axiomAccessor.getAxiomsBySubject(owlClass, projectId, branchId, documentId))
         .stream()
-        .flatMap(documentId -> axiomAccessor.getAxiomsBySubject(owlClass, projectId, branchId, documentId).stream())
         .filter(axiom -> {
           var accepted = true;
           if (annotationsTreatment.equals(EXCLUDE_ANNOTATIONS)) {
@@ -6,6 +6,7 @@ import edu.stanford.bmir.protege.web.shared.DataFactory;
 import edu.stanford.bmir.protege.web.shared.individuals.InstanceRetrievalMode;
 import edu.stanford.bmir.protege.web.shared.pagination.Page;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.axiom.AssertionAxiomAccessor;
 import edu.stanford.owl2lpg.client.read.hierarchy.ClassHierarchyAccessor;
 import edu.stanford.owl2lpg.client.read.ontology.ProjectAccessor;
@@ -41,6 +42,9 @@ public class Neo4jIndividualsBySubjectIndex {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final ProjectAccessor projectAccessor;
 
@@ -57,6 +61,7 @@ public class Neo4jIndividualsBySubjectIndex {
   public Neo4jIndividualsBySubjectIndex(@Nonnull ProjectId projectId,
                                         @Nonnull BranchId branchId,
                                         @Nonnull DocumentIdMap documentIdMap,
+                                        @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                         @Nonnull ProjectAccessor projectAccessor,
                                         @Nonnull AssertionAxiomAccessor assertionAxiomAccessor,
                                         @Nonnull ClassHierarchyAccessor classHierarchyAccessor,
@@ -64,6 +69,7 @@ public class Neo4jIndividualsBySubjectIndex {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.projectAccessor = checkNotNull(projectAccessor);
     this.assertionAxiomAccessor = checkNotNull(assertionAxiomAccessor);
     this.classHierarchyAccessor = checkNotNull(classHierarchyAccessor);
@@ -106,10 +112,9 @@ public class Neo4jIndividualsBySubjectIndex {
     }
     if (actualType == null) {
       // No preferred type or preferred type not found. Try for a specific type
-      actualType = documentIdMap.get(projectId)
+      actualType = documentQueryExecutor.collectList(documentIdMap.get(projectId), "AssertionAxiomAccessor.getClassAssertionsBySubject",
+          documentId -> assertionAxiomAccessor.getClassAssertionsBySubject(individual, projectId, branchId, documentId))
           .stream()
-          .flatMap(documentId -> assertionAxiomAccessor.getClassAssertionsBySubject(
-              individual, projectId, branchId, documentId).stream())
           .map(OWLClassAssertionAxiom::getClassExpression)
           .filter(OWLClassExpression::isNamed)
           .map(OWLClassExpression::asOWLClass)
@@ -125,9 +130,7 @@ public class Neo4jIndividualsBySubjectIndex {
   }
 
   private boolean containsIndirectType(OWLClass thePreferredType, OWLClass type) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .anyMatch(documentId -> classHierarchyAccessor.getAncestors(thePreferredType, projectId, branchId, documentId).contains(type));
+    return classHierarchyAccessor.getAncestors(thePreferredType, projectId, branchId, documentIdMap.get(projectId)).contains(type);
   }
 
   @NotNull
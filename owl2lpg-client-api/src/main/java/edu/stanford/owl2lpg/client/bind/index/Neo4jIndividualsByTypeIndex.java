@@ -4,6 +4,7 @@ import edu.stanford.bmir.protege.web.server.hierarchy.ClassHierarchyRoot;
 import edu.stanford.bmir.protege.web.server.index.IndividualsByTypeIndex;
 import edu.stanford.bmir.protege.web.shared.individuals.InstanceRetrievalMode;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.hierarchy.ClassHierarchyAccessor;
 import edu.stanford.owl2lpg.client.read.individual.NamedIndividualAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -36,6 +37,9 @@ public class Neo4jIndividualsByTypeIndex implements IndividualsByTypeIndex {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final ClassHierarchyAccessor classHierarchyAccessor;
 
@@ -47,12 +51,14 @@ public class Neo4jIndividualsByTypeIndex implements IndividualsByTypeIndex {
                                      @Nonnull ProjectId projectId,
                                      @Nonnull BranchId branchId,
                                      @Nonnull DocumentIdMap documentIdMap,
+                                     @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                      @Nonnull ClassHierarchyAccessor classHierarchyAccessor,
                                      @Nonnull NamedIndividualAccessor namedIndividualAccessor) {
     this.root = checkNotNull(root);
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.classHierarchyAccessor = checkNotNull(classHierarchyAccessor);
     this.namedIndividualAccessor = checkNotNull(namedIndividualAccessor);
   }
@@ -72,9 +78,9 @@ public class Neo4jIndividualsByTypeIndex implements IndividualsByTypeIndex {
   }
 
   private Stream<OWLNamedIndividual> getAllInstances() {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> namedIndividualAccessor.getAllIndividuals(projectId, branchId, documentId).stream());
+    return documentQueryExecutor.collectList(documentIdMap.get(projectId), "NamedIndividualAccessor.getAllIndividuals",
+        documentId -> namedIndividualAccessor.getAllIndividuals(projectId, branchId, documentId))
+        .stream();
   }
 
   private Stream<OWLNamedIndividual> getAllInstances(OWLClass owlClass) {
@@ -90,17 +96,16 @@ public class Neo4jIndividualsByTypeIndex implements IndividualsByTypeIndex {
     if (root.equals(getOWLThing()) && root.equals(owlClass)) {
       return getAllInstances();
     } else {
-      return documentIdMap.get(projectId)
-          .stream()
-          .flatMap(documentId -> namedIndividualAccessor.getIndividualsByType(owlClass, projectId, branchId, documentId).stream());
+      return documentQueryExecutor.collectList(documentIdMap.get(projectId), "NamedIndividualAccessor.getIndividualsByType",
+          documentId -> namedIndividualAccessor.getIndividualsByType(owlClass, projectId, branchId, documentId))
+          .stream();
     }
   }
 
   @Nonnull
   private Stream<OWLNamedIndividual> getIndirectInstances(OWLClass owlClass) {
-    return documentIdMap.get(projectId)
+    return classHierarchyAccessor.getDescendants(owlClass, projectId, branchId, documentIdMap.get(projectId))
         .stream()
-        .flatMap(documentId -> classHierarchyAccessor.getDescendants(owlClass, projectId, branchId, documentId).stream())
         .flatMap(this::getDirectInstances)
         .distinct();
   }
@@ -5,6 +5,7 @@ import edu.stanford.bmir.protege.web.server.index.IndividualsQueryResult;
 import edu.stanford.bmir.protege.web.shared.individuals.InstanceRetrievalMode;
 import edu.stanford.bmir.protege.web.shared.pagination.PageRequest;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.axiom.AssertionAxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -35,6 +36,9 @@ public class Neo4jIndividualsIndex implements IndividualsIndex {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final AssertionAxiomAccessor assertionAxiomAccessor;
 
@@ -48,12 +52,14 @@ public class Neo4jIndividualsIndex implements IndividualsIndex {
   public Neo4jIndividualsIndex(@Nonnull ProjectId projectId,
                                @Nonnull BranchId branchId,
                                @Nonnull DocumentIdMap documentIdMap,
+                               @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                @Nonnull Neo4jIndividualsByNameIndex individualsByNameIndex,
                                @Nonnull Neo4jIndividualsBySubjectIndex individualsBySubjectIndex,
                                @Nonnull AssertionAxiomAccessor assertionAxiomAccessor) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.individualsByNameIndex = checkNotNull(individualsByNameIndex);
     this.individualsBySubjectIndex = checkNotNull(individualsBySubjectIndex);
     this.assertionAxiomAccessor = checkNotNull(assertionAxiomAccessor);
@@ -87,9 +93,9 @@ public class Neo4jIndividualsIndex implements IndividualsIndex {
   @Nonnull
   @Override
   public Stream<OWLClass> getTypes(@Nonnull OWLNamedIndividual owlNamedIndividual) {
-    return documentIdMap.get(projectId)
+    return documentQueryExecutor.collectList(documentIdMap.get(projectId), "AssertionAxiomAccessor.getClassAssertionsBySubject",
+        documentId -> assertionAxiomAccessor.getClassAssertionsBySubject(owlNamedIndividual, projectId, branchId, documentId))
         .stream()
-        .flatMap(documentId -> assertionAxiomAccessor.getClassAssertionsBySubject(owlNamedIndividual, projectId, branchId, documentId).stream())
         .map(OWLClassAssertionAxiom::getClassExpression)
         .filter(OWLClassExpression::isNamed)
         .map(OWLClassExpression::asOWLClass);
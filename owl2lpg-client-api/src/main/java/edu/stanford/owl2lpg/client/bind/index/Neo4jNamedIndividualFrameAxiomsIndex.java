@@ -1,8 +1,8 @@
 package edu.stanford.owl2lpg.client.bind.index;
 
-import com.google.common.collect.ImmutableSet;
 import edu.stanford.bmir.protege.web.server.index.NamedIndividualFrameAxiomIndex;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -30,6 +30,9 @@ public class Neo4jNamedIndividualFrameAxiomsIndex implements NamedIndividualFram
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final AxiomAccessor axiomAccessor;
 
@@ -37,19 +40,19 @@ public class Neo4jNamedIndividualFrameAxiomsIndex implements NamedIndividualFram
   public Neo4jNamedIndividualFrameAxiomsIndex(@Nonnull ProjectId projectId,
                                               @Nonnull BranchId branchId,
                                               @Nonnull DocumentIdMap documentIdMap,
+                                              @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                               @Nonnull AxiomAccessor axiomAccessor) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.axiomAccessor = checkNotNull(axiomAccessor);
   }
 
   @Nonnull
   @Override
   public Set<OWLAxiom> getNamedIndividualFrameAxioms(@Nonnull OWLNamedIndividual owlNamedIndividual) {
-    return documentIdMap.get(projectId)
-        .stream()
-        .flatMap(documentId -> axiomAccessor.getAxiomsBySubject(owlNamedIndividual, projectId, branchId, documentId).stream())
-        .collect(ImmutableSet.toImmutableSet());
+    return documentQueryExecutor.collectSet(documentIdMap.get(projectId), "AxiomAccessor.getAxiomsBySubject",
+        documentId -> axiomAccessor.getAxiomsBySubject(owlNamedIndividual, projectId, branchId, documentId));
   }
 }
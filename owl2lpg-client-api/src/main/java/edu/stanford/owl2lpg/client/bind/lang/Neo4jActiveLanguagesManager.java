@@ -6,6 +6,7 @@ import edu.stanford.bmir.protege.web.server.lang.ActiveLanguagesManager;
 import edu.stanford.bmir.protege.web.shared.lang.DictionaryLanguageUsage;
 import edu.stanford.bmir.protege.web.shared.shortform.DictionaryLanguage;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.lang.DictionaryLanguageAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -33,6 +34,9 @@ public class Neo4jActiveLanguagesManager implements ActiveLanguagesManager {
   @Nonnull
   private final DocumentIdMap documentIdMap;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Nonnull
   private final DictionaryLanguageAccessor dictionaryLanguageAccessor;
 
@@ -40,10 +44,12 @@ public class Neo4jActiveLanguagesManager implements ActiveLanguagesManager {
   public Neo4jActiveLanguagesManager(@Nonnull ProjectId projectId,
                                      @Nonnull BranchId branchId,
                                      @Nonnull DocumentIdMap documentIdMap,
+                                     @Nonnull DocumentQueryExecutor documentQueryExecutor,
                                      @Nonnull DictionaryLanguageAccessor dictionaryLanguageAccessor) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
     this.dictionaryLanguageAccessor = checkNotNull(dictionaryLanguageAccessor);
   }
 
@@ -59,9 +65,9 @@ public class Neo4jActiveLanguagesManager implements ActiveLanguagesManager {
   @Nonnull
   @Override
   public ImmutableList<DictionaryLanguageUsage> getLanguageUsage() {
-    return documentIdMap.get(projectId)
+    return documentQueryExecutor.collectList(documentIdMap.get(projectId), "DictionaryLanguageAccessor.getUsageSummary",
+        documentId -> dictionaryLanguageAccessor.getUsageSummary(projectId, branchId, documentId).asMap().entrySet())
         .stream()
-        .flatMap(documentId -> dictionaryLanguageAccessor.getUsageSummary(projectId, branchId, documentId).stream())
         .sorted(Collections.reverseOrder(comparingByValue()))
         .map(entry -> DictionaryLanguageUsage.get(entry.getKey(), entry.getValue()))
         .collect(ImmutableList.toImmutableList());
@@ -1,16 +1,22 @@
 package edu.stanford.owl2lpg.client.bind.shortform;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.bmir.protege.web.server.shortform.MultiLingualShortFormDictionary;
 import edu.stanford.bmir.protege.web.shared.shortform.DictionaryLanguage;
 import edu.stanford.owl2lpg.client.read.shortform.MultiLingualShortFormAccessor;
+import edu.stanford.owl2lpg.client.read.shortform.ShortFormCache;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLEntity;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -29,13 +35,18 @@ public class Neo4jMultiLingualShortFormDictionary implements MultiLingualShortFo
   @Nonnull
   private final MultiLingualShortFormAccessor multiLingualShortFormAccessor;
 
+  @Nonnull
+  private final ShortFormCache shortFormCache;
+
   @Inject
   public Neo4jMultiLingualShortFormDictionary(@Nonnull ProjectId projectId,
                                               @Nonnull BranchId branchId,
-                                              @Nonnull MultiLingualShortFormAccessor multiLingualShortFormAccessor) {
+                                              @Nonnull MultiLingualShortFormAccessor multiLingualShortFormAccessor,
+                                              @Nonnull ShortFormCache shortFormCache) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.multiLingualShortFormAccessor = checkNotNull(multiLingualShortFormAccessor);
+    this.shortFormCache = checkNotNull(shortFormCache);
   }
 
   @Nonnull
@@ -43,14 +54,66 @@ public class Neo4jMultiLingualShortFormDictionary implements MultiLingualShortFo
   public String getShortForm(@Nonnull OWLEntity owlEntity,
                              @Nonnull List<DictionaryLanguage> languages,
                              @Nonnull String defaultShortForm) {
-    return multiLingualShortFormAccessor.getShortForm(owlEntity, languages, defaultShortForm, projectId, branchId);
+    var dictionaryMap = getDictionary(owlEntity);
+    return languages
+        .stream()
+        .map(dictionaryMap::get)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse(defaultShortForm);
   }
 
   @Nonnull
   @Override
   public ImmutableMap<DictionaryLanguage, String> getShortForms(@Nonnull OWLEntity owlEntity,
                                                                 @Nonnull List<DictionaryLanguage> languages) {
-    var shortForms = multiLingualShortFormAccessor.getShortForms(owlEntity, languages, projectId, branchId);
-    return ImmutableMap.copyOf(shortForms);
+    return selectLanguages(getDictionary(owlEntity), languages);
+  }
+
+  /**
+   * Gets the short forms of all the given entities, loading the ones that are
+   * not cached with a single query.
+   */
+  @Nonnull
+  public ImmutableMap<OWLEntity, ImmutableMap<DictionaryLanguage, String>> getShortForms(@Nonnull Collection<OWLEntity> owlEntities,
+                                                                                         @Nonnull List<DictionaryLanguage> languages) {
+    var entityIris = owlEntities.stream()
+        .map(OWLEntity::getIRI)
+        .distinct()
+        .collect(ImmutableList.toImmutableList());
+    var dictionaries = shortFormCache.getShortForms(entityIris, this::loadDictionaries);
+    var shortForms = ImmutableMap.<OWLEntity, ImmutableMap<DictionaryLanguage, String>>builder();
+    owlEntities.stream()
+        .distinct()
+        .forEach(owlEntity -> {
+          var dictionaryMap = selectLanguages(dictionaries.get(owlEntity.getIRI()), languages);
+          if (!dictionaryMap.isEmpty()) {
+            shortForms.put(owlEntity, dictionaryMap);
+          }
+        });
+    return shortForms.build();
+  }
+
+  @Nonnull
+  private ImmutableMap<DictionaryLanguage, String> getDictionary(@Nonnull OWLEntity owlEntity) {
+    var entityIri = owlEntity.getIRI();
+    return shortFormCache.getShortForms(List.of(entityIri), this::loadDictionaries).get(entityIri);
+  }
+
+  @Nonnull
+  private ImmutableMap<IRI, ImmutableMap<DictionaryLanguage, String>> loadDictionaries(@Nonnull Collection<IRI> entityIris) {
+    return multiLingualShortFormAccessor.getShortFormDictionaries(entityIris, projectId, branchId);
+  }
+
+  @Nonnull
+  private static ImmutableMap<DictionaryLanguage, String> selectLanguages(@Nonnull Map<DictionaryLanguage, String> dictionaryMap,
+                                                                          @Nonnull List<DictionaryLanguage> languages) {
+    return languages
+        .stream()
+        .filter(dictionaryMap::containsKey)
+        .distinct()
+        .collect(ImmutableMap.toImmutableMap(
+            language -> language,
+            dictionaryMap::get));
   }
 }
@@ -2,13 +2,16 @@ package edu.stanford.owl2lpg.client.read;
 
 import com.google.common.collect.ImmutableSet;
 import edu.stanford.owl2lpg.client.read.impl.NodeIndexImpl;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Path;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.function.BiConsumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -54,6 +57,33 @@ public class GraphReader {
     }
   }
 
+  /**
+   * Runs a query that returns one row per root node, with the root node in
+   * the column {@code n} and the list of paths that start from it in the
+   * column {@code paths}. Each root node is passed to the consumer together
+   * with an index of its own paths as soon as its row arrives, so that only
+   * one root's paths are held in memory at a time.
+   * <p>
+   * The query is run in an auto-commit transaction because a managed
+   * transaction could be retried after the consumer has already seen some
+   * of the rows.
+   */
+  public void forEachNodeIndex(String queryString, Value inputParams,
+                               @Nonnull BiConsumer<Node, NodeIndex> consumer) {
+    var sessionConfig = SessionConfig.builder().withDefaultAccessMode(AccessMode.READ).build();
+    try (var session = driver.session(sessionConfig)) {
+      var result = session.run(queryString, inputParams);
+      while (result.hasNext()) {
+        var row = result.next();
+        var nodeIndexBuilder = new NodeIndexImpl.Builder();
+        for (var path : row.get("paths").asList(Value::asPath)) {
+          path.spliterator().forEachRemaining(nodeIndexBuilder::add);
+        }
+        consumer.accept(row.get("n").asNode(), nodeIndexBuilder.build());
+      }
+    }
+  }
+
   @Nonnull
   public ImmutableSet<Node> getNodes(String queryString, Value inputParams) {
     try (var session = driver.session()) {
@@ -5,6 +5,9 @@ import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.value.IntegerValue;
+import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.StringValue;
 import org.semanticweb.owlapi.model.AxiomType;
@@ -15,6 +18,9 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLLiteral;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,10 +35,16 @@ public class Parameters {
   private static final String PROJECT_ID = "projectId";
   private static final String BRANCH_ID = "branchId";
   private static final String ONTO_DOC_ID = "ontoDocId";
+  private static final String ONTO_DOC_IDS = "ontoDocIds";
   private static final String ENTITY_IRI = "entityIri";
+  private static final String ENTITY_IRIS = "entityIris";
   private static final String ENTITY_NAME = "entityName";
   private static final String NODE_ID = "nodeId";
   private static final String SEARCH_STRING = "searchString";
+  private static final String ENTITY_TYPES = "entityTypes";
+  private static final String DICTIONARY_LANGUAGES = "dictionaryLanguages";
+  private static final String LIMIT = "limit";
+  private static final String SKIP = "skip";
   private static final String ENTITY_TYPE = "entityType";
   private static final String AXIOM_TYPE = "axiomType";
   private static final String CHARACTERISTIC_TYPE = "characteristicType";
@@ -41,6 +53,11 @@ public class Parameters {
   private static final String IRI = "iri";
   private static final String DIGEST = "digest";
 
+  public static Value forProject(@Nonnull ProjectId projectId) {
+    return new MapValue(Map.of(
+        PROJECT_ID, new StringValue(projectId.getIdentifier())));
+  }
+
   public static Value forContext(@Nonnull ProjectId projectId,
                                  @Nonnull BranchId branchId) {
     return new MapValue(Map.of(
@@ -57,6 +74,15 @@ public class Parameters {
         ONTO_DOC_ID, new StringValue(ontoDocId.getIdentifier())));
   }
 
+  public static Value forContext(@Nonnull ProjectId projectId,
+                                 @Nonnull BranchId branchId,
+                                 @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return new MapValue(Map.of(
+        PROJECT_ID, new StringValue(projectId.getIdentifier()),
+        BRANCH_ID, new StringValue(branchId.getIdentifier()),
+        ONTO_DOC_IDS, toListValue(ontoDocIds)));
+  }
+
   public static Value forEntity(@Nonnull OWLEntity entity,
                                 @Nonnull ProjectId projectId,
                                 @Nonnull BranchId branchId) {
@@ -90,6 +116,28 @@ public class Parameters {
         ENTITY_IRI, new StringValue(entityIri.toString())));
   }
 
+  public static Value forEntityIri(@Nonnull IRI entityIri,
+                                   @Nonnull ProjectId projectId,
+                                   @Nonnull BranchId branchId,
+                                   @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return new MapValue(Map.of(
+        PROJECT_ID, new StringValue(projectId.getIdentifier()),
+        BRANCH_ID, new StringValue(branchId.getIdentifier()),
+        ONTO_DOC_IDS, toListValue(ontoDocIds),
+        ENTITY_IRI, new StringValue(entityIri.toString())));
+  }
+
+  public static Value forEntityIris(@Nonnull Collection<IRI> entityIris,
+                                    @Nonnull ProjectId projectId,
+                                    @Nonnull BranchId branchId) {
+    return new MapValue(Map.of(
+        PROJECT_ID, new StringValue(projectId.getIdentifier()),
+        BRANCH_ID, new StringValue(branchId.getIdentifier()),
+        ENTITY_IRIS, new ListValue(entityIris.stream()
+            .map(entityIri -> new StringValue(entityIri.toString()))
+            .toArray(Value[]::new))));
+  }
+
   public static Value forEntityName(@Nonnull String entityName,
                                     @Nonnull ProjectId projectId,
                                     @Nonnull BranchId branchId,
@@ -185,10 +233,61 @@ public class Parameters {
     return new MapValue(Map.of(
         PROJECT_ID, new StringValue(projectId.getIdentifier()),
         BRANCH_ID, new StringValue(branchId.getIdentifier()),
-        SEARCH_STRING, new StringValue(searchStrings.stream()
-            .map(SearchString::getSearchString)
-            .map(s -> s + "*")
-            .collect(joining(" AND ")))));
+        SEARCH_STRING, toSearchStringValue(searchStrings)));
+  }
+
+  /**
+   * @param dictionaryLanguages The dictionary languages in the order of their
+   *                            preference, each one as the map of its JSON
+   *                            properties.
+   * @param limit               The maximum number of rows that the query returns.
+   */
+  public static Value forSearchStrings(@Nonnull List<SearchString> searchStrings,
+                                       @Nonnull Collection<EntityType<?>> entityTypes,
+                                       @Nonnull List<Map<String, Object>> dictionaryLanguages,
+                                       int limit,
+                                       @Nonnull ProjectId projectId,
+                                       @Nonnull BranchId branchId) {
+    return new MapValue(Map.of(
+        PROJECT_ID, new StringValue(projectId.getIdentifier()),
+        BRANCH_ID, new StringValue(branchId.getIdentifier()),
+        SEARCH_STRING, toSearchStringValue(searchStrings),
+        ENTITY_TYPES, new ListValue(entityTypes.stream()
+            .map(entityType -> new StringValue(entityType.getName()))
+            .toArray(Value[]::new)),
+        DICTIONARY_LANGUAGES, Values.value(dictionaryLanguages),
+        LIMIT, new IntegerValue(limit)));
+  }
+
+  /**
+   * @param entityIri The IRI of the class whose individuals are paged, or
+   *                  {@code null} for all individuals.
+   */
+  public static Value forPage(@Nullable IRI entityIri,
+                              @Nonnull List<SearchString> searchStrings,
+                              int skip,
+                              int limit,
+                              @Nonnull ProjectId projectId,
+                              @Nonnull BranchId branchId) {
+    var params = new HashMap<String, Value>();
+    params.put(PROJECT_ID, new StringValue(projectId.getIdentifier()));
+    params.put(BRANCH_ID, new StringValue(branchId.getIdentifier()));
+    params.put(SKIP, new IntegerValue(skip));
+    params.put(LIMIT, new IntegerValue(limit));
+    if (entityIri != null) {
+      params.put(ENTITY_IRI, new StringValue(entityIri.toString()));
+    }
+    if (!searchStrings.isEmpty()) {
+      params.put(SEARCH_STRING, toSearchStringValue(searchStrings));
+    }
+    return new MapValue(params);
+  }
+
+  private static Value toSearchStringValue(@Nonnull List<SearchString> searchStrings) {
+    return new StringValue(searchStrings.stream()
+        .map(SearchString::getSearchString)
+        .map(s -> s + "*")
+        .collect(joining(" AND ")));
   }
 
   public static Value forNodeDigest(@Nonnull String digest,
@@ -201,4 +300,11 @@ public class Parameters {
         ONTO_DOC_ID, new StringValue(ontoDocId.getIdentifier()),
         DIGEST, new StringValue(digest)));
   }
+
+  @Nonnull
+  private static Value toListValue(@Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return new ListValue(ontoDocIds.stream()
+        .map(ontoDocId -> new StringValue(ontoDocId.getIdentifier()))
+        .toArray(Value[]::new));
+  }
 }
@@ -19,6 +19,7 @@ import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -31,12 +32,31 @@ public interface AxiomAccessor {
                                       @Nonnull BranchId branchId,
                                       @Nonnull OntologyDocumentId ontoDocId);
 
+  /**
+   * Passes the axioms of the ontology document to the consumer one at a
+   * time, as they are read from the database, without collecting them first.
+   */
+  void forEachAxiom(@Nonnull ProjectId projectId,
+                    @Nonnull BranchId branchId,
+                    @Nonnull OntologyDocumentId ontoDocId,
+                    @Nonnull Consumer<? super OWLAxiom> consumer);
+
   @Nonnull
   <T extends OWLAxiom> ImmutableSet<T> getAxiomsByType(@Nonnull AxiomType<T> axiomType,
                                                        @Nonnull ProjectId projectId,
                                                        @Nonnull BranchId branchId,
                                                        @Nonnull OntologyDocumentId ontoDocId);
 
+  /**
+   * Passes the axioms of the given type to the consumer one at a time, as
+   * they are read from the database, without collecting them first.
+   */
+  <T extends OWLAxiom> void forEachAxiomByType(@Nonnull AxiomType<T> axiomType,
+                                               @Nonnull ProjectId projectId,
+                                               @Nonnull BranchId branchId,
+                                               @Nonnull OntologyDocumentId ontoDocId,
+                                               @Nonnull Consumer<? super T> consumer);
+
   boolean containsAxiom(@Nonnull OWLAxiom owlAxiom,
                         @Nonnull ProjectId projectId,
                         @Nonnull BranchId branchId,
@@ -8,8 +8,7 @@ import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
-import edu.stanford.owl2lpg.translator.shared.BytesDigester;
-import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
 import org.neo4j.driver.Value;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
@@ -26,6 +25,7 @@ import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static edu.stanford.owl2lpg.client.util.Resources.read;
@@ -74,20 +74,15 @@ public class AxiomAccessorImpl implements AxiomAccessor {
   private final NodeMapper nodeMapper;
 
   @Nonnull
-  private final OntologyObjectSerializer ontologyObjectSerializer;
-
-  @Nonnull
-  private final BytesDigester bytesDigester;
+  private final OntologyObjectDigester ontologyObjectDigester;
 
   @Inject
   public AxiomAccessorImpl(@Nonnull GraphReader graphReader,
                            @Nonnull NodeMapper nodeMapper,
-                           @Nonnull OntologyObjectSerializer ontologyObjectSerializer,
-                           @Nonnull BytesDigester bytesDigester) {
+                           @Nonnull OntologyObjectDigester ontologyObjectDigester) {
     this.graphReader = checkNotNull(graphReader);
     this.nodeMapper = checkNotNull(nodeMapper);
-    this.ontologyObjectSerializer = checkNotNull(ontologyObjectSerializer);
-    this.bytesDigester = checkNotNull(bytesDigester);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
   }
 
   @Nonnull
@@ -95,12 +90,19 @@ public class AxiomAccessorImpl implements AxiomAccessor {
   public ImmutableSet<OWLAxiom> getAllAxioms(@Nonnull ProjectId projectId,
                                              @Nonnull BranchId branchId,
                                              @Nonnull OntologyDocumentId ontoDocId) {
+    var axioms = ImmutableSet.<OWLAxiom>builder();
+    forEachAxiom(projectId, branchId, ontoDocId, axioms::add);
+    return axioms.build();
+  }
+
+  @Override
+  public void forEachAxiom(@Nonnull ProjectId projectId,
+                           @Nonnull BranchId branchId,
+                           @Nonnull OntologyDocumentId ontoDocId,
+                           @Nonnull Consumer<? super OWLAxiom> consumer) {
     var inputParams = Parameters.forContext(projectId, branchId, ontoDocId);
-    var nodeIndex = graphReader.getNodeIndex(ALL_AXIOM_QUERY, inputParams);
-    return nodeIndex.getNodes(AXIOM.getMainLabel())
-        .stream()
-        .map(axiomNode -> nodeMapper.toObject(axiomNode, nodeIndex, OWLAxiom.class))
-        .collect(ImmutableSet.toImmutableSet());
+    graphReader.forEachNodeIndex(ALL_AXIOM_QUERY, inputParams, (axiomNode, nodeIndex) ->
+        consumer.accept(nodeMapper.toObject(axiomNode, nodeIndex, OWLAxiom.class)));
   }
 
   @Nonnull
@@ -109,12 +111,20 @@ public class AxiomAccessorImpl implements AxiomAccessor {
                                                               @Nonnull ProjectId projectId,
                                                               @Nonnull BranchId branchId,
                                                               @Nonnull OntologyDocumentId ontoDocId) {
+    var axioms = ImmutableSet.<T>builder();
+    forEachAxiomByType(axiomType, projectId, branchId, ontoDocId, axioms::add);
+    return axioms.build();
+  }
+
+  @Override
+  public <T extends OWLAxiom> void forEachAxiomByType(@Nonnull AxiomType<T> axiomType,
+                                                      @Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId,
+                                                      @Nonnull OntologyDocumentId ontoDocId,
+                                                      @Nonnull Consumer<? super T> consumer) {
     var inputParams = Parameters.forAxiomType(axiomType, projectId, branchId, ontoDocId);
-    var nodeIndex = graphReader.getNodeIndex(AXIOM_BY_TYPE_QUERY, inputParams);
-    return nodeIndex.getNodes(axiomType.getName())
-        .stream()
-        .map(axiomNode -> nodeMapper.toObject(axiomNode, nodeIndex, axiomType.getActualClass()))
-        .collect(ImmutableSet.toImmutableSet());
+    graphReader.forEachNodeIndex(AXIOM_BY_TYPE_QUERY, inputParams, (axiomNode, nodeIndex) ->
+        consumer.accept(nodeMapper.toObject(axiomNode, nodeIndex, axiomType.getActualClass())));
   }
 
   @Override
@@ -122,8 +132,7 @@ public class AxiomAccessorImpl implements AxiomAccessor {
                                @Nonnull ProjectId projectId,
                                @Nonnull BranchId branchId,
                                @Nonnull OntologyDocumentId ontoDocId) {
-    var bytes = ontologyObjectSerializer.serialize(owlAxiom);
-    var digest = bytesDigester.getDigestString(bytes);
+    var digest = ontologyObjectDigester.getDigestString(owlAxiom);
     var inputParams = Parameters.forNodeDigest(digest, projectId, branchId, ontoDocId);
     var nodeIndex = graphReader.getNodeIndex(AXIOM_BY_DIGEST_QUERY, inputParams);
     return nodeIndex.getNodes(AXIOM.getMainLabel()).size() == 1;
@@ -18,4 +18,9 @@ public interface AnnotationPropertyHierarchyAccessor extends HierarchyAccessor<O
   Collection<OWLAnnotationProperty> getRoots(@Nonnull ProjectId projectId,
                                              @Nonnull BranchId branchId,
                                              @Nonnull OntologyDocumentId ontoDocId);
+
+  @Nonnull
+  Collection<OWLAnnotationProperty> getRoots(@Nonnull ProjectId projectId,
+                                             @Nonnull BranchId branchId,
+                                             @Nonnull Collection<OntologyDocumentId> ontoDocIds);
 }
@@ -0,0 +1,46 @@
+package edu.stanford.owl2lpg.client.read.hierarchy;
+
+import edu.stanford.owl2lpg.client.read.GraphReader;
+import edu.stanford.owl2lpg.client.read.Parameters;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
+
+/**
+ * Tells whether a branch holds the ANCESTOR edges that the exporter writes
+ * from each class to all of its named superclasses (see the
+ * --class-ancestors option of the translator). The exporter marks the
+ * Branch node with the classAncestors property when it writes the edges.
+ * The class nodes are shared by the branches of all the projects, so an
+ * ANCESTOR edge in the database does not tell that the index of a branch
+ * is complete. The mark of each branch is read once and kept for the
+ * lifetime of this object.
+ */
+public class ClassAncestorIndex {
+
+  private static final String CLASS_ANCESTOR_INDEX_QUERY_FILE = "read/hierarchy/class-ancestor-index.cpy";
+
+  private static final String CLASS_ANCESTOR_INDEX_QUERY = read(CLASS_ANCESTOR_INDEX_QUERY_FILE);
+
+  @Nonnull
+  private final GraphReader graphReader;
+
+  private final ConcurrentHashMap<ProjectId, ConcurrentHashMap<BranchId, Boolean>> present = new ConcurrentHashMap<>();
+
+  @Inject
+  public ClassAncestorIndex(@Nonnull GraphReader graphReader) {
+    this.graphReader = checkNotNull(graphReader);
+  }
+
+  public boolean isPresent(@Nonnull ProjectId projectId, @Nonnull BranchId branchId) {
+    return present.computeIfAbsent(projectId, id -> new ConcurrentHashMap<>())
+        .computeIfAbsent(branchId, id -> !graphReader.getNodes(CLASS_ANCESTOR_INDEX_QUERY,
+            Parameters.forContext(projectId, branchId)).isEmpty());
+  }
+}
@@ -0,0 +1,149 @@
+package edu.stanford.owl2lpg.client.read.hierarchy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSet;
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import org.semanticweb.owlapi.model.OWLClass;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Keeps the children, parents and ancestors of the classes that have been
+ * looked up in the class hierarchy of a project, so that expanding a tree
+ * node does not query the database again for every visible class. The
+ * entries are loaded lazily and weighed by the number of classes that they
+ * hold, which bounds the memory of the cache.
+ * <p>
+ * The cache does not see the database, so it must be told about the changes
+ * to the hierarchy through {@link #invalidate(Collection)}. A load that was
+ * started before an invalidation is returned to its caller but not kept.
+ */
+@ProjectSingleton
+public class ClassHierarchyCache {
+
+  @Nonnull
+  private final HierarchyCacheSettings settings;
+
+  @Nonnull
+  private final Cache<OWLClass, ImmutableSet<OWLClass>> children;
+
+  @Nonnull
+  private final Cache<OWLClass, ImmutableSet<OWLClass>> parents;
+
+  @Nonnull
+  private final Cache<OWLClass, ImmutableSet<OWLClass>> ancestors;
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder invalidationCount = new LongAdder();
+
+  @Inject
+  public ClassHierarchyCache(@Nonnull HierarchyCacheSettings settings) {
+    this.settings = checkNotNull(settings);
+    /* The ancestors tend to be the largest sets, so they get half of the budget */
+    var maximumWeight = settings.getMaximumWeight();
+    this.children = createCache(maximumWeight / 4);
+    this.parents = createCache(maximumWeight / 4);
+    this.ancestors = createCache(maximumWeight / 2);
+  }
+
+  @Nonnull
+  private static Cache<OWLClass, ImmutableSet<OWLClass>> createCache(long maximumWeight) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((OWLClass cls, ImmutableSet<OWLClass> classes) -> classes.size() + 1)
+        .recordStats()
+        .build();
+  }
+
+  @Nonnull
+  public ImmutableSet<OWLClass> getChildren(@Nonnull OWLClass cls,
+                                            @Nonnull Function<OWLClass, ImmutableSet<OWLClass>> loader) {
+    return get(children, cls, loader);
+  }
+
+  @Nonnull
+  public ImmutableSet<OWLClass> getParents(@Nonnull OWLClass cls,
+                                           @Nonnull Function<OWLClass, ImmutableSet<OWLClass>> loader) {
+    return get(parents, cls, loader);
+  }
+
+  @Nonnull
+  public ImmutableSet<OWLClass> getAncestors(@Nonnull OWLClass cls,
+                                             @Nonnull Function<OWLClass, ImmutableSet<OWLClass>> loader) {
+    return get(ancestors, cls, loader);
+  }
+
+  @Nonnull
+  private ImmutableSet<OWLClass> get(@Nonnull Cache<OWLClass, ImmutableSet<OWLClass>> cache,
+                                     @Nonnull OWLClass cls,
+                                     @Nonnull Function<OWLClass, ImmutableSet<OWLClass>> loader) {
+    if (!settings.isEnabled()) {
+      return loader.apply(cls);
+    }
+    var classes = cache.getIfPresent(cls);
+    if (classes == null) {
+      var loadGeneration = generation.get();
+      classes = loader.apply(cls);
+      synchronized (this) {
+        if (generation.get() == loadGeneration) {
+          cache.put(cls, classes);
+        }
+      }
+    }
+    return classes;
+  }
+
+  /**
+   * Drops the children and parents of the given classes, which are the
+   * classes whose hierarchy edges have changed, together with all of the
+   * cached ancestors, which may run through any of these edges.
+   */
+  public synchronized void invalidate(@Nonnull Collection<OWLClass> classes) {
+    generation.incrementAndGet();
+    invalidationCount.increment();
+    children.invalidateAll(classes);
+    parents.invalidateAll(classes);
+    ancestors.invalidateAll();
+  }
+
+  /**
+   * Drops the children of a class whose set of children may have changed
+   * without any hierarchy edge being added or removed, e.g. owl:Thing when a
+   * class enters the signature.
+   */
+  public synchronized void invalidateChildren(@Nonnull OWLClass cls) {
+    generation.incrementAndGet();
+    invalidationCount.increment();
+    children.invalidate(cls);
+  }
+
+  public synchronized void invalidateAll() {
+    generation.incrementAndGet();
+    invalidationCount.increment();
+    children.invalidateAll();
+    parents.invalidateAll();
+    ancestors.invalidateAll();
+  }
+
+  @Nonnull
+  public ClassHierarchyCacheStats getStats() {
+    var caches = List.of(children, parents, ancestors);
+    var stats = caches.stream()
+        .map(Cache::stats)
+        .reduce(new CacheStats(0, 0, 0, 0, 0, 0), CacheStats::plus);
+    var size = caches.stream().mapToLong(Cache::size).sum();
+    return ClassHierarchyCacheStats.create(stats.hitCount(), stats.missCount(), size,
+        stats.evictionCount(), invalidationCount.sum());
+  }
+}
@@ -0,0 +1,39 @@
+package edu.stanford.owl2lpg.client.read.hierarchy;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the lookups of a {@link ClassHierarchyCache}, summed over the
+ * children, parents and ancestors that it keeps.
+ */
+@AutoValue
+public abstract class ClassHierarchyCacheStats {
+
+  @Nonnull
+  public static ClassHierarchyCacheStats create(long hitCount,
+                                                long missCount,
+                                                long size,
+                                                long evictionCount,
+                                                long invalidationCount) {
+    return new AutoValue_ClassHierarchyCacheStats(hitCount, missCount, size, evictionCount, invalidationCount);
+  }
+
+  public abstract long getHitCount();
+
+  public abstract long getMissCount();
+
+  public abstract long getSize();
+
+  /* The entries that were dropped to stay within the maximum weight */
+  public abstract long getEvictionCount();
+
+  /* The ontology changes that invalidated cached entries */
+  public abstract long getInvalidationCount();
+
+  public double getHitRate() {
+    var requestCount = getHitCount() + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+}
@@ -22,38 +22,84 @@ public interface HierarchyAccessor<E extends OWLEntity> {
                                @Nonnull BranchId branchId,
                                @Nonnull OntologyDocumentId ontoDocId);
 
+  /**
+   * The overloads that take a collection of ontology documents answer for all
+   * of the documents in a single query, with the entities and their
+   * hierarchy edges matched in any of them.
+   */
+  @Nonnull
+  ImmutableSet<E> getAncestors(@Nonnull E entity,
+                               @Nonnull ProjectId projectId,
+                               @Nonnull BranchId branchId,
+                               @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   @Nonnull
   ImmutableSet<E> getDescendants(@Nonnull E entity,
                                  @Nonnull ProjectId projectId,
                                  @Nonnull BranchId branchId,
                                  @Nonnull OntologyDocumentId ontoDocId);
 
+  @Nonnull
+  ImmutableSet<E> getDescendants(@Nonnull E entity,
+                                 @Nonnull ProjectId projectId,
+                                 @Nonnull BranchId branchId,
+                                 @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   @Nonnull
   ImmutableSet<E> getParents(@Nonnull E entity,
                              @Nonnull ProjectId projectId,
                              @Nonnull BranchId branchId,
                              @Nonnull OntologyDocumentId ontoDocId);
 
+  @Nonnull
+  ImmutableSet<E> getParents(@Nonnull E entity,
+                             @Nonnull ProjectId projectId,
+                             @Nonnull BranchId branchId,
+                             @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   @Nonnull
   ImmutableSet<E> getChildren(@Nonnull E entity,
                               @Nonnull ProjectId projectId,
                               @Nonnull BranchId branchId,
                               @Nonnull OntologyDocumentId ontoDocId);
 
+  @Nonnull
+  ImmutableSet<E> getChildren(@Nonnull E entity,
+                              @Nonnull ProjectId projectId,
+                              @Nonnull BranchId branchId,
+                              @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   @Nonnull
   Collection<List<E>> getPathsToRoot(@Nonnull E entity,
                                      @Nonnull ProjectId projectId,
                                      @Nonnull BranchId branchId,
                                      @Nonnull OntologyDocumentId ontoDocId);
 
+  @Nonnull
+  Collection<List<E>> getPathsToRoot(@Nonnull E entity,
+                                     @Nonnull ProjectId projectId,
+                                     @Nonnull BranchId branchId,
+                                     @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   boolean isAncestor(@Nonnull E parent,
                      @Nonnull E child,
                      @Nonnull ProjectId projectId,
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId ontoDocId);
 
+  boolean isAncestor(@Nonnull E parent,
+                     @Nonnull E child,
+                     @Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull Collection<OntologyDocumentId> ontoDocIds);
+
   boolean isLeaf(@Nonnull E entity,
                  @Nonnull ProjectId projectId,
                  @Nonnull BranchId branchId,
                  @Nonnull OntologyDocumentId ontoDocId);
+
+  boolean isLeaf(@Nonnull E entity,
+                 @Nonnull ProjectId projectId,
+                 @Nonnull BranchId branchId,
+                 @Nonnull Collection<OntologyDocumentId> ontoDocIds);
 }
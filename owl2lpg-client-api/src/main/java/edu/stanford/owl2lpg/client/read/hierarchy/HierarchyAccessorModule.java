@@ -2,6 +2,7 @@ package edu.stanford.owl2lpg.client.read.hierarchy;
 
 import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.owl2lpg.client.read.hierarchy.impl.AnnotationPropertyHierarchyAccessorImpl;
 import edu.stanford.owl2lpg.client.read.hierarchy.impl.ClassHierarchyAccessorImpl;
 import edu.stanford.owl2lpg.client.read.hierarchy.impl.DataPropertyHierarchyAccessorImpl;
@@ -14,6 +15,11 @@ import edu.stanford.owl2lpg.client.read.hierarchy.impl.ObjectPropertyHierarchyAc
 @Module
 public abstract class HierarchyAccessorModule {
 
+  @Provides
+  public static HierarchyCacheSettings provideHierarchyCacheSettings() {
+    return HierarchyCacheSettings.enabled(HierarchyCacheSettings.DEFAULT_MAXIMUM_WEIGHT);
+  }
+
   @Binds
   public abstract ClassHierarchyAccessor
   provideClassHierarchyAccessor(ClassHierarchyAccessorImpl impl);
@@ -0,0 +1,39 @@
+package edu.stanford.owl2lpg.client.read.hierarchy;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Specifies whether the class hierarchy of a project is cached on the client,
+ * and how many class references the cache may hold before it starts evicting
+ * the least recently used entries.
+ */
+@AutoValue
+public abstract class HierarchyCacheSettings {
+
+  public static final long DEFAULT_MAXIMUM_WEIGHT = 1_000_000;
+
+  @Nonnull
+  public static HierarchyCacheSettings create(boolean enabled, long maximumWeight) {
+    checkArgument(maximumWeight >= 0, "The maximum weight must not be negative");
+    return new AutoValue_HierarchyCacheSettings(enabled, maximumWeight);
+  }
+
+  @Nonnull
+  public static HierarchyCacheSettings enabled(long maximumWeight) {
+    return create(true, maximumWeight);
+  }
+
+  @Nonnull
+  public static HierarchyCacheSettings disabled() {
+    return create(false, 0);
+  }
+
+  public abstract boolean isEnabled();
+
+  /* The number of classes held in the cached sets, summed over all entries */
+  public abstract long getMaximumWeight();
+}
@@ -7,6 +7,7 @@ import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -20,4 +21,9 @@ public interface ObjectPropertyHierarchyAccessor extends HierarchyAccessor<OWLOb
   ImmutableSet<OWLObjectProperty> getTopChildren(@Nonnull ProjectId projectId,
                                                  @Nonnull BranchId branchId,
                                                  @Nonnull OntologyDocumentId ontoDocId);
+
+  @Nonnull
+  ImmutableSet<OWLObjectProperty> getTopChildren(@Nonnull ProjectId projectId,
+                                                 @Nonnull BranchId branchId,
+                                                 @Nonnull Collection<OntologyDocumentId> ontoDocIds);
 }
@@ -34,6 +34,13 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
   private static final String ANNOTATION_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/annotation-property-children.cpy";
   private static final String ANNOTATION_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/annotation-property-paths-to-ancestor.cpy";
 
+  private static final String PROJECT_ANNOTATION_PROPERTY_CHILDREN_OF_ROOT_QUERY_FILE = "read/hierarchy/project/annotation-property-children-of-root.cpy";
+  private static final String PROJECT_ANNOTATION_PROPERTY_ANCESTOR_QUERY_FILE = "read/hierarchy/project/annotation-property-ancestor.cpy";
+  private static final String PROJECT_ANNOTATION_PROPERTY_PARENTS_QUERY_FILE = "read/hierarchy/project/annotation-property-parents.cpy";
+  private static final String PROJECT_ANNOTATION_PROPERTY_DESCENDANT_QUERY_FILE = "read/hierarchy/project/annotation-property-descendant.cpy";
+  private static final String PROJECT_ANNOTATION_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/project/annotation-property-children.cpy";
+  private static final String PROJECT_ANNOTATION_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/project/annotation-property-paths-to-ancestor.cpy";
+
   private static final String PROPERTY_CHILDREN_OF_ROOT_QUERY = read(ANNOTATION_PROPERTY_CHILDREN_OF_ROOT_QUERY_FILE);
   private static final String PROPERTY_ANCESTOR_QUERY = read(ANNOTATION_PROPERTY_ANCESTOR_QUERY_FILE);
   private static final String PROPERTY_PARENTS_QUERY = read(ANNOTATION_PROPERTY_PARENTS_QUERY_FILE);
@@ -41,6 +48,19 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
   private static final String PROPERTY_CHILDREN_QUERY = read(ANNOTATION_PROPERTY_CHILDREN_QUERY_FILE);
   private static final String PATHS_TO_ANCESTOR_QUERY = read(ANNOTATION_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
 
+  private static final String PROJECT_PROPERTY_CHILDREN_OF_ROOT_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_CHILDREN_OF_ROOT_QUERY_FILE);
+  private static final String PROJECT_PROPERTY_ANCESTOR_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_ANCESTOR_QUERY_FILE);
+  private static final String PROJECT_PROPERTY_PARENTS_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_PARENTS_QUERY_FILE);
+  private static final String PROJECT_PROPERTY_DESCENDANT_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_DESCENDANT_QUERY_FILE);
+  private static final String PROJECT_PROPERTY_CHILDREN_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_CHILDREN_QUERY_FILE);
+  private static final String PROJECT_PATHS_TO_ANCESTOR_QUERY =
+      read(PROJECT_ANNOTATION_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
+
   @Nonnull
   private final GraphReader graphReader;
 
@@ -62,6 +82,14 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAnnotationProperties(PROPERTY_CHILDREN_OF_ROOT_QUERY, createInputParams(projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLAnnotationProperty> getRoots(@Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId,
+                                                      @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAnnotationProperties(PROJECT_PROPERTY_CHILDREN_OF_ROOT_QUERY, createInputParams(projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLAnnotationProperty> getAncestors(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
@@ -71,6 +99,15 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAnnotationProperties(PROPERTY_ANCESTOR_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLAnnotationProperty> getAncestors(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                                                          @Nonnull ProjectId projectId,
+                                                          @Nonnull BranchId branchId,
+                                                          @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAnnotationProperties(PROJECT_PROPERTY_ANCESTOR_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLAnnotationProperty> getDescendants(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
@@ -80,6 +117,15 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAnnotationProperties(PROPERTY_DESCENDANT_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLAnnotationProperty> getDescendants(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                                                            @Nonnull ProjectId projectId,
+                                                            @Nonnull BranchId branchId,
+                                                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAnnotationProperties(PROJECT_PROPERTY_DESCENDANT_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLAnnotationProperty> getParents(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
@@ -89,6 +135,15 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAnnotationProperties(PROPERTY_PARENTS_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLAnnotationProperty> getParents(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                                                        @Nonnull ProjectId projectId,
+                                                        @Nonnull BranchId branchId,
+                                                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAnnotationProperties(PROJECT_PROPERTY_PARENTS_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLAnnotationProperty> getChildren(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
@@ -98,13 +153,35 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAnnotationProperties(PROPERTY_CHILDREN_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLAnnotationProperty> getChildren(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                                                         @Nonnull ProjectId projectId,
+                                                         @Nonnull BranchId branchId,
+                                                         @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAnnotationProperties(PROJECT_PROPERTY_CHILDREN_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public Collection<List<OWLAnnotationProperty>> getPathsToRoot(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
                                                                 @Nonnull ProjectId projectId,
                                                                 @Nonnull BranchId branchId,
                                                                 @Nonnull OntologyDocumentId ontoDocId) {
-    return getPathsToAncestor(owlAnnotationProperty, projectId, branchId, ontoDocId)
+    return getPathsToAncestor(PATHS_TO_ANCESTOR_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocId))
+        .stream()
+        .map(AnnotationPropertyAncestorPath::asOrderedList)
+        .map(ImmutableList::reverse)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  @Override
+  @Nonnull
+  public Collection<List<OWLAnnotationProperty>> getPathsToRoot(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                                                                @Nonnull ProjectId projectId,
+                                                                @Nonnull BranchId branchId,
+                                                                @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getPathsToAncestor(PROJECT_PATHS_TO_ANCESTOR_QUERY, createInputParams(owlAnnotationProperty, projectId, branchId, ontoDocIds))
         .stream()
         .map(AnnotationPropertyAncestorPath::asOrderedList)
         .map(ImmutableList::reverse)
@@ -120,6 +197,15 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getAncestors(child, projectId, branchId, ontoDocId).contains(parent);
   }
 
+  @Override
+  public boolean isAncestor(@Nonnull OWLAnnotationProperty parent,
+                            @Nonnull OWLAnnotationProperty child,
+                            @Nonnull ProjectId projectId,
+                            @Nonnull BranchId branchId,
+                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAncestors(child, projectId, branchId, ontoDocIds).contains(parent);
+  }
+
   @Override
   public boolean isLeaf(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
                         @Nonnull ProjectId projectId,
@@ -128,6 +214,14 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return getChildren(owlAnnotationProperty, projectId, branchId, ontoDocId).size() == 0;
   }
 
+  @Override
+  public boolean isLeaf(@Nonnull OWLAnnotationProperty owlAnnotationProperty,
+                        @Nonnull ProjectId projectId,
+                        @Nonnull BranchId branchId,
+                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getChildren(owlAnnotationProperty, projectId, branchId, ontoDocIds).size() == 0;
+  }
+
   @Nonnull
   private ImmutableSet<OWLAnnotationProperty> getAnnotationProperties(String queryString, Value inputParams) {
     return graphReader.getNodes(queryString, inputParams)
@@ -137,12 +231,9 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
   }
 
   @Nonnull
-  private ImmutableList<AnnotationPropertyAncestorPath> getPathsToAncestor(OWLAnnotationProperty ancestor,
-                                                                           ProjectId projectId,
-                                                                           BranchId branchId,
-                                                                           OntologyDocumentId ontoDocId) {
+  private ImmutableList<AnnotationPropertyAncestorPath> getPathsToAncestor(String queryString, Value inputParams) {
     var ancestorPaths = ImmutableList.<AnnotationPropertyAncestorPath>builder();
-    graphReader.getPaths(PATHS_TO_ANCESTOR_QUERY, createInputParams(ancestor, projectId, branchId, ontoDocId))
+    graphReader.getPaths(queryString, inputParams)
         .stream()
         .map(path -> Streams.stream(path.nodes())
             .map(entityNodeMapper::toOwlAnnotationProperty)
@@ -160,10 +251,25 @@ public class AnnotationPropertyHierarchyAccessorImpl implements AnnotationProper
     return Parameters.forEntityIri(owlAnnotationProperty.getIRI(), projectId, branchId, ontoDocId);
   }
 
+  @Nonnull
+  private static Value createInputParams(OWLAnnotationProperty owlAnnotationProperty,
+                                         ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forEntityIri(owlAnnotationProperty.getIRI(), projectId, branchId, ontoDocIds);
+  }
+
   @Nonnull
   private static Value createInputParams(ProjectId projectId,
                                          BranchId branchId,
                                          OntologyDocumentId ontoDocId) {
     return Parameters.forContext(projectId, branchId, ontoDocId);
   }
+
+  @Nonnull
+  private static Value createInputParams(ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forContext(projectId, branchId, ontoDocIds);
+  }
 }
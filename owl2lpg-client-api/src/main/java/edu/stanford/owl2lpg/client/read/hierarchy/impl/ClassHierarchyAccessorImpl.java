@@ -6,6 +6,7 @@ import com.google.common.collect.Streams;
 import edu.stanford.owl2lpg.client.read.GraphReader;
 import edu.stanford.owl2lpg.client.read.Parameters;
 import edu.stanford.owl2lpg.client.read.entity.impl.EntityNodeMapper;
+import edu.stanford.owl2lpg.client.read.hierarchy.ClassAncestorIndex;
 import edu.stanford.owl2lpg.client.read.hierarchy.ClassHierarchyAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
@@ -31,33 +32,68 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
 
   private static final String CLASS_CHILDREN_OF_OWL_THING_QUERY_FILE = "read/hierarchy/class-children-of-owl-thing.cpy";
   private static final String CLASS_ANCESTOR_QUERY_FILE = "read/hierarchy/class-ancestor.cpy";
+  private static final String CLASS_ANCESTOR_INDEXED_QUERY_FILE = "read/hierarchy/class-ancestor-indexed.cpy";
   private static final String CLASS_PARENTS_QUERY_FILE = "read/hierarchy/class-parents.cpy";
   private static final String CLASS_DESCENDANT_QUERY_FILE = "read/hierarchy/class-descendant.cpy";
+  private static final String CLASS_DESCENDANT_INDEXED_QUERY_FILE = "read/hierarchy/class-descendant-indexed.cpy";
   private static final String CLASS_CHILDREN_QUERY_FILE = "read/hierarchy/class-children.cpy";
   private static final String CLASS_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/class-paths-to-ancestor.cpy";
 
+  private static final String PROJECT_CLASS_CHILDREN_OF_OWL_THING_QUERY_FILE = "read/hierarchy/project/class-children-of-owl-thing.cpy";
+  private static final String PROJECT_CLASS_ANCESTOR_QUERY_FILE = "read/hierarchy/project/class-ancestor.cpy";
+  private static final String PROJECT_CLASS_ANCESTOR_INDEXED_QUERY_FILE = "read/hierarchy/project/class-ancestor-indexed.cpy";
+  private static final String PROJECT_CLASS_PARENTS_QUERY_FILE = "read/hierarchy/project/class-parents.cpy";
+  private static final String PROJECT_CLASS_DESCENDANT_QUERY_FILE = "read/hierarchy/project/class-descendant.cpy";
+  private static final String PROJECT_CLASS_DESCENDANT_INDEXED_QUERY_FILE = "read/hierarchy/project/class-descendant-indexed.cpy";
+  private static final String PROJECT_CLASS_CHILDREN_QUERY_FILE = "read/hierarchy/project/class-children.cpy";
+  private static final String PROJECT_CLASS_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/project/class-paths-to-ancestor.cpy";
+
   private static final String CLASS_CHILDREN_OF_OWL_THING_QUERY = read(CLASS_CHILDREN_OF_OWL_THING_QUERY_FILE);
   private static final String CLASS_ANCESTOR_QUERY = read(CLASS_ANCESTOR_QUERY_FILE);
+  private static final String CLASS_ANCESTOR_INDEXED_QUERY = read(CLASS_ANCESTOR_INDEXED_QUERY_FILE);
   private static final String CLASS_PARENTS_QUERY = read(CLASS_PARENTS_QUERY_FILE);
   private static final String CLASS_DESCENDANT_QUERY = read(CLASS_DESCENDANT_QUERY_FILE);
+  private static final String CLASS_DESCENDANT_INDEXED_QUERY = read(CLASS_DESCENDANT_INDEXED_QUERY_FILE);
   private static final String CLASS_CHILDREN_QUERY = read(CLASS_CHILDREN_QUERY_FILE);
   private static final String PATHS_TO_ANCESTOR_QUERY = read(CLASS_PATHS_TO_ANCESTOR_QUERY_FILE);
 
+  private static final String PROJECT_CLASS_CHILDREN_OF_OWL_THING_QUERY =
+      read(PROJECT_CLASS_CHILDREN_OF_OWL_THING_QUERY_FILE);
+  private static final String PROJECT_CLASS_ANCESTOR_QUERY =
+      read(PROJECT_CLASS_ANCESTOR_QUERY_FILE);
+  private static final String PROJECT_CLASS_ANCESTOR_INDEXED_QUERY =
+      read(PROJECT_CLASS_ANCESTOR_INDEXED_QUERY_FILE);
+  private static final String PROJECT_CLASS_PARENTS_QUERY =
+      read(PROJECT_CLASS_PARENTS_QUERY_FILE);
+  private static final String PROJECT_CLASS_DESCENDANT_QUERY =
+      read(PROJECT_CLASS_DESCENDANT_QUERY_FILE);
+  private static final String PROJECT_CLASS_DESCENDANT_INDEXED_QUERY =
+      read(PROJECT_CLASS_DESCENDANT_INDEXED_QUERY_FILE);
+  private static final String PROJECT_CLASS_CHILDREN_QUERY =
+      read(PROJECT_CLASS_CHILDREN_QUERY_FILE);
+  private static final String PROJECT_PATHS_TO_ANCESTOR_QUERY =
+      read(PROJECT_CLASS_PATHS_TO_ANCESTOR_QUERY_FILE);
+
   @Nonnull
   private final GraphReader graphReader;
 
   @Nonnull
   private final EntityNodeMapper entityNodeMapper;
 
+  @Nonnull
+  private final ClassAncestorIndex classAncestorIndex;
+
   @Nonnull
   private OWLClass root;
 
   @Inject
   public ClassHierarchyAccessorImpl(@Nonnull GraphReader graphReader,
                                     @Nonnull EntityNodeMapper entityNodeMapper,
+                                    @Nonnull ClassAncestorIndex classAncestorIndex,
                                     @Nonnull OWLDataFactory dataFactory) {
     this.graphReader = checkNotNull(graphReader);
     this.entityNodeMapper = checkNotNull(entityNodeMapper);
+    this.classAncestorIndex = checkNotNull(classAncestorIndex);
     this.root = dataFactory.getOWLThing();
   }
 
@@ -72,7 +108,16 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
                                              @Nonnull ProjectId projectId,
                                              @Nonnull BranchId branchId,
                                              @Nonnull OntologyDocumentId ontoDocId) {
-    return getClasses(CLASS_ANCESTOR_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocId));
+    return getClasses(select(CLASS_ANCESTOR_INDEXED_QUERY, CLASS_ANCESTOR_QUERY, projectId, branchId), createInputParams(owlClass, projectId, branchId, ontoDocId));
+  }
+
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLClass> getAncestors(@Nonnull OWLClass owlClass,
+                                             @Nonnull ProjectId projectId,
+                                             @Nonnull BranchId branchId,
+                                             @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getClasses(select(PROJECT_CLASS_ANCESTOR_INDEXED_QUERY, PROJECT_CLASS_ANCESTOR_QUERY, projectId, branchId), createInputParams(owlClass, projectId, branchId, ontoDocIds));
   }
 
   @Override
@@ -81,7 +126,16 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
                                                @Nonnull ProjectId projectId,
                                                @Nonnull BranchId branchId,
                                                @Nonnull OntologyDocumentId ontoDocId) {
-    return getClasses(CLASS_DESCENDANT_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocId));
+    return getClasses(select(CLASS_DESCENDANT_INDEXED_QUERY, CLASS_DESCENDANT_QUERY, projectId, branchId), createInputParams(owlClass, projectId, branchId, ontoDocId));
+  }
+
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLClass> getDescendants(@Nonnull OWLClass owlClass,
+                                               @Nonnull ProjectId projectId,
+                                               @Nonnull BranchId branchId,
+                                               @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getClasses(select(PROJECT_CLASS_DESCENDANT_INDEXED_QUERY, PROJECT_CLASS_DESCENDANT_QUERY, projectId, branchId), createInputParams(owlClass, projectId, branchId, ontoDocIds));
   }
 
   @Override
@@ -93,6 +147,15 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return getClasses(CLASS_PARENTS_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLClass> getParents(@Nonnull OWLClass owlClass,
+                                           @Nonnull ProjectId projectId,
+                                           @Nonnull BranchId branchId,
+                                           @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getClasses(PROJECT_CLASS_PARENTS_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLClass> getChildren(@Nonnull OWLClass owlClass,
@@ -102,6 +165,15 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return getClasses(CLASS_CHILDREN_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLClass> getChildren(@Nonnull OWLClass owlClass,
+                                            @Nonnull ProjectId projectId,
+                                            @Nonnull BranchId branchId,
+                                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getClasses(PROJECT_CLASS_CHILDREN_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLClass> getTopChildren(@Nonnull ProjectId projectId,
@@ -110,13 +182,34 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return getClasses(CLASS_CHILDREN_OF_OWL_THING_QUERY, createInputParams(projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLClass> getTopChildren(@Nonnull ProjectId projectId,
+                                               @Nonnull BranchId branchId,
+                                               @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getClasses(PROJECT_CLASS_CHILDREN_OF_OWL_THING_QUERY, createInputParams(projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public Collection<List<OWLClass>> getPathsToRoot(@Nonnull OWLClass owlClass,
                                                    @Nonnull ProjectId projectId,
                                                    @Nonnull BranchId branchId,
                                                    @Nonnull OntologyDocumentId ontoDocId) {
-    return getPathsToAncestor(owlClass, projectId, branchId, ontoDocId)
+    return getPathsToAncestor(PATHS_TO_ANCESTOR_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocId))
+        .stream()
+        .map(ClassAncestorPath::asOrderedList)
+        .map(ImmutableList::reverse)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  @Override
+  @Nonnull
+  public Collection<List<OWLClass>> getPathsToRoot(@Nonnull OWLClass owlClass,
+                                                   @Nonnull ProjectId projectId,
+                                                   @Nonnull BranchId branchId,
+                                                   @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getPathsToAncestor(PROJECT_PATHS_TO_ANCESTOR_QUERY, createInputParams(owlClass, projectId, branchId, ontoDocIds))
         .stream()
         .map(ClassAncestorPath::asOrderedList)
         .map(ImmutableList::reverse)
@@ -132,6 +225,15 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return getAncestors(child, projectId, branchId, ontoDocId).contains(parent);
   }
 
+  @Override
+  public boolean isAncestor(@Nonnull OWLClass parent,
+                            @Nonnull OWLClass child,
+                            @Nonnull ProjectId projectId,
+                            @Nonnull BranchId branchId,
+                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAncestors(child, projectId, branchId, ontoDocIds).contains(parent);
+  }
+
   @Override
   public boolean isLeaf(@Nonnull OWLClass owlClass,
                         @Nonnull ProjectId projectId,
@@ -140,6 +242,25 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return getChildren(owlClass, projectId, branchId, ontoDocId).size() == 0;
   }
 
+  @Override
+  public boolean isLeaf(@Nonnull OWLClass owlClass,
+                        @Nonnull ProjectId projectId,
+                        @Nonnull BranchId branchId,
+                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getChildren(owlClass, projectId, branchId, ontoDocIds).size() == 0;
+  }
+
+  /*
+   * The ancestors and descendants are a single hop away when the ANCESTOR
+   * edges were materialized at the export of the branch; otherwise the
+   * SUB_CLASS_OF edges have to be followed to an arbitrary depth.
+   */
+  @Nonnull
+  private String select(String indexedQueryString, String queryString,
+                        ProjectId projectId, BranchId branchId) {
+    return classAncestorIndex.isPresent(projectId, branchId) ? indexedQueryString : queryString;
+  }
+
   @Nonnull
   private ImmutableSet<OWLClass> getClasses(String queryString, Value inputParams) {
     return graphReader.getNodes(queryString, inputParams)
@@ -149,12 +270,9 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
   }
 
   @Nonnull
-  private ImmutableList<ClassAncestorPath> getPathsToAncestor(OWLClass ancestor,
-                                                              ProjectId projectId,
-                                                              BranchId branchId,
-                                                              OntologyDocumentId ontoDocId) {
+  private ImmutableList<ClassAncestorPath> getPathsToAncestor(String queryString, Value inputParams) {
     var ancestorPaths = ImmutableList.<ClassAncestorPath>builder();
-    graphReader.getPaths(PATHS_TO_ANCESTOR_QUERY, createInputParams(ancestor, projectId, branchId, ontoDocId))
+    graphReader.getPaths(queryString, inputParams)
         .stream()
         .map(path -> Streams.stream(path.nodes())
             .map(entityNodeMapper::toOwlEntity)
@@ -185,10 +303,25 @@ public class ClassHierarchyAccessorImpl implements ClassHierarchyAccessor {
     return Parameters.forEntityIri(owlClass.getIRI(), projectId, branchId, ontoDocId);
   }
 
+  @Nonnull
+  private static Value createInputParams(OWLClass owlClass,
+                                         ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forEntityIri(owlClass.getIRI(), projectId, branchId, ontoDocIds);
+  }
+
   @Nonnull
   private static Value createInputParams(ProjectId projectId,
                                          BranchId branchId,
                                          OntologyDocumentId ontoDocId) {
     return Parameters.forContext(projectId, branchId, ontoDocId);
   }
+
+  @Nonnull
+  private static Value createInputParams(ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forContext(projectId, branchId, ontoDocIds);
+  }
 }
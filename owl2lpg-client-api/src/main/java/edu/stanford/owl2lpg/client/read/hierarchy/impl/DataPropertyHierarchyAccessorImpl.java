@@ -36,6 +36,14 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
   private static final String DATA_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/data-property-children.cpy";
   private static final String DATA_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/data-property-paths-to-ancestor.cpy";
 
+  private static final String PROJECT_DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY_FILE =
+      "read/hierarchy/project/data-property-children-of-owl-top-data-property.cpy";
+  private static final String PROJECT_DATA_PROPERTY_ANCESTOR_QUERY_FILE = "read/hierarchy/project/data-property-ancestor.cpy";
+  private static final String PROJECT_DATA_PROPERTY_PARENTS_QUERY_FILE = "read/hierarchy/project/data-property-parents.cpy";
+  private static final String PROJECT_DATA_PROPERTY_DESCENDANT_QUERY_FILE = "read/hierarchy/project/data-property-descendant.cpy";
+  private static final String PROJECT_DATA_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/project/data-property-children.cpy";
+  private static final String PROJECT_DATA_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/project/data-property-paths-to-ancestor.cpy";
+
   private static final String DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY =
       read(DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY_FILE);
   private static final String DATA_PROPERTY_ANCESTOR_QUERY = read(DATA_PROPERTY_ANCESTOR_QUERY_FILE);
@@ -44,6 +52,19 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
   private static final String DATA_PROPERTY_CHILDREN_QUERY = read(DATA_PROPERTY_CHILDREN_QUERY_FILE);
   private static final String PATHS_TO_ANCESTOR_QUERY = read(DATA_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
 
+  private static final String PROJECT_DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY =
+      read(PROJECT_DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY_FILE);
+  private static final String PROJECT_DATA_PROPERTY_ANCESTOR_QUERY =
+      read(PROJECT_DATA_PROPERTY_ANCESTOR_QUERY_FILE);
+  private static final String PROJECT_DATA_PROPERTY_PARENTS_QUERY =
+      read(PROJECT_DATA_PROPERTY_PARENTS_QUERY_FILE);
+  private static final String PROJECT_DATA_PROPERTY_DESCENDANT_QUERY =
+      read(PROJECT_DATA_PROPERTY_DESCENDANT_QUERY_FILE);
+  private static final String PROJECT_DATA_PROPERTY_CHILDREN_QUERY =
+      read(PROJECT_DATA_PROPERTY_CHILDREN_QUERY_FILE);
+  private static final String PROJECT_PATHS_TO_ANCESTOR_QUERY =
+      read(PROJECT_DATA_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
+
   @Nonnull
   private final GraphReader graphReader;
 
@@ -71,6 +92,15 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getProperties(DATA_PROPERTY_ANCESTOR_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLDataProperty> getAncestors(@Nonnull OWLDataProperty owlDataProperty,
+                                                    @Nonnull ProjectId projectId,
+                                                    @Nonnull BranchId branchId,
+                                                    @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_DATA_PROPERTY_ANCESTOR_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLDataProperty> getDescendants(@Nonnull OWLDataProperty owlDataProperty,
@@ -80,6 +110,15 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getProperties(DATA_PROPERTY_DESCENDANT_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLDataProperty> getDescendants(@Nonnull OWLDataProperty owlDataProperty,
+                                                      @Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId,
+                                                      @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_DATA_PROPERTY_DESCENDANT_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLDataProperty> getParents(@Nonnull OWLDataProperty owlDataProperty,
@@ -89,6 +128,15 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getProperties(DATA_PROPERTY_PARENTS_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLDataProperty> getParents(@Nonnull OWLDataProperty owlDataProperty,
+                                                  @Nonnull ProjectId projectId,
+                                                  @Nonnull BranchId branchId,
+                                                  @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_DATA_PROPERTY_PARENTS_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLDataProperty> getChildren(@Nonnull OWLDataProperty owlDataProperty,
@@ -98,6 +146,15 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getProperties(DATA_PROPERTY_CHILDREN_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLDataProperty> getChildren(@Nonnull OWLDataProperty owlDataProperty,
+                                                   @Nonnull ProjectId projectId,
+                                                   @Nonnull BranchId branchId,
+                                                   @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_DATA_PROPERTY_CHILDREN_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   public void setRoot(@Nonnull OWLDataProperty root) {
     this.root = root;
@@ -111,13 +168,34 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getProperties(DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY, createInputParams(projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLDataProperty> getTopChildren(@Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId,
+                                                      @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_DATA_PROPERTY_CHILDREN_OF_OWL_TOP_DATA_PROPERTY_QUERY, createInputParams(projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public Collection<List<OWLDataProperty>> getPathsToRoot(@Nonnull OWLDataProperty owlDataProperty,
                                                           @Nonnull ProjectId projectId,
                                                           @Nonnull BranchId branchId,
                                                           @Nonnull OntologyDocumentId ontoDocId) {
-    return getPathsToAncestor(owlDataProperty, projectId, branchId, ontoDocId)
+    return getPathsToAncestor(PATHS_TO_ANCESTOR_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocId))
+        .stream()
+        .map(DataPropertyAncestorPath::asOrderedList)
+        .map(ImmutableList::reverse)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  @Override
+  @Nonnull
+  public Collection<List<OWLDataProperty>> getPathsToRoot(@Nonnull OWLDataProperty owlDataProperty,
+                                                          @Nonnull ProjectId projectId,
+                                                          @Nonnull BranchId branchId,
+                                                          @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getPathsToAncestor(PROJECT_PATHS_TO_ANCESTOR_QUERY, createInputParams(owlDataProperty, projectId, branchId, ontoDocIds))
         .stream()
         .map(DataPropertyAncestorPath::asOrderedList)
         .map(ImmutableList::reverse)
@@ -133,6 +211,15 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getAncestors(child, projectId, branchId, ontoDocId).contains(parent);
   }
 
+  @Override
+  public boolean isAncestor(@Nonnull OWLDataProperty parent,
+                            @Nonnull OWLDataProperty child,
+                            @Nonnull ProjectId projectId,
+                            @Nonnull BranchId branchId,
+                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAncestors(child, projectId, branchId, ontoDocIds).contains(parent);
+  }
+
   @Override
   public boolean isLeaf(@Nonnull OWLDataProperty owlDataProperty,
                         @Nonnull ProjectId projectId,
@@ -141,6 +228,14 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return getChildren(owlDataProperty, projectId, branchId, ontoDocId).size() == 0;
   }
 
+  @Override
+  public boolean isLeaf(@Nonnull OWLDataProperty owlDataProperty,
+                        @Nonnull ProjectId projectId,
+                        @Nonnull BranchId branchId,
+                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getChildren(owlDataProperty, projectId, branchId, ontoDocIds).size() == 0;
+  }
+
   @Nonnull
   private ImmutableSet<OWLDataProperty> getProperties(String queryString, Value inputParams) {
     return graphReader.getNodes(queryString, inputParams)
@@ -150,12 +245,9 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
   }
 
   @Nonnull
-  private ImmutableList<DataPropertyAncestorPath> getPathsToAncestor(OWLDataProperty ancestor,
-                                                                     ProjectId projectId,
-                                                                     BranchId branchId,
-                                                                     OntologyDocumentId ontoDocId) {
+  private ImmutableList<DataPropertyAncestorPath> getPathsToAncestor(String queryString, Value inputParams) {
     var ancestorPaths = ImmutableList.<DataPropertyAncestorPath>builder();
-    graphReader.getPaths(PATHS_TO_ANCESTOR_QUERY, createInputParams(ancestor, projectId, branchId, ontoDocId))
+    graphReader.getPaths(queryString, inputParams)
         .stream()
         .map(path -> Streams.stream(path.nodes())
             .map(entityNodeMapper::toOwlDataProperty)
@@ -184,10 +276,25 @@ public class DataPropertyHierarchyAccessorImpl implements DataPropertyHierarchyA
     return Parameters.forEntityIri(owlDataProperty.getIRI(), projectId, branchId, ontoDocId);
   }
 
+  @Nonnull
+  private static Value createInputParams(OWLDataProperty owlDataProperty,
+                                         ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forEntityIri(owlDataProperty.getIRI(), projectId, branchId, ontoDocIds);
+  }
+
   @Nonnull
   private static Value createInputParams(ProjectId projectId,
                                          BranchId branchId,
                                          OntologyDocumentId ontoDocId) {
     return Parameters.forContext(projectId, branchId, ontoDocId);
   }
+
+  @Nonnull
+  private static Value createInputParams(ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forContext(projectId, branchId, ontoDocIds);
+  }
 }
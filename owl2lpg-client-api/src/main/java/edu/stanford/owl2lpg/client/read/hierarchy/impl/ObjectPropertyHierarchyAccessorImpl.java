@@ -36,6 +36,14 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
   private static final String OBJECT_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/object-property-children.cpy";
   private static final String OBJECT_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/object-property-paths-to-ancestor.cpy";
 
+  private static final String PROJECT_OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY_FILE =
+      "read/hierarchy/project/object-property-children-of-owl-top-object-property.cpy";
+  private static final String PROJECT_OBJECT_PROPERTY_ANCESTOR_QUERY_FILE = "read/hierarchy/project/object-property-ancestor.cpy";
+  private static final String PROJECT_OBJECT_PROPERTY_PARENTS_QUERY_FILE = "read/hierarchy/project/object-property-parents.cpy";
+  private static final String PROJECT_OBJECT_PROPERTY_DESCENDANT_QUERY_FILE = "read/hierarchy/project/object-property-descendant.cpy";
+  private static final String PROJECT_OBJECT_PROPERTY_CHILDREN_QUERY_FILE = "read/hierarchy/project/object-property-children.cpy";
+  private static final String PROJECT_OBJECT_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE = "read/hierarchy/project/object-property-paths-to-ancestor.cpy";
+
   private static final String OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY =
       read(OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY_FILE);
   private static final String OBJECT_PROPERTY_ANCESTOR_QUERY = read(OBJECT_PROPERTY_ANCESTOR_QUERY_FILE);
@@ -44,6 +52,19 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
   private static final String OBJECT_PROPERTY_CHILDREN_QUERY = read(OBJECT_PROPERTY_CHILDREN_QUERY_FILE);
   private static final String PATHS_TO_ANCESTOR_QUERY = read(OBJECT_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
 
+  private static final String PROJECT_OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY_FILE);
+  private static final String PROJECT_OBJECT_PROPERTY_ANCESTOR_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_ANCESTOR_QUERY_FILE);
+  private static final String PROJECT_OBJECT_PROPERTY_PARENTS_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_PARENTS_QUERY_FILE);
+  private static final String PROJECT_OBJECT_PROPERTY_DESCENDANT_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_DESCENDANT_QUERY_FILE);
+  private static final String PROJECT_OBJECT_PROPERTY_CHILDREN_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_CHILDREN_QUERY_FILE);
+  private static final String PROJECT_PATHS_TO_ANCESTOR_QUERY =
+      read(PROJECT_OBJECT_PROPERTY_PATHS_TO_ANCESTOR_QUERY_FILE);
+
   @Nonnull
   private final GraphReader graphReader;
 
@@ -76,6 +97,15 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getProperties(OBJECT_PROPERTY_ANCESTOR_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLObjectProperty> getAncestors(@Nonnull OWLObjectProperty owlObjectProperty,
+                                                      @Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId,
+                                                      @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_OBJECT_PROPERTY_ANCESTOR_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLObjectProperty> getDescendants(@Nonnull OWLObjectProperty owlObjectProperty,
@@ -85,6 +115,15 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getProperties(OBJECT_PROPERTY_DESCENDANT_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLObjectProperty> getDescendants(@Nonnull OWLObjectProperty owlObjectProperty,
+                                                        @Nonnull ProjectId projectId,
+                                                        @Nonnull BranchId branchId,
+                                                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_OBJECT_PROPERTY_DESCENDANT_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLObjectProperty> getParents(@Nonnull OWLObjectProperty owlObjectProperty,
@@ -94,6 +133,15 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getProperties(OBJECT_PROPERTY_PARENTS_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLObjectProperty> getParents(@Nonnull OWLObjectProperty owlObjectProperty,
+                                                    @Nonnull ProjectId projectId,
+                                                    @Nonnull BranchId branchId,
+                                                    @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_OBJECT_PROPERTY_PARENTS_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLObjectProperty> getChildren(@Nonnull OWLObjectProperty owlObjectProperty,
@@ -103,6 +151,15 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getProperties(OBJECT_PROPERTY_CHILDREN_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLObjectProperty> getChildren(@Nonnull OWLObjectProperty owlObjectProperty,
+                                                     @Nonnull ProjectId projectId,
+                                                     @Nonnull BranchId branchId,
+                                                     @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_OBJECT_PROPERTY_CHILDREN_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public ImmutableSet<OWLObjectProperty> getTopChildren(@Nonnull ProjectId projectId,
@@ -111,13 +168,34 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getProperties(OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY, createInputParams(projectId, branchId, ontoDocId));
   }
 
+  @Override
+  @Nonnull
+  public ImmutableSet<OWLObjectProperty> getTopChildren(@Nonnull ProjectId projectId,
+                                                        @Nonnull BranchId branchId,
+                                                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getProperties(PROJECT_OBJECT_PROPERTY_CHILDREN_OF_OWL_TOP_OBJECT_PROPERTY_QUERY, createInputParams(projectId, branchId, ontoDocIds));
+  }
+
   @Override
   @Nonnull
   public Collection<List<OWLObjectProperty>> getPathsToRoot(@Nonnull OWLObjectProperty owlObjectProperty,
                                                             @Nonnull ProjectId projectId,
                                                             @Nonnull BranchId branchId,
                                                             @Nonnull OntologyDocumentId ontoDocId) {
-    return getPathsToAncestor(owlObjectProperty, projectId, branchId, ontoDocId)
+    return getPathsToAncestor(PATHS_TO_ANCESTOR_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocId))
+        .stream()
+        .map(ObjectPropertyAncestorPath::asOrderedList)
+        .map(ImmutableList::reverse)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  @Override
+  @Nonnull
+  public Collection<List<OWLObjectProperty>> getPathsToRoot(@Nonnull OWLObjectProperty owlObjectProperty,
+                                                            @Nonnull ProjectId projectId,
+                                                            @Nonnull BranchId branchId,
+                                                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getPathsToAncestor(PROJECT_PATHS_TO_ANCESTOR_QUERY, createInputParams(owlObjectProperty, projectId, branchId, ontoDocIds))
         .stream()
         .map(ObjectPropertyAncestorPath::asOrderedList)
         .map(ImmutableList::reverse)
@@ -133,6 +211,15 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getAncestors(child, projectId, branchId, ontoDocId).contains(parent);
   }
 
+  @Override
+  public boolean isAncestor(@Nonnull OWLObjectProperty parent,
+                            @Nonnull OWLObjectProperty child,
+                            @Nonnull ProjectId projectId,
+                            @Nonnull BranchId branchId,
+                            @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getAncestors(child, projectId, branchId, ontoDocIds).contains(parent);
+  }
+
   @Override
   public boolean isLeaf(@Nonnull OWLObjectProperty owlObjectProperty,
                         @Nonnull ProjectId projectId,
@@ -141,6 +228,14 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return getChildren(owlObjectProperty, projectId, branchId, ontoDocId).size() == 0;
   }
 
+  @Override
+  public boolean isLeaf(@Nonnull OWLObjectProperty owlObjectProperty,
+                        @Nonnull ProjectId projectId,
+                        @Nonnull BranchId branchId,
+                        @Nonnull Collection<OntologyDocumentId> ontoDocIds) {
+    return getChildren(owlObjectProperty, projectId, branchId, ontoDocIds).size() == 0;
+  }
+
   @Nonnull
   private ImmutableSet<OWLObjectProperty> getProperties(String queryString, Value inputParams) {
     return graphReader.getNodes(queryString, inputParams)
@@ -150,12 +245,9 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
   }
 
   @Nonnull
-  private ImmutableList<ObjectPropertyAncestorPath> getPathsToAncestor(OWLObjectProperty ancestor,
-                                                                       ProjectId projectId,
-                                                                       BranchId branchId,
-                                                                       OntologyDocumentId ontoDocId) {
+  private ImmutableList<ObjectPropertyAncestorPath> getPathsToAncestor(String queryString, Value inputParams) {
     var ancestorPaths = ImmutableList.<ObjectPropertyAncestorPath>builder();
-    graphReader.getPaths(PATHS_TO_ANCESTOR_QUERY, createInputParams(ancestor, projectId, branchId, ontoDocId))
+    graphReader.getPaths(queryString, inputParams)
         .stream()
         .map(path -> Streams.stream(path.nodes())
             .map(entityNodeMapper::toOwlObjectProperty)
@@ -184,10 +276,25 @@ public class ObjectPropertyHierarchyAccessorImpl implements ObjectPropertyHierar
     return Parameters.forEntityIri(owlObjectProperty.getIRI(), projectId, branchId, ontoDocId);
   }
 
+  @Nonnull
+  private static Value createInputParams(OWLObjectProperty owlObjectProperty,
+                                         ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forEntityIri(owlObjectProperty.getIRI(), projectId, branchId, ontoDocIds);
+  }
+
   @Nonnull
   private static Value createInputParams(ProjectId projectId,
                                          BranchId branchId,
                                          OntologyDocumentId ontoDocId) {
     return Parameters.forContext(projectId, branchId, ontoDocId);
   }
+
+  @Nonnull
+  private static Value createInputParams(ProjectId projectId,
+                                         BranchId branchId,
+                                         Collection<OntologyDocumentId> ontoDocIds) {
+    return Parameters.forContext(projectId, branchId, ontoDocIds);
+  }
 }
@@ -1,6 +1,7 @@
 package edu.stanford.owl2lpg.client.read.individual;
 
 import com.google.common.collect.ImmutableSet;
+import edu.stanford.bmir.protege.web.server.shortform.SearchString;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -8,6 +9,7 @@ import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -25,4 +27,35 @@ public interface NamedIndividualAccessor {
                                                         @Nonnull ProjectId projectId,
                                                         @Nonnull BranchId branchId,
                                                         @Nonnull OntologyDocumentId ontoDocId);
+
+  /**
+   * Returns the named individuals in the signature of the project, ordered
+   * by IRI, that match all of the search strings.
+   *
+   * @param skip  The number of matching individuals that are skipped.
+   * @param limit The maximum number of individuals in the page.
+   */
+  @Nonnull
+  NamedIndividualPage getIndividualsPage(@Nonnull List<SearchString> searchStrings,
+                                         int skip,
+                                         int limit,
+                                         @Nonnull ProjectId projectId,
+                                         @Nonnull BranchId branchId);
+
+  /**
+   * Returns the named individuals that are asserted to be instances of the
+   * class, or of any of its subclasses, ordered by IRI, that match all of
+   * the search strings.
+   *
+   * @param skip  The number of matching individuals that are skipped.
+   * @param limit The maximum number of individuals in the page.
+   */
+  @Nonnull
+  NamedIndividualPage getIndividualsPageByType(@Nonnull OWLClass owlClass,
+                                               boolean includeSubClasses,
+                                               @Nonnull List<SearchString> searchStrings,
+                                               int skip,
+                                               int limit,
+                                               @Nonnull ProjectId projectId,
+                                               @Nonnull BranchId branchId);
 }
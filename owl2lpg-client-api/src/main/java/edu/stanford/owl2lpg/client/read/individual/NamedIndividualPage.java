@@ -0,0 +1,34 @@
+package edu.stanford.owl2lpg.client.read.individual;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A slice of the named individuals that match a query, together with the
+ * number of individuals that match it in total.
+ */
+@AutoValue
+public abstract class NamedIndividualPage {
+
+  @Nonnull
+  public static NamedIndividualPage create(@Nonnull ImmutableList<OWLNamedIndividual> individuals,
+                                           long totalCount) {
+    checkArgument(totalCount >= individuals.size(), "The total count must cover the individuals of the page");
+    return new AutoValue_NamedIndividualPage(individuals, totalCount);
+  }
+
+  @Nonnull
+  public static NamedIndividualPage empty() {
+    return create(ImmutableList.of(), 0);
+  }
+
+  @Nonnull
+  public abstract ImmutableList<OWLNamedIndividual> getIndividuals();
+
+  public abstract long getTotalCount();
+}
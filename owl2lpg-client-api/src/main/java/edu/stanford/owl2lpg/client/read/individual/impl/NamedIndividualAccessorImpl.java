@@ -1,12 +1,19 @@
 package edu.stanford.owl2lpg.client.read.individual.impl;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import edu.stanford.bmir.protege.web.server.shortform.SearchString;
+import edu.stanford.owl2lpg.client.read.Parameters;
 import edu.stanford.owl2lpg.client.read.axiom.ClassAssertionAxiomAccessor;
 import edu.stanford.owl2lpg.client.read.entity.EntityAccessor;
+import edu.stanford.owl2lpg.client.read.entity.impl.EntityNodeMapper;
 import edu.stanford.owl2lpg.client.read.individual.NamedIndividualAccessor;
+import edu.stanford.owl2lpg.client.read.individual.NamedIndividualPage;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Value;
 import org.semanticweb.owlapi.model.EntityType;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
@@ -15,8 +22,10 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -24,17 +33,45 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class NamedIndividualAccessorImpl implements NamedIndividualAccessor {
 
+  private static final String INDIVIDUALS_QUERY_FILE = "read/individuals/individuals.cpy";
+  private static final String INDIVIDUALS_MATCHING_QUERY_FILE = "read/individuals/individuals-matching.cpy";
+  private static final String INDIVIDUALS_BY_TYPE_QUERY_FILE = "read/individuals/individuals-by-type.cpy";
+  private static final String INDIVIDUALS_BY_TYPE_MATCHING_QUERY_FILE =
+      "read/individuals/individuals-by-type-matching.cpy";
+  private static final String INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_QUERY_FILE =
+      "read/individuals/individuals-by-type-or-sub-type.cpy";
+  private static final String INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_MATCHING_QUERY_FILE =
+      "read/individuals/individuals-by-type-or-sub-type-matching.cpy";
+
+  private static final String INDIVIDUALS_QUERY = read(INDIVIDUALS_QUERY_FILE);
+  private static final String INDIVIDUALS_MATCHING_QUERY = read(INDIVIDUALS_MATCHING_QUERY_FILE);
+  private static final String INDIVIDUALS_BY_TYPE_QUERY = read(INDIVIDUALS_BY_TYPE_QUERY_FILE);
+  private static final String INDIVIDUALS_BY_TYPE_MATCHING_QUERY = read(INDIVIDUALS_BY_TYPE_MATCHING_QUERY_FILE);
+  private static final String INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_QUERY = read(INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_QUERY_FILE);
+  private static final String INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_MATCHING_QUERY =
+      read(INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_MATCHING_QUERY_FILE);
+
   @Nonnull
   private final EntityAccessor entityAccessor;
 
   @Nonnull
   private final ClassAssertionAxiomAccessor classAssertionAxiomAccessor;
 
+  @Nonnull
+  private final Driver driver;
+
+  @Nonnull
+  private final EntityNodeMapper entityNodeMapper;
+
   @Inject
   public NamedIndividualAccessorImpl(@Nonnull EntityAccessor entityAccessor,
-                                     @Nonnull ClassAssertionAxiomAccessor classAssertionAxiomAccessor) {
+                                     @Nonnull ClassAssertionAxiomAccessor classAssertionAxiomAccessor,
+                                     @Nonnull Driver driver,
+                                     @Nonnull EntityNodeMapper entityNodeMapper) {
     this.entityAccessor = checkNotNull(entityAccessor);
     this.classAssertionAxiomAccessor = checkNotNull(classAssertionAxiomAccessor);
+    this.driver = checkNotNull(driver);
+    this.entityNodeMapper = checkNotNull(entityNodeMapper);
   }
 
   @Nonnull
@@ -60,4 +97,56 @@ public class NamedIndividualAccessorImpl implements NamedIndividualAccessor {
         .map(OWLIndividual::asOWLNamedIndividual)
         .collect(ImmutableSet.toImmutableSet());
   }
+
+  @Nonnull
+  @Override
+  public NamedIndividualPage getIndividualsPage(@Nonnull List<SearchString> searchStrings,
+                                                int skip,
+                                                int limit,
+                                                @Nonnull ProjectId projectId,
+                                                @Nonnull BranchId branchId) {
+    var queryString = searchStrings.isEmpty() ? INDIVIDUALS_QUERY : INDIVIDUALS_MATCHING_QUERY;
+    return getIndividualsPage(queryString, Parameters.forPage(null, searchStrings, skip, limit, projectId, branchId));
+  }
+
+  @Nonnull
+  @Override
+  public NamedIndividualPage getIndividualsPageByType(@Nonnull OWLClass owlClass,
+                                                      boolean includeSubClasses,
+                                                      @Nonnull List<SearchString> searchStrings,
+                                                      int skip,
+                                                      int limit,
+                                                      @Nonnull ProjectId projectId,
+                                                      @Nonnull BranchId branchId) {
+    String queryString;
+    if (includeSubClasses) {
+      queryString = searchStrings.isEmpty() ?
+          INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_QUERY : INDIVIDUALS_BY_TYPE_OR_SUB_TYPE_MATCHING_QUERY;
+    } else {
+      queryString = searchStrings.isEmpty() ?
+          INDIVIDUALS_BY_TYPE_QUERY : INDIVIDUALS_BY_TYPE_MATCHING_QUERY;
+    }
+    return getIndividualsPage(queryString,
+        Parameters.forPage(owlClass.getIRI(), searchStrings, skip, limit, projectId, branchId));
+  }
+
+  @Nonnull
+  private NamedIndividualPage getIndividualsPage(@Nonnull String queryString,
+                                                 @Nonnull Value inputParams) {
+    try (var session = driver.session()) {
+      return session.readTransaction(tx -> {
+        var result = tx.run(queryString, inputParams);
+        if (!result.hasNext()) {
+          return NamedIndividualPage.empty();
+        }
+        var record = result.single();
+        var individuals = record.get("individuals")
+            .asList(Value::asNode)
+            .stream()
+            .map(entityNodeMapper::toOwlNamedIndividual)
+            .collect(ImmutableList.toImmutableList());
+        return NamedIndividualPage.create(individuals, record.get("totalCount").asLong());
+      });
+    }
+  }
 }
@@ -3,6 +3,7 @@ package edu.stanford.owl2lpg.client.read.ontology.impl;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import edu.stanford.owl2lpg.client.DocumentQueryExecutor;
 import edu.stanford.owl2lpg.client.read.Parameters;
 import edu.stanford.owl2lpg.client.read.entity.EntityAccessor;
 import edu.stanford.owl2lpg.client.read.ontology.ProjectAccessor;
@@ -38,11 +39,16 @@ public class ProjectAccessorImpl implements ProjectAccessor {
   @Nonnull
   private final EntityAccessor entityAccessor;
 
+  @Nonnull
+  private final DocumentQueryExecutor documentQueryExecutor;
+
   @Inject
   public ProjectAccessorImpl(@Nonnull Driver driver,
-                             @Nonnull EntityAccessor entityAccessor) {
+                             @Nonnull EntityAccessor entityAccessor,
+                             @Nonnull DocumentQueryExecutor documentQueryExecutor) {
     this.driver = checkNotNull(driver);
     this.entityAccessor = checkNotNull(entityAccessor);
+    this.documentQueryExecutor = checkNotNull(documentQueryExecutor);
   }
 
   @Nonnull
@@ -83,9 +89,9 @@ public class ProjectAccessorImpl implements ProjectAccessor {
   @Override
   public Stream<OWLEntity> getAllEntities(@Nonnull ProjectId projectId,
                                           @Nonnull BranchId branchId) {
-    return getOntologyDocumentIds(projectId, branchId)
-        .stream()
-        .flatMap(ontoDocId -> entityAccessor.getAllEntities(projectId, branchId, ontoDocId).stream());
+    return documentQueryExecutor.collectList(getOntologyDocumentIds(projectId, branchId), "EntityAccessor.getAllEntities",
+        ontoDocId -> entityAccessor.getAllEntities(projectId, branchId, ontoDocId))
+        .stream();
   }
 
   @Nonnull
@@ -93,9 +99,9 @@ public class ProjectAccessorImpl implements ProjectAccessor {
   public Stream<OWLEntity> getEntitiesByIri(@Nonnull IRI entityIri,
                                             @Nonnull ProjectId projectId,
                                             @Nonnull BranchId branchId) {
-    return getOntologyDocumentIds(projectId, branchId)
-        .stream()
-        .flatMap(ontoDocId -> entityAccessor.getEntitiesByIri(entityIri, projectId, branchId, ontoDocId).stream());
+    return documentQueryExecutor.collectList(getOntologyDocumentIds(projectId, branchId), "EntityAccessor.getEntitiesByIri",
+        ontoDocId -> entityAccessor.getEntitiesByIri(entityIri, projectId, branchId, ontoDocId))
+        .stream();
   }
 
   @Nonnull
@@ -103,8 +109,8 @@ public class ProjectAccessorImpl implements ProjectAccessor {
   public <E extends OWLEntity> Stream<E> getEntitiesByType(@Nonnull EntityType<E> entityType,
                                                            @Nonnull ProjectId projectId,
                                                            @Nonnull BranchId branchId) {
-    return getOntologyDocumentIds(projectId, branchId)
-        .stream()
-        .flatMap(ontoDocId -> entityAccessor.getEntitiesByType(entityType, projectId, branchId, ontoDocId).stream());
+    return documentQueryExecutor.collectList(getOntologyDocumentIds(projectId, branchId), "EntityAccessor.getEntitiesByType",
+        ontoDocId -> entityAccessor.getEntitiesByType(entityType, projectId, branchId, ontoDocId))
+        .stream();
   }
 }
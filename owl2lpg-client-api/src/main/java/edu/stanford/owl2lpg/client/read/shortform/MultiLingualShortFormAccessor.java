@@ -10,9 +10,11 @@ import edu.stanford.bmir.protege.web.shared.shortform.DictionaryLanguage;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLEntity;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -41,6 +43,25 @@ public interface MultiLingualShortFormAccessor {
                                                          @Nonnull ProjectId projectId,
                                                          @Nonnull BranchId branchId);
 
+  /**
+   * Gets the short forms of all the given entities with a single query. The
+   * entities without a short form in any of the languages are left out.
+   */
+  @Nonnull
+  ImmutableMap<OWLEntity, ImmutableMap<DictionaryLanguage, String>> getShortForms(@Nonnull Collection<OWLEntity> owlEntities,
+                                                                                  @Nonnull List<DictionaryLanguage> languages,
+                                                                                  @Nonnull ProjectId projectId,
+                                                                                  @Nonnull BranchId branchId);
+
+  /**
+   * Gets the short forms of the entities with the given IRIs in every
+   * dictionary language, with a single query.
+   */
+  @Nonnull
+  ImmutableMap<IRI, ImmutableMap<DictionaryLanguage, String>> getShortFormDictionaries(@Nonnull Collection<IRI> entityIris,
+                                                                                       @Nonnull ProjectId projectId,
+                                                                                       @Nonnull BranchId branchId);
+
   @Nonnull
   Page<EntityShortFormMatches> getShortFormsContaining(@Nonnull List<SearchString> searchStrings,
                                                        @Nonnull Set<EntityType<?>> entityTypes,
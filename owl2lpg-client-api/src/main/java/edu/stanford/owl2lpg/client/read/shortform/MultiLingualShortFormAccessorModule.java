@@ -2,6 +2,7 @@ package edu.stanford.owl2lpg.client.read.shortform;
 
 import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.owl2lpg.client.read.shortform.impl.MultiLingualShortFormAccessorImpl;
 
 /**
@@ -11,6 +12,11 @@ import edu.stanford.owl2lpg.client.read.shortform.impl.MultiLingualShortFormAcce
 @Module
 public abstract class MultiLingualShortFormAccessorModule {
 
+  @Provides
+  public static ShortFormCacheSettings provideShortFormCacheSettings() {
+    return ShortFormCacheSettings.enabled(ShortFormCacheSettings.DEFAULT_MAXIMUM_SIZE);
+  }
+
   @Binds
   public abstract MultiLingualShortFormAccessor
   provideMultiLingualShortFormAccessor(MultiLingualShortFormAccessorImpl impl);
@@ -0,0 +1,125 @@
+package edu.stanford.owl2lpg.client.read.shortform;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import edu.stanford.bmir.protege.web.shared.shortform.DictionaryLanguage;
+import org.semanticweb.owlapi.model.IRI;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Keeps the short forms of the entities of a project in every dictionary
+ * language, keyed by the entity IRI, so that rendering the same entities
+ * again does not query the database. The entities that are missing from the
+ * cache are loaded together in one call, and the least recently used entities
+ * are evicted once the maximum size is reached.
+ * <p>
+ * The cache must be told about the entities whose annotations or signature
+ * have changed through {@link #invalidate(Collection)}. A load that was
+ * started before an invalidation is returned to its caller but not kept.
+ */
+@ProjectSingleton
+public class ShortFormCache {
+
+  @Nonnull
+  private final ShortFormCacheSettings settings;
+
+  @Nonnull
+  private final Cache<IRI, ImmutableMap<DictionaryLanguage, String>> shortForms;
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder invalidationCount = new LongAdder();
+
+  @Inject
+  public ShortFormCache(@Nonnull ShortFormCacheSettings settings) {
+    this.settings = checkNotNull(settings);
+    this.shortForms = CacheBuilder.newBuilder()
+        .maximumSize(settings.getMaximumSize())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Gets the short forms of the given entities in all dictionary languages.
+   *
+   * @param entityIris The IRIs of the entities
+   * @param loader     Loads the short forms of the entities that are not in
+   *                   the cache. An entity that it leaves out has no short
+   *                   forms.
+   * @return The short forms keyed by every one of the given IRIs
+   */
+  @Nonnull
+  public ImmutableMap<IRI, ImmutableMap<DictionaryLanguage, String>> getShortForms(
+      @Nonnull Collection<IRI> entityIris,
+      @Nonnull Function<Collection<IRI>, Map<IRI, ImmutableMap<DictionaryLanguage, String>>> loader) {
+    if (!settings.isEnabled()) {
+      return load(entityIris, loader);
+    }
+    var cachedShortForms = shortForms.getAllPresent(entityIris);
+    var missingIris = entityIris.stream()
+        .filter(entityIri -> !cachedShortForms.containsKey(entityIri))
+        .distinct()
+        .collect(ImmutableList.toImmutableList());
+    if (missingIris.isEmpty()) {
+      return cachedShortForms;
+    }
+    var loadGeneration = generation.get();
+    var loadedShortForms = load(missingIris, loader);
+    synchronized (this) {
+      if (generation.get() == loadGeneration) {
+        shortForms.putAll(loadedShortForms);
+      }
+    }
+    return ImmutableMap.<IRI, ImmutableMap<DictionaryLanguage, String>>builder()
+        .putAll(cachedShortForms)
+        .putAll(loadedShortForms)
+        .build();
+  }
+
+  @Nonnull
+  private static ImmutableMap<IRI, ImmutableMap<DictionaryLanguage, String>> load(
+      @Nonnull Collection<IRI> entityIris,
+      @Nonnull Function<Collection<IRI>, Map<IRI, ImmutableMap<DictionaryLanguage, String>>> loader) {
+    var loadedShortForms = loader.apply(entityIris);
+    var result = Maps.<IRI, ImmutableMap<DictionaryLanguage, String>>newLinkedHashMap();
+    /* Keep the entities without short forms too, so that they are not loaded again */
+    entityIris.forEach(entityIri -> result.put(entityIri,
+        loadedShortForms.getOrDefault(entityIri, ImmutableMap.of())));
+    return ImmutableMap.copyOf(result);
+  }
+
+  public synchronized void invalidate(@Nonnull Collection<IRI> entityIris) {
+    if (entityIris.isEmpty()) {
+      return;
+    }
+    generation.incrementAndGet();
+    invalidationCount.add(entityIris.size());
+    shortForms.invalidateAll(entityIris);
+  }
+
+  public synchronized void invalidateAll() {
+    generation.incrementAndGet();
+    invalidationCount.add(shortForms.size());
+    shortForms.invalidateAll();
+  }
+
+  @Nonnull
+  public ShortFormCacheStats getStats() {
+    var stats = shortForms.stats();
+    return ShortFormCacheStats.create(stats.hitCount(), stats.missCount(), shortForms.size(),
+        stats.evictionCount(), invalidationCount.sum());
+  }
+}
@@ -0,0 +1,39 @@
+package edu.stanford.owl2lpg.client.read.shortform;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Specifies whether the short forms of the entities in a project are cached
+ * on the client, and for how many entities before the least recently used
+ * ones are evicted.
+ */
+@AutoValue
+public abstract class ShortFormCacheSettings {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+
+  @Nonnull
+  public static ShortFormCacheSettings create(boolean enabled, long maximumSize) {
+    checkArgument(maximumSize >= 0, "The maximum size must not be negative");
+    return new AutoValue_ShortFormCacheSettings(enabled, maximumSize);
+  }
+
+  @Nonnull
+  public static ShortFormCacheSettings enabled(long maximumSize) {
+    return create(true, maximumSize);
+  }
+
+  @Nonnull
+  public static ShortFormCacheSettings disabled() {
+    return create(false, 0);
+  }
+
+  public abstract boolean isEnabled();
+
+  /* The number of entities whose short forms are kept */
+  public abstract long getMaximumSize();
+}
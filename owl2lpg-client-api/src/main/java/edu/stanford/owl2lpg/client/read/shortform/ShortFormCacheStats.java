@@ -0,0 +1,38 @@
+package edu.stanford.owl2lpg.client.read.shortform;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the lookups of a {@link ShortFormCache}.
+ */
+@AutoValue
+public abstract class ShortFormCacheStats {
+
+  @Nonnull
+  public static ShortFormCacheStats create(long hitCount,
+                                           long missCount,
+                                           long size,
+                                           long evictionCount,
+                                           long invalidationCount) {
+    return new AutoValue_ShortFormCacheStats(hitCount, missCount, size, evictionCount, invalidationCount);
+  }
+
+  public abstract long getHitCount();
+
+  public abstract long getMissCount();
+
+  public abstract long getSize();
+
+  /* The entities that were dropped to stay within the maximum size */
+  public abstract long getEvictionCount();
+
+  /* The entities whose short forms were dropped because of ontology changes */
+  public abstract long getInvalidationCount();
+
+  public double getHitRate() {
+    var requestCount = getHitCount() + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+}
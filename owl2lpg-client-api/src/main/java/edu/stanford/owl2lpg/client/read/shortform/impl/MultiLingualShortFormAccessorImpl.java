@@ -1,12 +1,12 @@
 package edu.stanford.owl2lpg.client.read.shortform.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Streams;
 import edu.stanford.bmir.protege.web.server.pagination.PageCollector;
 import edu.stanford.bmir.protege.web.server.shortform.EntityShortFormMatches;
 import edu.stanford.bmir.protege.web.server.shortform.SearchString;
@@ -21,15 +21,26 @@ import edu.stanford.owl2lpg.client.read.shortform.MultiLingualShortFormAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.types.Node;
 import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLEntity;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static edu.stanford.owl2lpg.client.util.Resources.read;
@@ -118,14 +129,51 @@ public class MultiLingualShortFormAccessorImpl implements MultiLingualShortFormA
                                                                 @Nonnull ProjectId projectId,
                                                                 @Nonnull BranchId branchId) {
     var dictionaryMap = getShortForms(owlEntity, projectId, branchId);
+    return selectLanguages(dictionaryMap, languages);
+  }
+
+  @Nonnull
+  @Override
+  public ImmutableMap<OWLEntity, ImmutableMap<DictionaryLanguage, String>> getShortForms(@Nonnull Collection<OWLEntity> owlEntities,
+                                                                                         @Nonnull List<DictionaryLanguage> languages,
+                                                                                         @Nonnull ProjectId projectId,
+                                                                                         @Nonnull BranchId branchId) {
+    var entityIris = owlEntities.stream()
+        .map(OWLEntity::getIRI)
+        .collect(ImmutableSet.toImmutableSet());
+    var dictionaries = getShortFormDictionaries(entityIris, projectId, branchId);
+    var shortForms = ImmutableMap.<OWLEntity, ImmutableMap<DictionaryLanguage, String>>builder();
+    owlEntities.stream()
+        .distinct()
+        .forEach(owlEntity -> {
+          var dictionaryMap = selectLanguages(dictionaries.getOrDefault(owlEntity.getIRI(), ImmutableMap.of()), languages);
+          if (!dictionaryMap.isEmpty()) {
+            shortForms.put(owlEntity, dictionaryMap);
+          }
+        });
+    return shortForms.build();
+  }
+
+  @Nonnull
+  private static ImmutableMap<DictionaryLanguage, String> selectLanguages(@Nonnull Map<DictionaryLanguage, String> dictionaryMap,
+                                                                          @Nonnull List<DictionaryLanguage> languages) {
     return languages
         .stream()
         .filter(dictionaryMap::containsKey)
+        .distinct()
         .collect(ImmutableMap.toImmutableMap(
             language -> language,
             dictionaryMap::get));
   }
 
+  /**
+   * Runs the full-text queries of the four kinds of dictionary languages
+   * concurrently. Each query filters the entity types, ranks its matches by
+   * the preference of their dictionary language and then by their Lucene
+   * score, and returns no more matches than are needed to fill the requested
+   * page, plus one that tells whether there is a next page. The total number
+   * of matches is therefore not counted beyond the requested page.
+   */
   @Nonnull
   @Override
   public Page<EntityShortFormMatches> getShortFormsContaining(@Nonnull List<SearchString> searchStrings,
@@ -134,29 +182,83 @@ public class MultiLingualShortFormAccessorImpl implements MultiLingualShortFormA
                                                               @Nonnull PageRequest pageRequest,
                                                               @Nonnull ProjectId projectId,
                                                               @Nonnull BranchId branchId) {
-    var entityMatchesByAnnotationAssertion = getEntityShortFormMatches(
-        FULL_TEXT_SEARCH_BY_ANNOTATION_ASSERTION_QUERY, searchStrings, projectId, branchId);
-    var entityMatchesByLocalName = getEntityShortFormMatches(
-        FULL_TEXT_SEARCH_BY_LOCAL_NAME_QUERY, searchStrings, projectId, branchId);
-    var entityMatchesByPrefixedName = getEntityShortFormMatches(
-        FULL_TEXT_SEARCH_BY_PREFIXED_NAME_QUERY, searchStrings, projectId, branchId);
-    var entityMatchesByOboId = getEntityShortFormMatches(
-        FULL_TEXT_SEARCH_BY_OBO_ID_QUERY, searchStrings, projectId, branchId);
-    return languages
+    if (entityTypes.isEmpty() || languages.isEmpty()) {
+      return Page.emptyPage();
+    }
+    var limit = (int) Math.min(Integer.MAX_VALUE,
+        (long) pageRequest.getPageNumber() * pageRequest.getPageSize() + 1);
+    var dictLanguageObjects = languages
+        .stream()
+        .map(this::getDictLanguageObject)
+        .collect(ImmutableList.toImmutableList());
+    var inputParams = Parameters.forSearchStrings(searchStrings, entityTypes, dictLanguageObjects,
+        limit, projectId, branchId);
+    var queryResults = Stream.of(
+        FULL_TEXT_SEARCH_BY_ANNOTATION_ASSERTION_QUERY,
+        FULL_TEXT_SEARCH_BY_LOCAL_NAME_QUERY,
+        FULL_TEXT_SEARCH_BY_PREFIXED_NAME_QUERY,
+        FULL_TEXT_SEARCH_BY_OBO_ID_QUERY)
+        .map(queryString -> readAsync(queryString, inputParams))
+        .collect(ImmutableList.toImmutableList());
+    var rankedMatches = Lists.<RankedShortFormMatches>newArrayList();
+    for (var queryResult : queryResults) {
+      for (var record : join(queryResult)) {
+        rankedMatches.add(getRankedShortFormMatches(record, searchStrings));
+      }
+    }
+    return rankedMatches
         .stream()
-        .flatMap(lang -> Streams.concat(
-            entityMatchesByAnnotationAssertion.get(lang),
-            entityMatchesByLocalName.get(lang),
-            entityMatchesByPrefixedName.get(lang),
-            entityMatchesByOboId.get(lang)))
-        .filter(shortForm -> entityTypes.contains(shortForm.getEntity().getEntityType()))
+        .sorted(RankedShortFormMatches.ORDER)
+        .map(RankedShortFormMatches::getEntityShortFormMatches)
         .distinct()
+        .limit(limit)
         .collect(PageCollector.toPage(
             pageRequest.getPageNumber(),
             pageRequest.getPageSize()))
         .orElse(Page.emptyPage());
   }
 
+  @Nonnull
+  private CompletableFuture<List<Record>> readAsync(@Nonnull String queryString,
+                                                    @Nonnull Value inputParams) {
+    var session = driver.asyncSession();
+    return session
+        .readTransactionAsync(tx -> tx.runAsync(queryString, inputParams)
+            .thenCompose(ResultCursor::listAsync))
+        .handle((records, error) -> session.closeAsync()
+            .thenCompose(closed -> error == null
+                ? CompletableFuture.completedFuture(records)
+                : CompletableFuture.<List<Record>>failedFuture(error)))
+        .thenCompose(Function.identity())
+        .toCompletableFuture();
+  }
+
+  @Nonnull
+  private static <T> T join(@Nonnull CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  @Nonnull
+  private RankedShortFormMatches getRankedShortFormMatches(@Nonnull Record record,
+                                                           @Nonnull List<SearchString> searchStrings) {
+    var owlEntity = getOwlEntity(record.get("entity").asNode());
+    var dictLanguage = getDictLanguage(record.get("dictionaryLanguage").asMap());
+    var shortFormMatches = record.get("shortForms")
+        .asList(Value::asString)
+        .stream()
+        .map(shortForm -> getShortFormMatch(owlEntity, shortForm, searchStrings, dictLanguage))
+        .collect(ImmutableList.toImmutableList());
+    return new RankedShortFormMatches(
+        record.get("languageRank").asInt(),
+        record.get("score").asDouble(),
+        EntityShortFormMatches.get(owlEntity, shortFormMatches));
+  }
+
   @Nonnull
   public ImmutableMap<DictionaryLanguage, OWLEntity> getEntities(@Nonnull String entityName,
                                                                  @Nonnull ProjectId projectId,
@@ -183,46 +285,36 @@ public class MultiLingualShortFormAccessorImpl implements MultiLingualShortFormA
   private ImmutableMap<DictionaryLanguage, String> getShortForms(@Nonnull OWLEntity owlEntity,
                                                                  @Nonnull ProjectId projectId,
                                                                  @Nonnull BranchId branchId) {
+    var entityIri = owlEntity.getIRI();
+    return getShortFormDictionaries(List.of(entityIri), projectId, branchId)
+        .getOrDefault(entityIri, ImmutableMap.of());
+  }
+
+  @Nonnull
+  @Override
+  public ImmutableMap<IRI, ImmutableMap<DictionaryLanguage, String>> getShortFormDictionaries(@Nonnull Collection<IRI> entityIris,
+                                                                                              @Nonnull ProjectId projectId,
+                                                                                              @Nonnull BranchId branchId) {
+    if (entityIris.isEmpty()) {
+      return ImmutableMap.of();
+    }
     try (var session = driver.session()) {
       return session.readTransaction(tx -> {
-        var dictionary = Maps.<DictionaryLanguage, String>newHashMap();
-        var inputParams = Parameters.forEntityIri(owlEntity.getIRI(), projectId, branchId);
+        var dictionaries = Maps.<IRI, Map<DictionaryLanguage, String>>newHashMap();
+        var inputParams = Parameters.forEntityIris(entityIris, projectId, branchId);
         var result = tx.run(SHORT_FORMS_DICTIONARY_QUERY, inputParams);
         while (result.hasNext()) {
           var row = result.next().asMap();
+          var entityIri = IRI.create((String) row.get("entityIri"));
           var dictLangObject = row.get("dictionaryLanguage");
           var dictLanguage = getDictLanguage(dictLangObject);
           var shortForm = (String) row.get("shortForm");
           if (shortForm != null) {
-            dictionary.put(dictLanguage, shortForm);
+            dictionaries.computeIfAbsent(entityIri, iri -> Maps.newHashMap()).put(dictLanguage, shortForm);
           }
         }
-        return ImmutableMap.copyOf(dictionary);
-      });
-    }
-  }
-
-  @Nonnull
-  private EntityShortFormMatchesDictionary getEntityShortFormMatches(@Nonnull String queryString,
-                                                                     @Nonnull List<SearchString> searchStrings,
-                                                                     @Nonnull ProjectId projectId,
-                                                                     @Nonnull BranchId branchId) {
-    try (var session = driver.session()) {
-      return session.readTransaction(tx -> {
-        var dictionaryBuilder = new EntityShortFormMatchesDictionary.Builder();
-        var inputParams = Parameters.forSearchStrings(searchStrings, projectId, branchId);
-        var result = tx.run(queryString, inputParams);
-        while (result.hasNext()) {
-          var row = result.next().asMap();
-          var entityNode = (Node) row.get("entity");
-          var owlEntity = getOwlEntity(entityNode);
-          var shortForm = (String) row.get("shortForm");
-          var dictLangObject = row.get("dictionaryLanguage");
-          var dictLanguage = getDictLanguage(dictLangObject);
-          var shortFormMatch = getShortFormMatch(owlEntity, shortForm, searchStrings, dictLanguage);
-          dictionaryBuilder.add(dictLanguage, shortFormMatch);
-        }
-        return dictionaryBuilder.build();
+        return dictionaries.entrySet().stream()
+            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> ImmutableMap.copyOf(entry.getValue())));
       });
     }
   }
@@ -252,4 +344,46 @@ public class MultiLingualShortFormAccessorImpl implements MultiLingualShortFormA
   private DictionaryLanguage getDictLanguage(Object dictLangObject) {
     return objectNodeMapper.convertValue(dictLangObject, DictionaryLanguage.class);
   }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getDictLanguageObject(DictionaryLanguage dictLanguage) {
+    return objectNodeMapper.convertValue(dictLanguage, Map.class);
+  }
+
+  private static class RankedShortFormMatches {
+
+    /* The preferred dictionary languages first, then the best scoring matches */
+    private static final Comparator<RankedShortFormMatches> ORDER =
+        Comparator.comparingInt(RankedShortFormMatches::getLanguageRank)
+            .thenComparing(Comparator.comparingDouble(RankedShortFormMatches::getScore).reversed());
+
+    private final int languageRank;
+
+    private final double score;
+
+    @Nonnull
+    private final EntityShortFormMatches entityShortFormMatches;
+
+    private RankedShortFormMatches(int languageRank,
+                                   double score,
+                                   @Nonnull EntityShortFormMatches entityShortFormMatches) {
+      this.languageRank = languageRank;
+      this.score = score;
+      this.entityShortFormMatches = checkNotNull(entityShortFormMatches);
+    }
+
+    public int getLanguageRank() {
+      return languageRank;
+    }
+
+    public double getScore() {
+      return score;
+    }
+
+    @Nonnull
+    public EntityShortFormMatches getEntityShortFormMatches() {
+      return entityShortFormMatches;
+    }
+  }
 }
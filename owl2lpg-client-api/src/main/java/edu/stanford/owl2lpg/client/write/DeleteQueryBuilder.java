@@ -48,6 +48,9 @@ public class DeleteQueryBuilder implements TranslationVisitor {
   @Nonnull
   private final VariableNameGenerator variableNameGenerator;
 
+  @Nonnull
+  private final OrphanCleanup orphanCleanup;
+
   private final Map<Node, String> nodeVariableNameMapping = Maps.newHashMap();
 
   private final Map<Edge, String> edgeVariableNameMapping = Maps.newHashMap();
@@ -57,17 +60,18 @@ public class DeleteQueryBuilder implements TranslationVisitor {
   public DeleteQueryBuilder(@Nonnull ProjectId projectId,
                             @Nonnull BranchId branchId,
                             @Nonnull OntologyDocumentId documentId,
-                            @Nonnull VariableNameGenerator variableNameGenerator) {
+                            @Nonnull VariableNameGenerator variableNameGenerator,
+                            @Nonnull OrphanCleanup orphanCleanup) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentId = checkNotNull(documentId);
     this.variableNameGenerator = checkNotNull(variableNameGenerator);
+    this.orphanCleanup = checkNotNull(orphanCleanup);
   }
 
   @Override
   public void visit(@Nonnull Translation translation) {
-    cypherStrings.add(cypherQueryToDeleteAllEdges(translation));
-    cypherStrings.add(cypherQueryToDeleteOrphanNodes());
+    cypherStrings.add(cypherQueryToDeleteAllEdges(translation) + cypherQueryToCleanUpOrphanNodes());
   }
 
   @Nonnull
@@ -130,9 +134,23 @@ public class DeleteQueryBuilder implements TranslationVisitor {
         .append("]->");
   }
 
+  /*
+   * Only the nodes matched by the removed translation can have lost their
+   * last relationship, so these are the only ones that need checking.
+   */
   @Nonnull
-  private String cypherQueryToDeleteOrphanNodes() {
-    return "MATCH (n) WHERE NOT (n)--() DELETE n";
+  private String cypherQueryToCleanUpOrphanNodes() {
+    var candidateVariables = String.join(",", nodeVariableNameMapping.values());
+    var sb = new StringBuilder();
+    sb.append("WITH DISTINCT ").append(candidateVariables).append("\n")
+        .append("UNWIND [").append(candidateVariables).append("] AS candidate\n")
+        .append("WITH DISTINCT candidate WHERE NOT (candidate)--()\n");
+    if (orphanCleanup == OrphanCleanup.DEFERRED) {
+      sb.append("SET candidate:").append(OrphanNodeCollector.ORPHAN_CANDIDATE_LABEL);
+    } else {
+      sb.append("DELETE candidate");
+    }
+    return sb.toString();
   }
 
   @Nonnull
@@ -165,7 +183,9 @@ public class DeleteQueryBuilder implements TranslationVisitor {
         " {" + ONTOLOGY_DOCUMENT_ID + ":" + documentId.toQuotedString() + "})\n" +
         "MERGE (" + PROJECT_VARIABLE + ")-[" + EdgeLabel.BRANCH.toNeo4jLabel() + "]->" +
         "(" + BRANCH_VARIABLE + ")-[" + EdgeLabel.ONTOLOGY_DOCUMENT.toNeo4jLabel() + "]->" +
-        "(" + DOCUMENT_VARIABLE + ")\n";
+        "(" + DOCUMENT_VARIABLE + ")\n" +
+        /* Cypher needs a WITH between a MERGE and the MATCH after it */
+        "WITH *\n";
   }
 
   @Nonnull
@@ -1,11 +1,14 @@
 package edu.stanford.owl2lpg.client.write;
 
+import com.google.common.collect.ImmutableList;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.summary.SummaryCounters;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -38,4 +41,49 @@ public class GraphWriter {
           tx.run(queryString).consume().counters());
     }
   }
+
+  @Nonnull
+  public SummaryCounters execute(@Nonnull ParameterizedQuery query) {
+    try (var session = driver.session()) {
+      return session.writeTransaction(tx ->
+          tx.run(query.getQueryString(), query.getParameters()).consume().counters());
+    }
+  }
+
+  /**
+   * Runs the given queries in a single write transaction, so that either
+   * all or none of them are committed.
+   */
+  @Nonnull
+  public ImmutableList<SummaryCounters> executeInTransaction(@Nonnull List<ParameterizedQuery> queries) {
+    try (var session = driver.session()) {
+      return session.writeTransaction(tx -> queries.stream()
+          .map(query -> tx.run(query.getQueryString(), query.getParameters()).consume().counters())
+          .collect(ImmutableList.toImmutableList()));
+    }
+  }
+
+  /**
+   * Commits each batch in its own write transaction, one after the other in
+   * the same session. If a transaction fails, the batches before it stay
+   * committed and the ones after it are not run.
+   *
+   * @param batches   The batches to commit
+   * @param committed A callback that gets each committed batch together with
+   *                  the time in nanoseconds that it took to commit
+   */
+  public void executeInTransactions(@Nonnull List<WriteBatch> batches,
+                                    @Nonnull ObjLongConsumer<WriteBatch> committed) {
+    try (var session = driver.session()) {
+      for (var batch : batches) {
+        var queries = batch.build();
+        var start = System.nanoTime();
+        session.writeTransaction(tx -> {
+          queries.forEach(query -> tx.run(query.getQueryString(), query.getParameters()).consume());
+          return queries.size();
+        });
+        committed.accept(batch, System.nanoTime() - start);
+      }
+    }
+  }
 }
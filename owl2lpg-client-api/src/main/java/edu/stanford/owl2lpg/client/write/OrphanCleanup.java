@@ -0,0 +1,21 @@
+package edu.stanford.owl2lpg.client.write;
+
+/**
+ * Specifies what happens to the nodes that are left without any
+ * relationship after a translation has been removed.
+ */
+public enum OrphanCleanup {
+
+  /**
+   * The orphaned nodes are deleted by the same query that removes the
+   * translation.
+   */
+  IMMEDIATE,
+
+  /**
+   * The orphaned nodes are only labelled as candidates, and are deleted
+   * later by an {@link OrphanNodeCollector}. This keeps the removal query
+   * shorter, at the cost of leaving the nodes in the graph until then.
+   */
+  DEFERRED
+}
@@ -0,0 +1,112 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Deletes the nodes that were labelled as orphan candidates when their
+ * translation was removed with {@link OrphanCleanup#DEFERRED}. A candidate
+ * that has been linked again in the meantime only loses the label.
+ * <p>
+ * The candidates are found through the label, so a collection never scans
+ * the rest of the graph. It can be run on demand with {@link #collect()},
+ * or periodically in the background with {@link #start(long, TimeUnit)}.
+ */
+public class OrphanNodeCollector implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrphanNodeCollector.class);
+
+  public static final String ORPHAN_CANDIDATE_LABEL = "OrphanCandidate";
+
+  private static final String BATCH_SIZE = "batchSize";
+
+  private static final String COLLECT_QUERY =
+      "MATCH (n:" + ORPHAN_CANDIDATE_LABEL + ")\n" +
+          "WITH n LIMIT $" + BATCH_SIZE + "\n" +
+          "REMOVE n:" + ORPHAN_CANDIDATE_LABEL + "\n" +
+          "WITH collect(n) AS candidates\n" +
+          "FOREACH (n IN [c IN candidates WHERE NOT (c)--()] | DELETE n)";
+
+  @Nonnull
+  private final GraphWriter graphWriter;
+
+  private final int batchSize;
+
+  private final LongAdder deletedNodeCount = new LongAdder();
+
+  @Nullable
+  private ScheduledExecutorService executor;
+
+  public OrphanNodeCollector(@Nonnull GraphWriter graphWriter, int batchSize) {
+    checkArgument(batchSize > 0, "The batch size must be positive");
+    this.graphWriter = checkNotNull(graphWriter);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Examines all the current candidates, one batch per transaction, until
+   * none are left.
+   *
+   * @return The number of nodes that were deleted.
+   */
+  public synchronized long collect() {
+    var query = ParameterizedQuery.create(COLLECT_QUERY, ImmutableMap.of(BATCH_SIZE, batchSize));
+    long deleted = 0;
+    while (true) {
+      var counters = graphWriter.execute(query);
+      if (counters.labelsRemoved() == 0) {
+        return deleted;
+      }
+      deletedNodeCount.add(counters.nodesDeleted());
+      deleted += counters.nodesDeleted();
+    }
+  }
+
+  /**
+   * Runs {@link #collect()} on a background thread at a fixed delay until
+   * the collector is closed.
+   */
+  public synchronized void start(long delay, @Nonnull TimeUnit unit) {
+    checkState(executor == null, "The collector has already been started");
+    executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("orphan-node-collector-%d")
+        .setDaemon(true)
+        .build());
+    executor.scheduleWithFixedDelay(this::collectQuietly, delay, delay, unit);
+  }
+
+  private void collectQuietly() {
+    try {
+      var deleted = collect();
+      logger.debug("Deleted {} orphan nodes", deleted);
+    } catch (RuntimeException e) {
+      // Keep the schedule alive, the candidates are retried on the next run
+      logger.warn("Could not collect orphan nodes", e);
+    }
+  }
+
+  public long getDeletedNodeCount() {
+    return deletedNodeCount.sum();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A Cypher query string together with the values of its parameters. Keeping
+ * the values out of the query string lets Neo4j reuse the cached plan of
+ * every query that has the same text.
+ */
+@AutoValue
+public abstract class ParameterizedQuery {
+
+  @Nonnull
+  public static ParameterizedQuery create(@Nonnull String queryString,
+                                          @Nonnull ImmutableMap<String, Object> parameters) {
+    return new AutoValue_ParameterizedQuery(queryString, parameters);
+  }
+
+  @Nonnull
+  public abstract String getQueryString();
+
+  @Nonnull
+  public abstract ImmutableMap<String, Object> getParameters();
+}
@@ -7,14 +7,24 @@ import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 public class QueryBuilderFactory {
 
-  @Inject
+  @Nonnull
+  private final OrphanCleanup orphanCleanup;
+
   public QueryBuilderFactory() {
+    this(OrphanCleanup.IMMEDIATE);
+  }
+
+  @Inject
+  public QueryBuilderFactory(@Nonnull OrphanCleanup orphanCleanup) {
+    this.orphanCleanup = checkNotNull(orphanCleanup);
   }
 
   @Nonnull
@@ -24,10 +34,18 @@ public class QueryBuilderFactory {
     return new CreateQueryBuilder(projectId, branchId, documentId, new VariableNameGenerator());
   }
 
+  @Nonnull
+  public UnwindCreateQueryBuilder getUnwindCreateQueryBuilder(@Nonnull ProjectId projectId,
+                                                              @Nonnull BranchId branchId,
+                                                              @Nonnull OntologyDocumentId documentId) {
+    return new UnwindCreateQueryBuilder(projectId, branchId, documentId,
+        new VariableNameGenerator(), new VariableNameGenerator());
+  }
+
   @Nonnull
   public DeleteQueryBuilder getDeleteQueryBuilder(@Nonnull ProjectId projectId,
                                                   @Nonnull BranchId branchId,
                                                   @Nonnull OntologyDocumentId documentId) {
-    return new DeleteQueryBuilder(projectId, branchId, documentId, new VariableNameGenerator());
+    return new DeleteQueryBuilder(projectId, branchId, documentId, new VariableNameGenerator(), orphanCleanup);
   }
 }
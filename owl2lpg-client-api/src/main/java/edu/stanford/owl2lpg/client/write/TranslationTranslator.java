@@ -35,6 +35,20 @@ public class TranslationTranslator {
     return createQueryBuilder.build();
   }
 
+  /**
+   * Translates to a query that is meant to be run for one row of an
+   * {@link UnwindQueryBatch}.
+   */
+  @Nonnull
+  public ParameterizedQuery translateToUnwindCreateQuery(@Nonnull ProjectId projectId,
+                                                         @Nonnull BranchId branchId,
+                                                         @Nonnull OntologyDocumentId documentId,
+                                                         @Nonnull Translation translation) {
+    var createQueryBuilder = queryBuilderFactory.getUnwindCreateQueryBuilder(projectId, branchId, documentId);
+    translation.accept(createQueryBuilder);
+    return createQueryBuilder.build();
+  }
+
   @Nonnull
   public ImmutableList<String> translateToCypherDeleteQuery(@Nonnull ProjectId projectId,
                                                             @Nonnull BranchId branchId,
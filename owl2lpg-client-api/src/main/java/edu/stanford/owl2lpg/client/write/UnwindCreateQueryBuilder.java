@@ -0,0 +1,185 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.model.TranslationVisitor;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static edu.stanford.owl2lpg.client.write.CreateQueryBuilder.BRANCH_VARIABLE;
+import static edu.stanford.owl2lpg.client.write.CreateQueryBuilder.DOCUMENT_VARIABLE;
+import static edu.stanford.owl2lpg.client.write.CreateQueryBuilder.PROJECT_VARIABLE;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.AXIOM;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.IN_ONTOLOGY_SIGNATURE;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.BRANCH;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.PROJECT;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.BRANCH_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.ONTOLOGY_DOCUMENT_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.PROJECT_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.STRUCTURAL_SPEC;
+
+/**
+ * Builds the same graph pattern as {@link CreateQueryBuilder}, but as a
+ * single query that reads every property value from a {@code row} variable
+ * instead of printing it into the query string. The query string only
+ * depends on the shape of the translation (its labels, property keys and
+ * edges), so translations of the same shape can be written together by
+ * {@link UnwindQueryBatch} with one execution of one cached plan.
+ */
+public class UnwindCreateQueryBuilder implements TranslationVisitor {
+
+  public static final String ROW_VARIABLE = "row";
+
+  private static final String PARAMETER_PREFIX = "p";
+
+  @Nonnull
+  private final ProjectId projectId;
+
+  @Nonnull
+  private final BranchId branchId;
+
+  @Nonnull
+  private final OntologyDocumentId documentId;
+
+  @Nonnull
+  private final VariableNameGenerator variableNameGenerator;
+
+  @Nonnull
+  private final VariableNameGenerator parameterNameGenerator;
+
+  private final Map<Node, String> nodeVariableNameMapping = Maps.newHashMap();
+
+  private final StringBuilder queryString = new StringBuilder();
+
+  private final ImmutableMap.Builder<String, Object> row = ImmutableMap.builder();
+
+  private boolean visited = false;
+
+  public UnwindCreateQueryBuilder(@Nonnull ProjectId projectId,
+                                  @Nonnull BranchId branchId,
+                                  @Nonnull OntologyDocumentId documentId,
+                                  @Nonnull VariableNameGenerator variableNameGenerator,
+                                  @Nonnull VariableNameGenerator parameterNameGenerator) {
+    this.projectId = checkNotNull(projectId);
+    this.branchId = checkNotNull(branchId);
+    this.documentId = checkNotNull(documentId);
+    this.variableNameGenerator = checkNotNull(variableNameGenerator);
+    this.parameterNameGenerator = checkNotNull(parameterNameGenerator);
+  }
+
+  @Override
+  public void visit(@Nonnull Translation axiomTranslation) {
+    checkState(!visited, "The builder only accepts a single translation");
+    visited = true;
+    mergeOntologyDocument();
+    axiomTranslation.edges().forEach(this::mergeEdge);
+    axiomTranslation.nodes(ENTITY).distinct().forEach(this::mergeInOntologySignatureEdge);
+    mergeAxiomEdge(axiomTranslation.getMainNode());
+  }
+
+  private void mergeOntologyDocument() {
+    queryString.append("MERGE (").append(PROJECT_VARIABLE).append(PROJECT.toNeo4jLabel())
+        .append(" {").append(PROJECT_ID).append(":").append(rowValue(PROJECT_ID)).append("})\n")
+        .append("MERGE (").append(BRANCH_VARIABLE).append(BRANCH.toNeo4jLabel())
+        .append(" {").append(BRANCH_ID).append(":").append(rowValue(BRANCH_ID)).append("})\n")
+        .append("MERGE (").append(PROJECT_VARIABLE).append(")-[").append(EdgeLabel.BRANCH.toNeo4jLabel())
+        .append("]->(").append(BRANCH_VARIABLE).append(")\n")
+        .append("MERGE (").append(DOCUMENT_VARIABLE).append(ONTOLOGY_DOCUMENT.toNeo4jLabel())
+        .append(" {").append(ONTOLOGY_DOCUMENT_ID).append(":").append(rowValue(ONTOLOGY_DOCUMENT_ID)).append("})\n")
+        .append("MERGE (").append(BRANCH_VARIABLE).append(")-[").append(EdgeLabel.ONTOLOGY_DOCUMENT.toNeo4jLabel())
+        .append("]->(").append(DOCUMENT_VARIABLE).append(")\n");
+    row.put(PROJECT_ID, projectId.getIdentifier());
+    row.put(BRANCH_ID, branchId.getIdentifier());
+    row.put(ONTOLOGY_DOCUMENT_ID, documentId.getIdentifier());
+  }
+
+  private void mergeEdge(@Nonnull Edge edge) {
+    var fromVariable = mergeNode(edge.getFromNode());
+    var toVariable = mergeNode(edge.getToNode());
+    queryString.append("MERGE (").append(fromVariable).append(")-[")
+        .append(edge.printLabel()).append(" ");
+    appendProperties(edge.getProperties());
+    queryString.append("]->(").append(toVariable).append(")\n");
+  }
+
+  private void mergeInOntologySignatureEdge(@Nonnull Node entityNode) {
+    var entityVariable = mergeNode(entityNode);
+    queryString.append("MERGE (").append(entityVariable).append(")-[")
+        .append(IN_ONTOLOGY_SIGNATURE.toNeo4jLabel()).append("]->(")
+        .append(DOCUMENT_VARIABLE).append(")\n");
+  }
+
+  private void mergeAxiomEdge(@Nonnull Node axiomNode) {
+    var axiomVariable = mergeNode(axiomNode);
+    queryString.append("MERGE (").append(DOCUMENT_VARIABLE).append(")-[")
+        .append(AXIOM.toNeo4jLabel()).append(" {").append(STRUCTURAL_SPEC).append(":true}]->(")
+        .append(axiomVariable).append(")\n");
+  }
+
+  /*
+   * Merges the node the first time it is seen and returns the variable
+   * that it is bound to.
+   */
+  @Nonnull
+  private String mergeNode(@Nonnull Node node) {
+    var variableName = nodeVariableNameMapping.get(node);
+    if (variableName == null) {
+      variableName = variableNameGenerator.generate();
+      nodeVariableNameMapping.put(node, variableName);
+      queryString.append("MERGE (").append(variableName).append(node.printLabels()).append(" ");
+      appendProperties(node.getProperties());
+      queryString.append(")\n");
+    }
+    return variableName;
+  }
+
+  /*
+   * Follows Properties.printProperties(), which leaves out empty strings
+   */
+  private void appendProperties(@Nonnull Properties properties) {
+    queryString.append("{");
+    var first = true;
+    for (var entry : properties.getMap().entrySet()) {
+      var value = entry.getValue();
+      if (value instanceof String && ((String) value).isEmpty()) {
+        continue;
+      }
+      if (!first) {
+        queryString.append(",");
+      }
+      var parameterName = parameterNameGenerator.generate(PARAMETER_PREFIX);
+      queryString.append(entry.getKey()).append(":").append(rowValue(parameterName));
+      row.put(parameterName, value);
+      first = false;
+    }
+    queryString.append("}");
+  }
+
+  @Nonnull
+  private static String rowValue(@Nonnull String parameterName) {
+    return ROW_VARIABLE + "." + parameterName;
+  }
+
+  /**
+   * Returns the query to run for each row, together with the values of
+   * this translation's row.
+   */
+  @Nonnull
+  public ParameterizedQuery build() {
+    checkState(visited, "No translation has been visited");
+    return ParameterizedQuery.create(queryString.toString(), row.build());
+  }
+}
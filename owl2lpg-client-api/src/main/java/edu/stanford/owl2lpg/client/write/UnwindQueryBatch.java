@@ -0,0 +1,50 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.write.UnwindCreateQueryBuilder.ROW_VARIABLE;
+
+/**
+ * Collects the per-row queries made by {@link UnwindCreateQueryBuilder} and
+ * groups the rows by query string, so that each distinct query is run once
+ * over all of its rows with an {@code UNWIND} clause.
+ */
+public class UnwindQueryBatch {
+
+  private static final String ROWS_PARAMETER = "rows";
+
+  private final ListMultimap<String, ImmutableMap<String, Object>> rowsByQuery =
+      MultimapBuilder.linkedHashKeys().arrayListValues().build();
+
+  public void add(@Nonnull ParameterizedQuery rowQuery) {
+    checkNotNull(rowQuery);
+    rowsByQuery.put(rowQuery.getQueryString(), rowQuery.getParameters());
+  }
+
+  public int getRowCount() {
+    return rowsByQuery.size();
+  }
+
+  public boolean isEmpty() {
+    return rowsByQuery.isEmpty();
+  }
+
+  /**
+   * Returns one query per distinct row query, in the order in which each
+   * was first added.
+   */
+  @Nonnull
+  public ImmutableList<ParameterizedQuery> build() {
+    return rowsByQuery.keySet().stream()
+        .map(queryString -> ParameterizedQuery.create(
+            "UNWIND $" + ROWS_PARAMETER + " AS " + ROW_VARIABLE + "\n" + queryString,
+            ImmutableMap.of(ROWS_PARAMETER, ImmutableList.copyOf(rowsByQuery.get(queryString)))))
+        .collect(ImmutableList.toImmutableList());
+  }
+}
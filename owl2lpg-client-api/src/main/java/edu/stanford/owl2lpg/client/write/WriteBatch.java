@@ -0,0 +1,73 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects the queries of a number of ontology changes so that they can be
+ * committed in one transaction. The queries keep the order of the changes,
+ * except that the create queries of consecutive changes are merged into
+ * an {@link UnwindQueryBatch}.
+ */
+public class WriteBatch {
+
+  private final List<ParameterizedQuery> queries = Lists.newArrayList();
+
+  private UnwindQueryBatch pendingCreates = new UnwindQueryBatch();
+
+  private int changeCount = 0;
+
+  /**
+   * Adds the change that is written by the given per-row create query (see
+   * {@link TranslationTranslator#translateToUnwindCreateQuery}).
+   */
+  public void addCreate(@Nonnull ParameterizedQuery rowQuery) {
+    pendingCreates.add(checkNotNull(rowQuery));
+    changeCount++;
+  }
+
+  /**
+   * Adds the change that is written by the given Cypher statements, which
+   * are run in order.
+   */
+  public void addStatements(@Nonnull List<String> queryStrings) {
+    flushPendingCreates();
+    queryStrings.forEach(queryString ->
+        queries.add(ParameterizedQuery.create(queryString, ImmutableMap.of())));
+    changeCount++;
+  }
+
+  /**
+   * Adds queries that run after the changes added so far, such as the
+   * maintenance of derived edges, without counting them as a change.
+   */
+  public void addQueries(@Nonnull List<ParameterizedQuery> queries) {
+    if (!queries.isEmpty()) {
+      flushPendingCreates();
+      this.queries.addAll(queries);
+    }
+  }
+
+  private void flushPendingCreates() {
+    if (!pendingCreates.isEmpty()) {
+      queries.addAll(pendingCreates.build());
+      pendingCreates = new UnwindQueryBatch();
+    }
+  }
+
+  public int getChangeCount() {
+    return changeCount;
+  }
+
+  @Nonnull
+  public ImmutableList<ParameterizedQuery> build() {
+    flushPendingCreates();
+    return ImmutableList.copyOf(queries);
+  }
+}
@@ -3,6 +3,8 @@ package edu.stanford.owl2lpg.client.write.handlers;
 import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveAxiomChange;
 
+import edu.stanford.owl2lpg.client.write.WriteBatch;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -14,4 +16,11 @@ public interface AxiomChangeHandler {
   void handle(@Nonnull AddAxiomChange addAxiomChange);
 
   void handle(@Nonnull RemoveAxiomChange removeAxiomChange);
+
+  /**
+   * Adds the queries of the change to the batch instead of running them.
+   */
+  void addToBatch(@Nonnull AddAxiomChange addAxiomChange, @Nonnull WriteBatch batch);
+
+  void addToBatch(@Nonnull RemoveAxiomChange removeAxiomChange, @Nonnull WriteBatch batch);
 }
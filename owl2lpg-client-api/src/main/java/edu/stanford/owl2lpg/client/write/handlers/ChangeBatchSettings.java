@@ -0,0 +1,38 @@
+package edu.stanford.owl2lpg.client.write.handlers;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Specifies how a list of ontology changes is written to the database:
+ * either change by change, or in batches of at most a chunk size of changes,
+ * where each batch is committed in a single transaction.
+ */
+@AutoValue
+public abstract class ChangeBatchSettings {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+  @Nonnull
+  public static ChangeBatchSettings create(boolean batched, int chunkSize) {
+    checkArgument(chunkSize > 0, "The chunk size must be positive");
+    return new AutoValue_ChangeBatchSettings(batched, chunkSize);
+  }
+
+  @Nonnull
+  public static ChangeBatchSettings batched(int chunkSize) {
+    return create(true, chunkSize);
+  }
+
+  @Nonnull
+  public static ChangeBatchSettings unbatched() {
+    return create(false, DEFAULT_CHUNK_SIZE);
+  }
+
+  public abstract boolean isBatched();
+
+  public abstract int getChunkSize();
+}
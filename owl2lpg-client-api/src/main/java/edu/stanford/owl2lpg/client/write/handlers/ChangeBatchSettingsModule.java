@@ -0,0 +1,33 @@
+package edu.stanford.owl2lpg.client.write.handlers;
+
+import dagger.Module;
+import dagger.Provides;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The changes are written change by change unless the component builder is
+ * given a module with other settings, e.g.
+ * {@code .changeBatchSettingsModule(new ChangeBatchSettingsModule(ChangeBatchSettings.batched(1_000)))}.
+ */
+@Module
+public class ChangeBatchSettingsModule {
+
+  @Nonnull
+  private final ChangeBatchSettings batchSettings;
+
+  public ChangeBatchSettingsModule() {
+    this(ChangeBatchSettings.unbatched());
+  }
+
+  public ChangeBatchSettingsModule(@Nonnull ChangeBatchSettings batchSettings) {
+    this.batchSettings = checkNotNull(batchSettings);
+  }
+
+  @Provides
+  public ChangeBatchSettings provideChangeBatchSettings() {
+    return batchSettings;
+  }
+}
@@ -3,6 +3,8 @@ package edu.stanford.owl2lpg.client.write.handlers;
 import edu.stanford.bmir.protege.web.server.change.AddOntologyAnnotationChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveOntologyAnnotationChange;
 
+import edu.stanford.owl2lpg.client.write.WriteBatch;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -14,4 +16,11 @@ public interface OntologyAnnotationChangeHandler {
   void handle(@Nonnull AddOntologyAnnotationChange addOntologyAnnotationChange);
 
   void handle(@Nonnull RemoveOntologyAnnotationChange removeOntologyAnnotationChange);
+
+  /**
+   * Adds the queries of the change to the batch instead of running them.
+   */
+  void addToBatch(@Nonnull AddOntologyAnnotationChange addOntologyAnnotationChange, @Nonnull WriteBatch batch);
+
+  void addToBatch(@Nonnull RemoveOntologyAnnotationChange removeOntologyAnnotationChange, @Nonnull WriteBatch batch);
 }
@@ -4,6 +4,7 @@ import dagger.Component;
 import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
 import edu.stanford.owl2lpg.client.DatabaseModule;
 import edu.stanford.owl2lpg.client.OntologyProjectModule;
+import edu.stanford.owl2lpg.client.write.OrphanNodeCollector;
 import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializerModule;
 
 /**
@@ -22,4 +23,11 @@ public interface OntologyChangeHandlerComponent {
   AxiomChangeHandler getAxiomChangeHandler();
 
   OntologyAnnotationChangeHandler getOntologyAnnotationChangeHandler();
+
+  /**
+   * Returns the collector of the orphan candidates, which runs in the
+   * background when the orphan cleanup is deferred. Close it together with
+   * the project.
+   */
+  OrphanNodeCollector getOrphanNodeCollector();
 }
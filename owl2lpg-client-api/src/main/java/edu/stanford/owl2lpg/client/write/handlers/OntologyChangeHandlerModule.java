@@ -10,7 +10,10 @@ import edu.stanford.owl2lpg.client.write.handlers.impl.OntologyAnnotationChangeH
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-@Module(includes = OntologyObjectTranslatorModule.class)
+@Module(includes = {
+    OntologyObjectTranslatorModule.class,
+    ChangeBatchSettingsModule.class,
+    OrphanCleanupModule.class})
 public abstract class OntologyChangeHandlerModule {
 
   @Binds
@@ -2,6 +2,7 @@ package edu.stanford.owl2lpg.client.write.handlers;
 
 import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
 import edu.stanford.owl2lpg.model.AugmentedEdgeInclusionChecker;
 import edu.stanford.owl2lpg.model.EdgeIdProvider;
@@ -14,10 +15,13 @@ import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.internal.AugmentedEdgeInclusionCheckerImpl;
 import edu.stanford.owl2lpg.translator.internal.DigestEdgeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.EntityTranslationCache;
 import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
 import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
+import edu.stanford.owl2lpg.translator.internal.RawDigestEdgeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
 import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
 import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 import edu.stanford.owl2lpg.translator.visitors.AnnotationObjectVisitor;
 import edu.stanford.owl2lpg.translator.visitors.AnnotationSubjectVisitor;
@@ -41,8 +45,15 @@ import org.semanticweb.owlapi.model.OWLNamedObjectVisitorEx;
 import org.semanticweb.owlapi.model.OWLPropertyExpressionVisitorEx;
 
 import javax.inject.Named;
+import javax.inject.Provider;
 
 /**
+ * The digest ids are computed with MD5 unless the component builder is given
+ * a {@link DigestFunctionModule} with the algorithm of the exported project,
+ * e.g. {@code .digestFunctionModule(new DigestFunctionModule(MURMUR3_128))}.
+ * The node and edge ids are then derived as by the exporter.
+ * The writes to a project exported with another algorithm are refused.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
@@ -51,9 +62,26 @@ import javax.inject.Named;
     BuiltInPrefixDeclarationsModule.class})
 public abstract class OntologyObjectTranslatorModule {
 
-  @Binds
+  /* The mapper lives as long as the project, so it only remembers the most recently used objects */
+  private static final long NODE_ID_MAPPER_MAXIMUM_SIZE = 100_000;
+
+  private static final long ENTITY_TRANSLATION_CACHE_SIZE = 50_000;
+
+  @Provides
   @ProjectSingleton
-  public abstract NodeIdMapper provideNodeIdMapper(NodeIdMapperImpl impl);
+  public static EntityTranslationCache provideEntityTranslationCache() {
+    return new EntityTranslationCache(ENTITY_TRANSLATION_CACHE_SIZE);
+  }
+
+  @Provides
+  @ProjectSingleton
+  public static NodeIdMapper provideNodeIdMapper(@Named("number") NodeIdProvider numberIdProvider,
+                                                 @Named("digest") NodeIdProvider digestIdProvider,
+                                                 IdFormatChecker idFormatChecker,
+                                                 SingleEncounterNodeChecker singleEncounterNodeChecker) {
+    return new NodeIdMapperImpl(numberIdProvider, digestIdProvider,
+        idFormatChecker, singleEncounterNodeChecker, NODE_ID_MAPPER_MAXIMUM_SIZE);
+  }
 
   @Binds
   @Named("number")
@@ -75,10 +103,15 @@ public abstract class OntologyObjectTranslatorModule {
   public abstract SingleEncounterNodeChecker
   provideNodeObjectCheckerForSingleEncounter(SingleEncounterNodeCheckerImpl impl);
 
-  @Binds
+  /* The same choice as EdgeFactoryModule, so that the edge ids match the exported ones */
+  @Provides
   @ProjectSingleton
-  public abstract EdgeIdProvider
-  provideEdgeIdProvider(DigestEdgeIdProvider impl);
+  public static EdgeIdProvider
+  provideEdgeIdProvider(DigestAlgorithm digestAlgorithm,
+                        Provider<DigestEdgeIdProvider> stringEncodedProvider,
+                        Provider<RawDigestEdgeIdProvider> rawProvider) {
+    return digestAlgorithm.isStringEncodedEdgeIds() ? stringEncodedProvider.get() : rawProvider.get();
+  }
 
   @Binds
   public abstract AugmentedEdgeInclusionChecker
@@ -0,0 +1,70 @@
+package edu.stanford.owl2lpg.client.write.handlers;
+
+import dagger.Module;
+import dagger.Provides;
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.OrphanCleanup;
+import edu.stanford.owl2lpg.client.write.OrphanNodeCollector;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The orphaned nodes are deleted by the removal itself unless the component
+ * builder is given a module with deferred cleanup, e.g.
+ * {@code .orphanCleanupModule(new OrphanCleanupModule(OrphanCleanup.DEFERRED))}.
+ * The {@link OrphanNodeCollector} then collects the candidates in the
+ * background from its first request until it is closed.
+ */
+@Module
+public class OrphanCleanupModule {
+
+  public static final Duration DEFAULT_COLLECTION_INTERVAL = Duration.ofMinutes(1);
+
+  public static final int DEFAULT_COLLECTION_BATCH_SIZE = 10_000;
+
+  @Nonnull
+  private final OrphanCleanup orphanCleanup;
+
+  @Nonnull
+  private final Duration collectionInterval;
+
+  public OrphanCleanupModule() {
+    this(OrphanCleanup.IMMEDIATE);
+  }
+
+  public OrphanCleanupModule(@Nonnull OrphanCleanup orphanCleanup) {
+    this(orphanCleanup, DEFAULT_COLLECTION_INTERVAL);
+  }
+
+  /**
+   * @param collectionInterval The delay between two background collections
+   *                           of the candidates, with deferred cleanup.
+   */
+  public OrphanCleanupModule(@Nonnull OrphanCleanup orphanCleanup, @Nonnull Duration collectionInterval) {
+    checkArgument(!collectionInterval.isNegative() && !collectionInterval.isZero(),
+        "The collection interval must be positive");
+    this.orphanCleanup = checkNotNull(orphanCleanup);
+    this.collectionInterval = collectionInterval;
+  }
+
+  @Provides
+  public OrphanCleanup provideOrphanCleanup() {
+    return orphanCleanup;
+  }
+
+  @Provides
+  @ProjectSingleton
+  public OrphanNodeCollector provideOrphanNodeCollector(GraphWriter graphWriter) {
+    var collector = new OrphanNodeCollector(graphWriter, DEFAULT_COLLECTION_BATCH_SIZE);
+    if (orphanCleanup == OrphanCleanup.DEFERRED) {
+      collector.start(collectionInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return collector;
+  }
+}
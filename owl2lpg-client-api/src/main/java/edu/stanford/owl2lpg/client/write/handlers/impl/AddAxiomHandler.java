@@ -1,7 +1,11 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimap;
 import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.ParameterizedQuery;
 import edu.stanford.owl2lpg.client.write.TranslationTranslator;
+import edu.stanford.owl2lpg.client.write.UnwindQueryBatch;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
@@ -41,8 +45,40 @@ public class AddAxiomHandler {
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId documentId,
                      @Nonnull OWLAxiom axiom) {
+    handle(projectId, branchId, ImmutableListMultimap.of(documentId, axiom));
+  }
+
+  /**
+   * Writes all the given axioms in a single transaction. The axioms are
+   * grouped by the shape of their translation, so that each group is
+   * written by one parameterized query.
+   *
+   * @param projectId The project
+   * @param branchId  The branch
+   * @param axioms    The axioms to add, keyed by the ontology document that
+   *                  they are added to
+   */
+  public void handle(@Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull Multimap<OntologyDocumentId, OWLAxiom> axioms) {
+    var batch = new UnwindQueryBatch();
+    axioms.forEach((documentId, axiom) ->
+        batch.add(translateToQuery(projectId, branchId, documentId, axiom)));
+    if (!batch.isEmpty()) {
+      graphWriter.executeInTransaction(batch.build());
+    }
+  }
+
+  /**
+   * Translates the axiom to the per-row query that adds it, without running
+   * the query.
+   */
+  @Nonnull
+  public ParameterizedQuery translateToQuery(@Nonnull ProjectId projectId,
+                                             @Nonnull BranchId branchId,
+                                             @Nonnull OntologyDocumentId documentId,
+                                             @Nonnull OWLAxiom axiom) {
     var translation = axiomTranslator.translate(axiom);
-    var createQuery = translationTranslator.translateToCypherCreateQuery(projectId, branchId, documentId, translation);
-    createQuery.forEach(graphWriter::execute);
+    return translationTranslator.translateToUnwindCreateQuery(projectId, branchId, documentId, translation);
   }
 }
@@ -1,6 +1,7 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
 import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.ParameterizedQuery;
 import edu.stanford.owl2lpg.client.write.TranslationTranslator;
 import edu.stanford.owl2lpg.translator.AnnotationObjectTranslator;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -45,4 +46,17 @@ public class AddOntologyAnnotationHandler {
     var createQuery = translationTranslator.translateToCypherCreateQuery(projectId, branchId, documentId, translation);
     createQuery.forEach(graphWriter::execute);
   }
+
+  /**
+   * Translates the annotation to the per-row query that adds it, without
+   * running the query.
+   */
+  @Nonnull
+  public ParameterizedQuery translateToQuery(@Nonnull ProjectId projectId,
+                                             @Nonnull BranchId branchId,
+                                             @Nonnull OntologyDocumentId documentId,
+                                             @Nonnull OWLAnnotation annotation) {
+    var translation = annotationTranslator.translate(annotation);
+    return translationTranslator.translateToUnwindCreateQuery(projectId, branchId, documentId, translation);
+  }
 }
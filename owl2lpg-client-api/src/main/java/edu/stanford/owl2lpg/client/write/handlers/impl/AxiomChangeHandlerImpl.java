@@ -4,6 +4,9 @@ import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
 import edu.stanford.bmir.protege.web.server.change.AxiomChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveAxiomChange;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.ParameterizedQuery;
+import edu.stanford.owl2lpg.client.write.WriteBatch;
 import edu.stanford.owl2lpg.client.write.handlers.AxiomChangeHandler;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
@@ -11,6 +14,7 @@ import edu.stanford.owl2lpg.translator.shared.ProjectId;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -35,31 +39,74 @@ public class AxiomChangeHandlerImpl implements AxiomChangeHandler {
   @Nonnull
   private final RemoveAxiomHandler removeAxiomHandler;
 
+  @Nonnull
+  private final ClassAncestorIndexUpdater classAncestorIndexUpdater;
+
+  @Nonnull
+  private final GraphWriter graphWriter;
+
+  @Nonnull
+  private final DigestAlgorithmChecker digestAlgorithmChecker;
+
   @Inject
   public AxiomChangeHandlerImpl(@Nonnull ProjectId projectId,
                                 @Nonnull BranchId branchId,
                                 @Nonnull DocumentIdMap documentIdMap,
                                 @Nonnull AddAxiomHandler addAxiomHandler,
-                                @Nonnull RemoveAxiomHandler removeAxiomHandler) {
+                                @Nonnull RemoveAxiomHandler removeAxiomHandler,
+                                @Nonnull ClassAncestorIndexUpdater classAncestorIndexUpdater,
+                                @Nonnull GraphWriter graphWriter,
+                                @Nonnull DigestAlgorithmChecker digestAlgorithmChecker) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
     this.addAxiomHandler = checkNotNull(addAxiomHandler);
     this.removeAxiomHandler = checkNotNull(removeAxiomHandler);
+    this.classAncestorIndexUpdater = checkNotNull(classAncestorIndexUpdater);
+    this.graphWriter = checkNotNull(graphWriter);
+    this.digestAlgorithmChecker = checkNotNull(digestAlgorithmChecker);
   }
 
   @Override
   public void handle(@Nonnull AddAxiomChange addAxiomChange) {
+    digestAlgorithmChecker.check(projectId);
     var documentId = getOntDocIdFromChange(addAxiomChange);
     var axiom = addAxiomChange.getAxiom();
     addAxiomHandler.handle(projectId, branchId, documentId, axiom);
+    executeInTransaction(classAncestorIndexUpdater.getQueriesForAddedAxiom(projectId, branchId, axiom));
   }
 
   @Override
   public void handle(@Nonnull RemoveAxiomChange removeAxiomChange) {
+    digestAlgorithmChecker.check(projectId);
     var documentId = getOntDocIdFromChange(removeAxiomChange);
     var axiom = removeAxiomChange.getAxiom();
     removeAxiomHandler.handle(projectId, branchId, documentId, axiom);
+    executeInTransaction(classAncestorIndexUpdater.getQueriesForRemovedAxiom(projectId, branchId, axiom));
+  }
+
+  @Override
+  public void addToBatch(@Nonnull AddAxiomChange addAxiomChange, @Nonnull WriteBatch batch) {
+    digestAlgorithmChecker.check(projectId);
+    var documentId = getOntDocIdFromChange(addAxiomChange);
+    var axiom = addAxiomChange.getAxiom();
+    batch.addCreate(addAxiomHandler.translateToQuery(projectId, branchId, documentId, axiom));
+    batch.addQueries(classAncestorIndexUpdater.getQueriesForAddedAxiom(projectId, branchId, axiom));
+  }
+
+  @Override
+  public void addToBatch(@Nonnull RemoveAxiomChange removeAxiomChange, @Nonnull WriteBatch batch) {
+    digestAlgorithmChecker.check(projectId);
+    var documentId = getOntDocIdFromChange(removeAxiomChange);
+    var axiom = removeAxiomChange.getAxiom();
+    batch.addStatements(removeAxiomHandler.translateToQueries(projectId, branchId, documentId, axiom));
+    batch.addQueries(classAncestorIndexUpdater.getQueriesForRemovedAxiom(projectId, branchId, axiom));
+  }
+
+  private void executeInTransaction(@Nonnull List<ParameterizedQuery> queries) {
+    if (!queries.isEmpty()) {
+      graphWriter.executeInTransaction(queries);
+    }
   }
 
   @Nonnull
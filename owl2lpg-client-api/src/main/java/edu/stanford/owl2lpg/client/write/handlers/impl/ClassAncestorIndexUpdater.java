@@ -0,0 +1,153 @@
+package edu.stanford.owl2lpg.client.write.handlers.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.client.read.hierarchy.ClassAncestorIndex;
+import edu.stanford.owl2lpg.client.write.ParameterizedQuery;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.List;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
+
+/**
+ * Keeps the ANCESTOR edges of the class hierarchy in step with the added and
+ * removed SubClassOf and EquivalentClasses axioms. Only the SUB_CLASS_OF
+ * edges between named classes are indexed. An added edge links the subclass
+ * and its descendants to the superclass and its ancestors. A removed edge
+ * does not tell which ancestors are still reachable through another path,
+ * so the ancestors of the subclass and its descendants are rebuilt: every
+ * affected class collects the affected classes it reaches through
+ * SUB_CLASS_OF edges among themselves, plus the first unaffected parents
+ * along the way and their ANCESTOR edges, which the removal left intact.
+ * The affected classes are marked with a label while they are rebuilt, so
+ * that no query enumerates the paths between them. The marks carry a token
+ * of their own for each removal, and the recompute queries must run in one
+ * transaction, so that a failed or concurrent removal never leaves or picks
+ * up another removal's marks.
+ * <p>
+ * Nothing is written when the branch was exported without the ANCESTOR
+ * edges, so that a partial index is never mistaken for a complete one by
+ * the readers.
+ */
+public class ClassAncestorIndexUpdater {
+
+  private static final String CLASS_ANCESTOR_ADD_QUERY_FILE = "write/hierarchy/class-ancestor-add.cpy";
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_MARK_QUERY_FILE = "write/hierarchy/class-ancestor-recompute-mark.cpy";
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_LINK_QUERY_FILE = "write/hierarchy/class-ancestor-recompute-link.cpy";
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_REBUILD_QUERY_FILE = "write/hierarchy/class-ancestor-recompute-rebuild.cpy";
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_CLEAR_QUERY_FILE = "write/hierarchy/class-ancestor-recompute-clear.cpy";
+
+  private static final String CLASS_ANCESTOR_ADD_QUERY = read(CLASS_ANCESTOR_ADD_QUERY_FILE);
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_MARK_QUERY = read(CLASS_ANCESTOR_RECOMPUTE_MARK_QUERY_FILE);
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_LINK_QUERY = read(CLASS_ANCESTOR_RECOMPUTE_LINK_QUERY_FILE);
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_REBUILD_QUERY = read(CLASS_ANCESTOR_RECOMPUTE_REBUILD_QUERY_FILE);
+
+  private static final String CLASS_ANCESTOR_RECOMPUTE_CLEAR_QUERY = read(CLASS_ANCESTOR_RECOMPUTE_CLEAR_QUERY_FILE);
+
+  private static final String SUB_CLASS_IRI = "subClassIri";
+
+  private static final String SUPER_CLASS_IRI = "superClassIri";
+
+  private static final String CLASS_IRIS = "classIris";
+
+  private static final String RECOMPUTE_TOKEN = "recomputeToken";
+
+  @Nonnull
+  private final ClassAncestorIndex classAncestorIndex;
+
+  @Inject
+  public ClassAncestorIndexUpdater(@Nonnull ClassAncestorIndex classAncestorIndex) {
+    this.classAncestorIndex = checkNotNull(classAncestorIndex);
+  }
+
+  /**
+   * Gets the queries that update the ANCESTOR edges after the given axiom
+   * has been added. The queries must run after the axiom is written.
+   */
+  @Nonnull
+  public ImmutableList<ParameterizedQuery> getQueriesForAddedAxiom(@Nonnull ProjectId projectId,
+                                                                   @Nonnull BranchId branchId,
+                                                                   @Nonnull OWLAxiom axiom) {
+    var subClassEdges = getSubClassEdges(axiom);
+    if (subClassEdges.isEmpty() || !classAncestorIndex.isPresent(projectId, branchId)) {
+      return ImmutableList.of();
+    }
+    return subClassEdges.stream()
+        .map(edge -> ParameterizedQuery.create(CLASS_ANCESTOR_ADD_QUERY, ImmutableMap.of(
+            SUB_CLASS_IRI, edge.get(0).getIRI().toString(),
+            SUPER_CLASS_IRI, edge.get(1).getIRI().toString())))
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Gets the queries that update the ANCESTOR edges after the given axiom
+   * has been removed. The queries must run after the axiom is deleted, and
+   * in a single transaction.
+   */
+  @Nonnull
+  public ImmutableList<ParameterizedQuery> getQueriesForRemovedAxiom(@Nonnull ProjectId projectId,
+                                                                     @Nonnull BranchId branchId,
+                                                                     @Nonnull OWLAxiom axiom) {
+    var subClassEdges = getSubClassEdges(axiom);
+    if (subClassEdges.isEmpty() || !classAncestorIndex.isPresent(projectId, branchId)) {
+      return ImmutableList.of();
+    }
+    var classIris = subClassEdges.stream()
+        .map(edge -> edge.get(0).getIRI().toString())
+        .distinct()
+        .collect(ImmutableList.toImmutableList());
+    var recomputeToken = UUID.randomUUID().toString();
+    return ImmutableList.of(
+        ParameterizedQuery.create(CLASS_ANCESTOR_RECOMPUTE_MARK_QUERY, ImmutableMap.of(
+            CLASS_IRIS, classIris,
+            RECOMPUTE_TOKEN, recomputeToken)),
+        ParameterizedQuery.create(CLASS_ANCESTOR_RECOMPUTE_LINK_QUERY, ImmutableMap.of(RECOMPUTE_TOKEN, recomputeToken)),
+        ParameterizedQuery.create(CLASS_ANCESTOR_RECOMPUTE_REBUILD_QUERY, ImmutableMap.of(RECOMPUTE_TOKEN, recomputeToken)),
+        ParameterizedQuery.create(CLASS_ANCESTOR_RECOMPUTE_CLEAR_QUERY, ImmutableMap.of(RECOMPUTE_TOKEN, recomputeToken)));
+  }
+
+  /*
+   * The SUB_CLASS_OF edges between named classes that are written by the
+   * axiom, each as a list of the subclass and the superclass
+   */
+  @Nonnull
+  private static ImmutableList<List<OWLClass>> getSubClassEdges(OWLAxiom axiom) {
+    if (axiom instanceof OWLSubClassOfAxiom) {
+      var subClass = ((OWLSubClassOfAxiom) axiom).getSubClass();
+      var superClass = ((OWLSubClassOfAxiom) axiom).getSuperClass();
+      if (subClass.isAnonymous() || superClass.isAnonymous()) {
+        return ImmutableList.of();
+      }
+      return ImmutableList.of(List.of(subClass.asOWLClass(), superClass.asOWLClass()));
+    } else if (axiom instanceof OWLEquivalentClassesAxiom) {
+      var classes = ((OWLEquivalentClassesAxiom) axiom).getNamedClasses();
+      var subClassEdges = ImmutableList.<List<OWLClass>>builder();
+      for (var subClass : classes) {
+        for (var superClass : classes) {
+          if (!subClass.equals(superClass)) {
+            subClassEdges.add(List.of(subClass, superClass));
+          }
+        }
+      }
+      return subClassEdges.build();
+    }
+    return ImmutableList.of();
+  }
+}
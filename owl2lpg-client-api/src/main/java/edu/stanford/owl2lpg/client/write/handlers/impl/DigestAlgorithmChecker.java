@@ -0,0 +1,74 @@
+package edu.stanford.owl2lpg.client.write.handlers.impl;
+
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import edu.stanford.owl2lpg.client.read.GraphReader;
+import edu.stanford.owl2lpg.client.read.Parameters;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST_ALGORITHM;
+
+/**
+ * Refuses to write to a project whose digest ids were computed with another
+ * algorithm than the one of this client. The ids of the two algorithms never
+ * match, so the writes would duplicate the entities and literals of the
+ * project instead of linking to them. The exporter records the algorithm on
+ * the Project node; a project without it was exported with MD5. A project
+ * that is not in the database yet is written with the algorithm of this
+ * client.
+ * <p>
+ * The algorithm of the client is set by the
+ * {@link edu.stanford.owl2lpg.translator.shared.DigestFunctionModule} given
+ * to the component builder, and is MD5 by default.
+ */
+@ProjectSingleton
+public class DigestAlgorithmChecker {
+
+  private static final String PROJECT_QUERY_FILE = "read/project/project-by-id.cpy";
+
+  private static final String PROJECT_QUERY = read(PROJECT_QUERY_FILE);
+
+  @Nonnull
+  private final GraphReader graphReader;
+
+  @Nonnull
+  private final DigestAlgorithm digestAlgorithm;
+
+  private volatile boolean checked = false;
+
+  @Inject
+  public DigestAlgorithmChecker(@Nonnull GraphReader graphReader,
+                                @Nonnull DigestAlgorithm digestAlgorithm) {
+    this.graphReader = checkNotNull(graphReader);
+    this.digestAlgorithm = checkNotNull(digestAlgorithm);
+  }
+
+  /**
+   * Checks that the given project was exported with the digest algorithm of
+   * this client. The project is read from the database on the first call
+   * only.
+   *
+   * @throws IllegalStateException if the project uses another algorithm.
+   */
+  public void check(@Nonnull ProjectId projectId) {
+    if (checked) {
+      return;
+    }
+    for (var projectNode : graphReader.getNodes(PROJECT_QUERY, Parameters.forProject(projectId))) {
+      var projectAlgorithm = projectNode.get(DIGEST_ALGORITHM).isNull()
+          ? DigestAlgorithm.MD5.name()
+          : projectNode.get(DIGEST_ALGORITHM).asString();
+      if (!digestAlgorithm.name().equals(projectAlgorithm)) {
+        throw new IllegalStateException(String.format(
+            "Project %s was exported with the %s digest algorithm, but this client uses %s",
+            projectId.getIdentifier(), projectAlgorithm, digestAlgorithm));
+      }
+    }
+    checked = true;
+  }
+}
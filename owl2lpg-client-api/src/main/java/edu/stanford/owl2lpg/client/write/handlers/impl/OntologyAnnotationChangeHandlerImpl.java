@@ -4,6 +4,7 @@ import edu.stanford.bmir.protege.web.server.change.AddOntologyAnnotationChange;
 import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveOntologyAnnotationChange;
 import edu.stanford.owl2lpg.client.DocumentIdMap;
+import edu.stanford.owl2lpg.client.write.WriteBatch;
 import edu.stanford.owl2lpg.client.write.handlers.OntologyAnnotationChangeHandler;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
@@ -35,21 +36,27 @@ public class OntologyAnnotationChangeHandlerImpl implements OntologyAnnotationCh
   @Nonnull
   private final RemoveOntologyAnnotationHandler removeOntologyAnnotationHandler;
 
+  @Nonnull
+  private final DigestAlgorithmChecker digestAlgorithmChecker;
+
   @Inject
   public OntologyAnnotationChangeHandlerImpl(@Nonnull ProjectId projectId,
                                              @Nonnull BranchId branchId,
                                              @Nonnull DocumentIdMap documentIdMap,
                                              @Nonnull AddOntologyAnnotationHandler addOntologyAnnotationHandler,
-                                             @Nonnull RemoveOntologyAnnotationHandler removeOntologyAnnotationHandler) {
+                                             @Nonnull RemoveOntologyAnnotationHandler removeOntologyAnnotationHandler,
+                                             @Nonnull DigestAlgorithmChecker digestAlgorithmChecker) {
     this.projectId = checkNotNull(projectId);
     this.branchId = checkNotNull(branchId);
     this.documentIdMap = checkNotNull(documentIdMap);
     this.addOntologyAnnotationHandler = checkNotNull(addOntologyAnnotationHandler);
     this.removeOntologyAnnotationHandler = checkNotNull(removeOntologyAnnotationHandler);
+    this.digestAlgorithmChecker = checkNotNull(digestAlgorithmChecker);
   }
 
   @Override
   public void handle(@Nonnull AddOntologyAnnotationChange addOntologyAnnotationChange) {
+    digestAlgorithmChecker.check(projectId);
     var documentId = getOntDocIdFromChange(addOntologyAnnotationChange);
     var annotation = addOntologyAnnotationChange.getAnnotation();
     addOntologyAnnotationHandler.handle(projectId, branchId, documentId, annotation);
@@ -57,11 +64,30 @@ public class OntologyAnnotationChangeHandlerImpl implements OntologyAnnotationCh
 
   @Override
   public void handle(@Nonnull RemoveOntologyAnnotationChange removeOntologyAnnotationChange) {
+    digestAlgorithmChecker.check(projectId);
     var documentId = getOntDocIdFromChange(removeOntologyAnnotationChange);
     var annotation = removeOntologyAnnotationChange.getAnnotation();
     removeOntologyAnnotationHandler.handle(projectId, branchId, documentId, annotation);
   }
 
+  @Override
+  public void addToBatch(@Nonnull AddOntologyAnnotationChange addOntologyAnnotationChange,
+                         @Nonnull WriteBatch batch) {
+    digestAlgorithmChecker.check(projectId);
+    var documentId = getOntDocIdFromChange(addOntologyAnnotationChange);
+    var annotation = addOntologyAnnotationChange.getAnnotation();
+    batch.addCreate(addOntologyAnnotationHandler.translateToQuery(projectId, branchId, documentId, annotation));
+  }
+
+  @Override
+  public void addToBatch(@Nonnull RemoveOntologyAnnotationChange removeOntologyAnnotationChange,
+                         @Nonnull WriteBatch batch) {
+    digestAlgorithmChecker.check(projectId);
+    var documentId = getOntDocIdFromChange(removeOntologyAnnotationChange);
+    var annotation = removeOntologyAnnotationChange.getAnnotation();
+    batch.addStatements(removeOntologyAnnotationHandler.translateToQueries(projectId, branchId, documentId, annotation));
+  }
+
   @Nonnull
   private OntologyDocumentId getOntDocIdFromChange(@Nonnull OntologyChange ontologyChange) {
     var ontologyId = ontologyChange.getOntologyId();
@@ -1,5 +1,6 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
+import com.google.common.collect.ImmutableList;
 import edu.stanford.owl2lpg.client.write.GraphWriter;
 import edu.stanford.owl2lpg.client.write.TranslationTranslator;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
@@ -41,8 +42,20 @@ public class RemoveAxiomHandler {
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId documentId,
                      @Nonnull OWLAxiom axiom) {
-    var translation = axiomTranslator.translate(axiom);
-    var deleteQuery = translationTranslator.translateToCypherDeleteQuery(projectId, branchId, documentId, translation);
+    var deleteQuery = translateToQueries(projectId, branchId, documentId, axiom);
     deleteQuery.forEach(graphWriter::execute);
   }
+
+  /**
+   * Translates the axiom to the queries that remove it, without
+   * running them.
+   */
+  @Nonnull
+  public ImmutableList<String> translateToQueries(@Nonnull ProjectId projectId,
+                                                  @Nonnull BranchId branchId,
+                                                  @Nonnull OntologyDocumentId documentId,
+                                                  @Nonnull OWLAxiom axiom) {
+    var translation = axiomTranslator.translate(axiom);
+    return translationTranslator.translateToCypherDeleteQuery(projectId, branchId, documentId, translation);
+  }
 }
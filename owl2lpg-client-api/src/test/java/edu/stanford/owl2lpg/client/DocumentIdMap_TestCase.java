@@ -0,0 +1,188 @@
+package edu.stanford.owl2lpg.client;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Uninterruptibles;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentIdMap_TestCase {
+
+  private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+  private final ProjectId projectId = ProjectId.create();
+
+  private final OWLOntologyID ontologyIdA = new OWLOntologyID(
+      Optional.of(IRI.create("http://example.org/A")), Optional.absent());
+
+  private final OWLOntologyID ontologyIdB = new OWLOntologyID(
+      Optional.of(IRI.create("http://example.org/B")), Optional.absent());
+
+  private final OntologyDocumentId documentIdA = OntologyDocumentId.create();
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  /* Run once by the next read of the ticker */
+  private final AtomicReference<Runnable> onNextTickerRead = new AtomicReference<>();
+
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      var action = onNextTickerRead.getAndSet(null);
+      if (action != null) {
+        action.run();
+      }
+      return nanos.get();
+    }
+  };
+
+  private DocumentIdMap documentIdMap;
+
+  @BeforeEach
+  void setUp() {
+    documentIdMap = new DocumentIdMap(countingLoader(Map.of(ontologyIdA, documentIdA)), TIME_TO_LIVE, ticker);
+  }
+
+  @Test
+  void shouldLoadProjectOnlyOnce() {
+    assertEquals(documentIdA, documentIdMap.get(projectId, ontologyIdA));
+    assertEquals(documentIdA, documentIdMap.get(projectId, ontologyIdA));
+    assertEquals(1, documentIdMap.get(projectId).size());
+    assertEquals(1, loadCount.get());
+    assertEquals(2, documentIdMap.getStats().getHitCount());
+    assertEquals(1, documentIdMap.getStats().getLoadCount());
+  }
+
+  @Test
+  void shouldLoadOnceForConcurrentCallers() throws Exception {
+    var loadStarted = new CountDownLatch(1);
+    var loadReleased = new CountDownLatch(1);
+    var blockingMap = new DocumentIdMap(projectId -> {
+      loadCount.incrementAndGet();
+      loadStarted.countDown();
+      Uninterruptibles.awaitUninterruptibly(loadReleased);
+      return Map.of(ontologyIdA, documentIdA);
+    }, TIME_TO_LIVE, ticker);
+    var callerCount = 4;
+    var executor = Executors.newFixedThreadPool(callerCount);
+    try {
+      var futures = new ArrayList<Future<OntologyDocumentId>>();
+      futures.add(executor.submit(() -> blockingMap.get(projectId, ontologyIdA)));
+      assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+      for (int i = 1; i < callerCount; i++) {
+        futures.add(executor.submit(() -> blockingMap.get(projectId, ontologyIdA)));
+      }
+      while (blockingMap.getStats().getWaitCount() < callerCount - 1) {
+        Thread.sleep(10);
+      }
+      loadReleased.countDown();
+      for (var future : futures) {
+        assertEquals(documentIdA, future.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  void shouldReloadAfterTimeToLive() {
+    documentIdMap.get(projectId);
+    nanos.addAndGet(TIME_TO_LIVE.toNanos());
+    documentIdMap.get(projectId);
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  void shouldReloadAfterInvalidation() {
+    documentIdMap.get(projectId);
+    documentIdMap.invalidate(projectId);
+    documentIdMap.get(projectId);
+    assertEquals(2, loadCount.get());
+    assertEquals(1, documentIdMap.getStats().getInvalidationCount());
+  }
+
+  @Test
+  void shouldKeepCreatedDocumentIdsAcrossReloads() {
+    var documentIdB = documentIdMap.get(projectId, ontologyIdB);
+    assertNotEquals(documentIdA, documentIdB);
+    documentIdMap.invalidateAll();
+    assertEquals(documentIdB, documentIdMap.get(projectId, ontologyIdB));
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  void shouldKeepDocumentIdsCreatedThroughAnOlderGeneration() {
+    documentIdMap.get(projectId);
+    /* The lookup below checks the expiry of the loaded generation while a newer one is loaded */
+    onNextTickerRead.set(() -> {
+      documentIdMap.invalidate(projectId);
+      documentIdMap.get(projectId);
+    });
+    var documentIdB = documentIdMap.get(projectId, ontologyIdB);
+    assertEquals(2, loadCount.get());
+    assertEquals(documentIdB, documentIdMap.get(projectId, ontologyIdB));
+    documentIdMap.invalidate(projectId);
+    assertEquals(documentIdB, documentIdMap.get(projectId, ontologyIdB));
+  }
+
+  @Test
+  void shouldRetryFailedLoad() {
+    var failingMap = new DocumentIdMap(projectId -> {
+      if (loadCount.incrementAndGet() == 1) {
+        throw new IllegalStateException("Database unavailable");
+      }
+      return Map.of(ontologyIdA, documentIdA);
+    }, TIME_TO_LIVE, ticker);
+    assertThrows(IllegalStateException.class, () -> failingMap.get(projectId));
+    assertEquals(documentIdA, failingMap.get(projectId, ontologyIdA));
+    assertEquals(1, failingMap.getStats().getLoadFailureCount());
+  }
+
+  @Test
+  void shouldKeepCreatedDocumentIdsAcrossFailedReload() {
+    var failingMap = new DocumentIdMap(projectId -> {
+      if (loadCount.incrementAndGet() == 2) {
+        throw new IllegalStateException("Database unavailable");
+      }
+      return Map.of(ontologyIdA, documentIdA);
+    }, TIME_TO_LIVE, ticker);
+    var documentIdB = failingMap.get(projectId, ontologyIdB);
+    failingMap.invalidateAll();
+    assertThrows(IllegalStateException.class, () -> failingMap.get(projectId));
+    assertEquals(documentIdB, failingMap.get(projectId, ontologyIdB));
+    assertEquals(3, loadCount.get());
+  }
+
+  private Function<ProjectId, Map<OWLOntologyID, OntologyDocumentId>> countingLoader(
+      Map<OWLOntologyID, OntologyDocumentId> documents) {
+    return projectId -> {
+      loadCount.incrementAndGet();
+      return documents;
+    };
+  }
+
+}
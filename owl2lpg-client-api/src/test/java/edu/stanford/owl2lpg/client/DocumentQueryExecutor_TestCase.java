@@ -0,0 +1,133 @@
+package edu.stanford.owl2lpg.client;
+
+import com.google.common.collect.ImmutableSet;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentQueryExecutor_TestCase {
+
+  private static final int CONCURRENCY_LIMIT = 4;
+
+  private static final long QUERY_MILLIS = 200;
+
+  private final List<OntologyDocumentId> documentIds = IntStream.range(0, CONCURRENCY_LIMIT)
+      .mapToObj(i -> OntologyDocumentId.create())
+      .collect(Collectors.toList());
+
+  private DocumentQueryExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new DocumentQueryExecutor(CONCURRENCY_LIMIT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void shouldMergeResultsOfAllDocuments() {
+    var results = executor.collectSet(documentIds, "test", documentId -> List.of(documentId, "shared"));
+    assertEquals(documentIds.size() + 1, results.size());
+    assertTrue(results.containsAll(documentIds));
+  }
+
+  @Test
+  void shouldKeepDocumentOrderInLists() {
+    var results = executor.collectList(documentIds, "test", documentId -> List.of(documentId));
+    assertEquals(documentIds, results);
+  }
+
+  @Test
+  void shouldRunDocumentsConcurrently() {
+    var start = System.nanoTime();
+    executor.collectSet(documentIds, "test", documentId -> {
+      sleep(QUERY_MILLIS);
+      return ImmutableSet.of();
+    });
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    assertTrue(elapsedMillis < QUERY_MILLIS * documentIds.size(), "Took " + elapsedMillis + " ms");
+  }
+
+  @Test
+  void shouldNotExceedConcurrencyLimit() {
+    var limitedExecutor = new DocumentQueryExecutor(2);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    limitedExecutor.collectSet(documentIds, "test", documentId -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(50);
+      running.decrementAndGet();
+      return ImmutableSet.of();
+    });
+    limitedExecutor.close();
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  void shouldRunNestedQueriesWithoutDeadlock() {
+    var results = executor.collectSet(documentIds, "outer", outer ->
+        executor.collectSet(documentIds, "inner", inner -> List.of(inner)));
+    assertEquals(ImmutableSet.copyOf(documentIds), results);
+  }
+
+  @Test
+  void shouldMatchAnyDocument() {
+    var match = documentIds.get(2);
+    assertTrue(executor.anyMatch(documentIds, "test", match::equals));
+    assertFalse(executor.anyMatch(documentIds, "test", documentId -> false));
+  }
+
+  @Test
+  void shouldRethrowQueryException() {
+    var exception = new IllegalStateException();
+    var thrown = assertThrows(IllegalStateException.class, () ->
+        executor.collectSet(documentIds, "test", documentId -> {
+          throw exception;
+        }));
+    assertSame(exception, thrown);
+  }
+
+  @Test
+  void shouldRecordLatencyPerAccessor() {
+    executor.collectSet(documentIds, "first", documentId -> ImmutableSet.of());
+    executor.anyMatch(documentIds.subList(0, 1), "second", documentId -> true);
+    var histograms = executor.getLatencyHistograms();
+    assertEquals(documentIds.size(), histograms.get("first").getCount());
+    assertEquals(1, histograms.get("second").getCount());
+  }
+
+  @Test
+  void shouldReportPercentileBuckets() {
+    var histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(1_000_000);
+    }
+    histogram.record(1_000_000_000);
+    assertTrue(histogram.getPercentileMillis(50) >= 1 && histogram.getPercentileMillis(50) < 2.1);
+    assertTrue(histogram.getPercentileMillis(100) >= 1000);
+    assertEquals(1000, histogram.getMaxMillis(), 0.001);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -7,6 +7,7 @@ import edu.stanford.owl2lpg.client.read.NodeMapperModule;
 import edu.stanford.owl2lpg.client.read.axiom.AssertionAxiomAccessor;
 import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.client.read.axiom.CharacteristicsAxiomAccessor;
+import edu.stanford.owl2lpg.client.read.axiom.ClassAssertionAxiomAccessor;
 import edu.stanford.owl2lpg.client.read.axiom.DaggerAxiomAccessorComponent;
 import edu.stanford.owl2lpg.client.read.handlers.OwlDataFactoryModule;
 import edu.stanford.owl2lpg.client.write.GraphWriter;
@@ -58,6 +59,8 @@ public class AxiomIndexTestHarness {
 
   private CharacteristicsAxiomAccessor characteristicsAxiomAccessor;
 
+  private ClassAssertionAxiomAccessor classAssertionAxiomAccessor;
+
   private Driver driver;
 
   private AxiomIndexTestHarness() {
@@ -96,6 +99,7 @@ public class AxiomIndexTestHarness {
     axiomAccessor = axiomAccessorComponent.getAxiomAccessor();
     assertionAxiomAccessor = axiomAccessorComponent.getAssertionAxiomAccessor();
     characteristicsAxiomAccessor = axiomAccessorComponent.getCharacteristicsAxiomAccessor();
+    classAssertionAxiomAccessor = axiomAccessorComponent.getClassAssertionAxiomAccessor();
 
     ontDocIdA = documentIdMap.get(projectId, ontologyIdA);
     ontDocIdB = documentIdMap.get(projectId, ontologyIdB);
@@ -131,6 +135,11 @@ public class AxiomIndexTestHarness {
     return Objects.requireNonNull(documentIdMap, INIT_FAIL);
   }
 
+  @Nonnull
+  Driver getDriver() {
+    return Objects.requireNonNull(driver, INIT_FAIL);
+  }
+
   @Nonnull
   AxiomAccessor getAxiomAccessor() {
     return axiomAccessor;
@@ -146,6 +155,11 @@ public class AxiomIndexTestHarness {
     return characteristicsAxiomAccessor;
   }
 
+  @Nonnull
+  ClassAssertionAxiomAccessor getClassAssertionAxiomAccessor() {
+    return classAssertionAxiomAccessor;
+  }
+
   private void ensureIndexes() {
     var indexLoader = new DefaultIndexLoader(driver);
     indexLoader.createIndexes();
@@ -0,0 +1,133 @@
+package edu.stanford.owl2lpg.client.bind.index;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.bmir.protege.web.server.shortform.SearchString;
+import edu.stanford.owl2lpg.client.read.GraphReader;
+import edu.stanford.owl2lpg.client.read.entity.impl.EntityAccessorImpl;
+import edu.stanford.owl2lpg.client.read.entity.impl.EntityNodeMapper;
+import edu.stanford.owl2lpg.client.read.individual.impl.NamedIndividualAccessorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static edu.stanford.owl2lpg.client.bind.index.OwlObjects.clsA;
+import static edu.stanford.owl2lpg.client.bind.index.OwlObjects.clsB;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+/**
+ * Measures the latency of paging the named individuals of a seeded project,
+ * comparing the per-document loading with in-memory paging that the
+ * individuals index used before with the paging queries of
+ * {@link NamedIndividualAccessorImpl}. The per-document baseline does not
+ * include the short form lookup per individual that the index made to match
+ * the search strings, so it is a lower bound of the old latency.
+ * <p>
+ * The benchmark is not picked up by the default test run. Run it with
+ * {@code mvn test -Dtest=NamedIndividualsPage_Benchmark
+ * -Dbenchmark.individuals=100000}.
+ */
+class NamedIndividualsPage_Benchmark {
+
+  private static final int INDIVIDUAL_COUNT = Integer.getInteger("benchmark.individuals", 5_000);
+
+  private static final int WARMUP_ITERATIONS = 5;
+
+  private static final int MEASUREMENT_ITERATIONS = 20;
+
+  private static final int PAGE_SIZE = 20;
+
+  /* The test database has no webprotege analyzer, so the indexes use the standard one */
+  private static final List<String> FULL_TEXT_INDEX_QUERIES = List.of(
+      "CALL db.index.fulltext.createNodeIndex(\"annotation_assertion_index\",[\"Literal\"],[\"lexicalForm\"])",
+      "CALL db.index.fulltext.createNodeIndex(\"local_name_index\",[\"Entity\"],[\"localName\"])",
+      "CALL db.index.fulltext.createNodeIndex(\"prefixed_name_index\",[\"Entity\"],[\"prefixedName\"])",
+      "CALL db.index.fulltext.createNodeIndex(\"obo_id_index\",[\"Entity\"],[\"oboId\"])");
+
+  private AxiomIndexTestHarness testHarness;
+
+  private NamedIndividualAccessorImpl namedIndividualAccessor;
+
+  @BeforeEach
+  void setUp() {
+    testHarness = AxiomIndexTestHarness.createAndSetUp();
+    var driver = testHarness.getDriver();
+    try (var session = driver.session()) {
+      FULL_TEXT_INDEX_QUERIES.forEach(session::run);
+    }
+    var entityNodeMapper = new EntityNodeMapper(new OWLDataFactoryImpl());
+    var entityAccessor = new EntityAccessorImpl(new GraphReader(driver), entityNodeMapper);
+    namedIndividualAccessor = new NamedIndividualAccessorImpl(entityAccessor,
+        testHarness.getClassAssertionAxiomAccessor(), driver, entityNodeMapper);
+    testHarness.addAxiomToOntologyDocument_A(SubClassOf(clsB, clsA));
+    for (int i = 0; i < INDIVIDUAL_COUNT; i++) {
+      var individual = NamedIndividual(IRI("http://example.org/individual" + i));
+      testHarness.addAxiomToOntologyDocument_A(Declaration(individual));
+      testHarness.addAxiomToOntologyDocument_A(ClassAssertion(i % 2 == 0 ? clsA : clsB, individual));
+      testHarness.addAxiomToOntologyDocument_A(AnnotationAssertion(RDFSLabel(), individual.getIRI(),
+          Literal("individual number " + i)));
+    }
+  }
+
+  @Test
+  void measurePagingLatency() {
+    var projectId = testHarness.getProjectId();
+    var branchId = testHarness.getBranchId();
+    var lastPageSkip = INDIVIDUAL_COUNT - PAGE_SIZE;
+    var noSearch = List.<SearchString>of();
+    var search = SearchString.parseMultiWordSearchString("number 4");
+    report("per-document load, first page", () -> {
+      var documentIds = testHarness.getDocumentMap().get(projectId);
+      return documentIds.stream()
+          .flatMap(documentId -> namedIndividualAccessor.getAllIndividuals(projectId, branchId, documentId).stream())
+          .distinct()
+          .limit(PAGE_SIZE)
+          .collect(ImmutableList.toImmutableList());
+    });
+    report("paging query, first page", () -> namedIndividualAccessor
+        .getIndividualsPage(noSearch, 0, PAGE_SIZE, projectId, branchId).getIndividuals());
+    report("paging query, last page", () -> namedIndividualAccessor
+        .getIndividualsPage(noSearch, lastPageSkip, PAGE_SIZE, projectId, branchId).getIndividuals());
+    report("paging query, search", () -> namedIndividualAccessor
+        .getIndividualsPage(search, 0, PAGE_SIZE, projectId, branchId).getIndividuals());
+    report("paging query, direct type", () -> namedIndividualAccessor
+        .getIndividualsPageByType(clsA, false, noSearch, 0, PAGE_SIZE, projectId, branchId).getIndividuals());
+    report("paging query, type and subtypes", () -> namedIndividualAccessor
+        .getIndividualsPageByType(clsA, true, noSearch, 0, PAGE_SIZE, projectId, branchId).getIndividuals());
+    report("paging query, type and subtypes with search", () -> namedIndividualAccessor
+        .getIndividualsPageByType(clsA, true, search, 0, PAGE_SIZE, projectId, branchId).getIndividuals());
+  }
+
+  private static void report(String name, Supplier<List<OWLNamedIndividual>> query) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      query.get();
+    }
+    var latencies = new long[MEASUREMENT_ITERATIONS];
+    for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+      var start = System.nanoTime();
+      query.get();
+      latencies[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(latencies);
+    System.out.printf("%-45s individuals=%d p50=%.2fms p95=%.2fms%n", name, INDIVIDUAL_COUNT,
+        latencies[MEASUREMENT_ITERATIONS / 2] / 1e6,
+        latencies[(int) (MEASUREMENT_ITERATIONS * 0.95)] / 1e6);
+  }
+
+  @AfterEach
+  void tearDown() {
+    testHarness.tearDown();
+  }
+}
@@ -0,0 +1,101 @@
+package edu.stanford.owl2lpg.client.read.hierarchy;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLClass;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
+
+public class ClassHierarchyCache_TestCase {
+
+  private final OWLClass clsA = Class(IRI("http://example.org/A"));
+
+  private final OWLClass clsB = Class(IRI("http://example.org/B"));
+
+  private final OWLClass clsC = Class(IRI("http://example.org/C"));
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private ClassHierarchyCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ClassHierarchyCache(HierarchyCacheSettings.enabled(1_000));
+  }
+
+  @Test
+  void shouldLoadEachClassOnlyOnce() {
+    var loader = countingLoader(ImmutableSet.of(clsB));
+    cache.getChildren(clsA, loader);
+    var children = cache.getChildren(clsA, loader);
+    assertEquals(ImmutableSet.of(clsB), children);
+    assertEquals(1, loadCount.get());
+    assertEquals(1, cache.getStats().getHitCount());
+    assertEquals(1, cache.getStats().getMissCount());
+  }
+
+  @Test
+  void shouldReloadInvalidatedClasses() {
+    var loader = countingLoader(ImmutableSet.of(clsB));
+    cache.getChildren(clsA, loader);
+    cache.getParents(clsC, loader);
+    cache.invalidate(List.of(clsA));
+    cache.getChildren(clsA, loader);
+    cache.getParents(clsC, loader);
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  void shouldDropAllAncestorsOnInvalidation() {
+    var loader = countingLoader(ImmutableSet.of(clsA));
+    cache.getAncestors(clsC, loader);
+    cache.invalidate(List.of(clsA, clsB));
+    cache.getAncestors(clsC, loader);
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  void shouldNotKeepLoadThatRacedWithInvalidation() {
+    cache.getChildren(clsA, cls -> {
+      cache.invalidate(List.of(cls));
+      return ImmutableSet.of(clsB);
+    });
+    cache.getChildren(clsA, countingLoader(ImmutableSet.of()));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  void shouldPassThroughWhenDisabled() {
+    var disabledCache = new ClassHierarchyCache(HierarchyCacheSettings.disabled());
+    var loader = countingLoader(ImmutableSet.of(clsB));
+    disabledCache.getChildren(clsA, loader);
+    disabledCache.getChildren(clsA, loader);
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  void shouldStayWithinMaximumWeight() {
+    var smallCache = new ClassHierarchyCache(HierarchyCacheSettings.enabled(40));
+    for (int i = 0; i < 100; i++) {
+      smallCache.getChildren(Class(IRI("http://example.org/C" + i)), countingLoader(ImmutableSet.of(clsA)));
+    }
+    var stats = smallCache.getStats();
+    assertTrue(stats.getSize() <= 10, "Kept " + stats.getSize() + " entries");
+    assertTrue(stats.getEvictionCount() > 0);
+  }
+
+  private Function<OWLClass, ImmutableSet<OWLClass>> countingLoader(ImmutableSet<OWLClass> classes) {
+    return cls -> {
+      loadCount.incrementAndGet();
+      return classes;
+    };
+  }
+}
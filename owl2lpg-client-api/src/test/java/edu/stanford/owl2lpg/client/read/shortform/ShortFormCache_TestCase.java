@@ -0,0 +1,96 @@
+package edu.stanford.owl2lpg.client.read.shortform;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.bmir.protege.web.shared.shortform.DictionaryLanguage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortFormCache_TestCase {
+
+  private final IRI iriA = IRI.create("http://example.org/A");
+
+  private final IRI iriB = IRI.create("http://example.org/B");
+
+  private final IRI iriC = IRI.create("http://example.org/C");
+
+  private final List<Collection<IRI>> loadedIris = new ArrayList<>();
+
+  private ShortFormCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ShortFormCache(ShortFormCacheSettings.enabled(1_000));
+  }
+
+  @Test
+  void shouldLoadOnlyMissingEntitiesInOneCall() {
+    cache.getShortForms(List.of(iriA), recordingLoader());
+    var shortForms = cache.getShortForms(List.of(iriA, iriB, iriC), recordingLoader());
+    assertEquals(3, shortForms.size());
+    assertEquals(List.of(List.of(iriA), List.of(iriB, iriC)), loadedIris);
+    assertEquals(1, cache.getStats().getHitCount());
+  }
+
+  @Test
+  void shouldKeepEntitiesWithoutShortForms() {
+    cache.getShortForms(List.of(iriA), iris -> Map.of());
+    var shortForms = cache.getShortForms(List.of(iriA), recordingLoader());
+    assertEquals(ImmutableMap.of(), shortForms.get(iriA));
+    assertTrue(loadedIris.isEmpty());
+  }
+
+  @Test
+  void shouldReloadInvalidatedEntities() {
+    cache.getShortForms(List.of(iriA, iriB), recordingLoader());
+    cache.invalidate(List.of(iriA));
+    cache.getShortForms(List.of(iriA, iriB), recordingLoader());
+    assertEquals(List.of(List.of(iriA, iriB), List.of(iriA)), loadedIris);
+    assertEquals(1, cache.getStats().getInvalidationCount());
+  }
+
+  @Test
+  void shouldNotKeepLoadThatRacedWithInvalidation() {
+    cache.getShortForms(List.of(iriA), iris -> {
+      cache.invalidate(iris);
+      return Map.of();
+    });
+    cache.getShortForms(List.of(iriA), recordingLoader());
+    assertEquals(1, loadedIris.size());
+  }
+
+  @Test
+  void shouldPassThroughWhenDisabled() {
+    var disabledCache = new ShortFormCache(ShortFormCacheSettings.disabled());
+    disabledCache.getShortForms(List.of(iriA), recordingLoader());
+    disabledCache.getShortForms(List.of(iriA), recordingLoader());
+    assertEquals(2, loadedIris.size());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntities() {
+    var smallCache = new ShortFormCache(ShortFormCacheSettings.enabled(10));
+    for (int i = 0; i < 100; i++) {
+      smallCache.getShortForms(List.of(IRI.create("http://example.org/C" + i)), recordingLoader());
+    }
+    var stats = smallCache.getStats();
+    assertTrue(stats.getSize() <= 10, "Kept " + stats.getSize() + " entities");
+    assertTrue(stats.getEvictionCount() > 0);
+  }
+
+  private Function<Collection<IRI>, Map<IRI, ImmutableMap<DictionaryLanguage, String>>> recordingLoader() {
+    return iris -> {
+      loadedIris.add(List.copyOf(iris));
+      return Map.of();
+    };
+  }
+}
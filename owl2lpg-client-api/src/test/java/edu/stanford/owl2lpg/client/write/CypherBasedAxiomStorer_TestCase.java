@@ -1,5 +1,6 @@
 package edu.stanford.owl2lpg.client.write;
 
+import com.google.common.collect.ImmutableListMultimap;
 import edu.stanford.owl2lpg.client.DatabaseModule;
 import edu.stanford.owl2lpg.client.bind.project.index.DefaultIndexLoader;
 import edu.stanford.owl2lpg.client.bind.project.index.IndexLoader;
@@ -7,6 +8,7 @@ import edu.stanford.owl2lpg.client.read.NodeMapperModule;
 import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.client.read.axiom.DaggerAxiomAccessorComponent;
 import edu.stanford.owl2lpg.client.read.handlers.OwlDataFactoryModule;
+import edu.stanford.owl2lpg.client.write.handlers.impl.AddAxiomHandler;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
 import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -18,17 +20,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.GraphDatabase;
 import org.neo4j.harness.Neo4jBuilders;
+import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
 
 public class CypherBasedAxiomStorer_TestCase {
 
+  private static final int THROUGHPUT_AXIOM_COUNT = 2_000;
+
   private final ProjectId projectId = ProjectId.create();
 
   private final BranchId branchId = BranchId.create();
@@ -45,6 +58,8 @@ public class CypherBasedAxiomStorer_TestCase {
 
   private AxiomTranslator axiomTranslator;
 
+  private AddAxiomHandler addAxiomHandler;
+
   private OWLAxiom axiom;
 
   @BeforeEach
@@ -66,6 +81,7 @@ public class CypherBasedAxiomStorer_TestCase {
 
     // The writer to execute Cypher query
     graphWriter = new GraphWriter(driver);
+    addAxiomHandler = new AddAxiomHandler(graphWriter, axiomTranslator, translationTranslator);
 
     // Accessor to get axioms from Neo4j
     var axiomAccessorComponent = DaggerAxiomAccessorComponent.builder()
@@ -95,6 +111,71 @@ public class CypherBasedAxiomStorer_TestCase {
     storeAxiom(axiom);
   }
 
+  @Test
+  void shouldStoreAxiomsInBatch() {
+    var clsC = Class(IRI.create("http://example.org/C"));
+    var someValuesFrom = SubClassOf(clsC, ObjectSomeValuesFrom(
+        ObjectProperty(IRI.create("http://example.org/r")), Class(IRI.create("http://example.org/D"))));
+    addAxiomHandler.handle(projectId, branchId, ImmutableListMultimap.of(
+        documentId, axiom,
+        documentId, someValuesFrom));
+    var storedAxioms = axiomAccessor.getAllAxioms(projectId, branchId, documentId);
+    assertTrue(storedAxioms.contains(axiom));
+    assertTrue(storedAxioms.contains(someValuesFrom));
+  }
+
+  @Test
+  void shouldAcceptDuplicateInBatch() {
+    addAxiomHandler.handle(projectId, branchId, ImmutableListMultimap.of(
+        documentId, axiom,
+        documentId, axiom));
+    storeAndRetrieveAxiom(axiom);
+  }
+
+  @Test
+  void shouldStreamStoredAxioms() {
+    var axioms = createSubClassOfAxioms("S");
+    var batch = ImmutableListMultimap.<OntologyDocumentId, OWLAxiom>builder();
+    axioms.forEach(axiom -> batch.put(documentId, axiom));
+    addAxiomHandler.handle(projectId, branchId, batch.build());
+    var streamedAxioms = new ArrayList<OWLAxiom>();
+    axiomAccessor.forEachAxiom(projectId, branchId, documentId, streamedAxioms::add);
+    assertEquals(axioms.size(), streamedAxioms.size());
+    assertTrue(streamedAxioms.containsAll(axioms));
+    var streamedSubClassOfAxioms = new ArrayList<OWLSubClassOfAxiom>();
+    axiomAccessor.forEachAxiomByType(AxiomType.SUBCLASS_OF, projectId, branchId, documentId,
+        streamedSubClassOfAxioms::add);
+    assertEquals(axioms.size(), streamedSubClassOfAxioms.size());
+  }
+
+  @Test
+  void reportThroughput() {
+    var literalAxioms = createSubClassOfAxioms("L");
+    var literalStart = System.nanoTime();
+    literalAxioms.forEach(this::storeAxiom);
+    var literalSeconds = (System.nanoTime() - literalStart) / 1e9;
+
+    var batchAxioms = createSubClassOfAxioms("B");
+    var batchStart = System.nanoTime();
+    var axioms = ImmutableListMultimap.<OntologyDocumentId, OWLAxiom>builder();
+    batchAxioms.forEach(axiom -> axioms.put(documentId, axiom));
+    addAxiomHandler.handle(projectId, branchId, axioms.build());
+    var batchSeconds = (System.nanoTime() - batchStart) / 1e9;
+
+    System.out.printf("Literal queries: %.0f axioms/sec%n", THROUGHPUT_AXIOM_COUNT / literalSeconds);
+    System.out.printf("Batched UNWIND queries: %.0f axioms/sec%n", THROUGHPUT_AXIOM_COUNT / batchSeconds);
+    var storedAxioms = axiomAccessor.getAllAxioms(projectId, branchId, documentId);
+    assertTrue(storedAxioms.containsAll(batchAxioms));
+  }
+
+  @Nonnull
+  private static List<OWLAxiom> createSubClassOfAxioms(@Nonnull String prefix) {
+    return IntStream.range(0, THROUGHPUT_AXIOM_COUNT)
+        .mapToObj(i -> (OWLAxiom) SubClassOf(
+            Class(IRI.create("http://example.org/" + prefix + i)),
+            Class(IRI.create("http://example.org/" + prefix + (i + 1)))))
+        .collect(Collectors.toList());
+  }
 
   private void storeAndRetrieveAxiom(@Nonnull OWLAxiom axiom) {
     storeAxiom(axiom);
@@ -0,0 +1,201 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableListMultimap;
+import edu.stanford.owl2lpg.client.util.Resources;
+import edu.stanford.owl2lpg.client.write.handlers.OrphanCleanupModule;
+import edu.stanford.owl2lpg.client.write.handlers.impl.AddAxiomHandler;
+import edu.stanford.owl2lpg.client.write.handlers.impl.RemoveAxiomHandler;
+import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class OrphanNodeCleanup_TestCase {
+
+  private static final int[] GRAPH_AXIOM_COUNTS = {1_000, 10_000, 50_000};
+
+  private static final int REMOVED_AXIOM_COUNT = 20;
+
+  private final ProjectId projectId = ProjectId.create();
+
+  private final BranchId branchId = BranchId.create();
+
+  private final OntologyDocumentId documentId = OntologyDocumentId.create();
+
+  private Neo4j neo4j;
+
+  private Driver driver;
+
+  private GraphWriter graphWriter;
+
+  private AxiomTranslator axiomTranslator;
+
+  private final OWLAxiom axiom = SubClassOf(Class(iri("A")),
+      ObjectSomeValuesFrom(ObjectProperty(iri("r")), Class(iri("B"))));
+
+  @BeforeEach
+  void setUp() {
+    neo4j = Neo4jBuilders.newInProcessBuilder().build();
+    driver = GraphDatabase.driver(neo4j.boltURI());
+    graphWriter = new GraphWriter(driver);
+    axiomTranslator = DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build()
+        .getAxiomTranslator();
+  }
+
+  @AfterEach
+  void tearDown() {
+    driver.close();
+    neo4j.close();
+  }
+
+  @Test
+  void shouldDeleteOrphanedNodesOfRemovedAxiom() {
+    getAddAxiomHandler().handle(projectId, branchId, documentId, axiom);
+    assertEquals(1, countNodes("ObjectSomeValuesFrom"));
+    getRemoveAxiomHandler(OrphanCleanup.IMMEDIATE).handle(projectId, branchId, documentId, axiom);
+    assertEquals(0, countNodes("ObjectSomeValuesFrom"));
+  }
+
+  @Test
+  void shouldDeferDeletionToCollector() {
+    getAddAxiomHandler().handle(projectId, branchId, documentId, axiom);
+    getRemoveAxiomHandler(OrphanCleanup.DEFERRED).handle(projectId, branchId, documentId, axiom);
+    assertEquals(1, countNodes("ObjectSomeValuesFrom"));
+    assertEquals(1, countNodes(OrphanNodeCollector.ORPHAN_CANDIDATE_LABEL + ":ObjectSomeValuesFrom"));
+
+    var collector = new OrphanNodeCollector(graphWriter, 2);
+    var deleted = collector.collect();
+    assertEquals(0, countNodes("ObjectSomeValuesFrom"));
+    assertEquals(0, countNodes(OrphanNodeCollector.ORPHAN_CANDIDATE_LABEL));
+    assertEquals(deleted, collector.getDeletedNodeCount());
+  }
+
+  @Test
+  void shouldKeepRelinkedCandidates() {
+    getAddAxiomHandler().handle(projectId, branchId, documentId, axiom);
+    getRemoveAxiomHandler(OrphanCleanup.DEFERRED).handle(projectId, branchId, documentId, axiom);
+    getAddAxiomHandler().handle(projectId, branchId, documentId, axiom);
+    new OrphanNodeCollector(graphWriter, 100).collect();
+    assertEquals(1, countNodes("ObjectSomeValuesFrom"));
+    assertEquals(0, countNodes(OrphanNodeCollector.ORPHAN_CANDIDATE_LABEL));
+  }
+
+  @Test
+  void shouldCollectDeferredCandidatesInBackground() throws InterruptedException {
+    var orphanCleanupModule = new OrphanCleanupModule(OrphanCleanup.DEFERRED, Duration.ofMillis(50));
+    try (var collector = orphanCleanupModule.provideOrphanNodeCollector(graphWriter)) {
+      getAddAxiomHandler().handle(projectId, branchId, documentId, axiom);
+      getRemoveAxiomHandler(orphanCleanupModule.provideOrphanCleanup())
+          .handle(projectId, branchId, documentId, axiom);
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (countNodes("ObjectSomeValuesFrom") > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertEquals(0, countNodes("ObjectSomeValuesFrom"));
+      assertTrue(collector.getDeletedNodeCount() > 0);
+    }
+  }
+
+  @Test
+  void reportRemoveLatencyByGraphSize() {
+    createIndexes();
+    var removeAxiomHandler = getRemoveAxiomHandler(OrphanCleanup.IMMEDIATE);
+    var addedAxiomCount = 0;
+    for (var graphAxiomCount : GRAPH_AXIOM_COUNTS) {
+      var axioms = ImmutableListMultimap.<OntologyDocumentId, OWLAxiom>builder();
+      for (; addedAxiomCount < graphAxiomCount; addedAxiomCount++) {
+        axioms.put(documentId, createAxiom(addedAxiomCount));
+      }
+      getAddAxiomHandler().handle(projectId, branchId, axioms.build());
+
+      var scopedStart = System.nanoTime();
+      for (int i = 0; i < REMOVED_AXIOM_COUNT; i++) {
+        removeAxiomHandler.handle(projectId, branchId, documentId, createAxiom(addedAxiomCount - 1 - i));
+      }
+      var scopedMillis = (System.nanoTime() - scopedStart) / 1e6 / REMOVED_AXIOM_COUNT;
+
+      var scanStart = System.nanoTime();
+      for (int i = 0; i < REMOVED_AXIOM_COUNT; i++) {
+        graphWriter.execute("MATCH (n) WHERE NOT (n)--() DELETE n");
+      }
+      var scanMillis = (System.nanoTime() - scanStart) / 1e6 / REMOVED_AXIOM_COUNT;
+
+      System.out.printf("%,d axioms: scoped remove %.2f ms, whole-graph orphan scan %.2f ms%n",
+          graphAxiomCount, scopedMillis, scanMillis);
+      addedAxiomCount -= REMOVED_AXIOM_COUNT;
+    }
+  }
+
+  /* The same schema as a project database, so that the adds do not scan the graph */
+  private void createIndexes() {
+    for (var indexQuery : Resources.read("index/create-indexes-and-constraints.cpy").split(";")) {
+      if (!indexQuery.isBlank()) {
+        graphWriter.execute(indexQuery);
+      }
+    }
+    graphWriter.execute("CALL db.awaitIndexes()");
+  }
+
+  @Nonnull
+  private AddAxiomHandler getAddAxiomHandler() {
+    return new AddAxiomHandler(graphWriter, axiomTranslator,
+        new TranslationTranslator(new QueryBuilderFactory()));
+  }
+
+  @Nonnull
+  private RemoveAxiomHandler getRemoveAxiomHandler(@Nonnull OrphanCleanup orphanCleanup) {
+    return new RemoveAxiomHandler(graphWriter, axiomTranslator,
+        new TranslationTranslator(new QueryBuilderFactory(orphanCleanup)));
+  }
+
+  private long countNodes(@Nonnull String labels) {
+    try (var session = driver.session()) {
+      return session.run("MATCH (n:" + labels + ") RETURN count(n) AS count")
+          .single().get("count").asLong();
+    }
+  }
+
+  /*
+   * Only made of nodes that the schema indexes, and leaves an orphaned
+   * literal behind when removed. An anonymous class expression would be
+   * merged into the one node of its type.
+   */
+  @Nonnull
+  private static OWLAxiom createAxiom(int index) {
+    return AnnotationAssertion(RDFSLabel(), iri("C" + index), Literal("class " + index));
+  }
+
+  @Nonnull
+  private static IRI iri(@Nonnull String localName) {
+    return IRI.create("http://example.org/" + localName);
+  }
+}
@@ -0,0 +1,90 @@
+package edu.stanford.owl2lpg.client.write;
+
+import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class UnwindQueryBatch_TestCase {
+
+  private final ProjectId projectId = ProjectId.create();
+
+  private final BranchId branchId = BranchId.create();
+
+  private final OntologyDocumentId documentId = OntologyDocumentId.create();
+
+  private AxiomTranslator axiomTranslator;
+
+  private TranslationTranslator translationTranslator;
+
+  @BeforeEach
+  void setUp() {
+    var translatorComponent = DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build();
+    axiomTranslator = translatorComponent.getAxiomTranslator();
+    translationTranslator = new TranslationTranslator(new QueryBuilderFactory());
+  }
+
+  @Test
+  void shouldKeepValuesOutOfQueryString() {
+    var rowQuery = translate(SubClassOf(Class(iri("A")), Class(iri("B"))));
+    assertFalse(rowQuery.getQueryString().contains(iri("A").toString()));
+    assertTrue(rowQuery.getParameters().containsValue(iri("A").toString()));
+    assertTrue(rowQuery.getParameters().containsValue(documentId.getIdentifier()));
+  }
+
+  @Test
+  void shouldShareQueryStringForSameShape() {
+    var rowQuery1 = translate(SubClassOf(Class(iri("A")), Class(iri("B"))));
+    var rowQuery2 = translate(SubClassOf(Class(iri("C")), Class(iri("D"))));
+    assertEquals(rowQuery1.getQueryString(), rowQuery2.getQueryString());
+    assertNotEquals(rowQuery1.getParameters(), rowQuery2.getParameters());
+  }
+
+  @Test
+  void shouldGroupRowsByShape() {
+    var batch = new UnwindQueryBatch();
+    List.of(SubClassOf(Class(iri("A")), Class(iri("B"))),
+        SubClassOf(Class(iri("A")), ObjectSomeValuesFrom(ObjectProperty(iri("r")), Class(iri("B")))),
+        SubClassOf(Class(iri("C")), Class(iri("D"))))
+        .forEach(axiom -> batch.add(translate(axiom)));
+    var queries = batch.build();
+    assertEquals(3, batch.getRowCount());
+    assertEquals(2, queries.size());
+    assertTrue(queries.get(0).getQueryString().startsWith("UNWIND $rows AS row\n"));
+    assertEquals(2, ((List<?>) queries.get(0).getParameters().get("rows")).size());
+    assertEquals(1, ((List<?>) queries.get(1).getParameters().get("rows")).size());
+  }
+
+  @Nonnull
+  private ParameterizedQuery translate(@Nonnull OWLAxiom axiom) {
+    var translation = axiomTranslator.translate(axiom);
+    return translationTranslator.translateToUnwindCreateQuery(projectId, branchId, documentId, translation);
+  }
+
+  @Nonnull
+  private static IRI iri(@Nonnull String localName) {
+    return IRI.create("http://example.org/" + localName);
+  }
+}
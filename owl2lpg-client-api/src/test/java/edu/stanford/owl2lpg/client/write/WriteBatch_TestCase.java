@@ -0,0 +1,55 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WriteBatch_TestCase {
+
+  private static final ParameterizedQuery ROW_QUERY_A = ParameterizedQuery.create("MERGE (n:A {iri:row.p0})", ImmutableMap.of("p0", "a"));
+
+  private static final ParameterizedQuery ROW_QUERY_B = ParameterizedQuery.create("MERGE (n:B {iri:row.p0})", ImmutableMap.of("p0", "b"));
+
+  @Test
+  void shouldMergeConsecutiveCreates() {
+    var batch = new WriteBatch();
+    batch.addCreate(ROW_QUERY_A);
+    batch.addCreate(ROW_QUERY_B);
+    batch.addCreate(ROW_QUERY_A);
+    var queries = batch.build();
+    assertEquals(3, batch.getChangeCount());
+    assertEquals(2, queries.size());
+    assertEquals(2, ((List<?>) queries.get(0).getParameters().get("rows")).size());
+  }
+
+  @Test
+  void shouldKeepStatementsInChangeOrder() {
+    var batch = new WriteBatch();
+    batch.addCreate(ROW_QUERY_A);
+    batch.addStatements(ImmutableList.of("MATCH (n:A) DELETE n"));
+    batch.addCreate(ROW_QUERY_A);
+    var queries = batch.build();
+    assertEquals(3, batch.getChangeCount());
+    assertEquals(3, queries.size());
+    assertEquals("UNWIND $rows AS row\n" + ROW_QUERY_A.getQueryString(), queries.get(0).getQueryString());
+    assertEquals("MATCH (n:A) DELETE n", queries.get(1).getQueryString());
+    assertEquals(queries.get(0).getQueryString(), queries.get(2).getQueryString());
+  }
+
+  @Test
+  void shouldRunQueriesAfterPendingCreatesWithoutCountingThem() {
+    var maintenanceQuery = ParameterizedQuery.create("MATCH (n:A) SET n.done = true", ImmutableMap.of());
+    var batch = new WriteBatch();
+    batch.addCreate(ROW_QUERY_A);
+    batch.addQueries(ImmutableList.of(maintenanceQuery));
+    batch.addQueries(ImmutableList.of());
+    var queries = batch.build();
+    assertEquals(1, batch.getChangeCount());
+    assertEquals(2, queries.size());
+    assertEquals(maintenanceQuery, queries.get(1));
+  }
+}
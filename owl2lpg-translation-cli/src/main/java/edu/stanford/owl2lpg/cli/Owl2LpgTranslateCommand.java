@@ -1,8 +1,14 @@
 package edu.stanford.owl2lpg.cli;
 
 import edu.stanford.owl2lpg.exporter.csv.DaggerCsvExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvCompression;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvOutputLayout;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jImportCommand;
+import edu.stanford.owl2lpg.exporter.csv.writer.TrackerType;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.semanticweb.owlapi.apibinding.OWLManager;
@@ -60,6 +66,79 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
       type = String.class)
   String ontDocId = UUID.randomUUID().toString();
 
+  @Option(
+      names = {"-t", "--threads"},
+      description = "Number of threads used to translate the OWL axioms (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int threadCount = 1;
+
+  @Option(
+      names = {"--buffer-size"},
+      description = "Size of the output buffer in chars for each CSV file (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int bufferSize = CsvWriterModule.DEFAULT_BUFFER_SIZE;
+
+  @Option(
+      names = {"--tracker"},
+      description = "Duplicate tracker for nodes and edges: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  TrackerType trackerType = TrackerType.HASH_SET;
+
+  @Option(
+      names = {"--tracker-dir"},
+      description = "Directory of the files of the DIGEST_MEMORY_MAPPED tracker, which are deleted when " +
+          "the translation ends (default: the system temporary directory)",
+      type = Path.class)
+  Path trackerDirectoryLocation = CsvWriterModule.getDefaultTrackerDirectory();
+
+  @Option(
+      names = {"--pre-filter"},
+      description = "Put a filter in front of the DIGEST_* trackers, so that the ids it knows to be new are added " +
+          "without a lookup, and report its counters")
+  boolean preFilterEnabled = false;
+
+  @Option(
+      names = {"--class-ancestors"},
+      description = "Write an ANCESTOR relationship from each class to every named class above it in the hierarchy")
+  boolean classAncestorsEnabled = false;
+
+  @Option(
+      names = {"--split-by-label"},
+      description = "Write the nodes of each label and the relationships of each type to their own CSV files, " +
+          "with separate header files and a script running neo4j-admin import on them")
+  boolean splitByLabel = false;
+
+  @Option(
+      names = {"--max-rows-per-file"},
+      description = "Roll the CSV files over to a new file after this many rows, 0 for no limit (default: ${DEFAULT-VALUE}). " +
+          "A positive value implies split files as with --split-by-label",
+      type = Long.class)
+  long maxRowsPerFile = 0;
+
+  @Option(
+      names = {"--writers"},
+      description = "Number of threads writing the split node files, and as many writing the relationship files " +
+          "(default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int writerCount = CsvOutputLayout.DEFAULT_WRITER_COUNT;
+
+  @Option(
+      names = {"--compression"},
+      description = "Compression of the CSV data files: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}). " +
+          "neo4j-admin import reads GZIP files directly, ZSTD files have to be decompressed first")
+  CsvCompression compression = CsvCompression.NONE;
+
+  @Option(
+      names = {"--async-compression"},
+      description = "Compress the nodes and relationships files on threads of their own, so that the translation " +
+          "does not wait for the compression. Split files are always compressed by their writer threads")
+  boolean asyncCompression = false;
+
+  @Option(
+      names = {"--digest"},
+      description = "Hash function for the node and edge ids: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}). " +
+          "Keep MD5 when the output is loaded into an existing database")
+  DigestAlgorithm digestAlgorithm = DigestAlgorithm.MD5;
+
   @Option(
       names = {"-h", "--help"},
       usageHelp = true,
@@ -86,18 +165,36 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
     return exitCode;
   }
 
+  private CsvWriterModule createCsvWriterModule() {
+    var outputLayout = CsvOutputLayout.create(splitByLabel, maxRowsPerFile, writerCount,
+        compression, asyncCompression);
+    return new CsvWriterModule(outputDirectoryLocation, bufferSize, trackerType,
+        classAncestorsEnabled, outputLayout, trackerDirectoryLocation, preFilterEnabled);
+  }
+
+  private void printImportScript() {
+    if (splitByLabel || maxRowsPerFile > 0) {
+      var scriptFile = outputDirectoryLocation.resolve(Neo4jImportCommand.SCRIPT_FILE_NAME);
+      System.out.println("\nRun " + scriptFile + " to load the CSV files with neo4j-admin import");
+    }
+  }
+
   private int translateOboToCsv() {
     int exitCode = 0;
     try {
-      var csvWriterModule = new CsvWriterModule(outputDirectoryLocation);
-      var exporter = DaggerCsvExporterComponent.builder()
+      var csvWriterModule = createCsvWriterModule();
+      var exporterComponent = DaggerCsvExporterComponent.builder()
           .csvWriterModule(csvWriterModule)
-          .build()
-          .getOboCsvExporter();
+          .digestFunctionModule(new DigestFunctionModule(digestAlgorithm))
+          .build();
+      var exporter = exporterComponent.getOboCsvExporter();
       var ontologyFile = ontologyFileLocation.toFile();
-      exporter.export(ontologyFile, ProjectId.create(projectId),
-          BranchId.create(branchId),
-          OntologyDocumentId.create(ontDocId), true);
+      try (var csvWriter = exporterComponent.getNeo4jCsvWriter()) {
+        exporter.export(ontologyFile, ProjectId.create(projectId),
+            BranchId.create(branchId),
+            OntologyDocumentId.create(ontDocId), true);
+      }
+      printImportScript();
     } catch (Exception e) {
       e.printStackTrace();
       exitCode = 1;
@@ -108,17 +205,22 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
   private int translateOwlToCsv() {
     int exitCode = 0;
     try {
-      var csvWriterModule = new CsvWriterModule(outputDirectoryLocation);
-      var exporter = DaggerCsvExporterComponent.builder()
+      var csvWriterModule = createCsvWriterModule();
+      var exporterComponent = DaggerCsvExporterComponent.builder()
           .csvWriterModule(csvWriterModule)
-          .build()
-          .getOntologyCsvExporter();
+          .digestFunctionModule(new DigestFunctionModule(digestAlgorithm))
+          .build();
+      var exporter = exporterComponent.getOntologyCsvExporter();
       var ontologyFile = ontologyFileLocation.toFile();
-      var ontologyManager = OWLManager.createOWLOntologyManager();
-      var ontology = ontologyManager.loadOntologyFromOntologyDocument(ontologyFile);
-      exporter.export(ontology, ProjectId.create(projectId),
-          BranchId.create(branchId),
-          OntologyDocumentId.create(ontDocId));
+      try (var csvWriter = exporterComponent.getNeo4jCsvWriter()) {
+        var ontologyManager = OWLManager.createOWLOntologyManager();
+        var ontology = ontologyManager.loadOntologyFromOntologyDocument(ontologyFile);
+        exporter.export(ontology, ProjectId.create(projectId),
+            BranchId.create(branchId),
+            OntologyDocumentId.create(ontDocId),
+            threadCount);
+      }
+      printImportScript();
     } catch (Exception e) {
       e.printStackTrace();
       exitCode = 1;
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.ANCESTOR;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.AXIOM_SUBJECT;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.CLASS_EXPRESSION;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.DATA_PROPERTY_EXPRESSION;
@@ -126,6 +127,18 @@ public class AugmentedEdgeFactory {
         : Optional.empty();
   }
 
+  /**
+   * Gets the edge that links a class to one of its named ancestors in the
+   * transitive closure of the SUB_CLASS_OF edges.
+   */
+  @Nonnull
+  public Optional<Edge> getAncestorEdge(@Nonnull Node classNode,
+                                        @Nonnull Node ancestorNode) {
+    return (augmentedEdgeInclusionChecker.allows(ANCESTOR))
+        ? Optional.of(getAugmentedEdge(classNode, ancestorNode, ANCESTOR))
+        : Optional.empty();
+  }
+
   @Nonnull
   public Optional<Edge> getSubObjectPropertyOfEdge(@Nonnull Node subPropertyNode,
                                                    @Nonnull Node superPropertyNode) {
@@ -1,11 +1,15 @@
 package edu.stanford.owl2lpg.model;
 
-import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
 import edu.stanford.owl2lpg.translator.internal.DigestEdgeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.RawDigestEdgeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
 import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 
+import javax.inject.Provider;
+
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
@@ -13,8 +17,12 @@ import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 @Module(includes = DigestFunctionModule.class)
 public abstract class EdgeFactoryModule {
 
-  @Binds
+  @Provides
   @TranslationSessionScope
-  public abstract EdgeIdProvider
-  provideEdgeIdProvider(DigestEdgeIdProvider impl);
+  public static EdgeIdProvider
+  provideEdgeIdProvider(DigestAlgorithm digestAlgorithm,
+                        Provider<DigestEdgeIdProvider> stringEncodedProvider,
+                        Provider<RawDigestEdgeIdProvider> rawProvider) {
+    return digestAlgorithm.isStringEncodedEdgeIds() ? stringEncodedProvider.get() : rawProvider.get();
+  }
 }
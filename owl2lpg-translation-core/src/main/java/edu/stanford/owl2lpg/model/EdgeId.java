@@ -1,36 +1,43 @@
 package edu.stanford.owl2lpg.model;
 
-import at.favre.lib.bytes.Bytes;
-import com.google.auto.value.AutoValue;
+import java.nio.charset.StandardCharsets;
 
 /**
+ * Represents an edge identifier, stored like {@link NodeId}: 64-bit
+ * numbers and 128-bit digests are kept as longs and the hex form is
+ * computed once on first use.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-@AutoValue
-public abstract class EdgeId {
+public class EdgeId extends PackedIds {
+
+  private EdgeId(long numberId) {
+    super(numberId);
+  }
+
+  private EdgeId(long high, long low) {
+    super(high, low);
+  }
+
+  private EdgeId(byte[] bytes) {
+    super(bytes);
+  }
 
-  @SuppressWarnings("mutable")
   public static EdgeId create(byte[] bytes) {
-    return new AutoValue_EdgeId(bytes);
+    return new EdgeId(bytes);
   }
 
   public static EdgeId create(long numberId) {
-    return create(Bytes.empty()
-        .append(numberId)
-        .array());
+    return new EdgeId(numberId);
   }
 
-  public static EdgeId create(String stringId) {
-    return create(Bytes.empty()
-        .append(stringId)
-        .array());
+  public static EdgeId create(long high, long low) {
+    return new EdgeId(high, low);
   }
 
-  public abstract byte[] getBytes();
-
-  public String asString() {
-    return Bytes.wrap(getBytes()).encodeHex();
+  public static EdgeId create(String stringId) {
+    return create(stringId.getBytes(StandardCharsets.UTF_8));
   }
 
   @Override
@@ -1,45 +1,45 @@
 package edu.stanford.owl2lpg.model;
 
-import at.favre.lib.bytes.Bytes;
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonValue;
-import com.google.auto.value.AutoValue;
-
-import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Represents a construction of a node identifier.
+ * <p>
+ * The 64-bit sequential numbers and the 128-bit digests, which make up
+ * nearly all of the node identifiers, are stored as one or two longs (see
+ * {@link #isPacked()}). The hex form is computed once on first use.
  *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-@AutoValue
-public abstract class NodeId {
+public class NodeId extends PackedIds {
+
+  private NodeId(long numberId) {
+    super(numberId);
+  }
+
+  private NodeId(long high, long low) {
+    super(high, low);
+  }
+
+  private NodeId(byte[] bytes) {
+    super(bytes);
+  }
 
-  @SuppressWarnings("mutable")
   public static NodeId create(byte[] bytes) {
-    return new AutoValue_NodeId(bytes);
+    return new NodeId(bytes);
   }
 
   public static NodeId create(long numberId) {
-    return create(Bytes.empty()
-        .append(numberId)
-        .array());
+    return new NodeId(numberId);
   }
 
-  public static NodeId create(String stringId) {
-    return create(Bytes.empty()
-        .append(stringId)
-        .array());
+  public static NodeId create(long high, long low) {
+    return new NodeId(high, low);
   }
 
-  @JsonIgnore
-  @Nonnull
-  public abstract byte[] getBytes();
-
-  @JsonValue
-  public String asString() {
-    return Bytes.wrap(getBytes()).encodeHex();
+  public static NodeId create(String stringId) {
+    return create(stringId.getBytes(StandardCharsets.UTF_8));
   }
 
   @Override
@@ -10,4 +10,7 @@ public interface NodeIdMapper {
 
   @Nonnull
   NodeId get(@Nonnull Object o);
+
+  @Nonnull
+  NodeIdMapperStats getStats();
 }
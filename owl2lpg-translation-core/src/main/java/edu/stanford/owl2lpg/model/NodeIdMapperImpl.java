@@ -1,15 +1,30 @@
 package edu.stanford.owl2lpg.model;
 
-import com.google.common.collect.Maps;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
+ * Maps the OWL objects to node ids. Objects with number ids that can be
+ * encountered more than once (e.g., anonymous class expressions) are
+ * remembered so that they keep the same id.
+ * <p>
+ * By default every such object is remembered for the lifetime of the
+ * mapper, which is what an export needs to avoid duplicate nodes. Long-lived
+ * mappers (e.g., in a client session) should set a maximum size: the least
+ * recently used objects are then evicted and get a new id if they are seen
+ * again.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
@@ -27,7 +42,19 @@ public class NodeIdMapperImpl implements NodeIdMapper {
   @Nonnull
   private final SingleEncounterNodeChecker singleEncounterNodeChecker;
 
-  private final Map<Object, NodeId> nodeIdMapper = Maps.newHashMapWithExpectedSize(1_000_000);
+  private static final int DEFAULT_INITIAL_CAPACITY = 1_000_000;
+
+  /* Concurrent so the same anonymous object gets a single id when axioms are translated in parallel */
+  @Nonnull
+  private final ConcurrentMap<Object, NodeId> nodeIdMapper;
+
+  /* Only set when the mapper is bounded */
+  @Nullable
+  private final Cache<Object, NodeId> nodeIdCache;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
 
   @Inject
   public NodeIdMapperImpl(@Nonnull @Named("number") NodeIdProvider numberIdProvider,
@@ -38,6 +65,28 @@ public class NodeIdMapperImpl implements NodeIdMapper {
     this.digestIdProvider = checkNotNull(digestIdProvider);
     this.idFormatChecker = checkNotNull(idFormatChecker);
     this.singleEncounterNodeChecker = checkNotNull(singleEncounterNodeChecker);
+    this.nodeIdMapper = new ConcurrentHashMap<>(DEFAULT_INITIAL_CAPACITY);
+    this.nodeIdCache = null;
+  }
+
+  /**
+   * Creates a mapper that remembers at most the given number of objects.
+   */
+  public NodeIdMapperImpl(@Nonnull NodeIdProvider numberIdProvider,
+                          @Nonnull NodeIdProvider digestIdProvider,
+                          @Nonnull IdFormatChecker idFormatChecker,
+                          @Nonnull SingleEncounterNodeChecker singleEncounterNodeChecker,
+                          long maximumSize) {
+    checkArgument(maximumSize > 0, "The maximum size must be positive");
+    this.numberIdProvider = checkNotNull(numberIdProvider);
+    this.digestIdProvider = checkNotNull(digestIdProvider);
+    this.idFormatChecker = checkNotNull(idFormatChecker);
+    this.singleEncounterNodeChecker = checkNotNull(singleEncounterNodeChecker);
+    this.nodeIdCache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+    this.nodeIdMapper = nodeIdCache.asMap();
   }
 
   @Nonnull
@@ -64,10 +113,23 @@ public class NodeIdMapperImpl implements NodeIdMapper {
 
   private NodeId getExistingNodeId(@Nonnull Object o) {
     var nodeId = nodeIdMapper.get(o);
-    if (nodeId == null) {
-      nodeId = numberIdProvider.getId(o);
-      nodeIdMapper.put(o, nodeId);
+    if (nodeId != null) {
+      hitCount.increment();
+      return nodeId;
     }
-    return nodeId;
+    // A lookup that loses the race to another thread's insert is counted as neither
+    return nodeIdMapper.computeIfAbsent(o, this::createNodeId);
+  }
+
+  private NodeId createNodeId(@Nonnull Object o) {
+    missCount.increment();
+    return numberIdProvider.getId(o);
+  }
+
+  @Nonnull
+  @Override
+  public NodeIdMapperStats getStats() {
+    var evictionCount = nodeIdCache != null ? nodeIdCache.stats().evictionCount() : 0L;
+    return NodeIdMapperStats.create(hitCount.sum(), missCount.sum(), nodeIdMapper.size(), evictionCount);
   }
 }
@@ -0,0 +1,31 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the lookups of the node ids that a {@link NodeIdMapper}
+ * keeps for the objects with number ids (e.g., anonymous class expressions).
+ */
+@AutoValue
+public abstract class NodeIdMapperStats {
+
+  @Nonnull
+  public static NodeIdMapperStats create(long hitCount, long missCount, long size, long evictionCount) {
+    return new AutoValue_NodeIdMapperStats(hitCount, missCount, size, evictionCount);
+  }
+
+  public abstract long getHitCount();
+
+  public abstract long getMissCount();
+
+  public abstract long getSize();
+
+  public abstract long getEvictionCount();
+
+  public double getHitRate() {
+    var requestCount = getHitCount() + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+}
@@ -0,0 +1,172 @@
+package edu.stanford.owl2lpg.model;
+
+import at.favre.lib.bytes.Bytes;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * The storage shared by {@link NodeId} and {@link EdgeId}, which keep the
+ * 64-bit numbers and 128-bit digests as big-endian longs instead of byte
+ * arrays. Identifiers of any other length are kept as bytes. The hex form
+ * is computed once on first use.
+ */
+abstract class PackedIds {
+
+  static final int NUMBER_LENGTH = Long.BYTES;
+
+  static final int DIGEST_LENGTH = 2 * Long.BYTES;
+
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final int length;
+
+  private final long high;
+
+  private final long low;
+
+  /* Only set for identifiers that are not packed */
+  @Nullable
+  private final byte[] bytes;
+
+  @Nullable
+  private String hexString;
+
+  PackedIds(long numberId) {
+    this(NUMBER_LENGTH, numberId, 0L, null);
+  }
+
+  PackedIds(long high, long low) {
+    this(DIGEST_LENGTH, high, low, null);
+  }
+
+  PackedIds(@Nonnull byte[] bytes) {
+    this(bytes.length,
+        isPackable(bytes) ? readLong(bytes, 0) : 0L,
+        bytes.length == DIGEST_LENGTH ? readLong(bytes, Long.BYTES) : 0L,
+        isPackable(bytes) ? null : bytes);
+  }
+
+  private PackedIds(int length, long high, long low, @Nullable byte[] bytes) {
+    this.length = length;
+    this.high = high;
+    this.low = low;
+    this.bytes = bytes;
+  }
+
+  private static boolean isPackable(@Nonnull byte[] bytes) {
+    return bytes.length == NUMBER_LENGTH || bytes.length == DIGEST_LENGTH;
+  }
+
+  private static long readLong(@Nonnull byte[] bytes, int offset) {
+    return (long) LONG_VIEW.get(bytes, offset);
+  }
+
+  /**
+   * Returns the identifier bytes. Packed identifiers allocate a new array
+   * on every call, so prefer {@link #getHigh()} and {@link #getLow()} on
+   * hot paths.
+   */
+  @JsonIgnore
+  @Nonnull
+  public byte[] getBytes() {
+    if (bytes != null) {
+      return bytes;
+    }
+    var packedBytes = new byte[length];
+    LONG_VIEW.set(packedBytes, 0, high);
+    if (length == DIGEST_LENGTH) {
+      LONG_VIEW.set(packedBytes, Long.BYTES, low);
+    }
+    return packedBytes;
+  }
+
+  @JsonIgnore
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Returns true if the identifier is a 64-bit number or a 128-bit digest
+   * kept in {@link #getHigh()} and {@link #getLow()}.
+   */
+  @JsonIgnore
+  public boolean isPacked() {
+    return bytes == null;
+  }
+
+  /* The first eight bytes (big-endian) of a packed identifier */
+  @JsonIgnore
+  public long getHigh() {
+    return high;
+  }
+
+  /* The second eight bytes of a packed digest, or zero for a number */
+  @JsonIgnore
+  public long getLow() {
+    return low;
+  }
+
+  @JsonValue
+  public String asString() {
+    var s = hexString;
+    if (s == null) {
+      s = toHex();
+      hexString = s;
+    }
+    return s;
+  }
+
+  private String toHex() {
+    if (bytes != null) {
+      return Bytes.wrap(bytes).encodeHex();
+    }
+    var chars = new char[2 * length];
+    writeHex(high, chars, 0);
+    if (length == DIGEST_LENGTH) {
+      writeHex(low, chars, 2 * Long.BYTES);
+    }
+    return new String(chars);
+  }
+
+  private static void writeHex(long value, char[] chars, int offset) {
+    for (int i = 2 * Long.BYTES - 1; i >= 0; i--) {
+      chars[offset + i] = HEX_DIGITS[(int) value & 0xf];
+      value >>>= 4;
+    }
+  }
+
+  /* A node id and an edge id with the same bytes are not equal */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (o == null || o.getClass() != getClass()) {
+      return false;
+    }
+    var other = (PackedIds) o;
+    return length == other.length
+        && high == other.high
+        && low == other.low
+        && Arrays.equals(bytes, other.bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    if (bytes != null) {
+      return Arrays.hashCode(bytes);
+    }
+    var h = high * 0x9E3779B97F4A7C15L + low;
+    return (int) (h ^ (h >>> 32));
+  }
+}
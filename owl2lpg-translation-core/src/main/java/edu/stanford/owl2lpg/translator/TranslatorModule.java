@@ -2,10 +2,12 @@ package edu.stanford.owl2lpg.translator;
 
 import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.owl2lpg.model.AugmentedEdgeFactoryModule;
 import edu.stanford.owl2lpg.model.EdgeFactoryModule;
 import edu.stanford.owl2lpg.model.NodeFactoryModule;
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.internal.EntityTranslationCache;
 import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
 import edu.stanford.owl2lpg.translator.visitors.AnnotationObjectVisitor;
 import edu.stanford.owl2lpg.translator.visitors.AnnotationSubjectVisitor;
@@ -40,6 +42,15 @@ import org.semanticweb.owlapi.model.OWLPropertyExpressionVisitorEx;
 })
 public abstract class TranslatorModule {
 
+  /* Enough for the entities of most ontologies, while keeping the cache to a few hundred MB */
+  private static final long ENTITY_TRANSLATION_CACHE_SIZE = 250_000;
+
+  @Provides
+  @TranslationSessionScope
+  public static EntityTranslationCache provideEntityTranslationCache() {
+    return new EntityTranslationCache(ENTITY_TRANSLATION_CACHE_SIZE);
+  }
+
   @Binds
   @TranslationSessionScope
   public abstract OWLAnnotationObjectVisitorEx<Translation>
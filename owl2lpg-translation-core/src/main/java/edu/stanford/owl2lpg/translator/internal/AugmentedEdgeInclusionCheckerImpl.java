@@ -5,6 +5,7 @@ import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 
 import javax.inject.Inject;
 
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.ANCESTOR;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.AXIOM_SUBJECT;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.HAS_DOMAIN;
 import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.HAS_RANGE;
@@ -43,6 +44,7 @@ public class AugmentedEdgeInclusionCheckerImpl implements AugmentedEdgeInclusion
         || HAS_RANGE.equals(edgeLabel)
         || TYPE.equals(edgeLabel)
         || SAME_INDIVIDUAL.equals(edgeLabel)
-        || INVERSE_OF.equals(edgeLabel);
+        || INVERSE_OF.equals(edgeLabel)
+        || ANCESTOR.equals(edgeLabel);
   }
 }
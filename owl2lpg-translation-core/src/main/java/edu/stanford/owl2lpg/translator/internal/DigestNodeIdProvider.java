@@ -28,28 +28,62 @@ public class DigestNodeIdProvider implements NodeIdProvider {
     this.hashFunction = checkNotNull(hashFunction);
   }
 
+  /*
+   * The parts of an object are copied into one byte array and hashed at
+   * once, which gives the same digest as hashing their concatenation, so the
+   * ids of existing databases are kept without building the concatenated
+   * string.
+   */
   @Override
   public NodeId getId(Object o) {
     if (o instanceof IRI) {
-      var s = ((IRI) o).toString();
-      return createNodeIdFromObjectString(s);
+      var iri = (IRI) o;
+      return createNodeId(iri.getNamespace(), getRemainder(iri));
     } else if (o instanceof OWLEntity) {
       var entity = (OWLEntity) o;
-      var s = entity.getEntityType().getName() + entity.getIRI().toString();
-      return createNodeIdFromObjectString(s);
+      var iri = entity.getIRI();
+      return createNodeId(entity.getEntityType().getName(), iri.getNamespace(), getRemainder(iri));
     } else if (o instanceof OWLLiteral2) {
       var literal = (OWLLiteral2) o;
-      var s = literal.getLiteral() + literal.getDatatype() + literal.getLanguage();
-      return createNodeIdFromObjectString(s);
+      return createNodeId(literal.getLiteral(), literal.getDatatype(), literal.getLanguage());
     } else {
-      return createNodeIdFromObjectString(o.toString());
+      return createNodeId(o.toString());
     }
   }
 
-  private NodeId createNodeIdFromObjectString(String objectString) {
-    var hashBytes = hashFunction
-        .hashString(objectString, StandardCharsets.UTF_8)
-        .asBytes();
-    return NodeId.create(hashBytes);
+  private static String getRemainder(IRI iri) {
+    return iri.getRemainder().or("");
+  }
+
+  @SuppressWarnings("deprecation")
+  private NodeId createNodeId(String... parts) {
+    int length = 0;
+    for (var part : parts) {
+      if (!isAscii(part)) {
+        return createNodeId(String.join("", parts).getBytes(StandardCharsets.UTF_8));
+      }
+      length += part.length();
+    }
+    /* Each ASCII character is one UTF-8 byte, which the deprecated String.getBytes copies as is */
+    var bytes = new byte[length];
+    int offset = 0;
+    for (var part : parts) {
+      part.getBytes(0, part.length(), bytes, offset);
+      offset += part.length();
+    }
+    return createNodeId(bytes);
+  }
+
+  private static boolean isAscii(String part) {
+    for (int i = 0; i < part.length(); i++) {
+      if (part.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private NodeId createNodeId(byte[] bytes) {
+    return NodeId.create(hashFunction.hashBytes(bytes).asBytes());
   }
 }
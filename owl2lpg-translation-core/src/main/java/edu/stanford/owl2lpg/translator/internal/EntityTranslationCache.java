@@ -0,0 +1,53 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import edu.stanford.owl2lpg.model.Translation;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Keeps the translations of the most recently used entities, so that an
+ * entity that appears in many axioms is translated only once. This relies on
+ * the entity and IRI nodes having digest ids, which makes a translation the
+ * same every time that the entity is translated.
+ */
+public class EntityTranslationCache {
+
+  @Nonnull
+  private final Cache<OWLEntity, Translation> cache;
+
+  /**
+   * @param maximumSize The maximum number of translations to keep, where zero
+   *                    disables the cache.
+   */
+  public EntityTranslationCache(long maximumSize) {
+    checkArgument(maximumSize >= 0, "The maximum size must not be negative");
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  @Nonnull
+  public Translation get(@Nonnull OWLEntity entity,
+                         @Nonnull Function<OWLEntity, Translation> translator) {
+    var translation = cache.getIfPresent(entity);
+    if (translation == null) {
+      translation = translator.apply(entity);
+      cache.put(entity, translation);
+    }
+    return translation;
+  }
+
+  @Nonnull
+  public EntityTranslationCacheStats getStats() {
+    var stats = cache.stats();
+    return EntityTranslationCacheStats.create(stats.hitCount(), stats.missCount(),
+        cache.size(), stats.evictionCount());
+  }
+}
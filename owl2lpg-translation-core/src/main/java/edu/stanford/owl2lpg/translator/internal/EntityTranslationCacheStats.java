@@ -0,0 +1,30 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the lookups of an {@link EntityTranslationCache}.
+ */
+@AutoValue
+public abstract class EntityTranslationCacheStats {
+
+  @Nonnull
+  public static EntityTranslationCacheStats create(long hitCount, long missCount, long size, long evictionCount) {
+    return new AutoValue_EntityTranslationCacheStats(hitCount, missCount, size, evictionCount);
+  }
+
+  public abstract long getHitCount();
+
+  public abstract long getMissCount();
+
+  public abstract long getSize();
+
+  public abstract long getEvictionCount();
+
+  public double getHitRate() {
+    var requestCount = getHitCount() + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+}
@@ -4,14 +4,18 @@ import edu.stanford.owl2lpg.model.NodeId;
 import edu.stanford.owl2lpg.model.NodeIdProvider;
 
 import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * A node id provider that hands out sequential numbers. The counter is
+ * safe to share between translation workers running concurrently.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 public class NumberIncrementIdProvider implements NodeIdProvider {
 
-  private long counter = 0;
+  private final AtomicLong counter = new AtomicLong();
 
   @Inject
   public NumberIncrementIdProvider() {
@@ -19,7 +23,6 @@ public class NumberIncrementIdProvider implements NodeIdProvider {
 
   @Override
   public NodeId getId(Object o) {
-    counter++;
-    return NodeId.create(counter);
+    return NodeId.create(counter.incrementAndGet());
   }
 }
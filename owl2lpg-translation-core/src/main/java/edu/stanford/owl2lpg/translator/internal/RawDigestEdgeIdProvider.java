@@ -0,0 +1,60 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.EdgeIdProvider;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An edge id provider that hashes the raw bytes of the start and end node
+ * ids and the edge label, without encoding the node ids as hex strings
+ * first. The resulting ids differ from the ones of {@link DigestEdgeIdProvider}.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class RawDigestEdgeIdProvider implements EdgeIdProvider {
+
+  @Nonnull
+  private final HashFunction hashFunction;
+
+  @Inject
+  public RawDigestEdgeIdProvider(@Nonnull HashFunction hashFunction) {
+    this.hashFunction = checkNotNull(hashFunction);
+  }
+
+  @Override
+  public EdgeId get(Node startNode, Node endNode, EdgeLabel edgeLabel) {
+    var hasher = hashFunction.newHasher();
+    putNodeId(hasher, startNode.getNodeId());
+    putNodeId(hasher, endNode.getNodeId());
+    var hashBytes = hasher
+        .putUnencodedChars(edgeLabel.getName())
+        .hash()
+        .asBytes();
+    return EdgeId.create(hashBytes);
+  }
+
+  /*
+   * Puts the length of the id (to keep ids of different sizes apart) and
+   * then its bytes. Hasher.putLong() is little-endian, so the packed longs
+   * are reversed to feed the same bytes as NodeId.getBytes().
+   */
+  private static void putNodeId(Hasher hasher, NodeId nodeId) {
+    hasher.putInt(nodeId.getLength());
+    if (!nodeId.isPacked()) {
+      hasher.putBytes(nodeId.getBytes());
+      return;
+    }
+    hasher.putLong(Long.reverseBytes(nodeId.getHigh()));
+    if (nodeId.getLength() == 2 * Long.BYTES) {
+      hasher.putLong(Long.reverseBytes(nodeId.getLow()));
+    }
+  }
+}
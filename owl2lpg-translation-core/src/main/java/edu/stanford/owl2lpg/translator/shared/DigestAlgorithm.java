@@ -0,0 +1,50 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The hash functions that can be used to compute the digest node and edge
+ * ids. The ids produced by the different algorithms are not compatible with
+ * each other, so a database must be exported and updated with one algorithm.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public enum DigestAlgorithm {
+
+  /**
+   * MD5 over the string forms of the ids. This is the algorithm of the
+   * existing databases and remains the default.
+   */
+  MD5(Hashing.md5(), true),
+
+  /**
+   * Murmur3 (128-bit) over the raw id bytes. Edge ids are hashed straight
+   * from the node id bytes without building an intermediate string.
+   */
+  MURMUR3_128(Hashing.murmur3_128(), false);
+
+  @Nonnull
+  private final HashFunction hashFunction;
+
+  private final boolean stringEncodedEdgeIds;
+
+  DigestAlgorithm(@Nonnull HashFunction hashFunction, boolean stringEncodedEdgeIds) {
+    this.hashFunction = hashFunction;
+    this.stringEncodedEdgeIds = stringEncodedEdgeIds;
+  }
+
+  @Nonnull
+  public HashFunction getHashFunction() {
+    return hashFunction;
+  }
+
+  /**
+   * Returns true if the edge ids are hashed from the hex strings of their
+   * node ids, as the existing databases expect.
+   */
+  public boolean isStringEncodedEdgeIds() {
+    return stringEncodedEdgeIds;
+  }
+}
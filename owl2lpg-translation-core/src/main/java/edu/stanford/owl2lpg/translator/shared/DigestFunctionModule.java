@@ -1,10 +1,13 @@
 package edu.stanford.owl2lpg.translator.shared;
 
 import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import dagger.Module;
 import dagger.Provides;
 
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
@@ -13,8 +16,24 @@ import dagger.Provides;
 @Module
 public class DigestFunctionModule {
 
+  @Nonnull
+  private final DigestAlgorithm digestAlgorithm;
+
+  public DigestFunctionModule() {
+    this(DigestAlgorithm.MD5);
+  }
+
+  public DigestFunctionModule(@Nonnull DigestAlgorithm digestAlgorithm) {
+    this.digestAlgorithm = checkNotNull(digestAlgorithm);
+  }
+
+  @Provides
+  public DigestAlgorithm provideDigestAlgorithm() {
+    return digestAlgorithm;
+  }
+
   @Provides
   public HashFunction provideHashFunction() {
-    return Hashing.md5();
+    return digestAlgorithm.getHashFunction();
   }
 }
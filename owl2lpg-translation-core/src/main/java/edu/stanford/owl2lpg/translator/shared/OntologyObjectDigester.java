@@ -0,0 +1,110 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.hash.HashCode;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes the SHA-256 digest of the binary OWL serialization of an OWL
+ * object. The serialization is streamed straight into a per-thread
+ * {@link MessageDigest}, so no intermediate byte array is produced. The
+ * result is the same as {@link BytesDigester#getDigestString(byte[])} over
+ * the bytes of {@link BinaryOntologyObjectSerializer}.
+ */
+public class OntologyObjectDigester {
+
+  @Nonnull
+  private final BinaryOwlOutputStreamFactory factory;
+
+  private final ThreadLocal<DigestSink> digestSinks = ThreadLocal.withInitial(DigestSink::new);
+
+  @Inject
+  public OntologyObjectDigester(@Nonnull BinaryOwlOutputStreamFactory factory) {
+    this.factory = checkNotNull(factory);
+  }
+
+  @Nonnull
+  public String getDigestString(@Nonnull OWLObject owlObject) {
+    var digestSink = digestSinks.get();
+    /* Discard whatever a previous call left behind when it failed part way */
+    digestSink.reset();
+    try {
+      factory.createOutputStream(digestSink.getDataOutput()).writeOWLObject(owlObject);
+      return digestSink.digest().toString();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /* An output stream that buffers the written bytes into a reusable message digest */
+  private static class DigestSink extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final MessageDigest messageDigest = createMessageDigest();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int count = 0;
+
+    private final DataOutputStream dataOutput = new DataOutputStream(this);
+
+    private static MessageDigest createMessageDigest() {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    DataOutputStream getDataOutput() {
+      return dataOutput;
+    }
+
+    @Override
+    public void write(int b) {
+      if (count == BUFFER_SIZE) {
+        flushBuffer();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(@Nonnull byte[] b, int off, int len) {
+      if (len > BUFFER_SIZE - count) {
+        flushBuffer();
+      }
+      if (len >= BUFFER_SIZE) {
+        messageDigest.update(b, off, len);
+      } else {
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+      }
+    }
+
+    private void flushBuffer() {
+      messageDigest.update(buffer, 0, count);
+      count = 0;
+    }
+
+    /* Returns the digest of the bytes written so far and resets the sink */
+    HashCode digest() {
+      flushBuffer();
+      return HashCode.fromBytes(messageDigest.digest());
+    }
+
+    void reset() {
+      count = 0;
+      messageDigest.reset();
+    }
+  }
+}
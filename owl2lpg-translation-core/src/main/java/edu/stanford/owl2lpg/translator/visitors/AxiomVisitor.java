@@ -19,8 +19,7 @@ import edu.stanford.owl2lpg.translator.EntityTranslator;
 import edu.stanford.owl2lpg.translator.IndividualTranslator;
 import edu.stanford.owl2lpg.translator.LiteralTranslator;
 import edu.stanford.owl2lpg.translator.PropertyExpressionTranslator;
-import edu.stanford.owl2lpg.translator.shared.BytesDigester;
-import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import org.semanticweb.owlapi.model.*;
 
@@ -113,10 +112,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
   private final AnnotationValueTranslator annotationValueTranslator;
 
   @Nonnull
-  private final OntologyObjectSerializer ontologyObjectSerializer;
-
-  @Nonnull
-  private final BytesDigester bytesDigester;
+  private final OntologyObjectDigester ontologyObjectDigester;
 
   @Inject
   public AxiomVisitor(@Nonnull NodeFactory nodeFactory,
@@ -131,8 +127,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
                       @Nonnull AnnotationObjectTranslator annotationTranslator,
                       @Nonnull AnnotationSubjectTranslator annotationSubjectTranslator,
                       @Nonnull AnnotationValueTranslator annotationValueTranslator,
-                      @Nonnull OntologyObjectSerializer ontologyObjectSerializer,
-                      @Nonnull BytesDigester bytesDigester) {
+                      @Nonnull OntologyObjectDigester ontologyObjectDigester) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.augmentedEdgeFactory = checkNotNull(augmentedEdgeFactory);
@@ -145,8 +140,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
     this.annotationTranslator = checkNotNull(annotationTranslator);
     this.annotationSubjectTranslator = checkNotNull(annotationSubjectTranslator);
     this.annotationValueTranslator = checkNotNull(annotationValueTranslator);
-    this.ontologyObjectSerializer = checkNotNull(ontologyObjectSerializer);
-    this.bytesDigester = checkNotNull(bytesDigester);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
   }
 
   @Nonnull
@@ -810,7 +804,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
 
   @Nonnull
   private Node createAxiomNode(OWLAxiom axiom, NodeLabels nodeLabels) {
-    var digestString = bytesDigester.getDigestString(ontologyObjectSerializer.serialize(axiom));
+    var digestString = ontologyObjectDigester.getDigestString(axiom);
     return nodeFactory.createNode(axiom, nodeLabels, Properties.of(DIGEST, digestString));
   }
 
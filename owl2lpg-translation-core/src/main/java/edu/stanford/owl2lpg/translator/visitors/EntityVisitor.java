@@ -10,6 +10,7 @@ import edu.stanford.owl2lpg.model.Properties;
 import edu.stanford.owl2lpg.model.StructuralEdgeFactory;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.AnnotationValueTranslator;
+import edu.stanford.owl2lpg.translator.internal.EntityTranslationCache;
 import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarations;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
@@ -57,15 +58,20 @@ public class EntityVisitor implements OWLEntityVisitorEx<Translation> {
   @Nonnull
   private final BuiltInPrefixDeclarations builtInPrefixDeclarations;
 
+  @Nonnull
+  private final EntityTranslationCache entityTranslationCache;
+
   @Inject
   public EntityVisitor(@Nonnull NodeFactory nodeFactory,
                        @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                        @Nonnull AnnotationValueTranslator annotationValueTranslator,
-                       @Nonnull BuiltInPrefixDeclarations builtInPrefixDeclarations) {
+                       @Nonnull BuiltInPrefixDeclarations builtInPrefixDeclarations,
+                       @Nonnull EntityTranslationCache entityTranslationCache) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.annotationValueTranslator = checkNotNull(annotationValueTranslator);
     this.builtInPrefixDeclarations = checkNotNull(builtInPrefixDeclarations);
+    this.entityTranslationCache = checkNotNull(entityTranslationCache);
   }
 
   @Nonnull
@@ -105,6 +111,10 @@ public class EntityVisitor implements OWLEntityVisitorEx<Translation> {
   }
 
   private Translation translateEntity(OWLEntity entity, NodeLabels nodeLabels) {
+    return entityTranslationCache.get(entity, e -> createEntityTranslation(e, nodeLabels));
+  }
+
+  private Translation createEntityTranslation(OWLEntity entity, NodeLabels nodeLabels) {
     var entityNode = createEntityNode(entity, nodeLabels);
     var translations = new ImmutableList.Builder<Translation>();
     var edges = new ImmutableList.Builder<Edge>();
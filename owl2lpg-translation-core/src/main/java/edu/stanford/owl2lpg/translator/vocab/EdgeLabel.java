@@ -70,7 +70,8 @@ public enum EdgeLabel {
   RELATED_TO(AUGMENTING),
   TYPE(AUGMENTING),
   SAME_INDIVIDUAL(AUGMENTING),
-  INVERSE_OF(AUGMENTING);
+  INVERSE_OF(AUGMENTING),
+  ANCESTOR(AUGMENTING);
 
   @Nonnull
   private final EdgeType edgeType;
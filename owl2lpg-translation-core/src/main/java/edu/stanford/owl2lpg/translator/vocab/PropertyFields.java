@@ -27,4 +27,6 @@ public class PropertyFields {
   public static final String TYPE = "type";
   public static final String POS = "pos";
   public static final String DIGEST = "digest";
+  public static final String CLASS_ANCESTORS = "classAncestors";
+  public static final String DIGEST_ALGORITHM = "digestAlgorithm";
 }
@@ -4,6 +4,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 public class NodeIdTest {
 
@@ -13,4 +14,39 @@ public class NodeIdTest {
     assertThat(nodeId.asString(), equalTo("0000000000000001"));
     assertThat(nodeId.toString(), equalTo("NodeId_0000000000000001"));
   }
+
+  @Test
+  public void shouldPackNumberAndDigestIds() {
+    var digest = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, (byte) 0xff};
+    var nodeId = NodeId.create(digest);
+    assertThat(nodeId.isPacked(), equalTo(true));
+    assertThat(nodeId.asString(), equalTo("000102030405060708090a0b0c0d0eff"));
+    assertThat(nodeId.getBytes(), equalTo(digest));
+    assertThat(NodeId.create(1).isPacked(), equalTo(true));
+    assertThat(NodeId.create(1).getBytes(), equalTo(new byte[]{0, 0, 0, 0, 0, 0, 0, 1}));
+  }
+
+  @Test
+  public void shouldEqualRegardlessOfHowCreated() {
+    var digestId = NodeId.create(0x0001020304050607L, 0x08090a0b0c0d0effL);
+    var digest = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, (byte) 0xff};
+    assertThat(digestId, equalTo(NodeId.create(digest)));
+    assertThat(digestId.hashCode(), equalTo(NodeId.create(digest).hashCode()));
+    assertThat(NodeId.create(1), equalTo(NodeId.create(new byte[]{0, 0, 0, 0, 0, 0, 0, 1})));
+    assertThat(NodeId.create(1), not(equalTo(NodeId.create(0L, 1L))));
+  }
+
+  @Test
+  public void shouldNotEqualEdgeIdWithSameBytes() {
+    assertThat(NodeId.create(1), not(equalTo(EdgeId.create(1))));
+    assertThat(EdgeId.create(1).asString(), equalTo(NodeId.create(1).asString()));
+  }
+
+  @Test
+  public void shouldKeepOtherIdsAsBytes() {
+    var nodeId = NodeId.create("1");
+    assertThat(nodeId.isPacked(), equalTo(false));
+    assertThat(nodeId.asString(), equalTo("31"));
+    assertThat(nodeId, equalTo(NodeId.create("1")));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class DigestNodeIdProvider_TestCase {
+
+  private final IRI iri = IRI.create("http://purl.obolibrary.org/obo/", "GO_0008150");
+
+  private final IRI iriWithoutRemainder = IRI.create("http://example.org/");
+
+  @Test
+  public void shouldKeepTheIdsOfTheConcatenatedObjectStrings() {
+    var dataFactory = OWLManager.getOWLDataFactory();
+    var cls = dataFactory.getOWLClass(iri);
+    var literal = OWLLiteral2.create(dataFactory.getOWLLiteral("biological_process", "en"));
+    var nonAsciiLiteral = OWLLiteral2.create(dataFactory.getOWLLiteral("processus biologique \u00e9\ud83e\uddec", "fr"));
+    for (var digestAlgorithm : DigestAlgorithm.values()) {
+      var provider = new DigestNodeIdProvider(digestAlgorithm.getHashFunction());
+      assertThat(provider.getId(iri), equalTo(hashString(digestAlgorithm, iri.toString())));
+      assertThat(provider.getId(iriWithoutRemainder), equalTo(hashString(digestAlgorithm, "http://example.org/")));
+      assertThat(provider.getId(cls), equalTo(hashString(digestAlgorithm, "Class" + iri)));
+      assertThat(provider.getId(literal), equalTo(hashString(digestAlgorithm,
+          literal.getLiteral() + literal.getDatatype() + literal.getLanguage())));
+      assertThat(provider.getId(nonAsciiLiteral), equalTo(hashString(digestAlgorithm,
+          nonAsciiLiteral.getLiteral() + nonAsciiLiteral.getDatatype() + nonAsciiLiteral.getLanguage())));
+    }
+  }
+
+  private static NodeId hashString(DigestAlgorithm digestAlgorithm, String objectString) {
+    return NodeId.create(digestAlgorithm.getHashFunction()
+        .hashString(objectString, StandardCharsets.UTF_8)
+        .asBytes());
+  }
+}
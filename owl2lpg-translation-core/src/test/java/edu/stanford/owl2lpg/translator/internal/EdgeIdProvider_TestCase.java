@@ -0,0 +1,64 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class EdgeIdProvider_TestCase {
+
+  private final Node startNode = Node.create(NodeId.create(1), NodeLabels.CLASS);
+
+  private final Node endNode = Node.create(NodeId.create(2), NodeLabels.IRI);
+
+  @Test
+  public void shouldKeepMd5EdgeIdsOfExistingDatabases() {
+    var provider = new DigestEdgeIdProvider(DigestAlgorithm.MD5.getHashFunction());
+    var edgeId = provider.get(startNode, endNode, EdgeLabel.ENTITY_IRI);
+    var edgeString = "0000000000000001:0000000000000002:" + EdgeLabel.ENTITY_IRI.getName();
+    var expectedId = EdgeId.create(Hashing.md5().hashString(edgeString, StandardCharsets.UTF_8).asBytes());
+    assertThat(edgeId, equalTo(expectedId));
+  }
+
+  @Test
+  public void shouldCreateStableRawEdgeIds() {
+    var provider = new RawDigestEdgeIdProvider(DigestAlgorithm.MURMUR3_128.getHashFunction());
+    var edgeId = provider.get(startNode, endNode, EdgeLabel.ENTITY_IRI);
+    assertThat(edgeId, equalTo(provider.get(startNode, endNode, EdgeLabel.ENTITY_IRI)));
+    assertThat(edgeId.getBytes().length, equalTo(16));
+  }
+
+  @Test
+  public void shouldHashPackedNodeIdsAsTheirBytes() {
+    var hashFunction = DigestAlgorithm.MURMUR3_128.getHashFunction();
+    var digestNode = Node.create(NodeId.create(0x0001020304050607L, 0x08090a0b0c0d0effL), NodeLabels.CLASS);
+    var edgeId = new RawDigestEdgeIdProvider(hashFunction).get(startNode, digestNode, EdgeLabel.ENTITY_IRI);
+    var expectedBytes = hashFunction.newHasher()
+        .putInt(8)
+        .putBytes(startNode.getNodeId().getBytes())
+        .putInt(16)
+        .putBytes(digestNode.getNodeId().getBytes())
+        .putUnencodedChars(EdgeLabel.ENTITY_IRI.getName())
+        .hash()
+        .asBytes();
+    assertThat(edgeId, equalTo(EdgeId.create(expectedBytes)));
+  }
+
+  @Test
+  public void shouldDistinguishRawEdgeDirectionAndLabel() {
+    var provider = new RawDigestEdgeIdProvider(DigestAlgorithm.MURMUR3_128.getHashFunction());
+    var edgeId = provider.get(startNode, endNode, EdgeLabel.ENTITY_IRI);
+    assertThat(edgeId, not(equalTo(provider.get(endNode, startNode, EdgeLabel.ENTITY_IRI))));
+    assertThat(edgeId, not(equalTo(provider.get(startNode, endNode, EdgeLabel.SUB_CLASS_OF))));
+  }
+}
@@ -0,0 +1,85 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class EntityTranslationCache_TestCase {
+
+  private final OWLClass clsA = Class(IRI.create("http://example.org/A"));
+
+  @Test
+  public void shouldTranslateEachEntityOnce() {
+    var cache = new EntityTranslationCache(10);
+    var translationCount = new AtomicInteger();
+    var translation = cache.get(clsA, entity -> translate(entity, translationCount));
+    assertThat(cache.get(clsA, entity -> translate(entity, translationCount)), sameInstance(translation));
+    assertThat(translationCount.get(), equalTo(1));
+
+    var stats = cache.getStats();
+    assertThat(stats.getHitCount(), equalTo(1L));
+    assertThat(stats.getMissCount(), equalTo(1L));
+    assertThat(stats.getSize(), equalTo(1L));
+  }
+
+  @Test
+  public void shouldNotKeepTranslationsWhenDisabled() {
+    var cache = new EntityTranslationCache(0);
+    var translationCount = new AtomicInteger();
+    cache.get(clsA, entity -> translate(entity, translationCount));
+    cache.get(clsA, entity -> translate(entity, translationCount));
+    assertThat(translationCount.get(), equalTo(2));
+    assertThat(cache.getStats().getSize(), equalTo(0L));
+  }
+
+  @Test
+  public void shouldProduceSameEntityNodesAsFreshSession() {
+    var axiom1 = SubClassOf(clsA, Class(IRI.create("http://example.org/B")));
+    var axiom2 = SubClassOf(clsA, Class(IRI.create("http://example.org/C")));
+
+    var session1 = createAxiomTranslator();
+    session1.translate(axiom1);
+    var cachedTranslation = session1.translate(axiom2);
+    var freshTranslation = createAxiomTranslator().translate(axiom2);
+
+    assertThat(getEntityAndIriNodes(cachedTranslation), equalTo(getEntityAndIriNodes(freshTranslation)));
+  }
+
+  private static Translation translate(OWLEntity entity, AtomicInteger translationCount) {
+    translationCount.incrementAndGet();
+    return Translation.create(entity, Node.create(NodeId.create(1), NodeLabels.CLASS));
+  }
+
+  private static AxiomTranslator createAxiomTranslator() {
+    return DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build()
+        .getAxiomTranslator();
+  }
+
+  private static Set<Node> getEntityAndIriNodes(Translation translation) {
+    return Stream.concat(translation.nodes(NodeLabels.ENTITY), translation.nodes(NodeLabels.IRI))
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,89 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.base.Strings;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.binaryowl.stream.BinaryOWLOutputStream;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import javax.annotation.Nonnull;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.fail;
+
+public class OntologyObjectDigester_TestCase {
+
+  private OWLDataFactory dataFactory;
+
+  private OntologyObjectDigester digester;
+
+  private BinaryOntologyObjectSerializer serializer;
+
+  private BytesDigester bytesDigester;
+
+  @Before
+  public void setUp() {
+    dataFactory = OWLManager.getOWLDataFactory();
+    var factory = new BinaryOwlOutputStreamFactory();
+    digester = new OntologyObjectDigester(factory);
+    serializer = new BinaryOntologyObjectSerializer(factory);
+    bytesDigester = new BytesDigester();
+  }
+
+  @Test
+  public void shouldProduceTheSameDigestAsTheSerializedBytes() {
+    var classA = dataFactory.getOWLClass(IRI.create("http://example.org/A"));
+    var classB = dataFactory.getOWLClass(IRI.create("http://example.org/B"));
+    var property = dataFactory.getOWLObjectProperty(IRI.create("http://example.org/p"));
+    // A literal longer than the internal buffer of the digester
+    var longLabel = dataFactory.getOWLLiteral(Strings.repeat("label ", 5_000), "en");
+    List<OWLAxiom> axioms = List.of(
+        dataFactory.getOWLDeclarationAxiom(classA),
+        dataFactory.getOWLSubClassOfAxiom(classA, dataFactory.getOWLObjectSomeValuesFrom(property, classB)),
+        dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(), classA.getIRI(), longLabel));
+    for (var axiom : axioms) {
+      var expectedDigest = bytesDigester.getDigestString(serializer.serialize(axiom));
+      assertThat(digester.getDigestString(axiom), equalTo(expectedDigest));
+      // The per-thread digest is reused, so a second call must not be affected by the first
+      assertThat(digester.getDigestString(axiom), equalTo(expectedDigest));
+    }
+  }
+
+  @Test
+  public void shouldNotBeAffectedByAFailedDigest() {
+    var failing = new AtomicBoolean(true);
+    var factory = new BinaryOwlOutputStreamFactory() {
+      @Override
+      public BinaryOWLOutputStream createOutputStream(@Nonnull DataOutput dataOutput) {
+        if (failing.getAndSet(false)) {
+          try {
+            dataOutput.writeLong(42L);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          throw new IllegalStateException("Unsupported object");
+        }
+        return super.createOutputStream(dataOutput);
+      }
+    };
+    var failingDigester = new OntologyObjectDigester(factory);
+    var axiom = dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create("http://example.org/A")));
+    try {
+      failingDigester.getDigestString(axiom);
+      fail("The digest should have failed");
+    } catch (IllegalStateException e) {
+      // The partly written bytes must not leak into the next digest
+    }
+    var expectedDigest = bytesDigester.getDigestString(serializer.serialize(axiom));
+    assertThat(failingDigester.getDigestString(axiom), equalTo(expectedDigest));
+  }
+}
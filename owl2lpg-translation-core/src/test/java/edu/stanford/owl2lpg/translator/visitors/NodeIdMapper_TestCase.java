@@ -98,4 +98,35 @@ public class NodeIdMapper_TestCase {
     assertThat(nodeA, is(not(equalTo(nodeB))));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void shouldReportHitsAndMisses() {
+    var property = new OWLObjectPropertyImpl(IRI.create("p"));
+    var someValuesFrom = new OWLObjectSomeValuesFromImpl(property, new OWLClassImpl(IRI.create("A")));
+    nodeIdMapper.get(someValuesFrom);
+    nodeIdMapper.get(someValuesFrom);
+    nodeIdMapper.get(someValuesFrom);
+    var stats = nodeIdMapper.getStats();
+    assertThat(stats.getMissCount(), is(1L));
+    assertThat(stats.getHitCount(), is(2L));
+    assertThat(stats.getSize(), is(1L));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedObjectsWhenBounded() {
+    var boundedMapper = new NodeIdMapperImpl(new NumberIncrementIdProvider(),
+        new DigestNodeIdProvider(Hashing.sha256()),
+        new IdFormatCheckerImpl(),
+        new SingleEncounterNodeCheckerImpl(),
+        10);
+    var property = new OWLObjectPropertyImpl(IRI.create("p"));
+    var first = new OWLObjectSomeValuesFromImpl(property, new OWLClassImpl(IRI.create("C0")));
+    var firstNodeId = boundedMapper.get(first);
+    for (int i = 1; i <= 100; i++) {
+      boundedMapper.get(new OWLObjectSomeValuesFromImpl(property, new OWLClassImpl(IRI.create("C" + i))));
+    }
+    var stats = boundedMapper.getStats();
+    assertThat(stats.getSize() <= 10, is(true));
+    assertThat(stats.getEvictionCount() >= 91, is(true));
+    assertThat(boundedMapper.get(first), is(not(equalTo(firstNodeId))));
+  }
+}
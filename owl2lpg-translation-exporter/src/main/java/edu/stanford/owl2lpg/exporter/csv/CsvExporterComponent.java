@@ -2,6 +2,7 @@ package edu.stanford.owl2lpg.exporter.csv;
 
 import dagger.Component;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvWriter;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
 import edu.stanford.owl2lpg.translator.TranslatorModule;
 import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializerModule;
@@ -18,4 +19,7 @@ public interface CsvExporterComponent {
   PerAxiomCsvExporter getPerAxiomCsvExporter();
 
   OboCsvExporter getOboCsvExporter();
+
+  /* Writes to the same CSV files as the exporters, which have to be closed to complete compressed files */
+  Neo4jCsvWriter getNeo4jCsvWriter();
 }
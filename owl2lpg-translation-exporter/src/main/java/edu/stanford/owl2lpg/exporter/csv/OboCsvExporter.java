@@ -76,6 +76,9 @@ public class OboCsvExporter {
     csvTranslator.setObodoc(obodoc);
     oboParser.parseOBODoc(obodoc);
 
+    csvExporter.writeClassAncestors();
+    csvExporter.flush();
+
     System.out.printf("Time: %,dms\n", sw.elapsed().toMillis());
     System.out.printf("Axioms: %,d\n", +csvTranslator.getAxiomsCount());
     
@@ -156,34 +159,39 @@ public class OboCsvExporter {
     private void addAxiom(OWLAxiom axiom) {
       try {
         counter.incrementAndGet();
-        printLog();
+        checkpoint();
         csvExporter.export(axiom);
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
     }
 
-    private void printLog() {
+    private void checkpoint() throws IOException {
       var c = counter.get();
       if (c % 1_000_000 == 0) {
-        var csvWriter = csvExporter.getCsvWriter();
-        long read = countingInputStream.getCount() / (1024 * 1024);
-        long ts1 = ManagementFactory.getThreadMXBean().getCurrentThreadUserTime();
-        long delta = (ts1 - ts) / 1000_000;
-        ts = ts1;
-        double percentage = (countingInputStream.getCount() * 100.0) / fileSize;
-        int percent = (int) percentage;
-        var runtime = Runtime.getRuntime();
-        var totalMemory = runtime.totalMemory();
-        var freeMemory = runtime.freeMemory();
-        var consumedMemory = (totalMemory - freeMemory) / (1024 * 1024);
-        var trackedNodesPercent = (100.0 * csvWriter.getTrackedNodeCount()) / csvWriter.getNodeCount();
-        var trackedEdgesPercent = (100.0 * csvWriter.getTrackedEdgeCount()) / csvWriter.getEdgeCount();
-        System.out.printf("%,9d axioms (Read %,4d Mb [%3d%%]  Delta: %,5d ms) (Used memory: %,8d MB)  Nodes: %,8d  Edges: %,8d  Tracked nodes: %,8d (%,.2f%%)  Tracked edges: %,8d (%,.2f%%)\n",
-            c, read, percent, delta, consumedMemory, csvWriter.getNodeCount(), csvWriter.getEdgeCount(), csvWriter.getTrackedNodeCount(), trackedNodesPercent, csvWriter.getTrackedEdgeCount(), trackedEdgesPercent);
+        csvExporter.flush();
+        printLog(c);
       }
     }
 
+    private void printLog(int c) {
+      var csvWriter = csvExporter.getCsvWriter();
+      long read = countingInputStream.getCount() / (1024 * 1024);
+      long ts1 = ManagementFactory.getThreadMXBean().getCurrentThreadUserTime();
+      long delta = (ts1 - ts) / 1000_000;
+      ts = ts1;
+      double percentage = (countingInputStream.getCount() * 100.0) / fileSize;
+      int percent = (int) percentage;
+      var runtime = Runtime.getRuntime();
+      var totalMemory = runtime.totalMemory();
+      var freeMemory = runtime.freeMemory();
+      var consumedMemory = (totalMemory - freeMemory) / (1024 * 1024);
+      var trackedNodesPercent = (100.0 * csvWriter.getTrackedNodeCount()) / csvWriter.getNodeCount();
+      var trackedEdgesPercent = (100.0 * csvWriter.getTrackedEdgeCount()) / csvWriter.getEdgeCount();
+      System.out.printf("%,9d axioms (Read %,4d Mb [%3d%%]  Delta: %,5d ms) (Used memory: %,8d MB)  Nodes: %,8d  Edges: %,8d  Tracked nodes: %,8d (%,.2f%%)  Tracked edges: %,8d (%,.2f%%)\n",
+          c, read, percent, delta, consumedMemory, csvWriter.getNodeCount(), csvWriter.getEdgeCount(), csvWriter.getTrackedNodeCount(), trackedNodesPercent, csvWriter.getTrackedEdgeCount(), trackedEdgesPercent);
+    }
+
     public int getAxiomsCount() {
       return counter.get();
     }
@@ -1,5 +1,8 @@
 package edu.stanford.owl2lpg.exporter.csv;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.stanford.owl2lpg.exporter.csv.internal.ProjectTranslator;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvWriter;
 import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
@@ -18,8 +21,15 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
 import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT;
@@ -30,6 +40,9 @@ import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT
  */
 public class OntologyCsvExporter {
 
+  /* Number of axioms handed to a worker at a time in the parallel mode */
+  private static final int AXIOM_BATCH_SIZE = 1_000;
+
   @Nonnull
   private final ProjectTranslator projectTranslator;
 
@@ -71,12 +84,36 @@ public class OntologyCsvExporter {
                      @Nonnull ProjectId projectId,
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId documentId) throws IOException {
+    export(ontology, projectId, branchId, documentId, 1);
+  }
+
+  /**
+   * Exports the ontology using the given number of workers to translate
+   * the ontology axioms. The translations are written in the same order
+   * as the axioms are iterated, by the calling thread only, so the node
+   * and edge trackers see exactly the same sequence as in the serial mode.
+   *
+   * @param workerCount The number of translation workers. A value of 1
+   *                    translates the axioms on the calling thread.
+   */
+  public void export(@Nonnull OWLOntology ontology,
+                     @Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull OntologyDocumentId documentId,
+                     int workerCount) throws IOException {
+    checkArgument(workerCount > 0, "The number of workers must be positive");
     var projectTranslation = projectTranslator.translate(ontology.getOntologyID(), projectId, branchId, documentId);
     writeTranslation(projectTranslation);
 
     var documentNode = projectTranslation.nodes(ONTOLOGY_DOCUMENT).findFirst().get();
     writeOntologyAnnotations(ontology.getAnnotations(), documentNode);
-    writeOntologyAxioms(ontology.getAxioms(), documentNode);
+    if (workerCount == 1) {
+      writeOntologyAxioms(ontology.getAxioms(), documentNode);
+    } else {
+      writeOntologyAxioms(ontology.getAxioms(), documentNode, workerCount);
+    }
+    csvWriter.writeClassAncestors();
+    csvWriter.flush();
 
     csvWriter.printReport();
   }
@@ -102,11 +139,58 @@ public class OntologyCsvExporter {
   private void writeOntologyAxioms(Set<OWLAxiom> axioms, Node documentNode) {
     axioms.stream()
         .map(axiomTranslator::translate)
-        .forEach(axiomTranslation -> {
-          writeTranslation(axiomTranslation);
-          writeAxiomEdge(axiomTranslation, documentNode);
-          writeInOntologySignatureEdge(axiomTranslation, documentNode);
-        });
+        .forEach(axiomTranslation -> writeAxiomTranslation(axiomTranslation, documentNode));
+  }
+
+  private void writeOntologyAxioms(Set<OWLAxiom> axioms, Node documentNode, int workerCount) {
+    var executor = createExecutor(workerCount);
+    try {
+      var maxPendingBatches = 2 * workerCount;
+      var pendingBatches = new ArrayDeque<Future<List<Translation>>>(maxPendingBatches);
+      for (var axiomBatch : Iterables.partition(axioms, AXIOM_BATCH_SIZE)) {
+        if (pendingBatches.size() == maxPendingBatches) {
+          writeAxiomTranslations(pendingBatches.poll(), documentNode);
+        }
+        pendingBatches.add(executor.submit(() -> translateAxioms(axiomBatch)));
+      }
+      while (!pendingBatches.isEmpty()) {
+        writeAxiomTranslations(pendingBatches.poll(), documentNode);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static ExecutorService createExecutor(int workerCount) {
+    var threadFactory = new ThreadFactoryBuilder()
+        .setNameFormat("axiom-translator-%d")
+        .setDaemon(true)
+        .build();
+    return Executors.newFixedThreadPool(workerCount, threadFactory);
+  }
+
+  private List<Translation> translateAxioms(List<OWLAxiom> axioms) {
+    return axioms.stream()
+        .map(axiomTranslator::translate)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private void writeAxiomTranslations(Future<List<Translation>> pendingTranslations, Node documentNode) {
+    try {
+      pendingTranslations.get().forEach(axiomTranslation ->
+          writeAxiomTranslation(axiomTranslation, documentNode));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private void writeAxiomTranslation(Translation axiomTranslation, Node documentNode) {
+    writeTranslation(axiomTranslation);
+    writeAxiomEdge(axiomTranslation, documentNode);
+    writeInOntologySignatureEdge(axiomTranslation, documentNode);
   }
 
   private void writeAxiomEdge(Translation axiomTranslation, Node documentNode) {
@@ -94,6 +94,14 @@ public class PerAxiomCsvExporter {
     return csvWriter;
   }
 
+  public void writeClassAncestors() {
+    csvWriter.writeClassAncestors();
+  }
+
+  public void flush() throws IOException {
+    csvWriter.flush();
+  }
+
   public void printReport() {
     csvWriter.printReport();
   }
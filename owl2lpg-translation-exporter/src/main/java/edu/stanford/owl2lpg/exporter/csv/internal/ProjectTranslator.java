@@ -1,7 +1,9 @@
 package edu.stanford.owl2lpg.exporter.csv.internal;
 
 import com.google.common.collect.ImmutableList;
+import edu.stanford.owl2lpg.exporter.csv.writer.ClassAncestorCollector;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.DigestAlgorithm;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.model.NodeFactory;
@@ -23,6 +25,8 @@ import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.BRANCH;
 import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT;
 import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.PROJECT;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.BRANCH_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.CLASS_ANCESTORS;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST_ALGORITHM;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.ONTOLOGY_DOCUMENT_ID;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.PROJECT_ID;
 
@@ -38,11 +42,21 @@ public class ProjectTranslator {
   @Nonnull
   private final StructuralEdgeFactory edgeFactory;
 
+  @Nonnull
+  private final ClassAncestorCollector classAncestorCollector;
+
+  @Nonnull
+  private final DigestAlgorithm digestAlgorithm;
+
   @Inject
   public ProjectTranslator(@Nonnull NodeFactory nodeFactory,
-                           @Nonnull StructuralEdgeFactory edgeFactory) {
+                           @Nonnull StructuralEdgeFactory edgeFactory,
+                           @Nonnull ClassAncestorCollector classAncestorCollector,
+                           @Nonnull DigestAlgorithm digestAlgorithm) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.edgeFactory = checkNotNull(edgeFactory);
+    this.classAncestorCollector = checkNotNull(classAncestorCollector);
+    this.digestAlgorithm = checkNotNull(digestAlgorithm);
   }
 
   @Nonnull
@@ -84,16 +98,26 @@ public class ProjectTranslator {
                 ontologyIdTranslation.build())))));
   }
 
+  /*
+   * The project records the algorithm of its digest ids, which the clients
+   * that update the project must use as well
+   */
   @Nonnull
   private Node createProjectNode(ProjectId projectId) {
     return nodeFactory.createNode(projectId, PROJECT,
-        Properties.of(PROJECT_ID, projectId.getIdentifier()));
+        Properties.of(PROJECT_ID, projectId.getIdentifier(),
+            DIGEST_ALGORITHM, digestAlgorithm.name()));
   }
 
+  /*
+   * The branch records whether its classes have ANCESTOR edges, so that the
+   * readers of a branch never take the edges of another export for its own
+   */
   @Nonnull
   private Node createBranchNode(BranchId branchId) {
     return nodeFactory.createNode(branchId, BRANCH,
-        Properties.of(BRANCH_ID, branchId.getIdentifier()));
+        Properties.of(BRANCH_ID, branchId.getIdentifier(),
+            CLASS_ANCESTORS, classAncestorCollector.isEnabled()));
   }
 
   @Nonnull
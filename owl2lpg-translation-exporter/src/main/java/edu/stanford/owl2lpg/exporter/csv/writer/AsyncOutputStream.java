@@ -0,0 +1,229 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Hands the bytes written to it over to a thread of its own, which writes
+ * them to the underlying output. It lets a CSV file be compressed on a
+ * separate thread, so that the thread writing the rows does not wait for
+ * the compression. The bytes are handed over in chunks taken from a small
+ * pool, so the writing thread only waits when the output falls behind.
+ * <p>
+ * A failure of the underlying output is thrown by the next write, flush or
+ * close.
+ */
+class AsyncOutputStream extends OutputStream {
+
+  private static final int CHUNK_COUNT = 4;
+
+  /* Tells the output thread to flush, or to close, the underlying output */
+  private static final Chunk FLUSH = new Chunk(0);
+
+  private static final Chunk CLOSE = new Chunk(0);
+
+  @Nonnull
+  private final OutputStream output;
+
+  private final BlockingQueue<Chunk> freeChunks = new ArrayBlockingQueue<>(CHUNK_COUNT);
+
+  /* Has room for the markers besides all of the chunks */
+  private final BlockingQueue<Chunk> filledChunks = new ArrayBlockingQueue<>(CHUNK_COUNT + 2);
+
+  private final Semaphore flushed = new Semaphore(0);
+
+  @Nonnull
+  private final Thread outputThread;
+
+  @Nonnull
+  private Chunk chunk;
+
+  private boolean closed = false;
+
+  @Nullable
+  private volatile Throwable outputFailure;
+
+  AsyncOutputStream(@Nonnull OutputStream output, int chunkSize, @Nonnull String threadName) {
+    checkArgument(chunkSize > 0, "The chunk size must be positive");
+    this.output = checkNotNull(output);
+    for (int i = 0; i < CHUNK_COUNT; i++) {
+      freeChunks.add(new Chunk(chunkSize));
+    }
+    this.chunk = freeChunks.remove();
+    this.outputThread = new Thread(this::writeChunks, threadName);
+    outputThread.setDaemon(true);
+    outputThread.start();
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    checkOpen();
+    if (chunk.isFull()) {
+      handOverChunk();
+    }
+    chunk.bytes[chunk.length++] = (byte) b;
+  }
+
+  @Override
+  public void write(@Nonnull byte[] b, int off, int len) throws IOException {
+    checkOpen();
+    while (len > 0) {
+      if (chunk.isFull()) {
+        handOverChunk();
+      }
+      var copyLength = Math.min(len, chunk.bytes.length - chunk.length);
+      System.arraycopy(b, off, chunk.bytes, chunk.length, copyLength);
+      chunk.length += copyLength;
+      off += copyLength;
+      len -= copyLength;
+    }
+  }
+
+  /**
+   * Waits until the bytes written so far have been written and flushed to
+   * the underlying output.
+   */
+  @Override
+  public void flush() throws IOException {
+    checkOpen();
+    if (chunk.length > 0) {
+      handOverChunk();
+    }
+    put(FLUSH);
+    try {
+      flushed.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while flushing the output");
+    }
+    checkOutputFailure();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (chunk.length > 0) {
+      put(chunk);
+    }
+    put(CLOSE);
+    try {
+      outputThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while closing the output");
+    }
+    checkOutputFailure();
+  }
+
+  private void handOverChunk() throws IOException {
+    checkOutputFailure();
+    put(chunk);
+    try {
+      chunk = freeChunks.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the output");
+    }
+  }
+
+  private void put(Chunk chunk) throws IOException {
+    try {
+      filledChunks.put(chunk);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the output");
+    }
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) {
+      throw new IOException("The output is closed");
+    }
+  }
+
+  private void checkOutputFailure() throws IOException {
+    var failure = outputFailure;
+    if (failure != null) {
+      throw new IOException("Failed to write the output", failure);
+    }
+  }
+
+  /*
+   * Runs on the output thread. After a failure it keeps taking the chunks,
+   * without writing them, so that the writing thread never waits forever.
+   */
+  private void writeChunks() {
+    try {
+      while (true) {
+        var filledChunk = filledChunks.take();
+        if (filledChunk == CLOSE) {
+          closeOutput();
+          return;
+        }
+        if (filledChunk == FLUSH) {
+          runOutput(output::flush);
+          flushed.release();
+          continue;
+        }
+        runOutput(() -> output.write(filledChunk.bytes, 0, filledChunk.length));
+        filledChunk.length = 0;
+        freeChunks.add(filledChunk);
+      }
+    } catch (InterruptedException e) {
+      outputFailure = e;
+    }
+  }
+
+  private void runOutput(OutputAction action) {
+    if (outputFailure != null) {
+      return;
+    }
+    try {
+      action.run();
+    } catch (IOException | RuntimeException e) {
+      outputFailure = e;
+    }
+  }
+
+  private void closeOutput() {
+    try {
+      output.close();
+    } catch (IOException | RuntimeException e) {
+      if (outputFailure == null) {
+        outputFailure = e;
+      }
+    }
+  }
+
+  private interface OutputAction {
+
+    void run() throws IOException;
+  }
+
+  private static class Chunk {
+
+    private final byte[] bytes;
+
+    private int length = 0;
+
+    Chunk(int size) {
+      this.bytes = new byte[size];
+    }
+
+    boolean isFull() {
+      return length == bytes.length;
+    }
+  }
+}
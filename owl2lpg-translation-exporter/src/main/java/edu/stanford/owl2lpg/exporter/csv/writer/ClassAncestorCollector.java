@@ -0,0 +1,112 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects the SUB_CLASS_OF edges between named classes while a document is
+ * written and, at the end of the export, writes an ANCESTOR edge from each
+ * class to every named class that it reaches through these edges. The reads
+ * of the class hierarchy can then look up the ancestors and descendants of a
+ * class in a single hop instead of expanding a variable-length path.
+ * <p>
+ * The closure is stored as edges rather than as interval labels on the class
+ * nodes because a class may have several parents, which interval labels
+ * cannot represent without duplicating the subtrees.
+ */
+public class ClassAncestorCollector {
+
+  private final boolean enabled;
+
+  @Nonnull
+  private final AugmentedEdgeFactory augmentedEdgeFactory;
+
+  private final Map<NodeId, Node> classNodes = new LinkedHashMap<>();
+
+  private final Map<NodeId, Set<NodeId>> parents = new LinkedHashMap<>();
+
+  public ClassAncestorCollector(boolean enabled,
+                                @Nonnull AugmentedEdgeFactory augmentedEdgeFactory) {
+    this.enabled = enabled;
+    this.augmentedEdgeFactory = checkNotNull(augmentedEdgeFactory);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized void add(@Nonnull Edge edge) {
+    if (!enabled || !edge.isTypeOf(EdgeLabel.SUB_CLASS_OF)) {
+      return;
+    }
+    var subClassNode = edge.getFromNode();
+    var superClassNode = edge.getToNode();
+    if (!isClass(subClassNode) || !isClass(superClassNode)) {
+      return;
+    }
+    classNodes.putIfAbsent(subClassNode.getNodeId(), subClassNode);
+    classNodes.putIfAbsent(superClassNode.getNodeId(), superClassNode);
+    parents.computeIfAbsent(subClassNode.getNodeId(), id -> new LinkedHashSet<>())
+        .add(superClassNode.getNodeId());
+  }
+
+  private static boolean isClass(Node node) {
+    return node.getLabels().isa(NodeLabels.CLASS);
+  }
+
+  /**
+   * Writes the ANCESTOR edges of all the collected classes and forgets the
+   * collected hierarchy.
+   *
+   * @return The number of ANCESTOR edges that were written.
+   */
+  public synchronized long writeAncestorEdges(@Nonnull Consumer<Edge> edgeWriter) {
+    long edgeCount = 0;
+    for (var classId : parents.keySet()) {
+      var classNode = classNodes.get(classId);
+      for (var ancestorId : getAncestors(classId)) {
+        var ancestorEdge = augmentedEdgeFactory.getAncestorEdge(classNode, classNodes.get(ancestorId));
+        if (ancestorEdge.isPresent()) {
+          edgeWriter.accept(ancestorEdge.get());
+          edgeCount++;
+        }
+      }
+    }
+    classNodes.clear();
+    parents.clear();
+    return edgeCount;
+  }
+
+  private Set<NodeId> getAncestors(NodeId classId) {
+    var ancestors = new LinkedHashSet<NodeId>();
+    var visited = new HashSet<NodeId>();
+    var queue = new ArrayDeque<NodeId>();
+    /* Equivalent classes are linked both ways, so a class can reach itself */
+    visited.add(classId);
+    queue.add(classId);
+    while (!queue.isEmpty()) {
+      for (var parentId : parents.getOrDefault(queue.poll(), Set.of())) {
+        if (visited.add(parentId)) {
+          ancestors.add(parentId);
+          queue.add(parentId);
+        }
+      }
+    }
+    return ancestors;
+  }
+}
@@ -0,0 +1,60 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression of the CSV files. neo4j-admin import reads gzip files
+ * directly, whereas zstd files are smaller and faster to write but have to
+ * be decompressed before they are imported. A compressed file is only
+ * complete once its writer is closed.
+ */
+public enum CsvCompression {
+
+  NONE("") {
+    @Nonnull
+    @Override
+    public OutputStream compress(@Nonnull OutputStream output, int bufferSize) {
+      return output;
+    }
+  },
+
+  GZIP(".gz") {
+    @Nonnull
+    @Override
+    public OutputStream compress(@Nonnull OutputStream output, int bufferSize) throws IOException {
+      /* Sync flushes keep the bytes written up to a flush readable, and counted */
+      return new GZIPOutputStream(output, bufferSize, true);
+    }
+  },
+
+  ZSTD(".zst") {
+    @Nonnull
+    @Override
+    public OutputStream compress(@Nonnull OutputStream output, int bufferSize) throws IOException {
+      return new ZstdOutputStream(output);
+    }
+  };
+
+  @Nonnull
+  private final String fileExtension;
+
+  CsvCompression(@Nonnull String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  /**
+   * The extension that is appended to the .csv file names, e.g. ".gz"
+   */
+  @Nonnull
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  @Nonnull
+  public abstract OutputStream compress(@Nonnull OutputStream output, int bufferSize) throws IOException;
+}
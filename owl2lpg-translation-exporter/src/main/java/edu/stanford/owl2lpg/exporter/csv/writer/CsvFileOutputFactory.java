@@ -0,0 +1,70 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Opens the outputs of the CSV files, which encode the rows in UTF-8,
+ * compress them if needed and count their bytes in the
+ * {@link CsvOutputStatistics}.
+ */
+public class CsvFileOutputFactory {
+
+  @Nonnull
+  private final CsvCompression compression;
+
+  private final boolean asyncCompression;
+
+  private final int bufferSize;
+
+  @Nonnull
+  private final CsvOutputStatistics statistics;
+
+  /**
+   * @param asyncCompression Whether each file is compressed on a thread of
+   *                         its own instead of the thread writing its rows.
+   * @param bufferSize       The size in chars of the output buffer of each
+   *                         file.
+   */
+  public CsvFileOutputFactory(@Nonnull CsvCompression compression,
+                              boolean asyncCompression,
+                              int bufferSize,
+                              @Nonnull CsvOutputStatistics statistics) {
+    checkArgument(bufferSize > 0, "The buffer size must be positive");
+    this.compression = checkNotNull(compression);
+    this.asyncCompression = asyncCompression;
+    this.bufferSize = bufferSize;
+    this.statistics = checkNotNull(statistics);
+  }
+
+  /**
+   * The file name of a CSV file, e.g. nodes.csv.gz for "nodes"
+   */
+  @Nonnull
+  public String getFileName(@Nonnull String baseName) {
+    return baseName + ".csv" + compression.getFileExtension();
+  }
+
+  @Nonnull
+  public Writer open(@Nonnull Path file) throws IOException {
+    OutputStream output = new MeteredOutputStream(new FileOutputStream(file.toFile()), statistics::addWrittenBytes);
+    if (compression != CsvCompression.NONE) {
+      output = compression.compress(output, bufferSize);
+      if (asyncCompression) {
+        output = new AsyncOutputStream(output, bufferSize, "csv-compressor-" + file.getFileName());
+      }
+    }
+    output = new MeteredOutputStream(output, statistics::addRawBytes);
+    return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), bufferSize);
+  }
+}
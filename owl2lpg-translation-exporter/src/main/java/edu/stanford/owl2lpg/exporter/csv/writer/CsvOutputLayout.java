@@ -0,0 +1,75 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Describes how the nodes and relationships are laid out in CSV files. The
+ * default is a single nodes.csv and a single edges.csv, each with its own
+ * header row. A split layout writes the rows to several files, per label
+ * and/or rolled over after a maximum number of rows, that share a separate
+ * header file and are written concurrently, so that neo4j-admin import can
+ * read them in parallel. In either layout the data files may be compressed,
+ * optionally on threads of their own.
+ */
+@AutoValue
+public abstract class CsvOutputLayout {
+
+  public static final int DEFAULT_WRITER_COUNT = 4;
+
+  @Nonnull
+  public static CsvOutputLayout singleFile() {
+    return create(false, 0, 1);
+  }
+
+  /**
+   * @param partitionedByLabel Whether to write the rows of each node label and
+   *                           relationship type to their own files.
+   * @param maxRowsPerFile     The number of rows after which a file is rolled
+   *                           over to the next one, or 0 for no limit.
+   * @param writerCount        The number of threads writing the node files,
+   *                           and as many writing the relationship files.
+   */
+  @Nonnull
+  public static CsvOutputLayout create(boolean partitionedByLabel, long maxRowsPerFile, int writerCount) {
+    return create(partitionedByLabel, maxRowsPerFile, writerCount, CsvCompression.NONE, false);
+  }
+
+  /**
+   * @param asyncCompression Whether each data file is compressed on a thread
+   *                         of its own. It only applies to the single-file
+   *                         layout, since the split files are already written
+   *                         by the writer threads.
+   */
+  @Nonnull
+  public static CsvOutputLayout create(boolean partitionedByLabel, long maxRowsPerFile, int writerCount,
+                                       @Nonnull CsvCompression compression, boolean asyncCompression) {
+    checkArgument(maxRowsPerFile >= 0, "The maximum number of rows per file must not be negative");
+    checkArgument(writerCount > 0, "The number of writers must be positive");
+    return new AutoValue_CsvOutputLayout(partitionedByLabel, maxRowsPerFile, writerCount,
+        compression, asyncCompression);
+  }
+
+  @Nonnull
+  public CsvOutputLayout withCompression(@Nonnull CsvCompression compression, boolean asyncCompression) {
+    return create(isPartitionedByLabel(), getMaxRowsPerFile(), getWriterCount(), compression, asyncCompression);
+  }
+
+  public abstract boolean isPartitionedByLabel();
+
+  public abstract long getMaxRowsPerFile();
+
+  public abstract int getWriterCount();
+
+  @Nonnull
+  public abstract CsvCompression getCompression();
+
+  public abstract boolean isAsyncCompression();
+
+  public boolean isSplit() {
+    return isPartitionedByLabel() || getMaxRowsPerFile() > 0;
+  }
+}
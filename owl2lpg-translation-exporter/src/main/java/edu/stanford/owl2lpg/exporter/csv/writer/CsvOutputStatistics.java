@@ -0,0 +1,65 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the bytes of the CSV files before and after their compression, and
+ * the time spent writing them. The counts are summed over all of the files
+ * of an export and may be updated by several writer threads.
+ */
+public class CsvOutputStatistics {
+
+  private final LongAdder rawByteCount = new LongAdder();
+
+  private final LongAdder writtenByteCount = new LongAdder();
+
+  private final LongAdder outputNanos = new LongAdder();
+
+  private final LongAdder diskWriteNanos = new LongAdder();
+
+  void addRawBytes(long byteCount, long nanos) {
+    rawByteCount.add(byteCount);
+    outputNanos.add(nanos);
+  }
+
+  void addWrittenBytes(long byteCount, long nanos) {
+    writtenByteCount.add(byteCount);
+    diskWriteNanos.add(nanos);
+  }
+
+  /* The bytes of the encoded CSV rows, before their compression */
+  public long getRawByteCount() {
+    return rawByteCount.sum();
+  }
+
+  /* The bytes that went to the disk */
+  public long getWrittenByteCount() {
+    return writtenByteCount.sum();
+  }
+
+  public double getCompressionRatio() {
+    var rawBytes = getRawByteCount();
+    return rawBytes == 0 ? 1.0 : (double) getWrittenByteCount() / rawBytes;
+  }
+
+  /*
+   * The time the threads that write the rows spent handing the encoded rows
+   * to the output, i.e. compressing and writing them, or only queueing them
+   * when they are compressed on a separate thread
+   */
+  public long getOutputMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(outputNanos.sum());
+  }
+
+  /* The time spent writing the (compressed) bytes to the disk */
+  public long getDiskWriteMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(diskWriteNanos.sum());
+  }
+
+  /* The raw bytes per second of output time */
+  public double getOutputThroughput() {
+    var outputNanos = this.outputNanos.sum();
+    return outputNanos == 0 ? 0.0 : getRawByteCount() * 1e9 / outputNanos;
+  }
+}
@@ -0,0 +1,107 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer that a {@link CsvRowEncoder} writes the chars of a row
+ * into, so that a row is handed to the output in a single write. The values
+ * are encoded like Jackson's CSV generator with ALWAYS_QUOTE_STRINGS: the
+ * strings are quoted, with their quotes doubled, and the numbers and
+ * booleans are not.
+ */
+public class CsvRowBuffer {
+
+  private static final int INITIAL_CAPACITY = 512;
+
+  private char[] chars = new char[INITIAL_CAPACITY];
+
+  private int length = 0;
+
+  public void clear() {
+    length = 0;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public void appendQuoted(@Nonnull String value) {
+    var valueLength = value.length();
+    /* Every char of the value may be a quote that is doubled */
+    ensureCapacity(2 * valueLength + 2);
+    var chars = this.chars;
+    var length = this.length;
+    chars[length++] = '"';
+    for (int i = 0; i < valueLength; i++) {
+      var c = value.charAt(i);
+      if (c == '"') {
+        chars[length++] = '"';
+      }
+      chars[length++] = c;
+    }
+    chars[length++] = '"';
+    this.length = length;
+  }
+
+  public void appendInt(int value) {
+    if (value == Integer.MIN_VALUE) {
+      appendRaw(Integer.toString(value));
+      return;
+    }
+    ensureCapacity(11);
+    if (value < 0) {
+      chars[length++] = '-';
+      value = -value;
+    }
+    var digitCount = 1;
+    for (var remainder = value / 10; remainder > 0; remainder /= 10) {
+      digitCount++;
+    }
+    var position = length + digitCount;
+    length = position;
+    do {
+      chars[--position] = (char) ('0' + value % 10);
+      value /= 10;
+    } while (value > 0);
+  }
+
+  public void appendBoolean(boolean value) {
+    appendRaw(value ? "true" : "false");
+  }
+
+  public void appendRaw(@Nonnull String value) {
+    var valueLength = value.length();
+    ensureCapacity(valueLength);
+    value.getChars(0, valueLength, chars, length);
+    length += valueLength;
+  }
+
+  public void appendSeparator() {
+    ensureCapacity(1);
+    chars[length++] = ',';
+  }
+
+  public void endRow() {
+    ensureCapacity(1);
+    chars[length++] = '\n';
+  }
+
+  public void writeTo(@Nonnull Writer output) throws IOException {
+    output.write(chars, 0, length);
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars, 0, length);
+  }
+
+  private void ensureCapacity(int additionalLength) {
+    var requiredCapacity = length + additionalLength;
+    if (requiredCapacity > chars.length) {
+      chars = Arrays.copyOf(chars, Math.max(requiredCapacity, 2 * chars.length));
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Encodes the rows of a fixed-column {@link Neo4jCsvSchema} without going
+ * through Jackson. The output is the same as that of the CsvMapper in
+ * {@link CsvWriter}, but the encoder neither introspects the row objects nor
+ * builds the map of typed property keys of each row.
+ * <p>
+ * The leading columns, such as the ids and labels, are written by the
+ * subclasses. The remaining columns hold the properties of the row, which are
+ * looked up by the column name without its type suffix, e.g. "cardinality"
+ * for "cardinality:int". As with Jackson, a property that has no column, or
+ * whose value does not match the type of its column, fails the row.
+ * <p>
+ * An encoder keeps no state of its own, so it can be shared by the writer
+ * threads.
+ */
+public abstract class CsvRowEncoder<T> {
+
+  @Nonnull
+  private final ImmutableList<PropertyColumn> propertyColumns;
+
+  /**
+   * @param leadingColumnNames The names of the columns that come before the
+   *                           property columns in the schema.
+   */
+  protected CsvRowEncoder(@Nonnull Neo4jCsvSchema schema, @Nonnull String... leadingColumnNames) {
+    var columnNames = getColumnNames(schema.getCsvSchema());
+    for (int i = 0; i < leadingColumnNames.length; i++) {
+      checkArgument(i < columnNames.size() && columnNames.get(i).equals(leadingColumnNames[i]),
+          "Column %s of the schema is not %s", i, leadingColumnNames[i]);
+    }
+    this.propertyColumns = columnNames.subList(leadingColumnNames.length, columnNames.size()).stream()
+        .map(PropertyColumn::create)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  public void encode(@Nonnull T row, @Nonnull CsvRowBuffer buffer) {
+    encodeLeadingColumns(row, buffer);
+    var properties = getProperties(row);
+    var encodedPropertyCount = 0;
+    for (var propertyColumn : propertyColumns) {
+      buffer.appendSeparator();
+      var value = properties.get(propertyColumn.key);
+      if (value != null) {
+        propertyColumn.encode(value, buffer);
+        encodedPropertyCount++;
+      }
+    }
+    if (encodedPropertyCount != properties.size()) {
+      throw new IllegalArgumentException("Properties without a column: " + properties.keySet());
+    }
+    buffer.endRow();
+  }
+
+  /**
+   * Writes the leading columns of the row, with no separator after the last
+   * one.
+   */
+  protected abstract void encodeLeadingColumns(@Nonnull T row, @Nonnull CsvRowBuffer buffer);
+
+  @Nonnull
+  protected abstract ImmutableMap<String, Object> getProperties(@Nonnull T row);
+
+  /**
+   * The header row of the schema, as Jackson writes it with quoted strings.
+   */
+  @Nonnull
+  public static String getHeaderRow(@Nonnull CsvSchema csvSchema) {
+    var buffer = new CsvRowBuffer();
+    var columnNames = getColumnNames(csvSchema);
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (i > 0) {
+        buffer.appendSeparator();
+      }
+      buffer.appendQuoted(columnNames.get(i));
+    }
+    buffer.endRow();
+    return buffer.toString();
+  }
+
+  private static ImmutableList<String> getColumnNames(CsvSchema csvSchema) {
+    var columnNames = new ArrayList<String>();
+    csvSchema.forEach(column -> columnNames.add(column.getName()));
+    return ImmutableList.copyOf(columnNames);
+  }
+
+  private enum ValueType {
+
+    STRING, INT, BOOLEAN
+  }
+
+  /* Mirrors the typed keys of Properties.neoProperties() */
+  private static class PropertyColumn {
+
+    @Nonnull
+    private final String key;
+
+    @Nonnull
+    private final ValueType valueType;
+
+    private PropertyColumn(@Nonnull String key, @Nonnull ValueType valueType) {
+      this.key = key;
+      this.valueType = valueType;
+    }
+
+    static PropertyColumn create(String columnName) {
+      if (columnName.endsWith(":int")) {
+        return new PropertyColumn(columnName.substring(0, columnName.length() - 4), ValueType.INT);
+      } else if (columnName.endsWith(":boolean")) {
+        return new PropertyColumn(columnName.substring(0, columnName.length() - 8), ValueType.BOOLEAN);
+      } else {
+        return new PropertyColumn(columnName, ValueType.STRING);
+      }
+    }
+
+    void encode(Object value, CsvRowBuffer buffer) {
+      if (valueType == ValueType.INT && value instanceof Integer) {
+        buffer.appendInt((Integer) value);
+      } else if (valueType == ValueType.BOOLEAN && value instanceof Boolean) {
+        buffer.appendBoolean((Boolean) value);
+      } else if (valueType == ValueType.STRING && value instanceof String) {
+        buffer.appendQuoted((String) value);
+      } else if (valueType == ValueType.STRING && value instanceof Long) {
+        buffer.appendRaw(value.toString());
+      } else {
+        throw new IllegalArgumentException("Property " + key + " has a value of " + value.getClass().getSimpleName() +
+            ", which does not match its column");
+      }
+    }
+  }
+}
@@ -6,13 +6,25 @@ import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Writer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-public class CsvWriter<T> {
+/**
+ * Writes row objects to a CSV output. The rows are handed over to the
+ * output writer as they are written, but the output itself is only flushed
+ * when {@link #flush()} or {@link #close()} is called, so a buffered output
+ * can batch the rows into large writes.
+ * <p>
+ * The rows are encoded by Jackson's CsvMapper unless a {@link CsvRowEncoder}
+ * is given, which writes the same output without the overhead of data
+ * binding.
+ */
+public class CsvWriter<T> implements Closeable {
 
   @Nonnull
   private final Writer output;
@@ -20,9 +32,15 @@ public class CsvWriter<T> {
   @Nonnull
   private Neo4jCsvSchema schema;
 
-  @Nonnull
+  @Nullable
   private final CsvMapper csvMapper;
 
+  @Nullable
+  private final CsvRowEncoder<T> rowEncoder;
+
+  @Nullable
+  private final CsvRowBuffer rowBuffer;
+
   private boolean writtenHeader = false;
 
   private SequenceWriter objectWriter;
@@ -32,12 +50,26 @@ public class CsvWriter<T> {
                    @Nonnull Neo4jCsvSchema schema,
                    @Nonnull Writer output) {
     this.csvMapper = checkNotNull(csvMapper);
+    this.rowEncoder = null;
+    this.rowBuffer = null;
+    this.output = checkNotNull(output);
+    this.schema = checkNotNull(schema);
+  }
+
+  public CsvWriter(@Nonnull Neo4jCsvSchema schema,
+                   @Nonnull CsvRowEncoder<T> rowEncoder,
+                   @Nonnull Writer output) {
+    this.csvMapper = null;
+    this.rowEncoder = checkNotNull(rowEncoder);
+    this.rowBuffer = new CsvRowBuffer();
     this.output = checkNotNull(output);
     this.schema = checkNotNull(schema);
   }
 
   public void write(@Nonnull T rowObject) throws IOException {
-    if (writtenHeader) {
+    if (rowEncoder != null) {
+      encodeRow(rowObject);
+    } else if (writtenHeader) {
       writeRow(rowObject);
     } else {
       writeFirstRow(rowObject);
@@ -57,10 +89,34 @@ public class CsvWriter<T> {
 
   private void writeRow(@Nonnull T rowObject) throws IOException {
     objectWriter.write(rowObject);
-    objectWriter.flush();
+  }
+
+  private void encodeRow(@Nonnull T rowObject) throws IOException {
+    if (!writtenHeader) {
+      var csvSchemaWithHeader = schema.getCsvSchemaWithHeader();
+      if (csvSchemaWithHeader.usesHeader()) {
+        output.write(CsvRowEncoder.getHeaderRow(csvSchemaWithHeader));
+      }
+      writtenHeader = true;
+    }
+    rowBuffer.clear();
+    rowEncoder.encode(rowObject, rowBuffer);
+    rowBuffer.writeTo(output);
   }
 
   public void flush() throws IOException {
+    if (objectWriter != null) {
+      objectWriter.flush();
+    }
     output.flush();
   }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      output.close();
+    }
+  }
 }
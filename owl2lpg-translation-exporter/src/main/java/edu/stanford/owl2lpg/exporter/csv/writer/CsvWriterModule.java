@@ -1,19 +1,25 @@
 package edu.stanford.owl2lpg.exporter.csv.writer;
 
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import dagger.Module;
 import dagger.Provides;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.BufferLongPairArray;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestEdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestIdSet;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestNodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.HeapLongPairArray;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.LongPairArray;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.LongPairHashSet;
+import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
 
 import javax.annotation.Nonnull;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -23,22 +29,109 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Module
 public class CsvWriterModule {
 
+  /* Size in chars of the output buffer of each CSV file */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+
+  private static final int DEFAULT_EXPECTED_TRACKED_IDS = 1_000_000;
+
   @Nonnull
   private final Path outputPath;
 
+  private final int bufferSize;
+
+  @Nonnull
+  private final TrackerType trackerType;
+
+  private final boolean classAncestorsEnabled;
+
+  @Nonnull
+  private final CsvOutputLayout outputLayout;
+
+  /* Where the memory-mapped trackers keep their files, apart from the CSV output */
+  @Nonnull
+  private final Path trackerDirectory;
+
+  /* Whether the digest trackers put a filter in front of their hash tables */
+  private final boolean preFilterEnabled;
+
   public CsvWriterModule(@Nonnull Path outputPath) {
+    this(outputPath, DEFAULT_BUFFER_SIZE);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize) {
+    this(outputPath, bufferSize, TrackerType.HASH_SET);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize, @Nonnull TrackerType trackerType) {
+    this(outputPath, bufferSize, trackerType, false);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize, @Nonnull TrackerType trackerType,
+                         boolean classAncestorsEnabled) {
+    this(outputPath, bufferSize, trackerType, classAncestorsEnabled, CsvOutputLayout.singleFile());
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize, @Nonnull TrackerType trackerType,
+                         boolean classAncestorsEnabled, @Nonnull CsvOutputLayout outputLayout) {
+    this(outputPath, bufferSize, trackerType, classAncestorsEnabled, outputLayout, getDefaultTrackerDirectory());
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize, @Nonnull TrackerType trackerType,
+                         boolean classAncestorsEnabled, @Nonnull CsvOutputLayout outputLayout,
+                         @Nonnull Path trackerDirectory) {
+    this(outputPath, bufferSize, trackerType, classAncestorsEnabled, outputLayout, trackerDirectory, false);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath, int bufferSize, @Nonnull TrackerType trackerType,
+                         boolean classAncestorsEnabled, @Nonnull CsvOutputLayout outputLayout,
+                         @Nonnull Path trackerDirectory, boolean preFilterEnabled) {
     this.outputPath = checkNotNull(outputPath);
+    checkArgument(bufferSize > 0, "The buffer size must be positive");
+    this.bufferSize = bufferSize;
+    this.trackerType = checkNotNull(trackerType);
+    this.classAncestorsEnabled = classAncestorsEnabled;
+    this.outputLayout = checkNotNull(outputLayout);
+    this.trackerDirectory = checkNotNull(trackerDirectory);
+    checkArgument(!preFilterEnabled || trackerType != TrackerType.HASH_SET,
+        "The pre-filter needs one of the DIGEST_* tracker types");
+    this.preFilterEnabled = preFilterEnabled;
+  }
+
+  @Nonnull
+  public static Path getDefaultTrackerDirectory() {
+    return Path.of(System.getProperty("java.io.tmpdir"));
   }
 
   @Provides
   @TranslationSessionScope
-  public CsvWriter<Node> provideNodeCsvWriter() {
+  public Neo4jImportCommand provideNeo4jImportCommand() {
+    return new Neo4jImportCommand(outputPath);
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public CsvOutputStatistics provideCsvOutputStatistics() {
+    return new CsvOutputStatistics();
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public CsvWriter<Node> provideNodeCsvWriter(Neo4jImportCommand importCommand,
+                                              CsvOutputStatistics outputStatistics) {
+    var fileOutputFactory = createFileOutputFactory(outputStatistics);
+    if (outputLayout.isSplit()) {
+      var schema = new Neo4jNodeCsvSchema();
+      return new PartitionedCsvWriter<Node>(outputPath, "nodes", schema, new Neo4jNodeCsvRowEncoder(schema),
+          getPartitionKeyFunction(node -> node.getLabels().getMainLabel()),
+          outputLayout, fileOutputFactory, importCommand, Neo4jImportCommand.InputType.NODES);
+    }
     try {
-      var outputFile = new File(outputPath + File.separator + "nodes.csv");
+      var outputFile = outputPath.resolve(fileOutputFactory.getFileName("nodes"));
+      var schema = new Neo4jNodeCsvSchema();
       return new CsvWriter<Node>(
-          new CsvMapper(),
-          new Neo4jNodeCsvSchema(),
-          new BufferedWriter(new FileWriter(outputFile)));
+          schema,
+          new Neo4jNodeCsvRowEncoder(schema),
+          fileOutputFactory.open(outputFile));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -46,27 +139,76 @@ public class CsvWriterModule {
 
   @Provides
   @TranslationSessionScope
-  public CsvWriter<Edge> provideEdgeCsvWriter() {
+  public CsvWriter<Edge> provideEdgeCsvWriter(Neo4jImportCommand importCommand,
+                                              CsvOutputStatistics outputStatistics) {
+    var fileOutputFactory = createFileOutputFactory(outputStatistics);
+    if (outputLayout.isSplit()) {
+      var schema = new Neo4jRelationshipsCsvSchema();
+      return new PartitionedCsvWriter<Edge>(outputPath, "edges", schema, new Neo4jRelationshipsCsvRowEncoder(schema),
+          getPartitionKeyFunction(edge -> edge.getLabel().getName()),
+          outputLayout, fileOutputFactory, importCommand, Neo4jImportCommand.InputType.RELATIONSHIPS);
+    }
     try {
-      var outputFile = new File(outputPath + File.separator + "edges.csv");
+      var outputFile = outputPath.resolve(fileOutputFactory.getFileName("edges"));
+      var schema = new Neo4jRelationshipsCsvSchema();
       return new CsvWriter<Edge>(
-          new CsvMapper(),
-          new Neo4jRelationshipsCsvSchema(),
-          new BufferedWriter(new FileWriter(outputFile)));
+          schema,
+          new Neo4jRelationshipsCsvRowEncoder(schema),
+          fileOutputFactory.open(outputFile));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private CsvFileOutputFactory createFileOutputFactory(CsvOutputStatistics outputStatistics) {
+    /* The split files are already compressed off the translation thread, by the writer threads */
+    var asyncCompression = outputLayout.isAsyncCompression() && !outputLayout.isSplit();
+    return new CsvFileOutputFactory(outputLayout.getCompression(), asyncCompression, bufferSize, outputStatistics);
+  }
+
+  private <T> Function<T, String> getPartitionKeyFunction(Function<T, String> labelFunction) {
+    return outputLayout.isPartitionedByLabel() ? labelFunction : row -> "";
+  }
+
   @Provides
   @TranslationSessionScope
   public NodeTracker provideNodeTracker() {
-    return new HashSetNodeTracker();
+    if (trackerType == TrackerType.HASH_SET) {
+      return new HashSetNodeTracker();
+    }
+    return new DigestNodeTracker(createDigestIdSet());
   }
 
   @Provides
   @TranslationSessionScope
   public EdgeTracker provideEdgeTracker() {
-    return new HashSetEdgeTracker();
+    if (trackerType == TrackerType.HASH_SET) {
+      return new HashSetEdgeTracker();
+    }
+    return new DigestEdgeTracker(createDigestIdSet());
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public ClassAncestorCollector provideClassAncestorCollector(AugmentedEdgeFactory augmentedEdgeFactory) {
+    return new ClassAncestorCollector(classAncestorsEnabled, augmentedEdgeFactory);
+  }
+
+  private DigestIdSet createDigestIdSet() {
+    var digests = new LongPairHashSet(getLongPairArrayFactory(), DEFAULT_EXPECTED_TRACKED_IDS, preFilterEnabled);
+    return new DigestIdSet(digests);
+  }
+
+  private LongPairArray.Factory getLongPairArrayFactory() {
+    switch (trackerType) {
+      case DIGEST_HEAP:
+        return HeapLongPairArray::new;
+      case DIGEST_OFF_HEAP:
+        return BufferLongPairArray::allocateDirect;
+      case DIGEST_MEMORY_MAPPED:
+        return length -> BufferLongPairArray.map(length, trackerDirectory);
+      default:
+        throw new IllegalStateException("Not a digest tracker type: " + trackerType);
+    }
   }
 }
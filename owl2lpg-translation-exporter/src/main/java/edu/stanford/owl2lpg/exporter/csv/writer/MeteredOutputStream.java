@@ -0,0 +1,58 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes written to an output stream and the time spent writing
+ * them. The writes arrive in buffer-sized chunks, so timing each write adds
+ * little to its cost.
+ */
+class MeteredOutputStream extends FilterOutputStream {
+
+  interface Meter {
+
+    void add(long byteCount, long nanos);
+  }
+
+  @Nonnull
+  private final Meter meter;
+
+  MeteredOutputStream(@Nonnull OutputStream output, @Nonnull Meter meter) {
+    super(output);
+    this.meter = meter;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    var startNanos = System.nanoTime();
+    out.write(b);
+    meter.add(1, System.nanoTime() - startNanos);
+  }
+
+  @Override
+  public void write(@Nonnull byte[] b, int off, int len) throws IOException {
+    var startNanos = System.nanoTime();
+    out.write(b, off, len);
+    meter.add(len, System.nanoTime() - startNanos);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    var startNanos = System.nanoTime();
+    out.flush();
+    meter.add(0, System.nanoTime() - startNanos);
+  }
+
+  @Override
+  public void close() throws IOException {
+    var startNanos = System.nanoTime();
+    try {
+      out.close();
+    } finally {
+      meter.add(0, System.nanoTime() - startNanos);
+    }
+  }
+}
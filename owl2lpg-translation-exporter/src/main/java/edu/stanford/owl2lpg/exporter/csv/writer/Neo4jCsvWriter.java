@@ -1,14 +1,19 @@
 package edu.stanford.owl2lpg.exporter.csv.writer;
 
 import com.google.common.collect.ImmutableMultiset;
+import com.google.common.io.Closer;
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestPreFilterStats;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.internal.EntityTranslationCache;
+import edu.stanford.owl2lpg.translator.internal.EntityTranslationCacheStats;
 import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.EnumMap;
@@ -18,7 +23,7 @@ import java.util.stream.Stream;
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-public class Neo4jCsvWriter {
+public class Neo4jCsvWriter implements Closeable {
 
   @Nonnull
   private final CsvWriter<Node> nodesCsvWriter;
@@ -36,6 +41,15 @@ public class Neo4jCsvWriter {
 
   private long edgeCount = 0;
 
+  @Nonnull
+  private final EntityTranslationCache entityTranslationCache;
+
+  @Nonnull
+  private final ClassAncestorCollector classAncestorCollector;
+
+  @Nonnull
+  private final CsvOutputStatistics outputStatistics;
+
   private final EnumMap<EdgeLabel, Counter> edgeLabelMultiset = new EnumMap<>(EdgeLabel.class);
 
   private final EnumMap<NodeLabels, Counter> nodeLabelsMultiset = new EnumMap<>(NodeLabels.class);
@@ -44,11 +58,17 @@ public class Neo4jCsvWriter {
   public Neo4jCsvWriter(@Nonnull CsvWriter<Node> nodesCsvWriter,
                         @Nonnull CsvWriter<Edge> edgeCsvWriter,
                         @Nonnull NodeTracker nodeTracker,
-                        @Nonnull EdgeTracker edgeTracker) {
+                        @Nonnull EdgeTracker edgeTracker,
+                        @Nonnull EntityTranslationCache entityTranslationCache,
+                        @Nonnull ClassAncestorCollector classAncestorCollector,
+                        @Nonnull CsvOutputStatistics outputStatistics) {
     this.nodesCsvWriter = nodesCsvWriter;
     this.relationshipsCsvWriter = edgeCsvWriter;
     this.nodeTracker = nodeTracker;
     this.edgeTracker = edgeTracker;
+    this.entityTranslationCache = entityTranslationCache;
+    this.classAncestorCollector = classAncestorCollector;
+    this.outputStatistics = outputStatistics;
     Stream.of(EdgeLabel.values())
         .forEach(v -> edgeLabelMultiset.put(v, new Counter()));
     Stream.of(NodeLabels.values())
@@ -89,6 +109,7 @@ public class Neo4jCsvWriter {
   }
 
   public void writeEdge(Edge edge) {
+    classAncestorCollector.add(edge);
     if (canPotentiallyHaveDuplicates(edge)) {
       edgeTracker.add(edge, this::write);
     } else {
@@ -96,12 +117,20 @@ public class Neo4jCsvWriter {
     }
   }
 
+  /**
+   * Writes the ANCESTOR edges of the class hierarchy collected from the
+   * SUB_CLASS_OF edges written so far. It should be called once, after all
+   * axioms of the export have been written.
+   */
+  public void writeClassAncestors() {
+    classAncestorCollector.writeAncestorEdges(this::write);
+  }
+
   private void write(Node node) {
     try {
       nodeCount++;
       nodesCsvWriter.write(node);
       nodeLabelsMultiset.get(node.getLabels()).increment();
-      nodesCsvWriter.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -129,7 +158,6 @@ public class Neo4jCsvWriter {
       edgeCount++;
       relationshipsCsvWriter.write(edge);
       edgeLabelMultiset.get(edge.getLabel()).increment();
-      relationshipsCsvWriter.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -163,11 +191,39 @@ public class Neo4jCsvWriter {
     return b.build();
   }
 
+  /**
+   * Flushes the rows written so far to the nodes and relationships outputs.
+   * The rows are not flushed individually, so callers should flush at their
+   * checkpoint boundaries (e.g., at the end of an export).
+   */
   public void flush() throws IOException {
     nodesCsvWriter.flush();
     relationshipsCsvWriter.flush();
   }
 
+  /* Closes everything even when an earlier close fails, e.g. after a failed export */
+  @Override
+  public void close() throws IOException {
+    var closer = Closer.create();
+    closer.register(() -> closeTracker(edgeTracker));
+    closer.register(() -> closeTracker(nodeTracker));
+    closer.register(relationshipsCsvWriter);
+    closer.register(nodesCsvWriter);
+    closer.close();
+  }
+
+  private static void closeTracker(Object tracker) throws IOException {
+    if (tracker instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) tracker).close();
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
   public void printReport() {
     var console = new PrintWriter(System.out);
     console.printf("\nNodes: %,d\n\n", getNodeCount());
@@ -176,9 +232,41 @@ public class Neo4jCsvWriter {
     console.printf("\nRelationships: %,d\n\n", getEdgeCount());
     getEdgeLabelMultiset().forEachEntry((edgeLabel, count) ->
         console.printf("    Rel    %-36s %,10d\n", edgeLabel.toNeo4jLabel(), count));
+    nodeTracker.getPreFilterStats().ifPresent(stats -> printPreFilterReport(console, "Node", stats));
+    edgeTracker.getPreFilterStats().ifPresent(stats -> printPreFilterReport(console, "Relationship", stats));
+    printEntityTranslationCacheReport(console, entityTranslationCache.getStats());
+    printOutputReport(console, outputStatistics);
     console.flush();
   }
 
+  private static void printOutputReport(PrintWriter console, CsvOutputStatistics stats) {
+    console.printf("\nCSV output:\n\n");
+    console.printf("    Raw bytes              %,16d\n", stats.getRawByteCount());
+    console.printf("    Written bytes          %,16d   (%.2f%% of raw bytes)\n",
+        stats.getWrittenByteCount(), stats.getCompressionRatio() * 100);
+    console.printf("    Output time (ms)       %,16d   (%.1f MB/s of raw bytes)\n",
+        stats.getOutputMillis(), stats.getOutputThroughput() / 1e6);
+    console.printf("    Disk write time (ms)   %,16d\n", stats.getDiskWriteMillis());
+  }
+
+  private static void printPreFilterReport(PrintWriter console, String trackerName, DigestPreFilterStats stats) {
+    console.printf("\n%s tracker pre-filter:\n\n", trackerName);
+    console.printf("    Lookups                %,16d\n", stats.getLookupCount());
+    console.printf("    Definitely new         %,16d\n", stats.getDefinitelyNewCount());
+    console.printf("    Filter hits            %,16d\n", stats.getFilterHitCount());
+    console.printf("    False positives        %,16d   (%.2f%% of new ids)\n",
+        stats.getFalsePositiveCount(), stats.getFalsePositiveRate() * 100);
+    console.printf("    Filter memory (bytes)  %,16d\n", stats.getByteSize());
+  }
+
+  private static void printEntityTranslationCacheReport(PrintWriter console, EntityTranslationCacheStats stats) {
+    console.printf("\nEntity translation cache:\n\n");
+    console.printf("    Hits                   %,16d   (%.2f%% of lookups)\n", stats.getHitCount(), stats.getHitRate() * 100);
+    console.printf("    Misses                 %,16d\n", stats.getMissCount());
+    console.printf("    Evictions              %,16d\n", stats.getEvictionCount());
+    console.printf("    Size                   %,16d\n", stats.getSize());
+  }
+
   /* A static utility class to do the counting for each translation per node and edge labels */
   private static class Counter {
 
@@ -0,0 +1,132 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects the CSV files written in a split {@link CsvOutputLayout} and
+ * writes the neo4j-admin import command that loads them into a script next
+ * to the files. Each group of files is given to neo4j-admin as its header
+ * file followed by its data files, so that the groups can be read in
+ * parallel. neo4j-admin import cannot read zstd files, so the script
+ * decompresses them first.
+ */
+public class Neo4jImportCommand {
+
+  public static final String SCRIPT_FILE_NAME = "neo4j-admin-import.sh";
+
+  private static final String ZSTD_FILE_EXTENSION = CsvCompression.ZSTD.getFileExtension();
+
+  public enum InputType {
+
+    NODES("--nodes"),
+
+    RELATIONSHIPS("--relationships");
+
+    private final String option;
+
+    InputType(String option) {
+      this.option = option;
+    }
+
+    public String getOption() {
+      return option;
+    }
+  }
+
+  @Nonnull
+  private final Path outputPath;
+
+  /* The data files of each input type, keyed by their header file name */
+  private final Map<InputType, Map<String, ImmutableList<String>>> inputFiles = new EnumMap<>(InputType.class);
+
+  public Neo4jImportCommand(@Nonnull Path outputPath) {
+    this.outputPath = checkNotNull(outputPath);
+  }
+
+  /**
+   * Sets the data files that follow the given header file, replacing the
+   * ones that were set before.
+   */
+  public synchronized void setInputFiles(@Nonnull InputType inputType,
+                                         @Nonnull Path headerFile,
+                                         @Nonnull List<Path> dataFiles) {
+    var dataFileNames = dataFiles.stream()
+        .map(Neo4jImportCommand::getFileName)
+        .collect(ImmutableList.toImmutableList());
+    inputFiles.computeIfAbsent(inputType, type -> new TreeMap<>())
+        .put(getFileName(headerFile), dataFileNames);
+  }
+
+  private static String getFileName(Path file) {
+    return file.getFileName().toString();
+  }
+
+  @Nonnull
+  public synchronized ImmutableList<String> getArguments() {
+    var arguments = ImmutableList.<String>builder()
+        .add("import")
+        .add("--multiline-fields=true");
+    inputFiles.forEach((inputType, headerFiles) ->
+        headerFiles.forEach((headerFile, dataFiles) -> {
+          var files = ImmutableList.<String>builder()
+              .add(headerFile)
+              .addAll(dataFiles.stream().map(Neo4jImportCommand::getDecompressedFileName).iterator())
+              .build();
+          arguments.add(inputType.getOption() + "=" + String.join(",", files));
+        }));
+    return arguments.build();
+  }
+
+  private static String getDecompressedFileName(String fileName) {
+    return fileName.endsWith(ZSTD_FILE_EXTENSION) ?
+        fileName.substring(0, fileName.length() - ZSTD_FILE_EXTENSION.length()) : fileName;
+  }
+
+  private boolean hasZstdFiles() {
+    return inputFiles.values().stream()
+        .flatMap(headerFiles -> headerFiles.values().stream())
+        .flatMap(List::stream)
+        .anyMatch(fileName -> fileName.endsWith(ZSTD_FILE_EXTENSION));
+  }
+
+  @Nonnull
+  public Path getScriptFile() {
+    return outputPath.resolve(SCRIPT_FILE_NAME);
+  }
+
+  /**
+   * Writes the command to a shell script that runs neo4j-admin from the
+   * output directory, so that the file names need no path. The target
+   * database is taken from the NEO4J_DATABASE environment variable.
+   */
+  public synchronized void writeScript() throws IOException {
+    var arguments = getArguments().stream()
+        .map(argument -> "  " + argument)
+        .collect(Collectors.joining(" \\\n"));
+    /* Leaves the files decompressed by an earlier run alone */
+    var zstdFiles = "*.csv" + ZSTD_FILE_EXTENSION;
+    var decompression = hasZstdFiles() ?
+        "[ -z \"$(ls " + zstdFiles + " 2>/dev/null)\" ] || zstd -d -q --rm " + zstdFiles + " || exit 1\n" : "";
+    var script = "#!/bin/sh\n" +
+        "cd \"$(dirname \"$0\")\" || exit 1\n" +
+        decompression +
+        "exec neo4j-admin \\\n" +
+        arguments + " \\\n" +
+        "  --database=\"${NEO4J_DATABASE:-neo4j}\"\n";
+    var scriptFile = getScriptFile();
+    Files.writeString(scriptFile, script);
+    scriptFile.toFile().setExecutable(true);
+  }
+}
@@ -0,0 +1,47 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static edu.stanford.owl2lpg.model.Node.N4J_JSON_ID;
+import static edu.stanford.owl2lpg.model.Node.N4J_JSON_LABELS;
+
+/**
+ * Encodes the nodes in the columns of the {@link Neo4jNodeCsvSchema}. The
+ * labels are written as Jackson writes a list, joined by the array element
+ * separator.
+ */
+public class Neo4jNodeCsvRowEncoder extends CsvRowEncoder<Node> {
+
+  private static final Map<NodeLabels, String> JOINED_LABELS = new EnumMap<>(NodeLabels.class);
+
+  static {
+    for (var nodeLabels : NodeLabels.values()) {
+      JOINED_LABELS.put(nodeLabels, String.join(";", nodeLabels.asList()));
+    }
+  }
+
+  @Inject
+  public Neo4jNodeCsvRowEncoder(@Nonnull Neo4jNodeCsvSchema schema) {
+    super(schema, N4J_JSON_ID, N4J_JSON_LABELS);
+  }
+
+  @Override
+  protected void encodeLeadingColumns(@Nonnull Node node, @Nonnull CsvRowBuffer buffer) {
+    buffer.appendQuoted(node.getNodeId().asString());
+    buffer.appendSeparator();
+    buffer.appendQuoted(JOINED_LABELS.get(node.getLabels()));
+  }
+
+  @Nonnull
+  @Override
+  protected ImmutableMap<String, Object> getProperties(@Nonnull Node node) {
+    return node.getProperties().getMap();
+  }
+}
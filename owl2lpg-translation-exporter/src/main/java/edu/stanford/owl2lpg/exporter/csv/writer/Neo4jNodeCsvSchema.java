@@ -9,8 +9,10 @@ import static edu.stanford.owl2lpg.model.Node.N4J_JSON_ID;
 import static edu.stanford.owl2lpg.model.Node.N4J_JSON_LABELS;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.BRANCH_ID;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.CARDINALITY;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.CLASS_ANCESTORS;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DATATYPE;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST_ALGORITHM;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.IRI;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LANGUAGE;
 import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LEXICAL_FORM;
@@ -59,6 +61,8 @@ public class Neo4jNodeCsvSchema implements Neo4jCsvSchema {
         .addColumn(LANGUAGE)
         .addColumn(NODE_ID)
         .addColumn(CARDINALITY + ":int")
-        .addColumn(DIGEST);
+        .addColumn(DIGEST)
+        .addColumn(CLASS_ANCESTORS + ":boolean")
+        .addColumn(DIGEST_ALGORITHM);
   }
 }
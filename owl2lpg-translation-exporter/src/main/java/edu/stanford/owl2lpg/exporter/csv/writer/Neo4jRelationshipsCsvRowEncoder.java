@@ -0,0 +1,37 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.model.Edge;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_END_ID;
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_LABELS;
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_START_ID;
+
+/**
+ * Encodes the edges in the columns of the {@link Neo4jRelationshipsCsvSchema}.
+ */
+public class Neo4jRelationshipsCsvRowEncoder extends CsvRowEncoder<Edge> {
+
+  @Inject
+  public Neo4jRelationshipsCsvRowEncoder(@Nonnull Neo4jRelationshipsCsvSchema schema) {
+    super(schema, N4J_JSON_LABELS, N4J_JSON_START_ID, N4J_JSON_END_ID);
+  }
+
+  @Override
+  protected void encodeLeadingColumns(@Nonnull Edge edge, @Nonnull CsvRowBuffer buffer) {
+    buffer.appendQuoted(edge.getLabel().getName());
+    buffer.appendSeparator();
+    buffer.appendQuoted(edge.getFromNode().getNodeId().asString());
+    buffer.appendSeparator();
+    buffer.appendQuoted(edge.getToNode().getNodeId().asString());
+  }
+
+  @Nonnull
+  @Override
+  protected ImmutableMap<String, Object> getProperties(@Nonnull Edge edge) {
+    return edge.getProperties().getMap();
+  }
+}
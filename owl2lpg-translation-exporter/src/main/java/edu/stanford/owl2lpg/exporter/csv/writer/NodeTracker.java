@@ -1,7 +1,9 @@
 package edu.stanford.owl2lpg.exporter.csv.writer;
 
+import edu.stanford.owl2lpg.exporter.csv.writer.digest.DigestPreFilterStats;
 import edu.stanford.owl2lpg.model.Node;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 
 /**
@@ -15,4 +17,11 @@ public interface NodeTracker {
   void add(Node obj, Consumer<Node> callback);
 
   int size();
+
+  /**
+   * Returns the counters of the pre-filter of the tracker, if it has one.
+   */
+  default Optional<DigestPreFilterStats> getPreFilterStats() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,324 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes row objects to a set of CSV files in the split {@link CsvOutputLayout}.
+ * The rows are partitioned by a key, such as the node label, and the rows of
+ * a partition go to numbered files that are rolled over after a maximum
+ * number of rows, e.g. nodes-Class-0001.csv, nodes-Class-0002.csv. The
+ * header row of a partition is written to a separate file, e.g.
+ * nodes-Class-header.csv, which comes first in its neo4j-admin input group.
+ * <p>
+ * The rows are collected in batches on the calling thread and the batches
+ * are written, and compressed if needed, by a pool of writer threads. The
+ * batches of a partition are written one after another, so each file keeps
+ * the order in which its rows were written, while different partitions are
+ * written concurrently. The number of batches waiting to be written is
+ * bounded, which makes the calling thread wait when the disk cannot keep up.
+ */
+public class PartitionedCsvWriter<T> extends CsvWriter<T> {
+
+  /* The rows are handed over to the writer threads in batches of this size */
+  private static final int BATCH_SIZE = 4_096;
+
+  private static final int PENDING_BATCHES_PER_WRITER = 4;
+
+  @Nonnull
+  private final Path outputPath;
+
+  @Nonnull
+  private final String filePrefix;
+
+  @Nonnull
+  private final Neo4jCsvSchema schema;
+
+  @Nonnull
+  private final CsvRowEncoder<T> rowEncoder;
+
+  @Nonnull
+  private final Function<T, String> partitionKeyFunction;
+
+  private final long maxRowsPerFile;
+
+  @Nonnull
+  private final CsvFileOutputFactory fileOutputFactory;
+
+  @Nonnull
+  private final Neo4jImportCommand importCommand;
+
+  @Nonnull
+  private final Neo4jImportCommand.InputType inputType;
+
+  @Nonnull
+  private final ExecutorService executor;
+
+  @Nonnull
+  private final Semaphore pendingBatches;
+
+  /* Only used by the calling thread */
+  private final Map<String, Partition> partitions = new LinkedHashMap<>();
+
+  @Nullable
+  private volatile Throwable writeFailure;
+
+  /**
+   * @param filePrefix           The prefix of the file names, e.g. "nodes".
+   * @param partitionKeyFunction Maps a row to the key of its partition, which
+   *                             becomes part of the file names. An empty key
+   *                             is left out of the file names.
+   */
+  public PartitionedCsvWriter(@Nonnull Path outputPath,
+                              @Nonnull String filePrefix,
+                              @Nonnull Neo4jCsvSchema schema,
+                              @Nonnull CsvRowEncoder<T> rowEncoder,
+                              @Nonnull Function<T, String> partitionKeyFunction,
+                              @Nonnull CsvOutputLayout layout,
+                              @Nonnull CsvFileOutputFactory fileOutputFactory,
+                              @Nonnull Neo4jImportCommand importCommand,
+                              @Nonnull Neo4jImportCommand.InputType inputType) {
+    super(schema, rowEncoder, Writer.nullWriter());
+    this.outputPath = checkNotNull(outputPath);
+    this.filePrefix = checkNotNull(filePrefix);
+    this.schema = checkNotNull(schema);
+    this.rowEncoder = checkNotNull(rowEncoder);
+    this.partitionKeyFunction = checkNotNull(partitionKeyFunction);
+    this.maxRowsPerFile = layout.getMaxRowsPerFile();
+    this.fileOutputFactory = checkNotNull(fileOutputFactory);
+    this.importCommand = checkNotNull(importCommand);
+    this.inputType = checkNotNull(inputType);
+    var writerCount = layout.getWriterCount();
+    this.executor = createExecutor(filePrefix, writerCount);
+    this.pendingBatches = new Semaphore(PENDING_BATCHES_PER_WRITER * writerCount);
+  }
+
+  private static ExecutorService createExecutor(String filePrefix, int writerCount) {
+    var threadFactory = new ThreadFactoryBuilder()
+        .setNameFormat(filePrefix + "-csv-writer-%d")
+        .setDaemon(true)
+        .build();
+    return Executors.newFixedThreadPool(writerCount, threadFactory);
+  }
+
+  @Override
+  public void write(@Nonnull T rowObject) throws IOException {
+    checkWriteFailure();
+    var partitionKey = partitionKeyFunction.apply(rowObject);
+    var partition = partitions.get(partitionKey);
+    if (partition == null) {
+      partition = new Partition(partitionKey);
+      partitions.put(partitionKey, partition);
+    }
+    partition.add(rowObject);
+  }
+
+  /**
+   * Waits until the rows written so far are in their files, then writes the
+   * header files and the import command for the files written so far.
+   */
+  @Override
+  public void flush() throws IOException {
+    for (var partition : partitions.values()) {
+      partition.submitBatch();
+    }
+    awaitPendingBatches();
+    for (var partition : partitions.values()) {
+      partition.flushFile();
+      partition.writeHeaderFile();
+      importCommand.setInputFiles(inputType, partition.getHeaderFile(), partition.getDataFiles());
+    }
+    importCommand.writeScript();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      try {
+        for (var partition : partitions.values()) {
+          partition.closeFile();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private void awaitPendingBatches() throws IOException {
+    var pendingWrites = partitions.values().stream()
+        .map(partition -> partition.pendingWrite)
+        .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(pendingWrites).join();
+    } catch (CompletionException e) {
+      /* The failure is kept by the batch that failed */
+    }
+    checkWriteFailure();
+  }
+
+  private void checkWriteFailure() throws IOException {
+    var failure = writeFailure;
+    if (failure != null) {
+      throw new IOException("Failed to write the " + filePrefix + " CSV files", failure);
+    }
+  }
+
+  /*
+   * The rows of a partition are batched by the calling thread, while its file
+   * writer is only used by the one writer thread that runs its current batch,
+   * or by the calling thread once all of its batches are written.
+   */
+  private class Partition {
+
+    @Nonnull
+    private final String key;
+
+    private List<T> batch = new ArrayList<>(BATCH_SIZE);
+
+    private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+    private final List<Path> dataFiles = new ArrayList<>();
+
+    @Nullable
+    private CsvWriter<T> fileWriter;
+
+    private long fileRowCount = 0;
+
+    Partition(@Nonnull String key) {
+      this.key = checkNotNull(key);
+    }
+
+    void add(@Nonnull T rowObject) throws IOException {
+      batch.add(rowObject);
+      if (batch.size() == BATCH_SIZE) {
+        submitBatch();
+      }
+    }
+
+    void submitBatch() throws IOException {
+      if (batch.isEmpty()) {
+        return;
+      }
+      var rows = batch;
+      batch = new ArrayList<>(BATCH_SIZE);
+      try {
+        pendingBatches.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the CSV writers");
+      }
+      pendingWrite = pendingWrite
+          .thenRunAsync(() -> writeRows(rows), executor)
+          .whenComplete((result, failure) -> {
+            pendingBatches.release();
+            if (failure != null && writeFailure == null) {
+              writeFailure = (failure instanceof CompletionException) ? failure.getCause() : failure;
+            }
+          });
+    }
+
+    private void writeRows(List<T> rows) {
+      try {
+        for (var row : rows) {
+          if (fileWriter == null || (maxRowsPerFile > 0 && fileRowCount == maxRowsPerFile)) {
+            rollFile();
+          }
+          fileWriter.write(row);
+          fileRowCount++;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void rollFile() throws IOException {
+      closeFile();
+      var dataFileName = fileOutputFactory.getFileName(getBaseName() + "-" + String.format("%04d", dataFiles.size() + 1));
+      var dataFile = outputPath.resolve(dataFileName);
+      fileWriter = new CsvWriter<>(
+          new HeaderlessCsvSchema(schema),
+          rowEncoder,
+          fileOutputFactory.open(dataFile));
+      dataFiles.add(dataFile);
+      fileRowCount = 0;
+    }
+
+    void flushFile() throws IOException {
+      if (fileWriter != null) {
+        fileWriter.flush();
+      }
+    }
+
+    void closeFile() throws IOException {
+      if (fileWriter != null) {
+        fileWriter.close();
+        fileWriter = null;
+      }
+    }
+
+    void writeHeaderFile() throws IOException {
+      Files.writeString(getHeaderFile(), CsvRowEncoder.getHeaderRow(schema.getCsvSchemaWithHeader()));
+    }
+
+    @Nonnull
+    Path getHeaderFile() {
+      return outputPath.resolve(getBaseName() + "-header.csv");
+    }
+
+    @Nonnull
+    ImmutableList<Path> getDataFiles() {
+      return ImmutableList.copyOf(dataFiles);
+    }
+
+    private String getBaseName() {
+      return key.isEmpty() ? filePrefix : filePrefix + "-" + key;
+    }
+  }
+
+  /* The data files leave the header row to their header file */
+  private static class HeaderlessCsvSchema implements Neo4jCsvSchema {
+
+    @Nonnull
+    private final Neo4jCsvSchema schema;
+
+    HeaderlessCsvSchema(@Nonnull Neo4jCsvSchema schema) {
+      this.schema = schema;
+    }
+
+    @Nonnull
+    @Override
+    public CsvSchema getCsvSchema() {
+      return schema.getCsvSchema();
+    }
+
+    @Nonnull
+    @Override
+    public CsvSchema getCsvSchemaWithHeader() {
+      return schema.getCsvSchema();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+/**
+ * The implementations of {@link NodeTracker} and {@link EdgeTracker} that
+ * can be selected in {@link CsvWriterModule}.
+ */
+public enum TrackerType {
+
+  /** Keeps the id objects in a {@code java.util.HashSet} */
+  HASH_SET,
+
+  /** Keeps the id digests as pairs of longs in a hash table on the Java heap, up to about 322 million ids */
+  DIGEST_HEAP,
+
+  /** Keeps the id digests as pairs of longs in a hash table in direct memory */
+  DIGEST_OFF_HEAP,
+
+  /** Keeps the id digests as pairs of longs in a hash table in a memory-mapped file */
+  DIGEST_MEMORY_MAPPED
+}
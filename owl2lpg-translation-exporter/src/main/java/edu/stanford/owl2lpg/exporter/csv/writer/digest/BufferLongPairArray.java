@@ -0,0 +1,163 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link LongPairArray} that stores the slots outside of the Java heap,
+ * either in direct byte buffers or in a memory-mapped file. The slots are
+ * split into segments of 1 GiB because a single buffer cannot be larger
+ * than 2 GiB.
+ */
+public class BufferLongPairArray implements LongPairArray {
+
+  private static final int SLOT_SIZE = 2 * Long.BYTES;
+
+  private static final int SEGMENT_SHIFT = 26;
+
+  private static final long SEGMENT_LENGTH = 1L << SEGMENT_SHIFT;
+
+  private static final long SEGMENT_MASK = SEGMENT_LENGTH - 1;
+
+  /* The segments are held in an array, so their number is bounded by an int */
+  private static final long MAX_LENGTH = (long) Integer.MAX_VALUE << SEGMENT_SHIFT;
+
+  private final ByteBuffer[] segments;
+
+  private final long length;
+
+  private final Path backingFile;
+
+  private BufferLongPairArray(ByteBuffer[] segments, long length, Path backingFile) {
+    this.segments = segments;
+    this.length = length;
+    this.backingFile = backingFile;
+  }
+
+  /**
+   * Creates an array backed by direct byte buffers. The native memory is
+   * released when the buffers are garbage collected.
+   */
+  @Nonnull
+  public static BufferLongPairArray allocateDirect(long length) {
+    checkArgument(length > 0, "Invalid array length: %s", length);
+    var segments = new ByteBuffer[segmentCount(length)];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = ByteBuffer.allocateDirect(segmentByteSize(length, i))
+          .order(ByteOrder.nativeOrder());
+    }
+    return new BufferLongPairArray(segments, length, null);
+  }
+
+  /**
+   * Creates an array backed by a temporary file in the given directory that
+   * is mapped into memory. The file is deleted when the array is closed, or
+   * right away when it cannot be mapped.
+   */
+  @Nonnull
+  public static BufferLongPairArray map(long length, @Nonnull Path directory) {
+    checkArgument(length > 0, "Invalid array length: %s", length);
+    checkNotNull(directory);
+    Path backingFile;
+    try {
+      backingFile = Files.createTempFile(directory, "tracker-", ".bin");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    backingFile.toFile().deleteOnExit();
+    try (var channel = FileChannel.open(backingFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      var segments = new ByteBuffer[segmentCount(length)];
+      long position = 0;
+      for (int i = 0; i < segments.length; i++) {
+        var segmentSize = segmentByteSize(length, i);
+        segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentSize)
+            .order(ByteOrder.nativeOrder());
+        position += segmentSize;
+      }
+      return new BufferLongPairArray(segments, length, backingFile);
+    } catch (IOException e) {
+      deleteQuietly(backingFile, e);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteQuietly(backingFile, e);
+      throw e;
+    }
+  }
+
+  /* Removes the file of a failed mapping, e.g. when the disk is full */
+  private static void deleteQuietly(Path backingFile, Exception cause) {
+    try {
+      Files.deleteIfExists(backingFile);
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private static int segmentCount(long length) {
+    return Math.toIntExact((length + SEGMENT_LENGTH - 1) >>> SEGMENT_SHIFT);
+  }
+
+  private static int segmentByteSize(long length, int segment) {
+    var segmentStart = (long) segment << SEGMENT_SHIFT;
+    var segmentLength = Math.min(SEGMENT_LENGTH, length - segmentStart);
+    return (int) (segmentLength * SLOT_SIZE);
+  }
+
+  @Override
+  public long length() {
+    return length;
+  }
+
+  @Override
+  public long maxLength() {
+    return MAX_LENGTH;
+  }
+
+  @Override
+  public long getHigh(long index) {
+    return segments[(int) (index >>> SEGMENT_SHIFT)].getLong(offset(index));
+  }
+
+  @Override
+  public long getLow(long index) {
+    return segments[(int) (index >>> SEGMENT_SHIFT)].getLong(offset(index) + Long.BYTES);
+  }
+
+  @Override
+  public void set(long index, long high, long low) {
+    var segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+    var offset = offset(index);
+    segment.putLong(offset, high);
+    segment.putLong(offset + Long.BYTES, low);
+  }
+
+  private static int offset(long index) {
+    return (int) ((index & SEGMENT_MASK) * SLOT_SIZE);
+  }
+
+  @Override
+  public long byteSize() {
+    return length * SLOT_SIZE;
+  }
+
+  @Override
+  public void close() {
+    if (backingFile != null) {
+      try {
+        Files.deleteIfExists(backingFile);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import com.google.common.primitives.Ints;
+import edu.stanford.owl2lpg.exporter.csv.writer.EdgeTracker;
+import edu.stanford.owl2lpg.model.Edge;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An edge tracker that keeps the edge ids in a {@link DigestIdSet}, which
+ * takes a fraction of the memory of a hash set of {@code EdgeId} objects.
+ */
+public class DigestEdgeTracker implements EdgeTracker, AutoCloseable {
+
+  @Nonnull
+  private final DigestIdSet trackedEdges;
+
+  public DigestEdgeTracker(@Nonnull DigestIdSet trackedEdges) {
+    this.trackedEdges = checkNotNull(trackedEdges);
+  }
+
+  @Override
+  public boolean contains(Edge edge) {
+    var id = edge.getEdgeId();
+    if (id.isPacked()) {
+      return trackedEdges.contains(id.getLength(), id.getHigh(), id.getLow());
+    }
+    return trackedEdges.contains(id.getBytes());
+  }
+
+  /**
+   * Performs the callback function when the tracker doesn't contain
+   * the given edge.
+   *
+   * @param edge     The edge to check
+   * @param callback A callback function when the cache doesn't contain
+   *                 the given edge.
+   */
+  @Override
+  public void add(Edge edge, Consumer<Edge> callback) {
+    var id = edge.getEdgeId();
+    var added = id.isPacked()
+        ? trackedEdges.add(id.getLength(), id.getHigh(), id.getLow())
+        : trackedEdges.add(id.getBytes());
+    if (added) {
+      callback.accept(edge);
+    }
+  }
+
+  @Override
+  public int size() {
+    return Ints.saturatedCast(trackedEdges.size());
+  }
+
+  @Override
+  public Optional<DigestPreFilterStats> getPreFilterStats() {
+    return trackedEdges.getPreFilterStats();
+  }
+
+  @Override
+  public void close() {
+    trackedEdges.close();
+  }
+}
@@ -0,0 +1,114 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A set of node or edge identifiers given as their raw bytes. The 128-bit
+ * digests, which make up nearly all of the identifiers, are kept in a
+ * {@link LongPairHashSet} and the 64-bit sequential numbers in a primitive
+ * long set. Identifiers of any other length fall back to a regular hash set.
+ */
+public class DigestIdSet implements AutoCloseable {
+
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final int EXPECTED_NUMBER_ID_COUNT = 1_000;
+
+  @Nonnull
+  private final LongPairHashSet digests;
+
+  private final LongOpenHashSet numbers = new LongOpenHashSet(EXPECTED_NUMBER_ID_COUNT);
+
+  private final Set<ByteBuffer> others = Sets.newHashSet();
+
+  public DigestIdSet(@Nonnull LongPairHashSet digests) {
+    this.digests = checkNotNull(digests);
+  }
+
+  public boolean contains(@Nonnull byte[] id) {
+    switch (id.length) {
+      case 2 * Long.BYTES:
+        return digests.contains(high(id), low(id));
+      case Long.BYTES:
+        return numbers.contains(high(id));
+      default:
+        return others.contains(ByteBuffer.wrap(id));
+    }
+  }
+
+  /**
+   * Adds the identifier to the set.
+   *
+   * @return true if the set did not already contain the identifier.
+   */
+  public boolean add(@Nonnull byte[] id) {
+    switch (id.length) {
+      case 2 * Long.BYTES:
+        return digests.add(high(id), low(id));
+      case Long.BYTES:
+        return numbers.add(high(id));
+      default:
+        return others.add(ByteBuffer.wrap(id));
+    }
+  }
+
+  /**
+   * Returns true if the set contains the packed identifier (see
+   * {@code NodeId.isPacked()}) of the given length.
+   */
+  public boolean contains(int length, long high, long low) {
+    return length == Long.BYTES ? numbers.contains(high) : digests.contains(high, low);
+  }
+
+  /**
+   * Adds the packed identifier (see {@code NodeId.isPacked()}) of the
+   * given length to the set.
+   *
+   * @return true if the set did not already contain the identifier.
+   */
+  public boolean add(int length, long high, long low) {
+    return length == Long.BYTES ? numbers.add(high) : digests.add(high, low);
+  }
+
+  private static long high(byte[] id) {
+    return (long) LONG_VIEW.get(id, 0);
+  }
+
+  private static long low(byte[] id) {
+    return (long) LONG_VIEW.get(id, Long.BYTES);
+  }
+
+  public long size() {
+    return digests.size() + numbers.size() + others.size();
+  }
+
+  /**
+   * Returns the number of bytes used by the digest hash table, which
+   * dominates the memory used by the set.
+   */
+  public long byteSize() {
+    return digests.byteSize();
+  }
+
+  @Nonnull
+  public Optional<DigestPreFilterStats> getPreFilterStats() {
+    return digests.getPreFilterStats();
+  }
+
+  @Override
+  public void close() {
+    digests.close();
+  }
+}
@@ -0,0 +1,68 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import com.google.common.primitives.Ints;
+import edu.stanford.owl2lpg.exporter.csv.writer.NodeTracker;
+import edu.stanford.owl2lpg.model.Node;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A node tracker that keeps the node ids in a {@link DigestIdSet}, which
+ * takes a fraction of the memory of a hash set of {@code NodeId} objects.
+ */
+public class DigestNodeTracker implements NodeTracker, AutoCloseable {
+
+  @Nonnull
+  private final DigestIdSet trackedNodes;
+
+  public DigestNodeTracker(@Nonnull DigestIdSet trackedNodes) {
+    this.trackedNodes = checkNotNull(trackedNodes);
+  }
+
+  @Override
+  public boolean contains(Node node) {
+    var id = node.getNodeId();
+    if (id.isPacked()) {
+      return trackedNodes.contains(id.getLength(), id.getHigh(), id.getLow());
+    }
+    return trackedNodes.contains(id.getBytes());
+  }
+
+  /**
+   * Performs the callback function when the tracker doesn't contain
+   * the given node.
+   *
+   * @param node     The node to check
+   * @param callback A callback function when the cache doesn't contain
+   *                 the given node.
+   */
+  @Override
+  public void add(Node node, Consumer<Node> callback) {
+    var id = node.getNodeId();
+    var added = id.isPacked()
+        ? trackedNodes.add(id.getLength(), id.getHigh(), id.getLow())
+        : trackedNodes.add(id.getBytes());
+    if (added) {
+      callback.accept(node);
+    }
+  }
+
+  @Override
+  public int size() {
+    return Ints.saturatedCast(trackedNodes.size());
+  }
+
+  @Override
+  public Optional<DigestPreFilterStats> getPreFilterStats() {
+    return trackedNodes.getPreFilterStats();
+  }
+
+  @Override
+  public void close() {
+    trackedNodes.close();
+  }
+}
@@ -0,0 +1,105 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+/**
+ * A Bloom filter over 128-bit digests in front of a {@link LongPairHashSet}.
+ * A digest is already uniformly distributed, so the word and the three bits
+ * of a key within it are taken directly from its bits instead of being
+ * hashed again. Keeping the bits of a key in one word costs a single memory
+ * access per key.
+ * The filter is sized from the slot count of the hash table and is rebuilt
+ * from the table whenever the table grows.
+ */
+final class DigestPreFilter {
+
+  /*
+   * At most 1/16 of the memory of the table (16 bytes per slot), and at
+   * least 13 bits per key at the table's 60% maximum load
+   */
+  private static final long BITS_PER_SLOT = 8;
+
+  /* Keeps the word index an int (a filter of 8 GiB) */
+  private static final long MAX_BIT_COUNT = 1L << 36;
+
+  private final long[] words;
+
+  private final int wordMask;
+
+  private long lookupCount = 0;
+
+  private long definitelyNewCount = 0;
+
+  private long falsePositiveCount = 0;
+
+  DigestPreFilter(long slotCount) {
+    var bitCount = Math.max(Long.SIZE, Math.min(slotCount * BITS_PER_SLOT, MAX_BIT_COUNT));
+    words = new long[(int) (bitCount >>> 6)];
+    wordMask = words.length - 1;
+  }
+
+  /**
+   * Returns an empty filter for a table with the given number of slots,
+   * which carries on the counters of this one.
+   */
+  DigestPreFilter resize(long slotCount) {
+    var resized = new DigestPreFilter(slotCount);
+    resized.lookupCount = lookupCount;
+    resized.definitelyNewCount = definitelyNewCount;
+    resized.falsePositiveCount = falsePositiveCount;
+    return resized;
+  }
+
+  /**
+   * Adds the key to the filter.
+   *
+   * @return true if the key is definitely not in the table, false if it
+   * might be.
+   */
+  boolean put(long high, long low) {
+    lookupCount++;
+    if (set(high, low)) {
+      definitelyNewCount++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Sets the bits of the key, without counting it as a lookup.
+   *
+   * @return true if any of the bits was not set yet.
+   */
+  boolean set(long high, long low) {
+    var index = wordIndex(high);
+    var word = words[index];
+    var bits = bitsOf(low);
+    words[index] = word | bits;
+    return (word & bits) != bits;
+  }
+
+  boolean mightContain(long high, long low) {
+    var bits = bitsOf(low);
+    return (words[wordIndex(high)] & bits) == bits;
+  }
+
+  /* Records a key the filter might have contained, but the table did not */
+  void recordFalsePositive() {
+    falsePositiveCount++;
+  }
+
+  private int wordIndex(long high) {
+    return (int) high & wordMask;
+  }
+
+  /* A shift only uses the low 6 bits of its distance */
+  private static long bitsOf(long low) {
+    return (1L << low) | (1L << (low >>> 6)) | (1L << (low >>> 12));
+  }
+
+  long byteSize() {
+    return (long) words.length * Long.BYTES;
+  }
+
+  DigestPreFilterStats getStats() {
+    return DigestPreFilterStats.create(lookupCount, definitelyNewCount, falsePositiveCount, byteSize());
+  }
+}
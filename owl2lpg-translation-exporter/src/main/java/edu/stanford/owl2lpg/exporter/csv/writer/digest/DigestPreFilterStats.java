@@ -0,0 +1,49 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A snapshot of the counters of the pre-filter of a {@link LongPairHashSet}.
+ */
+@AutoValue
+public abstract class DigestPreFilterStats {
+
+  @Nonnull
+  public static DigestPreFilterStats create(long lookupCount, long definitelyNewCount,
+                                            long falsePositiveCount, long byteSize) {
+    return new AutoValue_DigestPreFilterStats(lookupCount, definitelyNewCount, falsePositiveCount, byteSize);
+  }
+
+  /**
+   * Returns the number of keys added through the filter.
+   */
+  public abstract long getLookupCount();
+
+  /**
+   * Returns the number of keys the filter answered as definitely new, which
+   * were added without looking them up in the table.
+   */
+  public abstract long getDefinitelyNewCount();
+
+  /**
+   * Returns the number of new keys the filter answered as possibly present.
+   */
+  public abstract long getFalsePositiveCount();
+
+  public abstract long getByteSize();
+
+  public long getFilterHitCount() {
+    return getLookupCount() - getDefinitelyNewCount();
+  }
+
+  /**
+   * Returns the fraction of the new keys that still had to be looked up in
+   * the table.
+   */
+  public double getFalsePositiveRate() {
+    var newCount = getDefinitelyNewCount() + getFalsePositiveCount();
+    return newCount == 0 ? 0.0 : (double) getFalsePositiveCount() / newCount;
+  }
+}
@@ -0,0 +1,60 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A {@link LongPairArray} that stores the slots in a single {@code long[]}
+ * on the Java heap.
+ */
+public class HeapLongPairArray implements LongPairArray {
+
+  /*
+   * The largest power of two whose backing array of two longs per slot can
+   * be indexed by an int. The hash table only grows in powers of two.
+   */
+  public static final long MAX_LENGTH = 1L << 29;
+
+  private final long[] slots;
+
+  public HeapLongPairArray(long length) {
+    checkArgument(length > 0 && length <= MAX_LENGTH, "Invalid array length: %s", length);
+    this.slots = new long[(int) (length * 2)];
+  }
+
+  @Override
+  public long length() {
+    return slots.length / 2;
+  }
+
+  @Override
+  public long maxLength() {
+    return MAX_LENGTH;
+  }
+
+  @Override
+  public long getHigh(long index) {
+    return slots[(int) (index << 1)];
+  }
+
+  @Override
+  public long getLow(long index) {
+    return slots[(int) (index << 1) + 1];
+  }
+
+  @Override
+  public void set(long index, long high, long low) {
+    var i = (int) (index << 1);
+    slots[i] = high;
+    slots[i + 1] = low;
+  }
+
+  @Override
+  public long byteSize() {
+    return (long) slots.length * Long.BYTES;
+  }
+
+  @Override
+  public void close() {
+    // NO-OP
+  }
+}
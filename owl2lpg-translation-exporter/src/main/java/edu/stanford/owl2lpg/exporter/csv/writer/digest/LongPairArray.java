@@ -0,0 +1,44 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import java.io.Closeable;
+
+/**
+ * A fixed-size array of slots where each slot holds a pair of longs. It is
+ * the storage behind {@link LongPairHashSet}, which lets the hash table live
+ * either on the Java heap or outside of it.
+ */
+public interface LongPairArray extends Closeable {
+
+  long length();
+
+  /**
+   * Returns the largest length that an array of this kind can have, which
+   * bounds how far a {@link LongPairHashSet} on top of it can grow.
+   */
+  long maxLength();
+
+  long getHigh(long index);
+
+  long getLow(long index);
+
+  void set(long index, long high, long low);
+
+  /**
+   * Returns the number of bytes used to store the slots.
+   */
+  long byteSize();
+
+  /**
+   * Releases the storage. The array must not be used after it is closed.
+   */
+  @Override
+  void close();
+
+  interface Factory {
+
+    /**
+     * Creates a new array of the given length with all slots set to zero.
+     */
+    LongPairArray create(long length);
+  }
+}
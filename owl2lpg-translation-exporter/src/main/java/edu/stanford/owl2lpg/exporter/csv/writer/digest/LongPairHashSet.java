@@ -0,0 +1,214 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An open-addressing hash set of 128-bit keys, each stored as a pair of
+ * longs with no per-entry object. Collisions are resolved with linear
+ * probing and the table doubles in size when it gets 60% full.
+ * <p>
+ * With a pre-filter, the keys the filter answers as definitely new are
+ * added without the equality checks of the lookup (see
+ * {@link #addAbsent(long, long)}).
+ */
+public class LongPairHashSet implements AutoCloseable {
+
+  private static final double MAX_LOAD_FACTOR = 0.6;
+
+  @Nonnull
+  private final LongPairArray.Factory arrayFactory;
+
+  @Nonnull
+  private LongPairArray table;
+
+  private long mask;
+
+  private long maxSize;
+
+  private long size = 0;
+
+  /* The pair (0, 0) marks an empty slot, so its presence is tracked separately */
+  private boolean containsZeroKey = false;
+
+  @Nullable
+  private DigestPreFilter preFilter;
+
+  public LongPairHashSet(@Nonnull LongPairArray.Factory arrayFactory, long expectedSize) {
+    this(arrayFactory, expectedSize, false);
+  }
+
+  public LongPairHashSet(@Nonnull LongPairArray.Factory arrayFactory, long expectedSize,
+                         boolean preFilterEnabled) {
+    checkArgument(expectedSize > 0, "The expected size must be positive");
+    this.arrayFactory = checkNotNull(arrayFactory);
+    var length = HashCommon.bigArraySize(expectedSize, (float) MAX_LOAD_FACTOR);
+    allocate(length);
+    if (preFilterEnabled) {
+      preFilter = new DigestPreFilter(length);
+    }
+  }
+
+  private void allocate(long length) {
+    table = arrayFactory.create(length);
+    mask = length - 1;
+    maxSize = (long) (length * MAX_LOAD_FACTOR);
+  }
+
+  public boolean contains(long high, long low) {
+    if (high == 0 && low == 0) {
+      return containsZeroKey;
+    }
+    if (preFilter != null && !preFilter.mightContain(high, low)) {
+      return false;
+    }
+    for (long slot = slotOf(high, low); ; slot = (slot + 1) & mask) {
+      var h = table.getHigh(slot);
+      var l = table.getLow(slot);
+      if (h == high && l == low) {
+        return true;
+      }
+      if (h == 0 && l == 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Adds the key to the set.
+   *
+   * @return true if the set did not already contain the key.
+   */
+  public boolean add(long high, long low) {
+    if (high == 0 && low == 0) {
+      if (containsZeroKey) {
+        return false;
+      }
+      containsZeroKey = true;
+      size++;
+      return true;
+    }
+    if (preFilter != null && preFilter.put(high, low)) {
+      insertAbsent(high, low);
+      return true;
+    }
+    if (!insert(table, mask, high, low)) {
+      return false;
+    }
+    if (preFilter != null) {
+      preFilter.recordFalsePositive();
+    }
+    incrementSize();
+    return true;
+  }
+
+  /**
+   * Adds a key that the caller knows is not in the set, e.g. from a
+   * pre-filter miss, so only the empty slot is searched for. Adding a key
+   * that is already in the set corrupts it.
+   */
+  public void addAbsent(long high, long low) {
+    if (high == 0 && low == 0) {
+      containsZeroKey = true;
+      size++;
+      return;
+    }
+    if (preFilter != null) {
+      preFilter.set(high, low);
+    }
+    insertAbsent(high, low);
+  }
+
+  private void insertAbsent(long high, long low) {
+    insertAbsent(table, mask, high, low);
+    incrementSize();
+  }
+
+  private void incrementSize() {
+    if (++size > maxSize) {
+      grow();
+    }
+  }
+
+  private boolean insert(LongPairArray table, long mask, long high, long low) {
+    for (long slot = HashCommon.mix(high ^ low) & mask; ; slot = (slot + 1) & mask) {
+      var h = table.getHigh(slot);
+      var l = table.getLow(slot);
+      if (h == high && l == low) {
+        return false;
+      }
+      if (h == 0 && l == 0) {
+        table.set(slot, high, low);
+        return true;
+      }
+    }
+  }
+
+  private static void insertAbsent(LongPairArray table, long mask, long high, long low) {
+    var slot = HashCommon.mix(high ^ low) & mask;
+    while (table.getHigh(slot) != 0 || table.getLow(slot) != 0) {
+      slot = (slot + 1) & mask;
+    }
+    table.set(slot, high, low);
+  }
+
+  private void grow() {
+    var oldTable = table;
+    var newLength = oldTable.length() * 2;
+    if (newLength > oldTable.maxLength()) {
+      throw new IllegalStateException(String.format("The hash set is full at %,d keys, since its storage cannot " +
+          "hold more than %,d slots. Use the DIGEST_OFF_HEAP or DIGEST_MEMORY_MAPPED tracker type to track more ids.",
+          size, oldTable.maxLength()));
+    }
+    allocate(newLength);
+    if (preFilter != null) {
+      preFilter = preFilter.resize(newLength);
+    }
+    /* The keys of the old table are distinct */
+    for (long slot = 0; slot < oldTable.length(); slot++) {
+      var h = oldTable.getHigh(slot);
+      var l = oldTable.getLow(slot);
+      if (h != 0 || l != 0) {
+        insertAbsent(table, mask, h, l);
+        if (preFilter != null) {
+          preFilter.set(h, l);
+        }
+      }
+    }
+    oldTable.close();
+  }
+
+  private long slotOf(long high, long low) {
+    return HashCommon.mix(high ^ low) & mask;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of bytes used by the hash table and its pre-filter.
+   */
+  public long byteSize() {
+    return table.byteSize() + (preFilter == null ? 0 : preFilter.byteSize());
+  }
+
+  /**
+   * Returns the counters of the pre-filter, if the set has one.
+   */
+  @Nonnull
+  public Optional<DigestPreFilterStats> getPreFilterStats() {
+    return Optional.ofNullable(preFilter).map(DigestPreFilter::getStats);
+  }
+
+  @Override
+  public void close() {
+    table.close();
+  }
+}
@@ -3,11 +3,14 @@ package edu.stanford.owl2lpg.exporter.csv.writer.noop;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import dagger.Module;
 import dagger.Provides;
+import edu.stanford.owl2lpg.exporter.csv.writer.ClassAncestorCollector;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvOutputStatistics;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
 import edu.stanford.owl2lpg.exporter.csv.writer.EdgeTracker;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvSchema;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jRelationshipsCsvSchema;
 import edu.stanford.owl2lpg.exporter.csv.writer.NodeTracker;
+import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
@@ -37,6 +40,12 @@ public class NoOpCsvWriterModule {
         new NoOpWriter());
   }
 
+  @Provides
+  @TranslationSessionScope
+  public CsvOutputStatistics provideCsvOutputStatistics() {
+    return new CsvOutputStatistics();
+  }
+
   @Provides
   @TranslationSessionScope
   public NodeTracker provideNodeTracker() {
@@ -48,4 +57,10 @@ public class NoOpCsvWriterModule {
   public EdgeTracker provideEdgeTracker() {
     return new NoOpEdgeTracker();
   }
+
+  @Provides
+  @TranslationSessionScope
+  public ClassAncestorCollector provideClassAncestorCollector(AugmentedEdgeFactory augmentedEdgeFactory) {
+    return new ClassAncestorCollector(false, augmentedEdgeFactory);
+  }
 }
@@ -0,0 +1,238 @@
+package edu.stanford.owl2lpg.exporter.csv;
+
+import com.github.luben.zstd.ZstdInputStream;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvCompression;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvOutputLayout;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jImportCommand;
+import edu.stanford.owl2lpg.exporter.csv.writer.TrackerType;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class OntologyCsvExporter_TestCase {
+
+  private static final String NUMBER_ID_PATTERN = "\\b[0-9a-f]{16}\\b";
+
+  private static final ProjectId PROJECT_ID = ProjectId.create();
+
+  private static final BranchId BRANCH_ID = BranchId.create();
+
+  private static final OntologyDocumentId DOCUMENT_ID = OntologyDocumentId.create();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private OWLOntology ontology;
+
+  @Before
+  public void setUp() throws Exception {
+    var manager = OWLManager.createOWLOntologyManager();
+    ontology = manager.createOntology(IRI("http://example.org/ontology"));
+    var partOf = ObjectProperty(IRI("http://example.org/partOf"));
+    for (int i = 0; i < 5_000; i++) {
+      var subClass = Class(IRI("http://example.org/C_" + i));
+      var superClass = Class(IRI("http://example.org/C_" + (i / 2)));
+      manager.addAxiom(ontology, SubClassOf(subClass, superClass));
+      manager.addAxiom(ontology, SubClassOf(subClass, ObjectSomeValuesFrom(partOf, Class(IRI("http://example.org/C_" + (i % 7))))));
+      manager.addAxiom(ontology, AnnotationAssertion(RDFSLabel(), subClass.getIRI(), Literal("label " + (i % 100))));
+    }
+  }
+
+  @Test
+  public void shouldWriteSameRowsInParallelMode() throws IOException {
+    var serialOutput = export(1);
+    var parallelOutput = export(4);
+    assertThat(readRows(parallelOutput.resolve("nodes.csv")),
+        equalTo(readRows(serialOutput.resolve("nodes.csv"))));
+    assertThat(readRows(parallelOutput.resolve("edges.csv")),
+        equalTo(readRows(serialOutput.resolve("edges.csv"))));
+  }
+
+  @Test
+  public void shouldWriteAncestorsOfEachClass() throws IOException {
+    var outputPath = export(4, true);
+    /* C_i reaches C_(i/2), C_(i/4), ... C_1 and C_0, while C_0 is only its own subclass */
+    long expectedCount = 0;
+    for (int i = 1; i < 5_000; i++) {
+      expectedCount += 32 - Integer.numberOfLeadingZeros(i);
+    }
+    try (var lines = Files.lines(outputPath.resolve("edges.csv"))) {
+      assertThat(lines.filter(line -> line.startsWith("\"ANCESTOR\",")).count(), equalTo(expectedCount));
+    }
+  }
+
+  @Test
+  public void shouldNotWriteAncestorsByDefault() throws IOException {
+    var outputPath = export(1);
+    try (var lines = Files.lines(outputPath.resolve("edges.csv"))) {
+      assertThat(lines.anyMatch(line -> line.startsWith("\"ANCESTOR\",")), equalTo(false));
+    }
+  }
+
+  @Test
+  public void shouldMarkBranchWithAncestors() throws IOException {
+    assertThat(readBranchRow(export(1, true)).endsWith(",true,"), equalTo(true));
+    assertThat(readBranchRow(export(1, false)).endsWith(",false,"), equalTo(true));
+  }
+
+  @Test
+  public void shouldWriteDigestAlgorithmOfProject() throws IOException {
+    try (var lines = Files.lines(export(1).resolve("nodes.csv"))) {
+      var projectRow = lines.filter(line -> line.contains("\"" + PROJECT_ID.getIdentifier() + "\""))
+          .findFirst()
+          .orElseThrow();
+      assertThat(projectRow.endsWith(",\"MD5\""), equalTo(true));
+    }
+  }
+
+  @Test
+  public void shouldWriteSameRowsToSplitFiles() throws IOException {
+    var singleFileOutput = export(1);
+    var splitOutput = export(4, false, CsvOutputLayout.create(true, 1_000, 3));
+    for (var filePrefix : List.of("nodes", "edges")) {
+      var singleFile = singleFileOutput.resolve(filePrefix + ".csv");
+      var singleFileRows = readRows(singleFile);
+      var headerRow = Files.readAllLines(singleFile).get(0);
+      var splitRows = new ArrayList<String>();
+      for (var dataFile : listFiles(splitOutput, filePrefix + "-*-[0-9][0-9][0-9][0-9].csv")) {
+        var dataRows = readRows(dataFile);
+        assertThat(dataRows.size() <= 1_000, equalTo(true));
+        splitRows.addAll(dataRows);
+      }
+      for (var headerFile : listFiles(splitOutput, filePrefix + "-*-header.csv")) {
+        assertThat(readRows(headerFile), equalTo(List.of(headerRow)));
+      }
+      splitRows.add(headerRow);
+      Collections.sort(splitRows);
+      assertThat(splitRows, equalTo(singleFileRows));
+    }
+  }
+
+  @Test
+  public void shouldWriteImportScriptForSplitFiles() throws IOException {
+    var outputPath = export(1, false, CsvOutputLayout.create(true, 2_000, 2));
+    var script = Files.readString(outputPath.resolve(Neo4jImportCommand.SCRIPT_FILE_NAME));
+    assertThat(script.contains(" --nodes=nodes-Class-header.csv,nodes-Class-0001.csv,nodes-Class-0002.csv,nodes-Class-0003.csv "),
+        equalTo(true));
+    assertThat(script.contains(" --relationships=edges-SUB_CLASS_OF-header.csv,edges-SUB_CLASS_OF-0001.csv,"),
+        equalTo(true));
+    assertThat(Files.exists(outputPath.resolve("nodes.csv")), equalTo(false));
+  }
+
+  @Test
+  public void shouldWriteSameRowsCompressed() throws IOException {
+    var uncompressedOutput = export(1);
+    var gzipOutput = export(1, false, CsvOutputLayout.singleFile().withCompression(CsvCompression.GZIP, true));
+    var zstdOutput = export(1, false, CsvOutputLayout.singleFile().withCompression(CsvCompression.ZSTD, false));
+    for (var filePrefix : List.of("nodes", "edges")) {
+      var uncompressedRows = readRows(uncompressedOutput.resolve(filePrefix + ".csv"));
+      assertThat(readRows(gzipOutput.resolve(filePrefix + ".csv.gz")), equalTo(uncompressedRows));
+      assertThat(readRows(zstdOutput.resolve(filePrefix + ".csv.zst")), equalTo(uncompressedRows));
+    }
+  }
+
+  @Test
+  public void shouldCompressSplitFiles() throws IOException {
+    var outputLayout = CsvOutputLayout.create(true, 0, 2, CsvCompression.GZIP, true);
+    var outputPath = export(1, false, outputLayout);
+    assertThat(Files.exists(outputPath.resolve("nodes-Class-0001.csv.gz")), equalTo(true));
+    assertThat(Files.exists(outputPath.resolve("nodes-Class-header.csv")), equalTo(true));
+    var script = Files.readString(outputPath.resolve(Neo4jImportCommand.SCRIPT_FILE_NAME));
+    assertThat(script.contains(" --nodes=nodes-Class-header.csv,nodes-Class-0001.csv.gz "), equalTo(true));
+  }
+
+  private Path export(int workerCount) throws IOException {
+    return export(workerCount, false);
+  }
+
+  private Path export(int workerCount, boolean classAncestorsEnabled) throws IOException {
+    return export(workerCount, classAncestorsEnabled, CsvOutputLayout.singleFile());
+  }
+
+  private Path export(int workerCount, boolean classAncestorsEnabled,
+                      CsvOutputLayout outputLayout) throws IOException {
+    var outputPath = temporaryFolder.newFolder().toPath();
+    var csvWriterModule = new CsvWriterModule(outputPath, CsvWriterModule.DEFAULT_BUFFER_SIZE,
+        TrackerType.HASH_SET, classAncestorsEnabled, outputLayout);
+    var exporterComponent = DaggerCsvExporterComponent.builder()
+        .csvWriterModule(csvWriterModule)
+        .build();
+    exporterComponent.getOntologyCsvExporter()
+        .export(ontology, PROJECT_ID, BRANCH_ID, DOCUMENT_ID, workerCount);
+    exporterComponent.getNeo4jCsvWriter().close();
+    return outputPath;
+  }
+
+  private static String readBranchRow(Path outputPath) throws IOException {
+    try (var lines = Files.lines(outputPath.resolve("nodes.csv"))) {
+      return lines.filter(line -> line.contains("\"" + BRANCH_ID.getIdentifier() + "\""))
+          .filter(line -> !line.contains("\"" + DOCUMENT_ID.getIdentifier() + "\""))
+          .findFirst()
+          .orElseThrow();
+    }
+  }
+
+  private static List<Path> listFiles(Path directory, String glob) throws IOException {
+    var files = new ArrayList<Path>();
+    try (var directoryStream = Files.newDirectoryStream(directory, glob)) {
+      directoryStream.forEach(files::add);
+    }
+    assertThat(files.isEmpty(), equalTo(false));
+    return files;
+  }
+
+  /*
+   * The sequential number ids depend on the order in which the axioms were
+   * translated, so they are masked before comparing the rows.
+   */
+  private static List<String> readRows(Path csvFile) throws IOException {
+    try (var reader = new BufferedReader(new InputStreamReader(openFile(csvFile), StandardCharsets.UTF_8))) {
+      return reader.lines()
+          .map(line -> line.replaceAll(NUMBER_ID_PATTERN, "#"))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static InputStream openFile(Path csvFile) throws IOException {
+    var input = Files.newInputStream(csvFile);
+    var fileName = csvFile.getFileName().toString();
+    if (fileName.endsWith(".gz")) {
+      return new GZIPInputStream(input);
+    } else if (fileName.endsWith(".zst")) {
+      return new ZstdInputStream(input);
+    }
+    return input;
+  }
+}
@@ -0,0 +1,55 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AsyncOutputStream_TestCase {
+
+  @Test
+  public void shouldWriteAllBytesInOrder() throws IOException {
+    var expectedBytes = new ByteArrayOutputStream();
+    var output = new ByteArrayOutputStream();
+    var asyncOutput = new AsyncOutputStream(output, 7, "test-output");
+    for (int i = 0; i < 1_000; i++) {
+      var bytes = new byte[i % 23];
+      for (int j = 0; j < bytes.length; j++) {
+        bytes[j] = (byte) (i + j);
+      }
+      asyncOutput.write(bytes);
+      asyncOutput.write(i);
+      expectedBytes.write(bytes);
+      expectedBytes.write(i);
+    }
+    asyncOutput.close();
+    assertThat(output.toByteArray(), equalTo(expectedBytes.toByteArray()));
+  }
+
+  @Test
+  public void shouldWriteBytesBeforeFlushReturns() throws IOException {
+    var output = new ByteArrayOutputStream();
+    var asyncOutput = new AsyncOutputStream(output, 1024, "test-output");
+    asyncOutput.write(new byte[]{1, 2, 3});
+    asyncOutput.flush();
+    assertThat(output.size(), equalTo(3));
+    asyncOutput.close();
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldThrowFailureOfOutput() throws IOException {
+    var failingOutput = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Disk full");
+      }
+    };
+    var asyncOutput = new AsyncOutputStream(failingOutput, 16, "test-output");
+    asyncOutput.write(new byte[100]);
+    asyncOutput.close();
+  }
+}
@@ -0,0 +1,138 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectMinCardinality;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class CsvRowEncoder_TestCase {
+
+  @Test
+  public void shouldEncodeNodesLikeJackson() throws IOException {
+    var nodes = List.of(
+        Node.create(NodeId.create(12), NodeLabels.CLASS,
+            Properties.of(PropertyFields.IRI, "http://example.org/\"A\",\nB")),
+        Node.create(NodeId.create("abc"), NodeLabels.LITERAL, Properties.create(ImmutableMap.of(
+            PropertyFields.LEXICAL_FORM, "",
+            PropertyFields.DATATYPE, "http://www.w3.org/2001/XMLSchema#string",
+            PropertyFields.LANGUAGE, "\u00e9\t\r;"))),
+        Node.create(NodeId.create(5), NodeLabels.OBJECT_MIN_CARDINALITY,
+            Properties.of(PropertyFields.CARDINALITY, -2_147_483_648)),
+        Node.create(NodeId.create(6), NodeLabels.OBJECT_MAX_CARDINALITY,
+            Properties.of(PropertyFields.CARDINALITY, 1_000)),
+        Node.create(NodeId.create(7), NodeLabels.CLASS));
+    assertThat(encode(nodes, new Neo4jNodeCsvSchema(), new Neo4jNodeCsvRowEncoder(new Neo4jNodeCsvSchema())),
+        equalTo(writeWithJackson(nodes, new Neo4jNodeCsvSchema())));
+  }
+
+  @Test
+  public void shouldEncodeEdgesLikeJackson() throws IOException {
+    var node = Node.create(NodeId.create(1), NodeLabels.CLASS);
+    var edges = List.of(
+        Edge.create(EdgeId.create(1), node, node, EdgeLabel.SUB_CLASS_OF),
+        Edge.create(EdgeId.create(2), node, node, EdgeLabel.SUB_CLASS_OF,
+            Properties.of(PropertyFields.STRUCTURAL_SPEC, true, PropertyFields.POS, 2)),
+        Edge.create(EdgeId.create(3), node, node, EdgeLabel.RELATED_TO,
+            Properties.of(PropertyFields.TYPE, "", PropertyFields.IRI, "\"")));
+    assertThat(encode(edges, new Neo4jRelationshipsCsvSchema(),
+        new Neo4jRelationshipsCsvRowEncoder(new Neo4jRelationshipsCsvSchema())),
+        equalTo(writeWithJackson(edges, new Neo4jRelationshipsCsvSchema())));
+  }
+
+  @Test
+  public void shouldEncodeTranslationsLikeJackson() throws IOException {
+    var partOf = ObjectProperty(IRI("http://example.org/partOf"));
+    var hasAge = DataProperty(IRI("http://example.org/hasAge"));
+    var clsA = Class(IRI("http://example.org/A"));
+    var clsB = Class(IRI("http://example.org/B"));
+    var i1 = NamedIndividual(IRI("http://example.org/i1"));
+    var i2 = OWLManager.getOWLDataFactory().getOWLAnonymousIndividual();
+    var axioms = List.<OWLAxiom>of(
+        SubClassOf(clsA, clsB),
+        SubClassOf(clsA, ObjectSomeValuesFrom(partOf, clsB)),
+        SubClassOf(clsB, ObjectMinCardinality(2, partOf, clsA)),
+        AnnotationAssertion(RDFSLabel(), clsA.getIRI(), Literal("The \"A\", a class\nof things", "en")),
+        ClassAssertion(clsA, i1),
+        ObjectPropertyAssertion(partOf, i1, i2),
+        DataPropertyAssertion(hasAge, i1, Literal(42)));
+    var axiomTranslator = DaggerTranslatorComponent.create().getAxiomTranslator();
+    var nodes = new ArrayList<Node>();
+    var edges = new ArrayList<Edge>();
+    for (var axiom : axioms) {
+      var translation = axiomTranslator.translate(axiom);
+      translation.nodes().forEach(nodes::add);
+      translation.edges().forEach(edges::add);
+    }
+    assertThat(encode(nodes, new Neo4jNodeCsvSchema(), new Neo4jNodeCsvRowEncoder(new Neo4jNodeCsvSchema())),
+        equalTo(writeWithJackson(nodes, new Neo4jNodeCsvSchema())));
+    assertThat(encode(edges, new Neo4jRelationshipsCsvSchema(),
+        new Neo4jRelationshipsCsvRowEncoder(new Neo4jRelationshipsCsvSchema())),
+        equalTo(writeWithJackson(edges, new Neo4jRelationshipsCsvSchema())));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFailOnPropertyWithoutColumn() {
+    var node = Node.create(NodeId.create(1), NodeLabels.CLASS, Properties.of("unknown", "value"));
+    new Neo4jNodeCsvRowEncoder(new Neo4jNodeCsvSchema()).encode(node, new CsvRowBuffer());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFailOnValueOfWrongType() {
+    var node = Node.create(NodeId.create(1), NodeLabels.OBJECT_MIN_CARDINALITY,
+        Properties.of(PropertyFields.CARDINALITY, "2"));
+    new Neo4jNodeCsvRowEncoder(new Neo4jNodeCsvSchema()).encode(node, new CsvRowBuffer());
+  }
+
+  private static <T> String encode(List<T> rows, Neo4jCsvSchema schema, CsvRowEncoder<T> rowEncoder)
+      throws IOException {
+    var output = new StringWriter();
+    var csvWriter = new CsvWriter<>(schema, rowEncoder, output);
+    for (var row : rows) {
+      csvWriter.write(row);
+    }
+    csvWriter.close();
+    return output.toString();
+  }
+
+  private static <T> String writeWithJackson(List<T> rows, Neo4jCsvSchema schema) throws IOException {
+    var output = new StringWriter();
+    var csvWriter = new CsvWriter<T>(new CsvMapper(), schema, output);
+    for (var row : rows) {
+      csvWriter.write(row);
+    }
+    csvWriter.close();
+    return output.toString();
+  }
+}
@@ -0,0 +1,135 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.digest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LongPairHashSet_TestCase {
+
+  private static final int KEY_COUNT = 100_000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void shouldTrackKeysOnHeap() {
+    shouldTrackKeys(new LongPairHashSet(HeapLongPairArray::new, 16));
+  }
+
+  @Test
+  public void shouldTrackKeysOffHeap() {
+    shouldTrackKeys(new LongPairHashSet(BufferLongPairArray::allocateDirect, 16));
+  }
+
+  @Test
+  public void shouldTrackKeysInMappedFile() {
+    var directory = temporaryFolder.getRoot().toPath();
+    shouldTrackKeys(new LongPairHashSet(length -> BufferLongPairArray.map(length, directory), 16));
+  }
+
+  @Test
+  public void shouldTrackKeysWithPreFilter() {
+    shouldTrackKeys(new LongPairHashSet(HeapLongPairArray::new, 16, true));
+  }
+
+  @Test
+  public void shouldCountPreFilterLookups() {
+    var set = new LongPairHashSet(HeapLongPairArray::new, 16, true);
+    var random = new Random(42);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      var high = random.nextLong();
+      var low = random.nextLong();
+      set.add(high, low);
+      set.add(high, low);
+    }
+    var stats = set.getPreFilterStats().orElseThrow();
+    assertThat(stats.getLookupCount(), is(2L * KEY_COUNT));
+    assertThat(stats.getDefinitelyNewCount() + stats.getFalsePositiveCount(), is((long) KEY_COUNT));
+    assertThat(stats.getFalsePositiveRate() < 0.05, is(true));
+    assertThat(stats.getByteSize() > 0, is(true));
+  }
+
+  @Test
+  public void shouldKeepKeysAddedAsAbsent() {
+    var set = new LongPairHashSet(HeapLongPairArray::new, 16, true);
+    for (long key = 1; key <= 1_000; key++) {
+      set.addAbsent(key, ~key);
+    }
+    for (long key = 1; key <= 1_000; key++) {
+      assertThat(set.contains(key, ~key), is(true));
+      assertThat(set.add(key, ~key), is(false));
+    }
+    assertThat(set.size(), is(1_000L));
+  }
+
+  @Test
+  public void shouldDeleteMappedFilesOnClose() throws IOException {
+    var directory = temporaryFolder.getRoot().toPath();
+    var set = new LongPairHashSet(length -> BufferLongPairArray.map(length, directory), 16);
+    for (long key = 1; key <= 1_000; key++) {
+      set.add(key, key);
+    }
+    set.close();
+    try (var files = Files.list(directory)) {
+      assertThat(files.count(), is(0L));
+    }
+  }
+
+  private static void shouldTrackKeys(LongPairHashSet set) {
+    var random = new Random(42);
+    var keys = new long[KEY_COUNT][2];
+    for (var key : keys) {
+      key[0] = random.nextLong();
+      key[1] = random.nextLong();
+      assertThat(set.add(key[0], key[1]), is(true));
+    }
+    for (var key : keys) {
+      assertThat(set.contains(key[0], key[1]), is(true));
+      assertThat(set.add(key[0], key[1]), is(false));
+      assertThat(set.contains(key[0], ~key[1]), is(false));
+    }
+    assertThat(set.size(), is((long) KEY_COUNT));
+    set.close();
+  }
+
+  @Test
+  public void shouldTrackZeroKey() {
+    var set = new LongPairHashSet(HeapLongPairArray::new, 16);
+    assertThat(set.contains(0, 0), is(false));
+    assertThat(set.add(0, 0), is(true));
+    assertThat(set.add(0, 0), is(false));
+    assertThat(set.contains(0, 0), is(true));
+    assertThat(set.size(), is(1L));
+  }
+
+  @Test
+  public void shouldIndexHeapArrayOfMaximumLengthByInt() {
+    assertThat(HeapLongPairArray.MAX_LENGTH * 2 <= Integer.MAX_VALUE - 8, is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectHeapArrayLongerThanMaximumLength() {
+    new HeapLongPairArray(HeapLongPairArray.MAX_LENGTH + 1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldFailToGrowBeyondMaximumLength() {
+    var set = new LongPairHashSet(length -> new HeapLongPairArray(length) {
+      @Override
+      public long maxLength() {
+        return 16;
+      }
+    }, 4);
+    var random = new Random(42);
+    for (int i = 0; i < 16; i++) {
+      set.add(random.nextLong(), random.nextLong());
+    }
+  }
+}